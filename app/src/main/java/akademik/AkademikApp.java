@@ -6,10 +6,12 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
+import akademik.dao.DAOFactory;
 import akademik.database.DatabaseConnection;
 import akademik.util.DatabaseTester;
 import akademik.view.DosenView;
 import akademik.view.MahasiswaView;
+import akademik.view.StatistikView;
 
 /**
  * Main Application Class untuk Sistem Akademik
@@ -20,6 +22,7 @@ public class AkademikApp extends Application {
     private TabPane mainTabPane;
     private MahasiswaView mahasiswaView;
     private DosenView dosenView;
+    private StatistikView statistikView;
 
     @Override
     public void start(Stage primaryStage) {
@@ -41,6 +44,9 @@ public class AkademikApp extends Application {
 
         // Graceful shutdown
         primaryStage.setOnCloseRequest(e -> {
+            DAOFactory.printCacheStats();
+            DAOFactory.saveKeyFilters();
+            DAOFactory.saveSnapshot();
             DatabaseConnection.getInstance().closeConnection();
         });
     }
@@ -129,6 +135,7 @@ public class AkademikApp extends Application {
         // Create views
         mahasiswaView = new MahasiswaView();
         dosenView = new DosenView();
+        statistikView = new StatistikView();
 
         // Create tabs
         Tab mahasiswaTab = new Tab("👨‍🎓 Data Mahasiswa");
@@ -139,7 +146,17 @@ public class AkademikApp extends Application {
         dosenTab.setContent(dosenView);
         dosenTab.getStyleClass().add("data-tab");
 
-        tabPane.getTabs().addAll(mahasiswaTab, dosenTab);
+        Tab statistikTab = new Tab("📊 Statistik");
+        statistikTab.setContent(statistikView);
+        statistikTab.getStyleClass().add("data-tab");
+        // Statistik dihitung ulang setiap kali tab dibuka supaya mengikuti perubahan data
+        statistikTab.setOnSelectionChanged(e -> {
+            if (statistikTab.isSelected()) {
+                statistikView.getViewModel().refreshCommand();
+            }
+        });
+
+        tabPane.getTabs().addAll(mahasiswaTab, dosenTab, statistikTab);
 
         return tabPane;
     }
@@ -0,0 +1,167 @@
+package akademik.dao;
+
+import akademik.database.PooledConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Helper untuk menjalankan satu statement DML secara batch (addBatch/executeBatch)
+ * Dipakai di dalam transaksi yang dibuka oleh DAO.
+ * Jika satu chunk gagal karena constraint, chunk tersebut di-rollback ke savepoint lalu
+ * dijalankan ulang per baris supaya baris yang gagal bisa dilaporkan.
+ * Error lain (disk penuh, I/O, database terkunci) bukan kesalahan baris: error tersebut
+ * dilempar ulang supaya DAO me-rollback seluruh transaksi
+ */
+class BatchExecutor<T> {
+
+    /**
+     * Result code primer SQLite untuk pelanggaran constraint (UNIQUE, NOT NULL, CHECK, FOREIGN KEY)
+     */
+    static final int SQLITE_CONSTRAINT = 19;
+
+    /**
+     * Mengisi parameter statement untuk satu item
+     */
+    @FunctionalInterface
+    interface Binder<T> {
+        void bind(PreparedStatement stmt, T item) throws SQLException;
+    }
+
+    private final String sql;
+    private final Function<T, String> keyOf;
+    private final Function<T, String> validator;
+    private final Binder<T> binder;
+    private final String noRowMessage;
+
+    /**
+     * @param sql statement DML yang akan di-batch
+     * @param keyOf pengambil NIM/NPP untuk laporan error
+     * @param validator mengembalikan pesan error jika item tidak valid, null jika valid
+     * @param binder pengisi parameter statement
+     * @param noRowMessage pesan error jika statement tidak mengubah baris apa pun
+     */
+    BatchExecutor(String sql, Function<T, String> keyOf, Function<T, String> validator,
+                  Binder<T> binder, String noRowMessage) {
+        this.sql = sql;
+        this.keyOf = keyOf;
+        this.validator = validator;
+        this.binder = binder;
+        this.noRowMessage = noRowMessage;
+    }
+
+    /**
+     * Jalankan batch untuk semua item, dibagi per chunk
+     * @param connection koneksi writer yang sedang berada di dalam transaksi
+     * @param items item yang akan diproses
+     * @param chunkSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     * @throws SQLException jika terjadi error selain error per baris
+     */
+    BatchResult execute(PooledConnection connection, List<T> items, int chunkSize) throws SQLException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Ukuran batch minimal 1");
+        }
+
+        BatchResult result = new BatchResult(items.size());
+        PreparedStatement stmt = connection.prepare(sql);
+        Connection raw = connection.getConnection();
+        List<Integer> pending = new ArrayList<>(Math.min(chunkSize, items.size()));
+
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            int end = Math.min(items.size(), start + chunkSize);
+            pending.clear();
+
+            for (int i = start; i < end; i++) {
+                T item = items.get(i);
+                String error = item == null ? "Data kosong" : validator.apply(item);
+                if (error != null) {
+                    result.recordError(i, item == null ? null : keyOf.apply(item), error);
+                    continue;
+                }
+
+                binder.bind(stmt, item);
+                stmt.addBatch();
+                pending.add(i);
+            }
+
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            Savepoint savepoint = raw.setSavepoint();
+            try {
+                int[] counts = stmt.executeBatch();
+                raw.releaseSavepoint(savepoint);
+
+                for (int k = 0; k < pending.size(); k++) {
+                    int index = pending.get(k);
+                    recordCount(result, index, items.get(index), k < counts.length ? counts[k] : Statement.SUCCESS_NO_INFO);
+                }
+
+            } catch (SQLException e) {
+                // sqlite-jdbc melempar SQLiteException biasa dari executeBatch, bukan BatchUpdateException
+                stmt.clearBatch();
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                raw.rollback(savepoint);
+                raw.releaseSavepoint(savepoint);
+                executeRowByRow(stmt, items, pending, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Ulangi chunk yang gagal per baris untuk menemukan baris penyebab error
+     */
+    private void executeRowByRow(PreparedStatement stmt, List<T> items, List<Integer> indexes,
+                                 BatchResult result) throws SQLException {
+        for (int index : indexes) {
+            T item = items.get(index);
+            binder.bind(stmt, item);
+
+            try {
+                recordCount(result, index, item, stmt.executeUpdate());
+            } catch (SQLException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                result.recordError(index, keyOf.apply(item), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Cek apakah error berasal dari pelanggaran constraint
+     * Extended result code (misalnya SQLITE_CONSTRAINT_UNIQUE) punya result code primer di 8 bit terbawah;
+     * error aslinya bisa dibungkus sebagai cause (misalnya oleh BatchUpdateException)
+     */
+    static boolean isConstraintViolation(SQLException e) {
+        Throwable current = e;
+        while (current != null) {
+            if (current instanceof SQLException
+                    && (((SQLException) current).getErrorCode() & 0xff) == SQLITE_CONSTRAINT) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private void recordCount(BatchResult result, int index, T item, int count) {
+        if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+            result.recordSuccess();
+        } else {
+            result.recordError(index, keyOf.apply(item), String.format(noRowMessage, keyOf.apply(item)));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package akademik.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hasil operasi batch (saveAll, updateAll, deleteAll)
+ * Menyimpan jumlah baris yang berhasil dan error per baris
+ */
+public class BatchResult {
+
+    private final int total;
+    private int succeeded;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public BatchResult(int total) {
+        this.total = total;
+    }
+
+    // === GETTERS ===
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    // === RECORDING (dipakai oleh implementasi DAO) ===
+    void recordSuccess() {
+        succeeded++;
+    }
+
+    void recordError(int index, String key, String message) {
+        errors.add(new RowError(index, key, message));
+    }
+
+    @Override
+    public String toString() {
+        return succeeded + " dari " + total + " baris berhasil"
+            + (errors.isEmpty() ? "" : " (" + errors.size() + " gagal)");
+    }
+
+    /**
+     * Error untuk satu baris di dalam batch
+     */
+    public static class RowError {
+        private final int index;
+        private final String key;
+        private final String message;
+
+        public RowError(int index, String key, String message) {
+            this.index = index;
+            this.key = key;
+            this.message = message;
+        }
+
+        /**
+         * @return posisi baris di dalam list input (mulai dari 0)
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return NIM/NPP baris yang gagal
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + " [" + key + "] " + message;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package akademik.dao;
+
+import akademik.model.Dosen;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Decorator DosenDAO dengan cache read-through untuk lookup per NPP
+ * Perilakunya sama dengan CachingMahasiswaDAO: findByNpp dan existsByNpp dilayani
+ * dari cache (termasuk NPP yang tidak ada), di-invalidate saat ada penulisan, dan
+ * NPP yang pasti tidak ada menurut Bloom filter NPP tidak di-lookup sama sekali.
+ * Penghapusan dosen dilaporkan ke onDeleted karena foreign key ikut mengubah
+ * dosen_wali mahasiswa (ON DELETE SET NULL)
+ */
+public class CachingDosenDAO implements DosenDAO {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final DosenDAO delegate;
+    private final Consumer<String> onDeleted;
+    // Optional.empty() = NPP tidak ada di database
+    private final Cache<String, Optional<Dosen>> cache;
+    // Naik setiap kali ada penulisan; hasil load yang dimulai sebelum penulisan tidak boleh masuk cache
+    private final Object generationLock = new Object();
+    private volatile long writeGeneration;
+    // Bloom filter NPP, null sampai dipasang DAOFactory
+    private volatile KeyFilter keyFilter;
+    private final List<WriteListener<Dosen>> writeListeners = new CopyOnWriteArrayList<>();
+
+    public CachingDosenDAO(DosenDAO delegate) {
+        this(delegate, npp -> { });
+    }
+
+    /**
+     * @param delegate DAO yang membaca/menulis ke database
+     * @param onDeleted dipanggil dengan NPP setiap kali dosen dihapus
+     */
+    public CachingDosenDAO(DosenDAO delegate, Consumer<String> onDeleted) {
+        this(delegate, onDeleted, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param delegate DAO yang membaca/menulis ke database
+     * @param onDeleted dipanggil dengan NPP setiap kali dosen dihapus
+     * @param maximumSize jumlah maksimum NPP di cache
+     * @param timeToLive umur maksimum entri sejak dimuat
+     */
+    public CachingDosenDAO(DosenDAO delegate, Consumer<String> onDeleted, long maximumSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.onDeleted = onDeleted;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+
+    // === CACHED READS ===
+
+    @Override
+    public Dosen findByNpp(String npp) {
+        if (npp == null || npp.trim().isEmpty()) {
+            return null;
+        }
+        return find(npp).map(CachingDosenDAO::copyOf).orElse(null);
+    }
+
+    @Override
+    public boolean existsByNpp(String npp) {
+        if (npp == null || npp.trim().isEmpty()) {
+            return false;
+        }
+        // Lookup per primary key sama murahnya dengan COUNT(*), dan hasilnya sekalian di-cache
+        return find(npp).isPresent();
+    }
+
+    // === WRITES (invalidate) ===
+
+    @Override
+    public void save(Dosen dosen) {
+        recordKey(dosen);
+        try {
+            delegate.save(dosen);
+        } finally {
+            recordKey(dosen);
+            invalidate(dosen);
+        }
+        notifySaved(Collections.singletonList(dosen));
+    }
+
+    @Override
+    public void upsert(Dosen dosen) {
+        recordKey(dosen);
+        try {
+            delegate.upsert(dosen);
+        } finally {
+            recordKey(dosen);
+            invalidate(dosen);
+        }
+        notifySaved(Collections.singletonList(dosen));
+    }
+
+    @Override
+    public void update(Dosen dosen) {
+        try {
+            delegate.update(dosen);
+        } finally {
+            invalidate(dosen);
+        }
+        notifySaved(Collections.singletonList(dosen));
+    }
+
+    @Override
+    public void delete(String npp) {
+        try {
+            delegate.delete(npp);
+        } finally {
+            invalidate(npp);
+        }
+        notifyDeleted(Collections.singletonList(npp));
+        onDeleted.accept(npp);
+    }
+
+    @Override
+    public BatchResult saveAll(List<Dosen> dosenList, int batchSize) {
+        recordKeys(dosenList);
+        BatchResult result;
+        try {
+            result = delegate.saveAll(dosenList, batchSize);
+        } finally {
+            recordKeys(dosenList);
+            invalidateAll(dosenList);
+        }
+        notifySaved(succeeded(dosenList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult upsertAll(List<Dosen> dosenList, int batchSize) {
+        recordKeys(dosenList);
+        BatchResult result;
+        try {
+            result = delegate.upsertAll(dosenList, batchSize);
+        } finally {
+            recordKeys(dosenList);
+            invalidateAll(dosenList);
+        }
+        notifySaved(succeeded(dosenList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult updateAll(List<Dosen> dosenList, int batchSize) {
+        BatchResult result;
+        try {
+            result = delegate.updateAll(dosenList, batchSize);
+        } finally {
+            invalidateAll(dosenList);
+        }
+        notifySaved(succeeded(dosenList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult deleteAll(List<String> nppList, int batchSize) {
+        BatchResult result;
+        try {
+            result = delegate.deleteAll(nppList, batchSize);
+        } finally {
+            if (nppList != null) {
+                nppList.forEach(this::invalidate);
+                nppList.forEach(onDeleted);
+            }
+        }
+        notifyDeleted(succeeded(nppList, result));
+        return result;
+    }
+
+    // === PASS-THROUGH ===
+
+    @Override
+    public List<Dosen> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Dosen> findByNama(String nama) {
+        return delegate.findByNama(nama);
+    }
+
+    @Override
+    public List<Dosen> searchByNama(String query, int limit) {
+        return delegate.searchByNama(query, limit);
+    }
+
+    @Override
+    public List<Dosen> search(String text, int limit) {
+        return delegate.search(text, limit);
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    // === CACHE MANAGEMENT ===
+
+    /**
+     * Isi cache dengan data dosen yang sudah diketahui sesuai isi database (misalnya dari snapshot)
+     * supaya lookup pertama per NPP tidak perlu query.
+     * Data tidak dipakai jika ada penulisan sejak generasi dicatat, karena data tersebut bisa lebih lama dari penulisan itu
+     * @param dosenList dosen yang akan dimasukkan ke cache
+     * @param generation nilai getWriteGeneration() sebelum data dibaca atau dicek masih berlaku
+     * @return true jika cache diisi
+     */
+    public boolean prime(List<Dosen> dosenList, long generation) {
+        synchronized (generationLock) {
+            if (writeGeneration != generation) {
+                return false;
+            }
+            for (Dosen dosen : dosenList) {
+                cache.put(dosen.getNpp(), Optional.of(copyOf(dosen)));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return generasi penulisan saat ini, naik setiap kali ada penulisan lewat DAO ini
+     */
+    public long getWriteGeneration() {
+        return writeGeneration;
+    }
+
+    /**
+     * Kosongkan seluruh cache
+     */
+    public void invalidateAll() {
+        synchronized (generationLock) {
+            writeGeneration++;
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Daftarkan listener yang dipanggil setelah setiap penulisan dosen yang berhasil lewat DAO ini
+     */
+    public void addWriteListener(WriteListener<Dosen> listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener<Dosen> listener) {
+        writeListeners.remove(listener);
+    }
+
+    /**
+     * Pasang Bloom filter NPP; lookup NPP yang pasti tidak ada tidak lagi ke cache maupun database
+     * Filter dipasang sebelum diisi dari database supaya NPP yang disimpan selama pengisian ikut tercatat
+     * @param keyFilter filter, atau null untuk melepas
+     */
+    void setKeyFilter(KeyFilter keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /**
+     * @return Bloom filter NPP beserta metriknya, atau null jika belum dipasang
+     */
+    public KeyFilter getKeyFilter() {
+        return keyFilter;
+    }
+
+    /**
+     * @return statistik hit/miss/eviction sejak cache dibuat
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return jumlah NPP yang sedang di-cache (termasuk negative entry)
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    private Optional<Dosen> find(String npp) {
+        KeyFilter filter = keyFilter;
+        if (filter != null && !filter.mightContain(npp)) {
+            return Optional.empty();
+        }
+        Optional<Dosen> found = lookup(npp);
+        if (filter != null && !found.isPresent()) {
+            filter.recordFalsePositive();
+        }
+        return found;
+    }
+
+    /**
+     * Lookup lewat cache; saat miss hasil dari database hanya disimpan jika tidak ada penulisan selama query.
+     * Tanpa pengecekan ini, query yang membaca data sebelum commit bisa menimpa invalidate dari penulisan
+     * dan data lama (atau negative entry) bertahan di cache sampai kedaluwarsa
+     */
+    private Optional<Dosen> lookup(String npp) {
+        Optional<Dosen> cached = cache.getIfPresent(npp);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = writeGeneration;
+        Optional<Dosen> loaded = Optional.ofNullable(delegate.findByNpp(npp));
+        synchronized (generationLock) {
+            if (writeGeneration == generation) {
+                cache.put(npp, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Catat NPP ke filter; dipanggil sebelum dan sesudah penulisan
+     * Sebelum: NPP sudah ada di filter saat commit, jadi filter yang disimpan ke file tidak pernah
+     * tertinggal dari database. Sesudah: filter baru yang dipasang di tengah penulisan ikut mendapat NPP ini.
+     * NPP yang tidak jadi tersimpan hanya menjadi false positive
+     */
+    private void recordKey(Dosen dosen) {
+        KeyFilter filter = keyFilter;
+        if (filter != null && dosen != null) {
+            filter.put(dosen.getNpp());
+        }
+    }
+
+    private void recordKeys(List<Dosen> dosenList) {
+        if (dosenList != null) {
+            dosenList.forEach(this::recordKey);
+        }
+    }
+
+    private void invalidate(Dosen dosen) {
+        if (dosen != null && dosen.getNpp() != null) {
+            invalidate(dosen.getNpp());
+        }
+    }
+
+    /**
+     * Dipanggil setelah penulisan selesai: generasi dinaikkan bersamaan dengan invalidate,
+     * sehingga load yang sedang berjalan tidak bisa menyimpan data lama setelahnya
+     */
+    private void invalidate(String npp) {
+        if (npp != null) {
+            synchronized (generationLock) {
+                writeGeneration++;
+                cache.invalidate(npp);
+            }
+        }
+    }
+
+    private void invalidateAll(List<Dosen> dosenList) {
+        if (dosenList != null) {
+            dosenList.forEach(this::invalidate);
+        }
+    }
+
+    private void notifySaved(List<Dosen> saved) {
+        if (!saved.isEmpty()) {
+            writeListeners.forEach(listener -> listener.onSaved(saved));
+        }
+    }
+
+    private void notifyDeleted(List<String> deleted) {
+        if (!deleted.isEmpty()) {
+            writeListeners.forEach(listener -> listener.onDeleted(deleted));
+        }
+    }
+
+    /**
+     * @return item batch yang tidak tercatat sebagai error di result
+     */
+    private static <T> List<T> succeeded(List<T> items, BatchResult result) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!result.hasErrors()) {
+            return items;
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        for (BatchResult.RowError error : result.getErrors()) {
+            failed.add(error.getIndex());
+        }
+        List<T> succeeded = new ArrayList<>(items.size() - failed.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (!failed.contains(i)) {
+                succeeded.add(items.get(i));
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * Dosen bersifat mutable; pemanggil selalu mendapat salinan supaya isi cache tidak ikut berubah
+     */
+    private static Dosen copyOf(Dosen dosen) {
+        return new Dosen(dosen.getNpp(), dosen.getNama(), dosen.getNoHp());
+    }
+}
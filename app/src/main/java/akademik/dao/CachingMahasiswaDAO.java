@@ -0,0 +1,453 @@
+package akademik.dao;
+
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Decorator MahasiswaDAO dengan cache read-through untuk lookup per NIM
+ * findByNim dan existsByNim dilayani dari cache; NIM yang tidak ada juga di-cache
+ * (negative cache) sehingga pengecekan NIM berulang tidak ke database.
+ *
+ * Cache dibatasi jumlah entri (eviksi LRU) dan umur entri, dan di-invalidate
+ * setiap kali NIM tersebut disimpan, diupdate, atau dihapus lewat decorator ini.
+ * Lookup yang sedang berjalan saat ada penulisan tidak menyimpan hasilnya ke cache (lihat lookup).
+ * Query list (findAll, findPage, dst.) langsung diteruskan ke DAO asli.
+ *
+ * Jika Bloom filter NIM dipasang (lihat KeyFilter), NIM yang pasti tidak ada langsung dijawab
+ * tanpa menyentuh cache maupun database; hanya NIM yang mungkin ada yang diteruskan ke lookup
+ */
+public class CachingMahasiswaDAO implements MahasiswaDAO {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final MahasiswaDAO delegate;
+    // Optional.empty() = NIM tidak ada di database
+    private final Cache<String, Optional<Mahasiswa>> cache;
+    // Naik setiap kali ada penulisan; hasil load yang dimulai sebelum penulisan tidak boleh masuk cache
+    private final Object generationLock = new Object();
+    private volatile long writeGeneration;
+    // Bloom filter NIM, null sampai dipasang DAOFactory
+    private volatile KeyFilter keyFilter;
+    private final List<WriteListener<Mahasiswa>> writeListeners = new CopyOnWriteArrayList<>();
+
+    public CachingMahasiswaDAO(MahasiswaDAO delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param delegate DAO yang membaca/menulis ke database
+     * @param maximumSize jumlah maksimum NIM di cache
+     * @param timeToLive umur maksimum entri sejak dimuat
+     */
+    public CachingMahasiswaDAO(MahasiswaDAO delegate, long maximumSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(timeToLive)
+            .recordStats()
+            .build();
+    }
+
+    // === CACHED READS ===
+
+    @Override
+    public Mahasiswa findByNim(String nim) {
+        if (nim == null || nim.trim().isEmpty()) {
+            return null;
+        }
+        return find(nim).map(CachingMahasiswaDAO::copyOf).orElse(null);
+    }
+
+    @Override
+    public boolean existsByNim(String nim) {
+        if (nim == null || nim.trim().isEmpty()) {
+            return false;
+        }
+        // Lookup per primary key sama murahnya dengan COUNT(*), dan hasilnya sekalian di-cache
+        return find(nim).isPresent();
+    }
+
+    // === WRITES (invalidate) ===
+
+    @Override
+    public void save(Mahasiswa mahasiswa) {
+        recordKey(mahasiswa);
+        try {
+            delegate.save(mahasiswa);
+        } finally {
+            recordKey(mahasiswa);
+            invalidate(mahasiswa);
+        }
+        notifySaved(Collections.singletonList(mahasiswa));
+    }
+
+    @Override
+    public void upsert(Mahasiswa mahasiswa) {
+        recordKey(mahasiswa);
+        try {
+            delegate.upsert(mahasiswa);
+        } finally {
+            recordKey(mahasiswa);
+            invalidate(mahasiswa);
+        }
+        notifySaved(Collections.singletonList(mahasiswa));
+    }
+
+    @Override
+    public void update(Mahasiswa mahasiswa) {
+        try {
+            delegate.update(mahasiswa);
+        } finally {
+            invalidate(mahasiswa);
+        }
+        notifySaved(Collections.singletonList(mahasiswa));
+    }
+
+    @Override
+    public void delete(String nim) {
+        try {
+            delegate.delete(nim);
+        } finally {
+            invalidate(nim);
+        }
+        notifyDeleted(Collections.singletonList(nim));
+    }
+
+    @Override
+    public BatchResult saveAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        recordKeys(mahasiswaList);
+        BatchResult result;
+        try {
+            result = delegate.saveAll(mahasiswaList, batchSize);
+        } finally {
+            recordKeys(mahasiswaList);
+            invalidateAll(mahasiswaList);
+        }
+        notifySaved(succeeded(mahasiswaList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult upsertAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        recordKeys(mahasiswaList);
+        BatchResult result;
+        try {
+            result = delegate.upsertAll(mahasiswaList, batchSize);
+        } finally {
+            recordKeys(mahasiswaList);
+            invalidateAll(mahasiswaList);
+        }
+        notifySaved(succeeded(mahasiswaList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult updateAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        BatchResult result;
+        try {
+            result = delegate.updateAll(mahasiswaList, batchSize);
+        } finally {
+            invalidateAll(mahasiswaList);
+        }
+        notifySaved(succeeded(mahasiswaList, result));
+        return result;
+    }
+
+    @Override
+    public BatchResult deleteAll(List<String> nimList, int batchSize) {
+        BatchResult result;
+        try {
+            result = delegate.deleteAll(nimList, batchSize);
+        } finally {
+            if (nimList != null) {
+                nimList.forEach(this::invalidate);
+            }
+        }
+        notifyDeleted(succeeded(nimList, result));
+        return result;
+    }
+
+    // === PASS-THROUGH ===
+
+    @Override
+    public List<Mahasiswa> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Mahasiswa> streamAll(int fetchSize) {
+        return delegate.streamAll(fetchSize);
+    }
+
+    @Override
+    public Stream<String> streamNim(int fetchSize) {
+        return delegate.streamNim(fetchSize);
+    }
+
+    @Override
+    public Stream<MahasiswaRow> streamRows(MahasiswaFilter filter, int fetchSize) {
+        return delegate.streamRows(filter, fetchSize);
+    }
+
+    @Override
+    public List<Mahasiswa> findByDosenWali(String nppDosenWali) {
+        return delegate.findByDosenWali(nppDosenWali);
+    }
+
+    @Override
+    public List<Mahasiswa> findByGender(String gender) {
+        return delegate.findByGender(gender);
+    }
+
+    @Override
+    public List<Mahasiswa> findByNama(String nama) {
+        return delegate.findByNama(nama);
+    }
+
+    @Override
+    public List<Mahasiswa> searchByNama(String query, int limit) {
+        return delegate.searchByNama(query, limit);
+    }
+
+    @Override
+    public List<MahasiswaRow> searchRows(String text, int limit) {
+        return delegate.searchRows(text, limit);
+    }
+
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    @Override
+    public int count(MahasiswaFilter filter) {
+        return delegate.count(filter);
+    }
+
+    @Override
+    public int countEstimate() {
+        return delegate.countEstimate();
+    }
+
+    @Override
+    public Page<Mahasiswa> findPage(String cursor, int pageSize) {
+        return delegate.findPage(cursor, pageSize);
+    }
+
+    @Override
+    public Page<Mahasiswa> findPageAt(int offset, int pageSize) {
+        return delegate.findPageAt(offset, pageSize);
+    }
+
+    @Override
+    public Page<MahasiswaRow> findRowPage(String cursor, int pageSize) {
+        return delegate.findRowPage(cursor, pageSize);
+    }
+
+    @Override
+    public Page<MahasiswaRow> findRowPageAt(int offset, int pageSize) {
+        return delegate.findRowPageAt(offset, pageSize);
+    }
+
+    // === CACHE MANAGEMENT ===
+
+    /**
+     * Hapus cache mahasiswa yang dosen walinya berubah di luar DAO ini
+     * (misalnya dosen dihapus dan dosen_wali di-set NULL oleh foreign key)
+     * @param nppDosenWali NPP dosen wali
+     */
+    public void invalidateByDosenWali(String nppDosenWali) {
+        synchronized (generationLock) {
+            writeGeneration++;
+            cache.asMap().values().removeIf(cached ->
+                cached.isPresent() && nppDosenWali.equals(cached.get().getDosenWali()));
+        }
+    }
+
+    /**
+     * Kosongkan seluruh cache
+     */
+    public void invalidateAll() {
+        synchronized (generationLock) {
+            writeGeneration++;
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Daftarkan listener yang dipanggil setelah setiap penulisan mahasiswa yang berhasil lewat DAO ini
+     */
+    public void addWriteListener(WriteListener<Mahasiswa> listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener<Mahasiswa> listener) {
+        writeListeners.remove(listener);
+    }
+
+    /**
+     * Pasang Bloom filter NIM; lookup NIM yang pasti tidak ada tidak lagi ke cache maupun database
+     * Filter dipasang sebelum diisi dari database supaya NIM yang disimpan selama pengisian ikut tercatat
+     * @param keyFilter filter, atau null untuk melepas
+     */
+    void setKeyFilter(KeyFilter keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /**
+     * @return Bloom filter NIM beserta metriknya, atau null jika belum dipasang
+     */
+    public KeyFilter getKeyFilter() {
+        return keyFilter;
+    }
+
+    /**
+     * @return statistik hit/miss/eviction sejak cache dibuat
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return jumlah NIM yang sedang di-cache (termasuk negative entry)
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    private Optional<Mahasiswa> find(String nim) {
+        KeyFilter filter = keyFilter;
+        if (filter != null && !filter.mightContain(nim)) {
+            return Optional.empty();
+        }
+        Optional<Mahasiswa> found = lookup(nim);
+        if (filter != null && !found.isPresent()) {
+            filter.recordFalsePositive();
+        }
+        return found;
+    }
+
+    /**
+     * Lookup lewat cache; saat miss hasil dari database hanya disimpan jika tidak ada penulisan selama query.
+     * Tanpa pengecekan ini, query yang membaca data sebelum commit bisa menimpa invalidate dari penulisan
+     * dan data lama (atau negative entry) bertahan di cache sampai kedaluwarsa
+     */
+    private Optional<Mahasiswa> lookup(String nim) {
+        Optional<Mahasiswa> cached = cache.getIfPresent(nim);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = writeGeneration;
+        Optional<Mahasiswa> loaded = Optional.ofNullable(delegate.findByNim(nim));
+        synchronized (generationLock) {
+            if (writeGeneration == generation) {
+                cache.put(nim, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Catat NIM ke filter; dipanggil sebelum dan sesudah penulisan
+     * Sebelum: NIM sudah ada di filter saat commit, jadi filter yang disimpan ke file tidak pernah
+     * tertinggal dari database. Sesudah: filter baru yang dipasang di tengah penulisan ikut mendapat NIM ini.
+     * NIM yang tidak jadi tersimpan hanya menjadi false positive
+     */
+    private void recordKey(Mahasiswa mahasiswa) {
+        KeyFilter filter = keyFilter;
+        if (filter != null && mahasiswa != null) {
+            filter.put(mahasiswa.getNim());
+        }
+    }
+
+    private void recordKeys(List<Mahasiswa> mahasiswaList) {
+        if (mahasiswaList != null) {
+            mahasiswaList.forEach(this::recordKey);
+        }
+    }
+
+    private void invalidate(Mahasiswa mahasiswa) {
+        if (mahasiswa != null && mahasiswa.getNim() != null) {
+            invalidate(mahasiswa.getNim());
+        }
+    }
+
+    /**
+     * Dipanggil setelah penulisan selesai: generasi dinaikkan bersamaan dengan invalidate,
+     * sehingga load yang sedang berjalan tidak bisa menyimpan data lama setelahnya
+     */
+    private void invalidate(String nim) {
+        if (nim != null) {
+            synchronized (generationLock) {
+                writeGeneration++;
+                cache.invalidate(nim);
+            }
+        }
+    }
+
+    private void invalidateAll(List<Mahasiswa> mahasiswaList) {
+        if (mahasiswaList != null) {
+            mahasiswaList.forEach(this::invalidate);
+        }
+    }
+
+    private void notifySaved(List<Mahasiswa> saved) {
+        if (!saved.isEmpty()) {
+            writeListeners.forEach(listener -> listener.onSaved(saved));
+        }
+    }
+
+    private void notifyDeleted(List<String> deleted) {
+        if (!deleted.isEmpty()) {
+            writeListeners.forEach(listener -> listener.onDeleted(deleted));
+        }
+    }
+
+    /**
+     * @return item batch yang tidak tercatat sebagai error di result
+     */
+    private static <T> List<T> succeeded(List<T> items, BatchResult result) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (!result.hasErrors()) {
+            return items;
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        for (BatchResult.RowError error : result.getErrors()) {
+            failed.add(error.getIndex());
+        }
+        List<T> succeeded = new ArrayList<>(items.size() - failed.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (!failed.contains(i)) {
+                succeeded.add(items.get(i));
+            }
+        }
+        return succeeded;
+    }
+
+    /**
+     * Mahasiswa bersifat mutable; pemanggil selalu mendapat salinan supaya isi cache tidak ikut berubah
+     */
+    private static Mahasiswa copyOf(Mahasiswa mahasiswa) {
+        return new Mahasiswa(mahasiswa.getNim(), mahasiswa.getNama(), mahasiswa.getGender(),
+            mahasiswa.getIpk(), mahasiswa.getDosenWali());
+    }
+}
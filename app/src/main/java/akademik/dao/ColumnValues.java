@@ -0,0 +1,48 @@
+package akademik.dao;
+
+import akademik.model.Mahasiswa;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Canonical instance untuk nilai kolom yang kardinalitasnya rendah
+ * Query list mengembalikan String baru per baris untuk gender dan NPP dosen wali;
+ * dengan interning, ribuan baris yang dimuat di memori berbagi satu instance per nilai
+ */
+final class ColumnValues {
+
+    // Weak interner: nilai yang sudah tidak dipakai tetap bisa di-garbage-collect
+    private static final Interner<String> NPP = Interners.newWeakInterner();
+    private static final Interner<String> NAMA_DOSEN = Interners.newWeakInterner();
+
+    private ColumnValues() {
+    }
+
+    /**
+     * @return konstanta gender di Mahasiswa (CHECK constraint hanya mengizinkan dua nilai)
+     */
+    static String gender(String value) {
+        if (Mahasiswa.GENDER_LAKI.equals(value)) {
+            return Mahasiswa.GENDER_LAKI;
+        }
+        if (Mahasiswa.GENDER_PEREMPUAN.equals(value)) {
+            return Mahasiswa.GENDER_PEREMPUAN;
+        }
+        return value;
+    }
+
+    /**
+     * @return instance canonical NPP, atau null
+     */
+    static String npp(String value) {
+        return value != null ? NPP.intern(value) : null;
+    }
+
+    /**
+     * @return instance canonical nama dosen, atau null
+     */
+    static String namaDosen(String value) {
+        return value != null ? NAMA_DOSEN.intern(value) : null;
+    }
+}
@@ -0,0 +1,149 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConnection;
+import akademik.database.PooledConnection;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Stream yang membaca baris langsung dari ResultSet yang masih terbuka
+ * Stream memakai koneksi scan sendiri (bukan reader dari pool) selama hidup, karena beberapa scan
+ * seluruh tabel bisa berjalan bersamaan dan tidak boleh membuat query UI menunggu reader.
+ * ResultSet, statement, dan koneksi ditutup saat stream ditutup, habis dibaca, atau gagal di tengah
+ * jalan, termasuk jika consumer stream melempar exception.
+ * Hanya satu baris yang dipegang pada satu waktu, jadi memori tidak bergantung pada jumlah baris
+ */
+final class CursorStream<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final DatabaseConnection database;
+    private final PooledConnection connection;
+    private final PreparedStatement stmt;
+    private final ResultSet rs;
+    private final RowMapper.Factory<T> factory;
+    private final String entity;
+
+    private RowMapper<T> mapper;
+    private boolean closed;
+
+    private CursorStream(DatabaseConnection database, PooledConnection connection, PreparedStatement stmt,
+                         ResultSet rs, RowMapper.Factory<T> factory, String entity) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.database = database;
+        this.connection = connection;
+        this.stmt = stmt;
+        this.rs = rs;
+        this.factory = factory;
+        this.entity = entity;
+    }
+
+    /**
+     * Jalankan query dan bungkus ResultSet-nya sebagai Stream
+     * Stream harus ditutup (try-with-resources) jika tidak dibaca sampai habis
+     * @param database database sumber
+     * @param sql query SELECT
+     * @param fetchSize hint jumlah baris per pengambilan dari driver
+     * @param factory pembuat mapper untuk ResultSet
+     * @param entity nama entitas untuk pesan error
+     * @param parameters nilai parameter query sesuai urutan placeholder
+     * @return Stream hasil query
+     */
+    static <T> Stream<T> open(DatabaseConnection database, String sql, int fetchSize,
+                              RowMapper.Factory<T> factory, String entity, Object... parameters) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size minimal 1");
+        }
+
+        PooledConnection connection;
+        try {
+            connection = database.openScanConnection();
+        } catch (SQLException e) {
+            throw new RuntimeException("Error streaming " + entity + ": " + e.getMessage(), e);
+        }
+
+        PreparedStatement stmt = null;
+        try {
+            // Statement sendiri (bukan dari statement cache) karena ResultSet-nya dipegang stream
+            stmt = connection.getConnection().prepareStatement(sql);
+            stmt.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            ResultSet rs = stmt.executeQuery();
+
+            CursorStream<T> cursor = new CursorStream<>(database, connection, stmt, rs, factory, entity);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+
+        } catch (SQLException e) {
+            closeQuietly(stmt);
+            database.closeScanConnection(connection);
+            throw new RuntimeException("Error streaming " + entity + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+
+        T item;
+        try {
+            if (!rs.next()) {
+                close();
+                return false;
+            }
+            if (mapper == null) {
+                mapper = factory.create(rs);
+            }
+            item = mapper.map(rs);
+        } catch (SQLException e) {
+            close();
+            throw new RuntimeException("Error streaming " + entity + ": " + e.getMessage(), e);
+        }
+
+        try {
+            action.accept(item);
+        } catch (RuntimeException | Error e) {
+            // Pemanggil yang tidak memakai try-with-resources tidak boleh membuat koneksi bocor
+            close();
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Tutup ResultSet, statement, dan koneksi scan (boleh dipanggil berkali-kali)
+     */
+    private void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            rs.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing result set: " + e.getMessage());
+        }
+        closeQuietly(stmt);
+        database.closeScanConnection(connection);
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        if (stmt == null) {
+            return;
+        }
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing statement: " + e.getMessage());
+        }
+    }
+}
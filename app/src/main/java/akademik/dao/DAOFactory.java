@@ -0,0 +1,451 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConnection;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import akademik.model.VersiData;
+import akademik.store.RadixTree;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Penyedia instance DAO yang dipakai bersama oleh seluruh aplikasi
+ * DAO dibungkus cache decorator; karena semua ViewModel memakai instance yang sama,
+ * penulisan dari satu layar langsung meng-invalidate cache yang dibaca layar lain
+ */
+public final class DAOFactory {
+
+    private static CachingMahasiswaDAO mahasiswaDAO;
+    private static CachingDosenDAO dosenDAO;
+    private static StatistikDAO statistikDAO;
+
+    // Snapshot yang tidak berlaku lagi karena penulisan selama aplikasi berjalan tidak langsung
+    // dibangun ulang (membaca ulang seluruh tabel), tetapi saat aplikasi ditutup lewat saveSnapshot()
+    private static DataSnapshot snapshot;
+    private static boolean snapshotOpened;
+    private static Thread snapshotBuilder;
+
+    private static boolean keyFiltersStarted;
+
+    // Index NIM/NPP -> nama untuk autocomplete form
+    private static RadixTree<String> nimIndex;
+    private static RadixTree<String> nppIndex;
+
+    private DAOFactory() {
+    }
+
+    /**
+     * @return MahasiswaDAO bersama dengan cache lookup per NIM
+     */
+    public static synchronized CachingMahasiswaDAO getMahasiswaDAO() {
+        if (mahasiswaDAO == null) {
+            mahasiswaDAO = new CachingMahasiswaDAO(new MahasiswaDAOImpl());
+            startKeyFilters();
+        }
+        return mahasiswaDAO;
+    }
+
+    /**
+     * @return DosenDAO bersama dengan cache lookup per NPP
+     */
+    public static synchronized CachingDosenDAO getDosenDAO() {
+        if (dosenDAO == null) {
+            // Dosen yang dihapus membuat dosen_wali mahasiswanya menjadi NULL (foreign key)
+            dosenDAO = new CachingDosenDAO(new DosenDAOImpl(),
+                npp -> getMahasiswaDAO().invalidateByDosenWali(npp));
+            startKeyFilters();
+        }
+        return dosenDAO;
+    }
+
+    /**
+     * @return StatistikDAO bersama (agregasi langsung di database, tanpa cache)
+     */
+    public static synchronized StatistikDAO getStatistikDAO() {
+        if (statistikDAO == null) {
+            statistikDAO = new StatistikDAOImpl();
+        }
+        return statistikDAO;
+    }
+
+    /**
+     * Index NIM -> nama mahasiswa untuk autocomplete field NIM
+     * Pemanggilan pertama mengisi index dari database di background; selama pengisian hasilnya belum lengkap.
+     * Setelah itu index diupdate dari event penulisan MahasiswaDAO bersama, tanpa query ulang
+     * @return index bersama
+     */
+    public static synchronized RadixTree<String> getNimIndex() {
+        if (nimIndex == null) {
+            RadixTree<String> index = new RadixTree<>();
+            CachingMahasiswaDAO dao = getMahasiswaDAO();
+            // Listener dipasang sebelum pengisian supaya penulisan selama pengisian tidak terlewat
+            KeyIndexUpdater<Mahasiswa> updater = new KeyIndexUpdater<>(index, Mahasiswa::getNim, Mahasiswa::getNama);
+            dao.addWriteListener(updater);
+            fillKeyIndex("mahasiswa", updater, () -> {
+                try (Stream<MahasiswaRow> rows = dao.streamRows(null, MahasiswaDAO.DEFAULT_FETCH_SIZE)) {
+                    rows.forEach(row -> updater.fill(row.getNim(), row.getNama()));
+                }
+                return index.size();
+            });
+            nimIndex = index;
+        }
+        return nimIndex;
+    }
+
+    /**
+     * Index NPP -> nama dosen untuk autocomplete field NPP, dijaga seperti getNimIndex()
+     * @return index bersama
+     */
+    public static synchronized RadixTree<String> getNppIndex() {
+        if (nppIndex == null) {
+            RadixTree<String> index = new RadixTree<>();
+            CachingDosenDAO dao = getDosenDAO();
+            KeyIndexUpdater<Dosen> updater = new KeyIndexUpdater<>(index, Dosen::getNpp, Dosen::getNama);
+            dao.addWriteListener(updater);
+            fillKeyIndex("dosen", updater, () -> {
+                for (Dosen dosen : dao.findAll()) {
+                    updater.fill(dosen.getNpp(), dosen.getNama());
+                }
+                return index.size();
+            });
+            nppIndex = index;
+        }
+        return nppIndex;
+    }
+
+    /**
+     * Isi index di thread background
+     * Data dari database dimasukkan lewat KeyIndexUpdater.fill: nama yang sudah diupdate lewat event penulisan
+     * selama pengisian lebih baru dan tidak ditimpa, key yang sudah dihapus tidak dimasukkan lagi
+     */
+    private static void fillKeyIndex(String entity, KeyIndexUpdater<?> updater, Supplier<Integer> fill) {
+        Thread loader = new Thread(() -> {
+            try {
+                long start = System.nanoTime();
+                int size = fill.get();
+                System.out.println("✅ Index autocomplete " + entity + " siap (" + size + " key, "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms)");
+            } catch (RuntimeException e) {
+                System.err.println("❌ Error mengisi index autocomplete " + entity + ": " + e.getMessage());
+            } finally {
+                updater.finishFill();
+            }
+        }, "key-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Snapshot data yang masih sama dengan isi database
+     * Pemanggilan pertama membuka file snapshot dan, jika masih berlaku, mengisi cache dosen darinya.
+     * Jika saat itu snapshot tidak ada, rusak, atau sudah berbeda dengan database (misalnya aplikasi
+     * tidak ditutup dengan normal), snapshot dibangun ulang sekali di background.
+     * Snapshot yang tidak berlaku lagi setelah penulisan hanya dilewati sampai saveSnapshot()
+     * @return snapshot yang berlaku, atau null (pemanggil membaca dari DAO)
+     */
+    public static DataSnapshot getCurrentSnapshot() {
+        DataSnapshot current;
+        boolean firstOpen;
+        synchronized (DAOFactory.class) {
+            firstOpen = !snapshotOpened;
+            if (firstOpen) {
+                snapshotOpened = true;
+                snapshot = openSnapshot();
+            }
+            current = snapshot;
+        }
+
+        // Versi dibaca di luar lock: satu lookup primary key di tabel statistik.
+        // Generasi dicatat sebelumnya supaya penulisan dosen setelah pengecekan versi membatalkan prime
+        long generation = getDosenDAO().getWriteGeneration();
+        VersiData versi = getStatistikDAO().getVersiData();
+        if (current != null && current.matches(versi)) {
+            if (firstOpen) {
+                getDosenDAO().prime(current.getDosen(), generation);
+            }
+            return current;
+        }
+
+        if (firstOpen) {
+            rebuildSnapshot();
+        }
+        return null;
+    }
+
+    private static DataSnapshot openSnapshot() {
+        try {
+            DataSnapshot opened = DataSnapshot.open(snapshotFile());
+            System.out.println("✅ Snapshot dibuka: " + opened);
+            return opened;
+
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.out.println("⚠️ Snapshot tidak bisa dipakai, akan dibangun ulang: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Bangun ulang snapshot di thread background saat start
+     */
+    private static synchronized void rebuildSnapshot() {
+        snapshotBuilder = new Thread(() -> {
+            try {
+                DataSnapshot built = DataSnapshot.build(snapshotFile(),
+                    getMahasiswaDAO(), getDosenDAO(), getStatistikDAO());
+                if (built != null) {
+                    synchronized (DAOFactory.class) {
+                        snapshot = built;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("❌ Error membangun snapshot: " + e.getMessage());
+            } finally {
+                synchronized (DAOFactory.class) {
+                    snapshotBuilder = null;
+                }
+            }
+        }, "snapshot-builder");
+        snapshotBuilder.setDaemon(true);
+        snapshotBuilder.start();
+    }
+
+    /**
+     * Bangun ulang snapshot jika isinya sudah berbeda dengan database, supaya start berikutnya bisa langsung memakainya
+     * Dipanggil saat aplikasi ditutup, sebelum koneksi database ditutup
+     */
+    public static synchronized void saveSnapshot() {
+        // Snapshot yang tidak pernah diminta, atau masih dibangun oleh start, dibiarkan
+        if (!snapshotOpened || snapshotBuilder != null) {
+            return;
+        }
+        if (snapshot != null && snapshot.matches(getStatistikDAO().getVersiData())) {
+            return;
+        }
+
+        try {
+            DataSnapshot built = DataSnapshot.build(snapshotFile(), getMahasiswaDAO(), getDosenDAO(), getStatistikDAO());
+            if (built != null) {
+                snapshot = built;
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Error menyimpan snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * File snapshot disimpan di sebelah file database, misalnya akademik.db.snapshot
+     */
+    private static Path snapshotFile() {
+        return Paths.get(DatabaseConnection.getInstance().getDatabaseName() + ".snapshot");
+    }
+
+    /**
+     * Muat Bloom filter NIM dan NPP di thread background
+     * Sampai filter siap, existsByNim/existsByNpp tetap berjalan seperti biasa lewat cache dan database
+     */
+    private static synchronized void startKeyFilters() {
+        if (keyFiltersStarted) {
+            return;
+        }
+        keyFiltersStarted = true;
+
+        Thread loader = new Thread(() -> {
+            try {
+                CachingMahasiswaDAO mahasiswa = getMahasiswaDAO();
+                loadKeyFilter(keyFilterFile("nim"), "mahasiswa", mahasiswa::setKeyFilter,
+                    () -> getStatistikDAO().getVersiData().getMahasiswa(), mahasiswa::count,
+                    () -> mahasiswa.streamNim(MahasiswaDAO.DEFAULT_FETCH_SIZE));
+
+                CachingDosenDAO dosen = getDosenDAO();
+                loadKeyFilter(keyFilterFile("npp"), "dosen", dosen::setKeyFilter,
+                    () -> getStatistikDAO().getVersiData().getDosen(), dosen::count,
+                    () -> dosen.findAll().stream().map(Dosen::getNpp));
+
+            } catch (RuntimeException e) {
+                System.err.println("❌ Error memuat Bloom filter: " + e.getMessage());
+            }
+        }, "key-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Pakai filter dari file jika versi datanya masih sama dengan database, jika tidak bangun dari primary key
+     * Filter selalu dipasang ke DAO sebelum dinyatakan siap, sehingga key yang ditulis selama proses ini ikut tercatat
+     */
+    private static void loadKeyFilter(Path file, String entity, Consumer<KeyFilter> install,
+                                      LongSupplier versi, LongSupplier keyCount, Supplier<Stream<String>> keys) {
+        long versiAwal = versi.getAsLong();
+        KeyFilter saved = readKeyFilter(file, entity);
+        if (saved != null && saved.getVersi() == versiAwal) {
+            install.accept(saved);
+            // Penulisan sebelum filter terpasang tidak tercatat; versi yang berubah berarti ada penulisan itu
+            if (versi.getAsLong() == versiAwal) {
+                saved.markReady();
+                System.out.println("✅ Bloom filter " + entity + " dimuat dari file: " + saved);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        KeyFilter built = new KeyFilter(entity, keyCount.getAsLong());
+        install.accept(built);
+        try (Stream<String> stream = keys.get()) {
+            stream.forEach(built::put);
+        }
+        built.markReady();
+        System.out.println("✅ Bloom filter " + entity + " dibangun dalam "
+            + (System.nanoTime() - start) / 1_000_000 + " ms: " + built);
+    }
+
+    private static KeyFilter readKeyFilter(Path file, String entity) {
+        try {
+            return KeyFilter.readFrom(file, entity);
+
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.out.println("⚠️ File Bloom filter " + entity + " tidak bisa dipakai, akan dibangun ulang: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Simpan Bloom filter NIM dan NPP supaya start berikutnya tidak perlu membaca ulang semua primary key
+     * Dipanggil saat aplikasi ditutup, sebelum koneksi database ditutup
+     */
+    public static synchronized void saveKeyFilters() {
+        if (mahasiswaDAO == null && dosenDAO == null) {
+            return;
+        }
+
+        VersiData versi = getStatistikDAO().getVersiData();
+        if (mahasiswaDAO != null) {
+            saveKeyFilter(mahasiswaDAO.getKeyFilter(), keyFilterFile("nim"), versi.getMahasiswa());
+        }
+        if (dosenDAO != null) {
+            saveKeyFilter(dosenDAO.getKeyFilter(), keyFilterFile("npp"), versi.getDosen());
+        }
+    }
+
+    private static void saveKeyFilter(KeyFilter filter, Path file, long versi) {
+        if (filter == null || !filter.isReady()) {
+            return;
+        }
+
+        try {
+            if (filter.isSaturated()) {
+                // Filter yang melebihi kapasitas lebih baik dibangun ulang dengan ukuran baru saat start berikutnya
+                Files.deleteIfExists(file);
+                System.out.println("⚠️ Bloom filter " + filter.getEntity() + " melebihi kapasitas, tidak disimpan");
+                return;
+            }
+            filter.writeTo(file, versi);
+
+        } catch (IOException e) {
+            System.err.println("❌ Error menyimpan Bloom filter " + filter.getEntity() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * File Bloom filter disimpan di sebelah file database, misalnya akademik.db.nim.bloom
+     */
+    private static Path keyFilterFile(String key) {
+        return Paths.get(DatabaseConnection.getInstance().getDatabaseName() + "." + key + ".bloom");
+    }
+
+    /**
+     * Cetak statistik cache DAO (hit rate, miss, eviction) dan Bloom filter (false positive rate) ke console
+     */
+    public static synchronized void printCacheStats() {
+        if (mahasiswaDAO != null) {
+            System.out.println("📊 Cache mahasiswa (" + mahasiswaDAO.getSize() + " entri): " + mahasiswaDAO.getStats());
+            if (mahasiswaDAO.getKeyFilter() != null) {
+                System.out.println("📊 " + mahasiswaDAO.getKeyFilter());
+            }
+        }
+        if (dosenDAO != null) {
+            System.out.println("📊 Cache dosen (" + dosenDAO.getSize() + " entri): " + dosenDAO.getStats());
+            if (dosenDAO.getKeyFilter() != null) {
+                System.out.println("📊 " + dosenDAO.getKeyFilter());
+            }
+        }
+    }
+
+    /**
+     * Menjaga index key -> nama tetap sama dengan database dari event penulisan DAO
+     * Selama pengisian awal, key yang dihapus dicatat (tombstone) karena data pengisian bisa dibaca
+     * sebelum penghapusan di-commit dan tidak boleh memasukkan key itu lagi. Semua method synchronized
+     * supaya cek tombstone dan penulisan index tidak diselipi event dari thread lain
+     */
+    static final class KeyIndexUpdater<T> implements WriteListener<T> {
+
+        private final RadixTree<String> index;
+        private final Function<T, String> key;
+        private final Function<T, String> nama;
+        private Set<String> deletedDuringFill = new HashSet<>();
+
+        KeyIndexUpdater(RadixTree<String> index, Function<T, String> key, Function<T, String> nama) {
+            this.index = index;
+            this.key = key;
+            this.nama = nama;
+        }
+
+        /**
+         * Masukkan key dari pengisian awal, kecuali jika sudah ada atau sudah dihapus selama pengisian
+         */
+        synchronized void fill(String entityKey, String entityNama) {
+            if (deletedDuringFill != null && deletedDuringFill.contains(entityKey)) {
+                return;
+            }
+            index.putIfAbsent(entityKey, entityNama);
+        }
+
+        /**
+         * Pengisian selesai (atau gagal): tombstone tidak diperlukan lagi
+         */
+        synchronized void finishFill() {
+            deletedDuringFill = null;
+        }
+
+        @Override
+        public synchronized void onSaved(List<T> saved) {
+            for (T entity : saved) {
+                String entityKey = key.apply(entity);
+                String entityNama = nama.apply(entity);
+                if (entityKey != null && entityNama != null) {
+                    index.put(entityKey, entityNama);
+                    // Key yang disimpan lagi setelah dihapus adalah data terbaru
+                    if (deletedDuringFill != null) {
+                        deletedDuringFill.remove(entityKey);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void onDeleted(List<String> keys) {
+            for (String deletedKey : keys) {
+                index.remove(deletedKey);
+                if (deletedDuringFill != null) {
+                    deletedDuringFill.add(deletedKey);
+                }
+            }
+        }
+    }
+}
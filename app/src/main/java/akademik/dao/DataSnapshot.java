@@ -0,0 +1,435 @@
+package akademik.dao;
+
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import akademik.model.VersiData;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot biner tabel dosen dan mahasiswa untuk mempercepat start aplikasi
+ * File dibaca lewat memory-mapped file: saat dibuka hanya checksum dan daftar dosen yang
+ * diproses, baris mahasiswa di-decode per halaman langsung dari mapping tanpa query database.
+ * Snapshot mencatat VersiData saat dibuat; snapshot hanya boleh dipakai selama versi di
+ * database masih sama (lihat matches)
+ *
+ * Format file (big-endian):
+ * <pre>
+ *   header  : magic, versi format
+ *   dosen   : npp, nama, no_hp
+ *   mahasiswa (urut nama COLLATE NOCASE, nim):
+ *             nim, nama, kode gender, ipk, index dosen wali
+ *   index   : posisi awal setiap record mahasiswa
+ *   footer  : versi mahasiswa, versi dosen, waktu dibuat, jumlah dosen, jumlah mahasiswa,
+ *             posisi mahasiswa, posisi index, versi format, magic
+ *   CRC32C seluruh isi file sebelumnya
+ * </pre>
+ * Teks disimpan sebagai panjang UTF-8 (unsigned short, 0xFFFF untuk null) diikuti byte-nya
+ */
+public final class DataSnapshot {
+
+    private static final int MAGIC = 0x414B4453; // "AKDS"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int FOOTER_SIZE = 3 * Long.BYTES + 6 * Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private static final int NULL_TEXT = 0xFFFF;
+    private static final int MAX_TEXT_BYTES = NULL_TEXT - 1;
+
+    private static final byte GENDER_LAKI = 0;
+    private static final byte GENDER_PEREMPUAN = 1;
+    private static final byte GENDER_LAINNYA = 2;     // diikuti teks gender
+
+    private static final int TANPA_DOSEN_WALI = -1;
+    private static final int DOSEN_WALI_LAIN = -2;    // NPP tidak ada di tabel dosen, diikuti teks NPP
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final VersiData versi;
+    private final long createdAt;
+    private final Dosen[] dosen;
+    private final int mahasiswaCount;
+    private final int indexStart;
+
+    private DataSnapshot(Path file, ByteBuffer buffer, VersiData versi, long createdAt,
+                         Dosen[] dosen, int mahasiswaCount, int indexStart) {
+        this.file = file;
+        this.buffer = buffer;
+        this.versi = versi;
+        this.createdAt = createdAt;
+        this.dosen = dosen;
+        this.mahasiswaCount = mahasiswaCount;
+        this.indexStart = indexStart;
+    }
+
+    // === BUILD ===
+
+    /**
+     * Bangun snapshot dari database lalu buka hasilnya
+     * Versi data dibaca sebelum dan sesudah membaca tabel; jika berbeda, ada penulisan
+     * di tengah pembacaan dan snapshot tidak disimpan
+     * @param file file tujuan (ditimpa secara atomik)
+     * @return snapshot yang sudah dibuka, atau null jika data berubah selama dibaca
+     * @throws IOException jika file tidak bisa ditulis
+     */
+    public static DataSnapshot build(Path file, MahasiswaDAO mahasiswaDAO, DosenDAO dosenDAO,
+                                     StatistikDAO statistikDAO) throws IOException {
+        long start = System.nanoTime();
+        VersiData versi = statistikDAO.getVersiData();
+        List<Dosen> dosenList = dosenDAO.findAll();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Stream<MahasiswaRow> rows = mahasiswaDAO.streamRows(null, MahasiswaDAO.DEFAULT_FETCH_SIZE)) {
+            write(temp, versi, dosenList, rows.iterator());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (!versi.equals(statistikDAO.getVersiData())) {
+            Files.deleteIfExists(temp);
+            System.out.println("⚠️ Data berubah saat snapshot dibuat, snapshot dilewati");
+            return null;
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        DataSnapshot snapshot = open(file);
+        System.out.println("✅ Snapshot " + snapshot.getMahasiswaCount() + " mahasiswa dan "
+            + snapshot.dosen.length + " dosen dibuat dalam " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return snapshot;
+    }
+
+    /**
+     * Tulis snapshot ke file
+     * @param file file tujuan
+     * @param versi versi data yang dicatat di snapshot
+     * @param dosenList semua dosen
+     * @param rows semua baris mahasiswa, urut nama COLLATE NOCASE lalu NIM
+     * @throws IOException jika file tidak bisa ditulis atau ada teks yang terlalu panjang
+     */
+    public static void write(Path file, VersiData versi, List<Dosen> dosenList,
+                             Iterator<MahasiswaRow> rows) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                 new CheckedOutputStream(Files.newOutputStream(file), checksum), WRITE_BUFFER_SIZE))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            Map<String, Integer> dosenIndex = new HashMap<>();
+            for (Dosen item : dosenList) {
+                dosenIndex.put(item.getNpp(), dosenIndex.size());
+                writeText(out, item.getNpp());
+                writeText(out, item.getNama());
+                writeText(out, item.getNoHp());
+            }
+
+            int mahasiswaStart = out.size();
+            int[] offsets = new int[1024];
+            int count = 0;
+            while (rows.hasNext()) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+                offsets[count++] = out.size();
+                writeRow(out, rows.next(), dosenIndex);
+            }
+
+            // size() berhenti di Integer.MAX_VALUE; posisi record disimpan sebagai int
+            if (out.size() > Integer.MAX_VALUE - FOOTER_SIZE - CHECKSUM_SIZE - count * Integer.BYTES) {
+                throw new IOException("Snapshot lebih besar dari 2 GB");
+            }
+
+            int indexStart = out.size();
+            for (int i = 0; i < count; i++) {
+                out.writeInt(offsets[i]);
+            }
+
+            out.writeLong(versi.getMahasiswa());
+            out.writeLong(versi.getDosen());
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(dosenList.size());
+            out.writeInt(count);
+            out.writeInt(mahasiswaStart);
+            out.writeInt(indexStart);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(MAGIC);
+
+            // Checksum diambil setelah semua byte sebelumnya keluar dari buffer
+            out.flush();
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+
+    private static void writeRow(DataOutputStream out, MahasiswaRow row, Map<String, Integer> dosenIndex)
+            throws IOException {
+        writeText(out, row.getNim());
+        writeText(out, row.getNama());
+
+        if (Mahasiswa.GENDER_LAKI.equals(row.getGender())) {
+            out.writeByte(GENDER_LAKI);
+        } else if (Mahasiswa.GENDER_PEREMPUAN.equals(row.getGender())) {
+            out.writeByte(GENDER_PEREMPUAN);
+        } else {
+            out.writeByte(GENDER_LAINNYA);
+            writeText(out, row.getGender());
+        }
+
+        out.writeDouble(row.getIpk());
+
+        // Nama dosen wali tidak disimpan ulang per mahasiswa, cukup index ke bagian dosen
+        Integer index = row.getDosenWali() != null ? dosenIndex.get(row.getDosenWali()) : null;
+        if (row.getDosenWali() == null) {
+            out.writeInt(TANPA_DOSEN_WALI);
+        } else if (index != null) {
+            out.writeInt(index);
+        } else {
+            out.writeInt(DOSEN_WALI_LAIN);
+            writeText(out, row.getDosenWali());
+        }
+    }
+
+    private static void writeText(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(NULL_TEXT);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEXT_BYTES) {
+            throw new IOException("Teks terlalu panjang untuk snapshot (" + bytes.length + " byte)");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    // === OPEN ===
+
+    /**
+     * Buka dan validasi snapshot
+     * @param file file snapshot
+     * @return snapshot yang siap dibaca
+     * @throws IOException jika file tidak ada, rusak (checksum salah), atau dari versi format lain
+     */
+    public static DataSnapshot open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Ukuran snapshot tidak valid: " + size + " byte");
+            }
+            // Mapping tetap bisa dibaca setelah channel ditutup
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int checksumStart = buffer.capacity() - CHECKSUM_SIZE;
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.slice(0, checksumStart));
+        if ((int) checksum.getValue() != buffer.getInt(checksumStart)) {
+            throw new IOException("Checksum snapshot tidak cocok");
+        }
+
+        int footer = checksumStart - FOOTER_SIZE;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(footer + FOOTER_SIZE - Integer.BYTES) != MAGIC) {
+            throw new IOException("Bukan file snapshot");
+        }
+        if (buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+                || buffer.getInt(footer + FOOTER_SIZE - 2 * Integer.BYTES) != FORMAT_VERSION) {
+            throw new IOException("Versi format snapshot tidak dikenal");
+        }
+
+        VersiData versi = new VersiData(buffer.getLong(footer), buffer.getLong(footer + Long.BYTES));
+        long createdAt = buffer.getLong(footer + 2 * Long.BYTES);
+        int position = footer + 3 * Long.BYTES;
+        int dosenCount = buffer.getInt(position);
+        int mahasiswaCount = buffer.getInt(position + Integer.BYTES);
+        int mahasiswaStart = buffer.getInt(position + 2 * Integer.BYTES);
+        int indexStart = buffer.getInt(position + 3 * Integer.BYTES);
+
+        if (dosenCount < 0 || mahasiswaCount < 0 || mahasiswaStart < HEADER_SIZE || indexStart < mahasiswaStart
+                || (long) indexStart + (long) mahasiswaCount * Integer.BYTES != footer) {
+            throw new IOException("Struktur snapshot tidak valid");
+        }
+
+        RecordReader reader = new RecordReader(buffer, HEADER_SIZE);
+        Dosen[] dosen = new Dosen[dosenCount];
+        for (int i = 0; i < dosenCount; i++) {
+            dosen[i] = new Dosen(reader.readText(), reader.readText(), reader.readText());
+        }
+        if (reader.position != mahasiswaStart) {
+            throw new IOException("Struktur snapshot tidak valid");
+        }
+
+        return new DataSnapshot(file, buffer, versi, createdAt, dosen, mahasiswaCount, indexStart);
+    }
+
+    // === READ ===
+
+    /**
+     * @param current versi data di database saat ini
+     * @return true jika snapshot dibuat dari data yang sama persis
+     */
+    public boolean matches(VersiData current) {
+        return versi.equals(current);
+    }
+
+    /**
+     * @return salinan semua dosen, urut seperti DosenDAO.findAll saat snapshot dibuat
+     */
+    public List<Dosen> getDosen() {
+        List<Dosen> result = new ArrayList<>(dosen.length);
+        for (Dosen item : dosen) {
+            // Dosen bersifat mutable; pemanggil tidak boleh mengubah isi snapshot
+            result.add(new Dosen(item.getNpp(), item.getNama(), item.getNoHp()));
+        }
+        return result;
+    }
+
+    public int getMahasiswaCount() {
+        return mahasiswaCount;
+    }
+
+    /**
+     * Seperti MahasiswaDAO.findRowPageAt, tetapi dibaca dari snapshot
+     * Posisi record diambil dari index sehingga biayanya sebanding dengan ukuran halaman,
+     * bukan offset. Cursor halaman berikutnya bisa dipakai di MahasiswaDAO.findRowPage
+     * @param offset posisi baris pertama (mulai dari 0)
+     * @param pageSize jumlah maksimum baris per halaman
+     * @return halaman berisi baris mahasiswa dan cursor halaman berikutnya
+     */
+    public Page<MahasiswaRow> findRowPageAt(int offset, int pageSize) {
+        if (offset < 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Offset dan ukuran halaman tidak valid: " + offset + ", " + pageSize);
+        }
+
+        int end = (int) Math.min((long) offset + pageSize, mahasiswaCount);
+        List<MahasiswaRow> rows = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            rows.add(readRow(buffer.getInt(indexStart + i * Integer.BYTES)));
+        }
+
+        if (end >= mahasiswaCount || rows.isEmpty()) {
+            return new Page<>(rows, null);
+        }
+        MahasiswaRow last = rows.get(rows.size() - 1);
+        return new Page<>(rows, new PageCursor(last.getNama(), last.getNim()).encode());
+    }
+
+    public VersiData getVersiData() {
+        return versi;
+    }
+
+    /**
+     * @return waktu snapshot dibuat (epoch millis)
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private MahasiswaRow readRow(int position) {
+        RecordReader reader = new RecordReader(buffer, position);
+        String nim = reader.readText();
+        String nama = reader.readText();
+
+        byte genderCode = reader.readByte();
+        String gender;
+        if (genderCode == GENDER_LAKI) {
+            gender = Mahasiswa.GENDER_LAKI;
+        } else if (genderCode == GENDER_PEREMPUAN) {
+            gender = Mahasiswa.GENDER_PEREMPUAN;
+        } else {
+            gender = reader.readText();
+        }
+
+        double ipk = reader.readDouble();
+
+        int dosenIndex = reader.readInt();
+        String dosenWali = null;
+        String dosenWaliNama = null;
+        if (dosenIndex >= 0) {
+            // Instance NPP dan nama dipakai bersama oleh semua mahasiswa bimbingan dosen ini
+            dosenWali = dosen[dosenIndex].getNpp();
+            dosenWaliNama = dosen[dosenIndex].getNama();
+        } else if (dosenIndex == DOSEN_WALI_LAIN) {
+            dosenWali = ColumnValues.npp(reader.readText());
+        }
+
+        return new MahasiswaRow(nim, nama, gender, ipk, dosenWali, dosenWaliNama);
+    }
+
+    /**
+     * Pembaca record dengan posisinya sendiri
+     * Hanya memakai get absolut pada buffer bersama, sehingga snapshot aman dibaca dari banyak thread
+     */
+    private static final class RecordReader {
+        private final ByteBuffer buffer;
+        private int position;
+
+        RecordReader(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer.get(position++);
+        }
+
+        int readInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        double readDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        String readText() {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            position += Short.BYTES;
+            if (length == NULL_TEXT) {
+                return null;
+            }
+
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DataSnapshot{" + file.getFileName() + ", " + mahasiswaCount + " mahasiswa, "
+            + dosen.length + " dosen, " + versi + "}";
+    }
+}
@@ -10,12 +10,30 @@ import java.util.List;
 public interface DosenDAO {
 
     /**
-     * Simpan data dosen baru
+     * Jumlah baris default per executeBatch untuk operasi batch
+     */
+    int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Jumlah hasil default untuk pencarian nama full-text
+     */
+    int DEFAULT_SEARCH_LIMIT = 50;
+
+    /**
+     * Simpan data dosen baru dengan satu statement (insert-or-fail)
      * @param dosen object dosen yang akan disimpan
-     * @throws RuntimeException jika terjadi error atau NPP sudah ada
+     * @throws DuplicateKeyException jika NPP sudah ada
+     * @throws RuntimeException jika terjadi error lain
      */
     void save(Dosen dosen);
 
+    /**
+     * Simpan data dosen baru atau timpa data dengan NPP yang sama (upsert)
+     * @param dosen object dosen yang akan disimpan
+     * @throws RuntimeException jika terjadi error
+     */
+    void upsert(Dosen dosen);
+
     /**
      * Update data dosen yang sudah ada
      * @param dosen object dosen dengan data yang sudah diupdate
@@ -50,6 +68,34 @@ public interface DosenDAO {
      */
     List<Dosen> findByNama(String nama);
 
+    /**
+     * Cari dosen berdasarkan kata di nama menggunakan index full-text (FTS5)
+     * Setiap kata dicocokkan sebagai awalan token ("ahm sap" cocok dengan "Ahmad Saputra"),
+     * hasil diurutkan berdasarkan relevansi
+     * @param query teks pencarian
+     * @param limit jumlah maksimum hasil
+     * @return List dosen yang cocok, list kosong jika query tidak berisi kata
+     */
+    List<Dosen> searchByNama(String query, int limit);
+
+    /**
+     * Pencarian live: dosen dengan NPP berawalan teks, lalu dosen yang namanya cocok
+     * seperti searchByNama, dalam satu query
+     * @param text teks pencarian (awalan NPP atau kata di nama)
+     * @param limit jumlah maksimum hasil
+     * @return dosen yang cocok: hasil NPP (urut NPP) di depan hasil nama (urut relevansi)
+     */
+    List<Dosen> search(String text, int limit);
+
+    /**
+     * Cari dosen berdasarkan kata di nama dengan limit default
+     * @param query teks pencarian
+     * @return List dosen yang cocok, maksimal DEFAULT_SEARCH_LIMIT
+     */
+    default List<Dosen> searchByNama(String query) {
+        return searchByNama(query, DEFAULT_SEARCH_LIMIT);
+    }
+
     /**
      * Cek apakah NPP sudah ada di database
      * @param npp NPP yang akan dicek
@@ -59,7 +105,78 @@ public interface DosenDAO {
 
     /**
      * Hitung total jumlah dosen
+     * Dibaca dari counter statistik_tabel yang dijaga trigger, O(1) berapa pun jumlah datanya
      * @return jumlah total dosen
      */
     int count();
+
+    /**
+     * Simpan banyak dosen sekaligus dalam satu transaksi
+     * Baris yang gagal (tidak valid, NPP duplikat, dsb) dilaporkan per baris
+     * tanpa membatalkan baris lain
+     * @param dosenList data dosen yang akan disimpan
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult saveAll(List<Dosen> dosenList, int batchSize);
+
+    /**
+     * Simpan banyak dosen dengan ukuran batch default
+     * @param dosenList data dosen yang akan disimpan
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult saveAll(List<Dosen> dosenList) {
+        return saveAll(dosenList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Upsert banyak dosen sekaligus dalam satu transaksi
+     * @param dosenList data dosen yang akan disimpan atau ditimpa
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult upsertAll(List<Dosen> dosenList, int batchSize);
+
+    /**
+     * Upsert banyak dosen dengan ukuran batch default
+     * @param dosenList data dosen yang akan disimpan atau ditimpa
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult upsertAll(List<Dosen> dosenList) {
+        return upsertAll(dosenList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Update banyak dosen sekaligus dalam satu transaksi
+     * @param dosenList data dosen yang sudah diupdate
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult updateAll(List<Dosen> dosenList, int batchSize);
+
+    /**
+     * Update banyak dosen dengan ukuran batch default
+     * @param dosenList data dosen yang sudah diupdate
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult updateAll(List<Dosen> dosenList) {
+        return updateAll(dosenList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Hapus banyak dosen berdasarkan NPP dalam satu transaksi
+     * @param nppList daftar NPP yang akan dihapus
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult deleteAll(List<String> nppList, int batchSize);
+
+    /**
+     * Hapus banyak dosen dengan ukuran batch default
+     * @param nppList daftar NPP yang akan dihapus
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult deleteAll(List<String> nppList) {
+        return deleteAll(nppList, DEFAULT_BATCH_SIZE);
+    }
 }
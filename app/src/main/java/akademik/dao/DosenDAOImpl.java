@@ -13,10 +13,68 @@ import java.util.List;
  */
 public class DosenDAOImpl implements DosenDAO {
 
-    private final Connection connection;
+    // SQL DML yang dipakai bersama oleh operasi tunggal dan batch
+    // Insert-or-fail: baris duplikat tidak mengubah apa pun (rowsAffected = 0)
+    private static final String INSERT_SQL = "INSERT INTO dosen (npp, nama, no_hp) VALUES (?, ?, ?)"
+        + " ON CONFLICT(npp) DO NOTHING";
+    private static final String UPSERT_SQL = "INSERT INTO dosen (npp, nama, no_hp) VALUES (?, ?, ?)"
+        + " ON CONFLICT(npp) DO UPDATE SET nama = excluded.nama, no_hp = excluded.no_hp";
+    private static final String UPDATE_SQL = "UPDATE dosen SET nama = ?, no_hp = ? WHERE npp = ?";
+    private static final String DELETE_SQL = "DELETE FROM dosen WHERE npp = ?";
+
+    private static final BatchExecutor<Dosen> INSERT_BATCH = new BatchExecutor<>(
+        INSERT_SQL, Dosen::getNpp, DosenDAOImpl::validate, DosenDAOImpl::bindInsert, "NPP %s sudah ada dalam database");
+    private static final BatchExecutor<Dosen> UPSERT_BATCH = new BatchExecutor<>(
+        UPSERT_SQL, Dosen::getNpp, DosenDAOImpl::validate, DosenDAOImpl::bindInsert, "Gagal menyimpan dosen NPP %s");
+    private static final BatchExecutor<Dosen> UPDATE_BATCH = new BatchExecutor<>(
+        UPDATE_SQL, Dosen::getNpp, DosenDAOImpl::validate, DosenDAOImpl::bindUpdate, "Data dosen dengan NPP %s tidak ditemukan");
+    private static final BatchExecutor<String> DELETE_BATCH = new BatchExecutor<>(
+        DELETE_SQL, npp -> npp, DosenDAOImpl::validateKey, (stmt, npp) -> stmt.setString(1, npp),
+        "Data dosen dengan NPP %s tidak ditemukan");
+
+    // Kolom yang dibaca DosenMapper
+    static final String DOSEN_COLUMNS = "dosen.npp, dosen.nama, dosen.no_hp";
+    private static final String SELECT_DOSEN = "SELECT " + DOSEN_COLUMNS + " FROM dosen";
+    private static final String LIST_ORDER = " ORDER BY dosen.nama COLLATE NOCASE, dosen.npp";
+
+    // Top-N diambil dari index FTS dulu, baru di-join ke tabel lewat rowid
+    private static final String SEARCH_SQL = """
+        SELECT %s FROM (
+            SELECT rowid, rank FROM dosen_fts WHERE dosen_fts MATCH ? ORDER BY rank LIMIT ?
+        ) f
+        JOIN dosen ON dosen.rowid = f.rowid
+        ORDER BY f.rank, dosen.nama COLLATE NOCASE, dosen.npp
+    """.formatted(DOSEN_COLUMNS);
+
+    // Pencarian live: NPP berawalan teks (range di index UNIQUE npp) dan top-N nama dari index FTS,
+    // digabung dalam satu query. Hasil NPP selalu di depan
+    private static final String SEARCH_KEY_OR_NAMA_SQL = """
+        WITH npp_hits AS (
+            SELECT id FROM dosen WHERE npp >= ? AND npp < ? ORDER BY npp LIMIT ?
+        ), nama_hits AS (
+            SELECT rowid AS id, rank FROM dosen_fts WHERE dosen_fts MATCH ? ORDER BY rank LIMIT ?
+        )
+        SELECT %s FROM (
+            SELECT id, 0 AS grup, 0 AS rank FROM npp_hits
+            UNION ALL
+            SELECT id, 1, rank FROM nama_hits WHERE id NOT IN (SELECT id FROM npp_hits)
+        ) hits
+        JOIN dosen ON dosen.id = hits.id
+        ORDER BY hits.grup, hits.rank, CASE hits.grup WHEN 1 THEN dosen.nama END COLLATE NOCASE, dosen.npp
+        LIMIT ?
+    """.formatted(DOSEN_COLUMNS);
+    // Teks tanpa kata (misalnya hanya tanda baca) hanya dicari sebagai awalan NPP
+    private static final String SEARCH_BY_NPP_SQL = SELECT_DOSEN
+        + " WHERE dosen.npp >= ? AND dosen.npp < ? ORDER BY dosen.npp LIMIT ?";
+
+    private final DatabaseConnection database;
 
     public DosenDAOImpl() {
-        this.connection = DatabaseConnection.getInstance().getConnection();
+        this(DatabaseConnection.getInstance());
+    }
+
+    public DosenDAOImpl(DatabaseConnection database) {
+        this.database = database;
     }
 
     @Override
@@ -26,21 +84,16 @@ public class DosenDAOImpl implements DosenDAO {
             throw new IllegalArgumentException("Data dosen tidak valid");
         }
 
-        // Cek apakah NPP sudah ada
-        if (existsByNpp(dosen.getNpp())) {
-            throw new RuntimeException("NPP " + dosen.getNpp() + " sudah ada dalam database");
-        }
-
-        String sql = "INSERT INTO dosen (npp, nama, no_hp) VALUES (?, ?, ?)";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, dosen.getNpp());
-            stmt.setString(2, dosen.getNama());
-            stmt.setString(3, dosen.getNoHp());
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(INSERT_SQL);
+                bindInsert(stmt, dosen);
+                return stmt.executeUpdate();
+            });
 
-            int rowsAffected = stmt.executeUpdate();
+            // ON CONFLICT DO NOTHING: 0 baris berarti NPP sudah ada
             if (rowsAffected == 0) {
-                throw new RuntimeException("Gagal menyimpan data dosen");
+                throw new DuplicateKeyException("NPP " + dosen.getNpp() + " sudah ada dalam database", dosen.getNpp());
             }
 
             System.out.println("✅ Dosen " + dosen.getNama() + " berhasil disimpan");
@@ -51,20 +104,40 @@ public class DosenDAOImpl implements DosenDAO {
     }
 
     @Override
-    public void update(Dosen dosen) {
+    public void upsert(Dosen dosen) {
         // Validasi input
         if (dosen == null || !dosen.isValid()) {
             throw new IllegalArgumentException("Data dosen tidak valid");
         }
 
-        String sql = "UPDATE dosen SET nama = ?, no_hp = ? WHERE npp = ?";
+        try {
+            database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(UPSERT_SQL);
+                bindInsert(stmt, dosen);
+                return stmt.executeUpdate();
+            });
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, dosen.getNama());
-            stmt.setString(2, dosen.getNoHp());
-            stmt.setString(3, dosen.getNpp());
+            System.out.println("✅ Dosen " + dosen.getNama() + " berhasil disimpan (upsert)");
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error upserting dosen: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void update(Dosen dosen) {
+        // Validasi input
+        if (dosen == null || !dosen.isValid()) {
+            throw new IllegalArgumentException("Data dosen tidak valid");
+        }
+
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(UPDATE_SQL);
+                bindUpdate(stmt, dosen);
+                return stmt.executeUpdate();
+            });
 
-            int rowsAffected = stmt.executeUpdate();
             if (rowsAffected == 0) {
                 throw new RuntimeException("Data dosen dengan NPP " + dosen.getNpp() + " tidak ditemukan");
             }
@@ -82,12 +155,13 @@ public class DosenDAOImpl implements DosenDAO {
             throw new IllegalArgumentException("NPP tidak boleh kosong");
         }
 
-        String sql = "DELETE FROM dosen WHERE npp = ?";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, npp);
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(DELETE_SQL);
+                stmt.setString(1, npp);
+                return stmt.executeUpdate();
+            });
 
-            int rowsAffected = stmt.executeUpdate();
             if (rowsAffected == 0) {
                 throw new RuntimeException("Data dosen dengan NPP " + npp + " tidak ditemukan");
             }
@@ -105,67 +179,115 @@ public class DosenDAOImpl implements DosenDAO {
             return null;
         }
 
-        String sql = "SELECT * FROM dosen WHERE npp = ?";
+        String sql = SELECT_DOSEN + " WHERE npp = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, npp);
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setString(1, npp);
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToDosen(rs);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return RowMapper.mapFirst(rs, DosenMapper::new);
                 }
-            }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error finding dosen by NPP: " + e.getMessage(), e);
         }
-
-        return null;
     }
 
     @Override
     public List<Dosen> findAll() {
-        List<Dosen> dosenList = new ArrayList<>();
-        String sql = "SELECT * FROM dosen ORDER BY nama";
+        String sql = SELECT_DOSEN + LIST_ORDER;
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
 
-            while (rs.next()) {
-                dosenList.add(mapResultSetToDosen(rs));
-            }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
+                }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error finding all dosen: " + e.getMessage(), e);
         }
-
-        return dosenList;
     }
 
     @Override
     public List<Dosen> findByNama(String nama) {
-        List<Dosen> dosenList = new ArrayList<>();
-
         if (nama == null || nama.trim().isEmpty()) {
-            return dosenList;
+            return new ArrayList<>();
         }
 
-        String sql = "SELECT * FROM dosen WHERE nama LIKE ? ORDER BY nama";
+        String sql = SELECT_DOSEN + " WHERE nama LIKE ?" + LIST_ORDER;
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, "%" + nama + "%");
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setString(1, "%" + nama + "%");
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    dosenList.add(mapResultSetToDosen(rs));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
                 }
-            }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error finding dosen by nama: " + e.getMessage(), e);
         }
+    }
+
+    @Override
+    public List<Dosen> searchByNama(String query, int limit) {
+        String match = FullTextQuery.build(query);
+        if (match == null || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(SEARCH_SQL);
+                stmt.setString(1, match);
+                stmt.setInt(2, limit);
 
-        return dosenList;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
+                }
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error searching dosen by nama: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Dosen> search(String text, int limit) {
+        String prefix = text != null ? text.trim() : "";
+        if (prefix.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+        String match = FullTextQuery.build(prefix);
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(match != null ? SEARCH_KEY_OR_NAMA_SQL : SEARCH_BY_NPP_SQL);
+                stmt.setString(1, prefix);
+                stmt.setString(2, KeyPrefix.upperBound(prefix));
+                stmt.setInt(3, limit);
+                if (match != null) {
+                    stmt.setString(4, match);
+                    stmt.setInt(5, limit);
+                    stmt.setInt(6, limit);
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
+                }
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error searching dosen: " + e.getMessage(), e);
+        }
     }
 
     @Override
@@ -176,51 +298,118 @@ public class DosenDAOImpl implements DosenDAO {
 
         String sql = "SELECT COUNT(*) FROM dosen WHERE npp = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, npp);
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setString(1, npp);
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() && rs.getInt(1) > 0;
                 }
-            }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error checking dosen existence: " + e.getMessage(), e);
         }
-
-        return false;
     }
 
     @Override
     public int count() {
-        String sql = "SELECT COUNT(*) FROM dosen";
+        // Counter dijaga trigger statistik_dosen_* (migration V4)
+        String sql = "SELECT jumlah FROM statistik_tabel WHERE tabel = 'dosen'";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
 
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error counting dosen: " + e.getMessage(), e);
         }
+    }
+
+    @Override
+    public BatchResult saveAll(List<Dosen> dosenList, int batchSize) {
+        return executeBatch(INSERT_BATCH, dosenList, batchSize, "simpan");
+    }
+
+    @Override
+    public BatchResult upsertAll(List<Dosen> dosenList, int batchSize) {
+        return executeBatch(UPSERT_BATCH, dosenList, batchSize, "upsert");
+    }
+
+    @Override
+    public BatchResult updateAll(List<Dosen> dosenList, int batchSize) {
+        return executeBatch(UPDATE_BATCH, dosenList, batchSize, "update");
+    }
+
+    @Override
+    public BatchResult deleteAll(List<String> nppList, int batchSize) {
+        return executeBatch(DELETE_BATCH, nppList, batchSize, "hapus");
+    }
+
+    /**
+     * Jalankan operasi batch di dalam satu transaksi
+     * @param executor batch executor untuk statement yang diinginkan
+     * @param items item yang akan diproses
+     * @param batchSize jumlah baris per executeBatch
+     * @param operation nama operasi untuk logging
+     * @return hasil batch beserta error per baris
+     */
+    private <T> BatchResult executeBatch(BatchExecutor<T> executor, List<T> items, int batchSize, String operation) {
+        if (items == null || items.isEmpty()) {
+            return new BatchResult(0);
+        }
 
-        return 0;
+        try {
+            BatchResult result = database.transaction(connection -> executor.execute(connection, items, batchSize));
+            System.out.println("✅ Batch " + operation + " dosen: " + result);
+            return result;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error executing dosen batch " + operation + ": " + e.getMessage(), e);
+        }
     }
 
     /**
-     * Mapping ResultSet ke object Dosen
-     * @param rs ResultSet dari query database
-     * @return object Dosen
+     * Mapping semua baris ResultSet ke List Dosen
+     * @param rs ResultSet dari query yang memilih DOSEN_COLUMNS
+     * @return List dosen
      * @throws SQLException jika terjadi error saat mapping
      */
-    private Dosen mapResultSetToDosen(ResultSet rs) throws SQLException {
-        return new Dosen(
-            rs.getString("npp"),
-            rs.getString("nama"),
-            rs.getString("no_hp")
-        );
+    private List<Dosen> mapResultSetToList(ResultSet rs) throws SQLException {
+        return RowMapper.mapAll(rs, DosenMapper::new);
+    }
+
+    /**
+     * Validasi dosen untuk operasi batch
+     * @return pesan error, atau null jika valid
+     */
+    private static String validate(Dosen dosen) {
+        return dosen.isValid() ? null : "Data dosen tidak valid";
+    }
+
+    /**
+     * Validasi NPP untuk operasi batch
+     * @return pesan error, atau null jika valid
+     */
+    private static String validateKey(String npp) {
+        return npp.trim().isEmpty() ? "NPP tidak boleh kosong" : null;
+    }
+
+    private static void bindInsert(PreparedStatement stmt, Dosen dosen) throws SQLException {
+        stmt.setString(1, dosen.getNpp());
+        stmt.setString(2, dosen.getNama());
+        stmt.setString(3, dosen.getNoHp());
+    }
+
+    private static void bindUpdate(PreparedStatement stmt, Dosen dosen) throws SQLException {
+        stmt.setString(1, dosen.getNama());
+        stmt.setString(2, dosen.getNoHp());
+        stmt.setString(3, dosen.getNpp());
     }
 }
@@ -0,0 +1,31 @@
+package akademik.dao;
+
+import akademik.model.Dosen;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper untuk query yang memilih kolom DosenDAOImpl.DOSEN_COLUMNS
+ */
+final class DosenMapper implements RowMapper<Dosen> {
+
+    private final int npp;
+    private final int nama;
+    private final int noHp;
+
+    DosenMapper(ResultSet rs) throws SQLException {
+        this.npp = rs.findColumn("npp");
+        this.nama = rs.findColumn("nama");
+        this.noHp = rs.findColumn("no_hp");
+    }
+
+    @Override
+    public Dosen map(ResultSet rs) throws SQLException {
+        return new Dosen(
+            ColumnValues.npp(rs.getString(npp)),
+            rs.getString(nama),
+            rs.getString(noHp)
+        );
+    }
+}
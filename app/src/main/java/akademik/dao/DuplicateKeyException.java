@@ -0,0 +1,23 @@
+package akademik.dao;
+
+/**
+ * Exception ketika data yang disimpan memiliki primary key (NIM/NPP) yang sudah ada
+ */
+public class DuplicateKeyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String key;
+
+    public DuplicateKeyException(String message, String key) {
+        super(message);
+        this.key = key;
+    }
+
+    /**
+     * @return NIM/NPP yang bentrok
+     */
+    public String getKey() {
+        return key;
+    }
+}
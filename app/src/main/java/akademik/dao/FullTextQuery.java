@@ -0,0 +1,36 @@
+package akademik.dao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Membentuk ekspresi MATCH FTS5 dari teks pencarian yang diketik user
+ * Setiap kata menjadi token prefix yang di-quote ("kata"*), semua kata harus cocok (AND).
+ * Tanda baca dibuang dan kata di-quote, sehingga sintaks FTS5 (", *, :, -, OR, NEAR)
+ * dari input user tidak pernah diinterpretasikan sebagai operator
+ */
+final class FullTextQuery {
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * @param text teks pencarian, misalnya "ahm sap"
+     * @return ekspresi MATCH, misalnya "ahm"* "sap"*, atau null jika tidak ada kata yang bisa dicari
+     */
+    static String build(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String word : text.trim().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                // Kata hanya berisi huruf/angka, jadi aman dibungkus tanda kutip
+                tokens.add("\"" + word + "\"*");
+            }
+        }
+
+        return tokens.isEmpty() ? null : String.join(" ", tokens);
+    }
+}
@@ -0,0 +1,229 @@
+package akademik.dao;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter primary key (NIM atau NPP) untuk menjawab "pasti tidak ada" tanpa ke database
+ * mightContain() false berarti key pasti tidak ada; true berarti mungkin ada dan harus dicek ke DAO.
+ * Key yang dihapus tetap tercatat (Bloom filter tidak bisa menghapus), sehingga hanya menambah
+ * false positive, tidak pernah membuat key yang ada terbaca tidak ada.
+ *
+ * Filter baru dipakai untuk memotong lookup setelah markReady(); sebelum itu key dari penulisan
+ * tetap dicatat supaya tidak ada yang terlewat selama filter diisi dari database
+ */
+public final class KeyFilter {
+
+    /**
+     * Target false positive rate saat jumlah key sesuai kapasitas
+     */
+    public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * Kapasitas minimum, supaya tabel kecil masih punya ruang untuk data baru
+     */
+    public static final long MINIMUM_CAPACITY = 10_000;
+
+    private static final int MAGIC = 0x414B4246;  // "AKBF"
+    private static final int FORMAT_VERSION = 1;
+
+    private final String entity;
+    private final long capacity;
+    private final BloomFilter<CharSequence> filter;
+    private final long versi;   // Versi data saat filter dibaca dari file, -1 jika dibangun baru
+    private volatile boolean ready;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * @param entity nama key space untuk log, misalnya "mahasiswa"
+     * @param keyCount jumlah key saat ini; kapasitas dibuat dua kali lipatnya
+     */
+    public KeyFilter(String entity, long keyCount) {
+        this(entity, Math.max(MINIMUM_CAPACITY, keyCount * 2), newFilter(Math.max(MINIMUM_CAPACITY, keyCount * 2)), -1);
+    }
+
+    private KeyFilter(String entity, long capacity, BloomFilter<CharSequence> filter, long versi) {
+        this.entity = entity;
+        this.capacity = capacity;
+        this.filter = filter;
+        this.versi = versi;
+    }
+
+    private static BloomFilter<CharSequence> newFilter(long capacity) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacity, DEFAULT_FALSE_POSITIVE_RATE);
+    }
+
+    // === LOOKUP ===
+
+    /**
+     * @param key NIM atau NPP
+     * @return false jika key pasti tidak ada; true jika mungkin ada atau filter belum siap
+     */
+    public boolean mightContain(String key) {
+        if (!ready) {
+            return true;
+        }
+        queries.increment();
+        if (filter.mightContain(key)) {
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    /**
+     * Catat bahwa mightContain() menjawab true tetapi database menyatakan key tidak ada
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Catat key yang (mungkin) baru disimpan; aman dipanggil dari banyak thread
+     */
+    public void put(String key) {
+        if (key != null) {
+            filter.put(key);
+        }
+    }
+
+    /**
+     * Mulai pakai filter untuk memotong lookup; dipanggil setelah semua key di database dimasukkan
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // === METRICS ===
+
+    /**
+     * @return jumlah lookup yang melewati filter sejak siap
+     */
+    public long getQueryCount() {
+        return queries.sum();
+    }
+
+    /**
+     * @return jumlah lookup yang dijawab "tidak ada" tanpa ke database
+     */
+    public long getDefiniteMissCount() {
+        return definiteMisses.sum();
+    }
+
+    /**
+     * @return jumlah lookup yang lolos filter tetapi ternyata tidak ada di database
+     */
+    public long getFalsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    /**
+     * False positive rate terukur: dari semua lookup key yang tidak ada, berapa yang tetap ke database
+     * @return rasio 0..1, atau 0 jika belum ada lookup key yang tidak ada
+     */
+    public double getFalsePositiveRate() {
+        long misses = definiteMisses.sum();
+        long fp = falsePositives.sum();
+        return misses + fp == 0 ? 0.0 : (double) fp / (misses + fp);
+    }
+
+    /**
+     * @return false positive rate yang diperkirakan dari jumlah bit terisi
+     */
+    public double getExpectedFalsePositiveRate() {
+        return filter.expectedFpp();
+    }
+
+    /**
+     * @return perkiraan jumlah key berbeda yang sudah dimasukkan
+     */
+    public long getApproximateKeyCount() {
+        return filter.approximateElementCount();
+    }
+
+    /**
+     * Filter jenuh jika key yang dimasukkan melebihi kapasitas; false positive rate
+     * naik di atas target dan filter sebaiknya dibangun ulang dari database
+     */
+    public boolean isSaturated() {
+        return filter.approximateElementCount() > capacity;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return versi data saat filter disimpan ke file, -1 jika filter dibangun baru
+     */
+    public long getVersi() {
+        return versi;
+    }
+
+    // === PERSISTENCE ===
+
+    /**
+     * Simpan filter ke file (lewat file sementara lalu rename)
+     * @param file file tujuan
+     * @param versiData versi tabel yang isinya sudah tercakup filter ini
+     */
+    public void writeTo(Path file, long versiData) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream fileOut = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(versiData);
+            out.writeLong(capacity);
+            filter.writeTo(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Baca filter dari file hasil writeTo; filter yang dibaca belum siap dipakai
+     * sampai pemanggil memastikan versi datanya masih sama lalu memanggil markReady()
+     * @throws IOException jika file tidak ada, rusak, atau formatnya berbeda
+     */
+    public static KeyFilter readFrom(Path file, String entity) throws IOException {
+        try (InputStream fileIn = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Format file filter tidak dikenal: " + file);
+            }
+            long versi = in.readLong();
+            long capacity = in.readLong();
+            BloomFilter<CharSequence> filter = BloomFilter.readFrom(in, Funnels.stringFunnel(StandardCharsets.UTF_8));
+            return new KeyFilter(entity, capacity, filter, versi);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("KeyFilter{%s, ~%d key, lookup=%d, pasti tidak ada=%d, false positive=%d, fp rate=%.4f, perkiraan fp=%.4f}",
+            entity, getApproximateKeyCount(), getQueryCount(), getDefiniteMissCount(),
+            getFalsePositiveCount(), getFalsePositiveRate(), getExpectedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,26 @@
+package akademik.dao;
+
+/**
+ * Mengubah pencarian awalan key (NIM/NPP) menjadi range key >= awalan AND key < batas atas,
+ * sehingga bisa dijawab dari index UNIQUE key tanpa LIKE
+ */
+final class KeyPrefix {
+
+    private KeyPrefix() {
+    }
+
+    /**
+     * @param prefix awalan key, tidak boleh kosong
+     * @return key terkecil yang lebih besar dari semua key berawalan prefix, misalnya "A13" untuk "A12"
+     */
+    static String upperBound(String prefix) {
+        // Karakter terakhir dinaikkan satu; karakter maksimum dibuang dan karakter sebelumnya yang dinaikkan
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char last = prefix.charAt(i);
+            if (last != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (last + 1);
+            }
+        }
+        throw new IllegalArgumentException("Awalan key tidak valid: " + prefix);
+    }
+}
@@ -1,7 +1,10 @@
 package akademik.dao;
 
 import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * DAO interface untuk entitas Mahasiswa
@@ -10,12 +13,35 @@ import java.util.List;
 public interface MahasiswaDAO {
 
     /**
-     * Simpan data mahasiswa baru
+     * Jumlah baris default per executeBatch untuk operasi batch
+     */
+    int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Jumlah hasil default untuk pencarian nama full-text
+     */
+    int DEFAULT_SEARCH_LIMIT = 50;
+
+    /**
+     * Jumlah baris default yang diminta dari driver per pengambilan untuk streamAll
+     */
+    int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * Simpan data mahasiswa baru dengan satu statement (insert-or-fail)
      * @param mahasiswa object mahasiswa yang akan disimpan
-     * @throws RuntimeException jika terjadi error atau NIM sudah ada
+     * @throws DuplicateKeyException jika NIM sudah ada
+     * @throws RuntimeException jika terjadi error lain
      */
     void save(Mahasiswa mahasiswa);
 
+    /**
+     * Simpan data mahasiswa baru atau timpa data dengan NIM yang sama (upsert)
+     * @param mahasiswa object mahasiswa yang akan disimpan
+     * @throws RuntimeException jika terjadi error
+     */
+    void upsert(Mahasiswa mahasiswa);
+
     /**
      * Update data mahasiswa yang sudah ada
      * @param mahasiswa object mahasiswa dengan data yang sudah diupdate
@@ -43,6 +69,47 @@ public interface MahasiswaDAO {
      */
     List<Mahasiswa> findAll();
 
+    /**
+     * Stream semua mahasiswa (urut nama lalu NIM) langsung dari cursor database
+     * Baris dibaca satu per satu saat stream dikonsumsi, jadi memori tetap datar berapa pun
+     * jumlah datanya. Stream memegang satu koneksi reader sampai ditutup atau habis dibaca;
+     * pakai try-with-resources jika stream mungkin tidak dibaca sampai habis
+     * @param fetchSize hint jumlah baris per pengambilan dari driver
+     * @return Stream mahasiswa
+     */
+    Stream<Mahasiswa> streamAll(int fetchSize);
+
+    default Stream<Mahasiswa> streamAll() {
+        return streamAll(DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Stream baris mahasiswa (beserta nama dosen wali) yang memenuhi filter langsung dari cursor database
+     * Seperti streamAll, Stream wajib ditutup dan hanya satu baris yang dipegang pada satu waktu
+     * @param filter kriteria filter, null untuk semua mahasiswa
+     * @param fetchSize hint jumlah baris per pengambilan dari driver
+     * @return Stream baris mahasiswa, urut nama lalu NIM
+     */
+    Stream<MahasiswaRow> streamRows(MahasiswaFilter filter, int fetchSize);
+
+    /**
+     * Stream semua NIM (tanpa urutan tertentu) langsung dari cursor database
+     * Dipakai untuk membangun struktur per primary key tanpa membaca kolom lain; Stream wajib ditutup
+     * @param fetchSize hint jumlah baris per pengambilan dari driver
+     * @return Stream NIM
+     */
+    Stream<String> streamNim(int fetchSize);
+
+    /**
+     * Proses semua mahasiswa satu per satu tanpa memuat seluruh tabel ke memori
+     * @param action dipanggil untuk setiap mahasiswa, urut nama lalu NIM
+     */
+    default void forEach(Consumer<? super Mahasiswa> action) {
+        try (Stream<Mahasiswa> stream = streamAll()) {
+            stream.forEach(action);
+        }
+    }
+
     /**
      * Cari mahasiswa berdasarkan dosen wali
      * @param nppDosenWali NPP dosen wali
@@ -64,6 +131,35 @@ public interface MahasiswaDAO {
      */
     List<Mahasiswa> findByNama(String nama);
 
+    /**
+     * Cari mahasiswa berdasarkan kata di nama menggunakan index full-text (FTS5)
+     * Setiap kata dicocokkan sebagai awalan token ("ahm sap" cocok dengan "Ahmad Saputra"),
+     * hasil diurutkan berdasarkan relevansi
+     * @param query teks pencarian
+     * @param limit jumlah maksimum hasil
+     * @return List mahasiswa yang cocok, list kosong jika query tidak berisi kata
+     */
+    List<Mahasiswa> searchByNama(String query, int limit);
+
+    /**
+     * Pencarian live: mahasiswa dengan NIM berawalan teks, lalu mahasiswa yang namanya cocok
+     * seperti searchByNama. Nama dosen wali ikut dibaca lewat LEFT JOIN, sehingga seluruh hasil
+     * didapat dengan satu query
+     * @param text teks pencarian (awalan NIM atau kata di nama)
+     * @param limit jumlah maksimum hasil
+     * @return baris yang cocok: hasil NIM (urut NIM) di depan hasil nama (urut relevansi)
+     */
+    List<MahasiswaRow> searchRows(String text, int limit);
+
+    /**
+     * Cari mahasiswa berdasarkan kata di nama dengan limit default
+     * @param query teks pencarian
+     * @return List mahasiswa yang cocok, maksimal DEFAULT_SEARCH_LIMIT
+     */
+    default List<Mahasiswa> searchByNama(String query) {
+        return searchByNama(query, DEFAULT_SEARCH_LIMIT);
+    }
+
     /**
      * Cek apakah NIM sudah ada di database
      * @param nim NIM yang akan dicek
@@ -71,9 +167,135 @@ public interface MahasiswaDAO {
      */
     boolean existsByNim(String nim);
 
+    /**
+     * Hitung jumlah mahasiswa yang memenuhi filter
+     * Tanpa kriteria sama dengan count(); dengan kriteria, baris dihitung dengan query COUNT
+     * @param filter kriteria filter, null untuk semua mahasiswa
+     * @return jumlah mahasiswa
+     */
+    int count(MahasiswaFilter filter);
+
     /**
      * Hitung total jumlah mahasiswa
+     * Dibaca dari counter statistik_tabel yang dijaga trigger, O(1) berapa pun jumlah datanya
      * @return jumlah total mahasiswa
      */
     int count();
+
+    /**
+     * Perkiraan cepat jumlah mahasiswa tanpa scan tabel
+     * Nilainya batas atas: bisa lebih besar dari count() setelah ada data yang dihapus
+     * @return perkiraan jumlah mahasiswa
+     */
+    int countEstimate();
+
+    /**
+     * Ambil satu halaman mahasiswa, urut berdasarkan nama lalu NIM (keyset pagination)
+     * Biaya per halaman tetap walaupun halaman berada jauh di belakang,
+     * karena query melanjutkan dari posisi cursor di index, bukan OFFSET
+     * @param cursor token dari Page.getNextCursor(), atau null untuk halaman pertama
+     * @param pageSize jumlah maksimum mahasiswa per halaman
+     * @return halaman berisi mahasiswa dan cursor halaman berikutnya
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    Page<Mahasiswa> findPage(String cursor, int pageSize);
+
+    /**
+     * Ambil satu halaman mahasiswa mulai dari posisi tertentu (OFFSET)
+     * Dipakai untuk lompat langsung ke posisi jauh (misalnya drag scrollbar);
+     * halaman selanjutnya sebaiknya diambil lewat findPage dengan cursor yang dikembalikan
+     * @param offset posisi baris pertama (mulai dari 0)
+     * @param pageSize jumlah maksimum mahasiswa per halaman
+     * @return halaman berisi mahasiswa dan cursor halaman berikutnya
+     */
+    Page<Mahasiswa> findPageAt(int offset, int pageSize);
+
+    /**
+     * Seperti findPage, tetapi setiap baris sudah berisi nama dosen wali
+     * Nama diambil dengan LEFT JOIN ke tabel dosen dalam query yang sama,
+     * jadi satu halaman tetap satu query berapa pun ukurannya
+     * @param cursor token dari Page.getNextCursor(), atau null untuk halaman pertama
+     * @param pageSize jumlah maksimum baris per halaman
+     * @return halaman berisi baris mahasiswa dan cursor halaman berikutnya
+     * @throws IllegalArgumentException jika cursor tidak valid
+     */
+    Page<MahasiswaRow> findRowPage(String cursor, int pageSize);
+
+    /**
+     * Seperti findPageAt, tetapi setiap baris sudah berisi nama dosen wali
+     * @param offset posisi baris pertama (mulai dari 0)
+     * @param pageSize jumlah maksimum baris per halaman
+     * @return halaman berisi baris mahasiswa dan cursor halaman berikutnya
+     */
+    Page<MahasiswaRow> findRowPageAt(int offset, int pageSize);
+
+    /**
+     * Simpan banyak mahasiswa sekaligus dalam satu transaksi
+     * Baris yang gagal (tidak valid, NIM duplikat, dsb) dilaporkan per baris
+     * tanpa membatalkan baris lain
+     * @param mahasiswaList data mahasiswa yang akan disimpan
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult saveAll(List<Mahasiswa> mahasiswaList, int batchSize);
+
+    /**
+     * Simpan banyak mahasiswa dengan ukuran batch default
+     * @param mahasiswaList data mahasiswa yang akan disimpan
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult saveAll(List<Mahasiswa> mahasiswaList) {
+        return saveAll(mahasiswaList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Upsert banyak mahasiswa sekaligus dalam satu transaksi
+     * @param mahasiswaList data mahasiswa yang akan disimpan atau ditimpa
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult upsertAll(List<Mahasiswa> mahasiswaList, int batchSize);
+
+    /**
+     * Upsert banyak mahasiswa dengan ukuran batch default
+     * @param mahasiswaList data mahasiswa yang akan disimpan atau ditimpa
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult upsertAll(List<Mahasiswa> mahasiswaList) {
+        return upsertAll(mahasiswaList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Update banyak mahasiswa sekaligus dalam satu transaksi
+     * @param mahasiswaList data mahasiswa yang sudah diupdate
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult updateAll(List<Mahasiswa> mahasiswaList, int batchSize);
+
+    /**
+     * Update banyak mahasiswa dengan ukuran batch default
+     * @param mahasiswaList data mahasiswa yang sudah diupdate
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult updateAll(List<Mahasiswa> mahasiswaList) {
+        return updateAll(mahasiswaList, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Hapus banyak mahasiswa berdasarkan NIM dalam satu transaksi
+     * @param nimList daftar NIM yang akan dihapus
+     * @param batchSize jumlah baris per executeBatch
+     * @return hasil batch beserta error per baris
+     */
+    BatchResult deleteAll(List<String> nimList, int batchSize);
+
+    /**
+     * Hapus banyak mahasiswa dengan ukuran batch default
+     * @param nimList daftar NIM yang akan dihapus
+     * @return hasil batch beserta error per baris
+     */
+    default BatchResult deleteAll(List<String> nimList) {
+        return deleteAll(nimList, DEFAULT_BATCH_SIZE);
+    }
 }
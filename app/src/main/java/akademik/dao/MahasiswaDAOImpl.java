@@ -2,10 +2,13 @@ package akademik.dao;
 
 import akademik.database.DatabaseConnection;
 import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Implementasi DAO untuk entitas Mahasiswa
@@ -13,10 +16,72 @@ import java.util.List;
  */
 public class MahasiswaDAOImpl implements MahasiswaDAO {
 
-    private final Connection connection;
+    // SQL DML yang dipakai bersama oleh operasi tunggal dan batch
+    // Insert-or-fail: baris duplikat tidak mengubah apa pun (rowsAffected = 0)
+    private static final String INSERT_SQL = "INSERT INTO mahasiswa (nim, nama, gender, ipk, dosen_wali) VALUES (?, ?, ?, ?, ?)"
+        + " ON CONFLICT(nim) DO NOTHING";
+    private static final String UPSERT_SQL = "INSERT INTO mahasiswa (nim, nama, gender, ipk, dosen_wali) VALUES (?, ?, ?, ?, ?)"
+        + " ON CONFLICT(nim) DO UPDATE SET nama = excluded.nama, gender = excluded.gender, ipk = excluded.ipk, dosen_wali = excluded.dosen_wali";
+    private static final String UPDATE_SQL = "UPDATE mahasiswa SET nama = ?, gender = ?, ipk = ?, dosen_wali = ? WHERE nim = ?";
+    private static final String DELETE_SQL = "DELETE FROM mahasiswa WHERE nim = ?";
+
+    private static final BatchExecutor<Mahasiswa> INSERT_BATCH = new BatchExecutor<>(
+        INSERT_SQL, Mahasiswa::getNim, MahasiswaDAOImpl::validate, MahasiswaDAOImpl::bindInsert, "NIM %s sudah ada dalam database");
+    private static final BatchExecutor<Mahasiswa> UPSERT_BATCH = new BatchExecutor<>(
+        UPSERT_SQL, Mahasiswa::getNim, MahasiswaDAOImpl::validate, MahasiswaDAOImpl::bindInsert, "Gagal menyimpan mahasiswa NIM %s");
+    private static final BatchExecutor<Mahasiswa> UPDATE_BATCH = new BatchExecutor<>(
+        UPDATE_SQL, Mahasiswa::getNim, MahasiswaDAOImpl::validate, MahasiswaDAOImpl::bindUpdate, "Data mahasiswa dengan NIM %s tidak ditemukan");
+    private static final BatchExecutor<String> DELETE_BATCH = new BatchExecutor<>(
+        DELETE_SQL, nim -> nim, MahasiswaDAOImpl::validateKey, (stmt, nim) -> stmt.setString(1, nim),
+        "Data mahasiswa dengan NIM %s tidak ditemukan");
+
+    // Kolom yang dibaca MahasiswaMapper; ditulis lengkap dengan nama tabel supaya
+    // klausa WHERE/ORDER BY yang sama bisa dipakai untuk query yang di-JOIN
+    static final String MAHASISWA_COLUMNS = "mahasiswa.nim, mahasiswa.nama, mahasiswa.gender, mahasiswa.ipk, mahasiswa.dosen_wali";
+    private static final String SELECT_MAHASISWA = "SELECT " + MAHASISWA_COLUMNS + " FROM mahasiswa";
+    static final String SELECT_ROW = "SELECT " + MAHASISWA_COLUMNS + ", dosen.nama AS dosen_wali_nama"
+        + " FROM mahasiswa LEFT JOIN dosen ON dosen.npp = mahasiswa.dosen_wali";
+    private static final String PAGE_ORDER = " ORDER BY mahasiswa.nama COLLATE NOCASE, mahasiswa.nim";
+
+    // Top-N diambil dari index FTS dulu, baru di-join ke tabel lewat rowid
+    private static final String SEARCH_SQL = """
+        SELECT %s FROM (
+            SELECT rowid, rank FROM mahasiswa_fts WHERE mahasiswa_fts MATCH ? ORDER BY rank LIMIT ?
+        ) f
+        JOIN mahasiswa ON mahasiswa.rowid = f.rowid
+        ORDER BY f.rank, mahasiswa.nama COLLATE NOCASE, mahasiswa.nim
+    """.formatted(MAHASISWA_COLUMNS);
+
+    // Pencarian live: NIM berawalan teks (range di index UNIQUE nim) dan top-N nama dari index FTS,
+    // digabung dalam satu query dengan JOIN dosen seperti SELECT_ROW. Hasil NIM selalu di depan
+    private static final String SEARCH_KEY_OR_NAMA_SQL = """
+        WITH nim_hits AS (
+            SELECT id FROM mahasiswa WHERE nim >= ? AND nim < ? ORDER BY nim LIMIT ?
+        ), nama_hits AS (
+            SELECT rowid AS id, rank FROM mahasiswa_fts WHERE mahasiswa_fts MATCH ? ORDER BY rank LIMIT ?
+        )
+        SELECT %s, dosen.nama AS dosen_wali_nama FROM (
+            SELECT id, 0 AS grup, 0 AS rank FROM nim_hits
+            UNION ALL
+            SELECT id, 1, rank FROM nama_hits WHERE id NOT IN (SELECT id FROM nim_hits)
+        ) hits
+        JOIN mahasiswa ON mahasiswa.id = hits.id
+        LEFT JOIN dosen ON dosen.npp = mahasiswa.dosen_wali
+        ORDER BY hits.grup, hits.rank, CASE hits.grup WHEN 1 THEN mahasiswa.nama END COLLATE NOCASE, mahasiswa.nim
+        LIMIT ?
+    """.formatted(MAHASISWA_COLUMNS);
+    // Teks tanpa kata (misalnya hanya tanda baca) hanya dicari sebagai awalan NIM
+    private static final String SEARCH_BY_NIM_SQL = SELECT_ROW
+        + " WHERE mahasiswa.nim >= ? AND mahasiswa.nim < ? ORDER BY mahasiswa.nim LIMIT ?";
+
+    private final DatabaseConnection database;
 
     public MahasiswaDAOImpl() {
-        this.connection = DatabaseConnection.getInstance().getConnection();
+        this(DatabaseConnection.getInstance());
+    }
+
+    public MahasiswaDAOImpl(DatabaseConnection database) {
+        this.database = database;
     }
 
     @Override
@@ -26,23 +91,16 @@ public class MahasiswaDAOImpl implements MahasiswaDAO {
             throw new IllegalArgumentException("Data mahasiswa tidak valid");
         }
 
-        // Cek apakah NIM sudah ada
-        if (existsByNim(mahasiswa.getNim())) {
-            throw new RuntimeException("NIM " + mahasiswa.getNim() + " sudah ada dalam database");
-        }
-
-        String sql = "INSERT INTO mahasiswa (nim, nama, gender, ipk, dosen_wali) VALUES (?, ?, ?, ?, ?)";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, mahasiswa.getNim());
-            stmt.setString(2, mahasiswa.getNama());
-            stmt.setString(3, mahasiswa.getGender());
-            stmt.setDouble(4, mahasiswa.getIpk());
-            stmt.setString(5, mahasiswa.getDosenWali());
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(INSERT_SQL);
+                bindInsert(stmt, mahasiswa);
+                return stmt.executeUpdate();
+            });
 
-            int rowsAffected = stmt.executeUpdate();
+            // ON CONFLICT DO NOTHING: 0 baris berarti NIM sudah ada
             if (rowsAffected == 0) {
-                throw new RuntimeException("Gagal menyimpan data mahasiswa");
+                throw new DuplicateKeyException("NIM " + mahasiswa.getNim() + " sudah ada dalam database", mahasiswa.getNim());
             }
 
             System.out.println("✅ Mahasiswa " + mahasiswa.getNama() + " berhasil disimpan");
@@ -53,22 +111,40 @@ public class MahasiswaDAOImpl implements MahasiswaDAO {
     }
 
     @Override
-    public void update(Mahasiswa mahasiswa) {
+    public void upsert(Mahasiswa mahasiswa) {
         // Validasi input
         if (mahasiswa == null || !mahasiswa.isValid()) {
             throw new IllegalArgumentException("Data mahasiswa tidak valid");
         }
 
-        String sql = "UPDATE mahasiswa SET nama = ?, gender = ?, ipk = ?, dosen_wali = ? WHERE nim = ?";
+        try {
+            database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(UPSERT_SQL);
+                bindInsert(stmt, mahasiswa);
+                return stmt.executeUpdate();
+            });
+
+            System.out.println("✅ Mahasiswa " + mahasiswa.getNama() + " berhasil disimpan (upsert)");
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error upserting mahasiswa: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void update(Mahasiswa mahasiswa) {
+        // Validasi input
+        if (mahasiswa == null || !mahasiswa.isValid()) {
+            throw new IllegalArgumentException("Data mahasiswa tidak valid");
+        }
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, mahasiswa.getNama());
-            stmt.setString(2, mahasiswa.getGender());
-            stmt.setDouble(3, mahasiswa.getIpk());
-            stmt.setString(4, mahasiswa.getDosenWali());
-            stmt.setString(5, mahasiswa.getNim());
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(UPDATE_SQL);
+                bindUpdate(stmt, mahasiswa);
+                return stmt.executeUpdate();
+            });
 
-            int rowsAffected = stmt.executeUpdate();
             if (rowsAffected == 0) {
                 throw new RuntimeException("Data mahasiswa dengan NIM " + mahasiswa.getNim() + " tidak ditemukan");
             }
@@ -86,12 +162,13 @@ public class MahasiswaDAOImpl implements MahasiswaDAO {
             throw new IllegalArgumentException("NIM tidak boleh kosong");
         }
 
-        String sql = "DELETE FROM mahasiswa WHERE nim = ?";
+        try {
+            int rowsAffected = database.write(connection -> {
+                PreparedStatement stmt = connection.prepare(DELETE_SQL);
+                stmt.setString(1, nim);
+                return stmt.executeUpdate();
+            });
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, nim);
-
-            int rowsAffected = stmt.executeUpdate();
             if (rowsAffected == 0) {
                 throw new RuntimeException("Data mahasiswa dengan NIM " + nim + " tidak ditemukan");
             }
@@ -109,119 +186,154 @@ public class MahasiswaDAOImpl implements MahasiswaDAO {
             return null;
         }
 
-        String sql = "SELECT * FROM mahasiswa WHERE nim = ?";
+        String sql = SELECT_MAHASISWA + " WHERE nim = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, nim);
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setString(1, nim);
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToMahasiswa(rs);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return RowMapper.mapFirst(rs, MahasiswaMapper::new);
                 }
-            }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error finding mahasiswa by NIM: " + e.getMessage(), e);
         }
-
-        return null;
     }
 
     @Override
     public List<Mahasiswa> findAll() {
-        List<Mahasiswa> mahasiswaList = new ArrayList<>();
-        String sql = "SELECT * FROM mahasiswa ORDER BY nama";
+        String sql = SELECT_MAHASISWA + PAGE_ORDER;
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
 
-            while (rs.next()) {
-                mahasiswaList.add(mapResultSetToMahasiswa(rs));
-            }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
+                }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error finding all mahasiswa: " + e.getMessage(), e);
         }
+    }
 
-        return mahasiswaList;
+    @Override
+    public Stream<Mahasiswa> streamAll(int fetchSize) {
+        return CursorStream.open(database, SELECT_MAHASISWA + PAGE_ORDER, fetchSize, MahasiswaMapper::new, "mahasiswa");
     }
 
     @Override
-    public List<Mahasiswa> findByDosenWali(String nppDosenWali) {
-        List<Mahasiswa> mahasiswaList = new ArrayList<>();
+    public Stream<String> streamNim(int fetchSize) {
+        return CursorStream.open(database, "SELECT nim FROM mahasiswa", fetchSize, rs -> row -> row.getString(1), "mahasiswa");
+    }
+
+    @Override
+    public Stream<MahasiswaRow> streamRows(MahasiswaFilter filter, int fetchSize) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = SELECT_ROW + whereClause(filter, parameters) + PAGE_ORDER;
+        return CursorStream.open(database, sql, fetchSize, MahasiswaRowMapper::new, "mahasiswa", parameters.toArray());
+    }
 
+    @Override
+    public List<Mahasiswa> findByDosenWali(String nppDosenWali) {
         if (nppDosenWali == null || nppDosenWali.trim().isEmpty()) {
-            return mahasiswaList;
+            return new ArrayList<>();
         }
 
-        String sql = "SELECT * FROM mahasiswa WHERE dosen_wali = ? ORDER BY nama";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, nppDosenWali);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    mahasiswaList.add(mapResultSetToMahasiswa(rs));
-                }
-            }
+        String sql = SELECT_MAHASISWA + " WHERE dosen_wali = ?" + PAGE_ORDER;
 
+        try {
+            return findList(sql, nppDosenWali);
         } catch (SQLException e) {
             throw new RuntimeException("Error finding mahasiswa by dosen wali: " + e.getMessage(), e);
         }
-
-        return mahasiswaList;
     }
 
     @Override
     public List<Mahasiswa> findByGender(String gender) {
-        List<Mahasiswa> mahasiswaList = new ArrayList<>();
-
         if (gender == null || gender.trim().isEmpty()) {
-            return mahasiswaList;
+            return new ArrayList<>();
         }
 
-        String sql = "SELECT * FROM mahasiswa WHERE gender = ? ORDER BY nama";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, gender);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    mahasiswaList.add(mapResultSetToMahasiswa(rs));
-                }
-            }
+        String sql = SELECT_MAHASISWA + " WHERE gender = ?" + PAGE_ORDER;
 
+        try {
+            return findList(sql, gender);
         } catch (SQLException e) {
             throw new RuntimeException("Error finding mahasiswa by gender: " + e.getMessage(), e);
         }
-
-        return mahasiswaList;
     }
 
     @Override
     public List<Mahasiswa> findByNama(String nama) {
-        List<Mahasiswa> mahasiswaList = new ArrayList<>();
-
         if (nama == null || nama.trim().isEmpty()) {
-            return mahasiswaList;
+            return new ArrayList<>();
         }
 
-        String sql = "SELECT * FROM mahasiswa WHERE nama LIKE ? ORDER BY nama";
+        String sql = SELECT_MAHASISWA + " WHERE nama LIKE ?" + PAGE_ORDER;
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, "%" + nama + "%");
+        try {
+            return findList(sql, "%" + nama + "%");
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding mahasiswa by nama: " + e.getMessage(), e);
+        }
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    mahasiswaList.add(mapResultSetToMahasiswa(rs));
+    @Override
+    public List<Mahasiswa> searchByNama(String query, int limit) {
+        String match = FullTextQuery.build(query);
+        if (match == null || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(SEARCH_SQL);
+                stmt.setString(1, match);
+                stmt.setInt(2, limit);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return mapResultSetToList(rs);
                 }
-            }
+            });
 
         } catch (SQLException e) {
-            throw new RuntimeException("Error finding mahasiswa by nama: " + e.getMessage(), e);
+            throw new RuntimeException("Error searching mahasiswa by nama: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<MahasiswaRow> searchRows(String text, int limit) {
+        String prefix = text != null ? text.trim() : "";
+        if (prefix.isEmpty() || limit < 1) {
+            return new ArrayList<>();
         }
+        String match = FullTextQuery.build(prefix);
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(match != null ? SEARCH_KEY_OR_NAMA_SQL : SEARCH_BY_NIM_SQL);
+                stmt.setString(1, prefix);
+                stmt.setString(2, KeyPrefix.upperBound(prefix));
+                stmt.setInt(3, limit);
+                if (match != null) {
+                    stmt.setString(4, match);
+                    stmt.setInt(5, limit);
+                    stmt.setInt(6, limit);
+                }
 
-        return mahasiswaList;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return RowMapper.mapAll(rs, MahasiswaRowMapper::new);
+                }
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error searching mahasiswa: " + e.getMessage(), e);
+        }
     }
 
     @Override
@@ -232,53 +344,333 @@ public class MahasiswaDAOImpl implements MahasiswaDAO {
 
         String sql = "SELECT COUNT(*) FROM mahasiswa WHERE nim = ?";
 
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, nim);
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setString(1, nim);
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() && rs.getInt(1) > 0;
                 }
-            }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error checking mahasiswa existence: " + e.getMessage(), e);
         }
-
-        return false;
     }
 
     @Override
     public int count() {
-        String sql = "SELECT COUNT(*) FROM mahasiswa";
+        // Counter dijaga trigger statistik_mahasiswa_* (migration V4)
+        String sql = "SELECT jumlah FROM statistik_tabel WHERE tabel = 'mahasiswa'";
 
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
 
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            });
 
         } catch (SQLException e) {
             throw new RuntimeException("Error counting mahasiswa: " + e.getMessage(), e);
         }
+    }
+
+    @Override
+    public int count(MahasiswaFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return count();
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM mahasiswa" + whereClause(filter, parameters);
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                for (int i = 0; i < parameters.size(); i++) {
+                    stmt.setObject(i + 1, parameters.get(i));
+                }
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            });
 
-        return 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Error counting mahasiswa: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int countEstimate() {
+        // MIN/MAX rowid dibaca langsung dari ujung B-tree, O(log n)
+        String sql = "SELECT COALESCE(MAX(rowid) - MIN(rowid) + 1, 0) FROM mahasiswa";
+
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error estimating mahasiswa count: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Page<Mahasiswa> findPage(String cursor, int pageSize) {
+        return queryPage(SELECT_MAHASISWA, cursor, pageSize, MahasiswaMapper::new,
+            mahasiswa -> new PageCursor(mahasiswa.getNama(), mahasiswa.getNim()));
+    }
+
+    @Override
+    public Page<Mahasiswa> findPageAt(int offset, int pageSize) {
+        return queryPageAt(SELECT_MAHASISWA, offset, pageSize, MahasiswaMapper::new,
+            mahasiswa -> new PageCursor(mahasiswa.getNama(), mahasiswa.getNim()));
+    }
+
+    @Override
+    public Page<MahasiswaRow> findRowPage(String cursor, int pageSize) {
+        return queryPage(SELECT_ROW, cursor, pageSize, MahasiswaRowMapper::new,
+            row -> new PageCursor(row.getNama(), row.getNim()));
+    }
+
+    @Override
+    public Page<MahasiswaRow> findRowPageAt(int offset, int pageSize) {
+        return queryPageAt(SELECT_ROW, offset, pageSize, MahasiswaRowMapper::new,
+            row -> new PageCursor(row.getNama(), row.getNim()));
+    }
+
+    @Override
+    public BatchResult saveAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        return executeBatch(INSERT_BATCH, mahasiswaList, batchSize, "simpan");
+    }
+
+    @Override
+    public BatchResult upsertAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        return executeBatch(UPSERT_BATCH, mahasiswaList, batchSize, "upsert");
+    }
+
+    @Override
+    public BatchResult updateAll(List<Mahasiswa> mahasiswaList, int batchSize) {
+        return executeBatch(UPDATE_BATCH, mahasiswaList, batchSize, "update");
+    }
+
+    @Override
+    public BatchResult deleteAll(List<String> nimList, int batchSize) {
+        return executeBatch(DELETE_BATCH, nimList, batchSize, "hapus");
+    }
+
+    /**
+     * Jalankan operasi batch di dalam satu transaksi
+     * @param executor batch executor untuk statement yang diinginkan
+     * @param items item yang akan diproses
+     * @param batchSize jumlah baris per executeBatch
+     * @param operation nama operasi untuk logging
+     * @return hasil batch beserta error per baris
+     */
+    private <T> BatchResult executeBatch(BatchExecutor<T> executor, List<T> items, int batchSize, String operation) {
+        if (items == null || items.isEmpty()) {
+            return new BatchResult(0);
+        }
+
+        try {
+            BatchResult result = database.transaction(connection -> executor.execute(connection, items, batchSize));
+            System.out.println("✅ Batch " + operation + " mahasiswa: " + result);
+            return result;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error executing mahasiswa batch " + operation + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Bangun klausa WHERE untuk filter; nilai parameter ditambahkan ke parameters sesuai urutan placeholder
+     * @return klausa WHERE (diawali spasi), atau string kosong jika tidak ada kriteria
+     */
+    private static String whereClause(MahasiswaFilter filter, List<Object> parameters) {
+        if (filter == null || filter.isEmpty()) {
+            return "";
+        }
+
+        List<String> conditions = new ArrayList<>();
+        if (filter.getGender() != null) {
+            conditions.add("mahasiswa.gender = ?");
+            parameters.add(filter.getGender());
+        }
+        if (filter.getDosenWali() != null) {
+            conditions.add("mahasiswa.dosen_wali = ?");
+            parameters.add(filter.getDosenWali());
+        }
+        if (filter.getIpkMin() != null) {
+            conditions.add("mahasiswa.ipk >= ?");
+            parameters.add(filter.getIpkMin());
+        }
+        if (filter.getIpkMax() != null) {
+            conditions.add("mahasiswa.ipk <= ?");
+            parameters.add(filter.getIpkMax());
+        }
+        return " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Ambil satu halaman dengan keyset pagination
+     * @param select query SELECT tanpa WHERE/ORDER BY yang membaca dari tabel mahasiswa
+     * @param cursor token halaman sebelumnya, atau null untuk halaman pertama
+     * @param pageSize ukuran halaman
+     * @param mapper pembuat mapper untuk ResultSet hasil query
+     * @param cursorOf posisi (nama, NIM) sebuah item untuk cursor halaman berikutnya
+     */
+    private <T> Page<T> queryPage(String select, String cursor, int pageSize,
+                                  RowMapper.Factory<T> mapper, Function<T, PageCursor> cursorOf) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Ukuran halaman minimal 1");
+        }
+
+        PageCursor after = PageCursor.decode(cursor);
+
+        // Row value (nama, nim) > (?, ?) dilayani sebagai SEARCH pada idx_mahasiswa_nama
+        String sql = after == null
+            ? select + PAGE_ORDER + " LIMIT ?"
+            : select + " WHERE (mahasiswa.nama, mahasiswa.nim) > (? COLLATE NOCASE, ?)" + PAGE_ORDER + " LIMIT ?";
+
+        try {
+            List<T> rows = database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                int index = 1;
+                if (after != null) {
+                    stmt.setString(index++, after.getNama());
+                    stmt.setString(index++, after.getKey());
+                }
+                // Ambil satu baris ekstra untuk mengetahui apakah masih ada halaman berikutnya
+                stmt.setInt(index, pageSize + 1);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return RowMapper.mapAll(rs, mapper);
+                }
+            });
+
+            return toPage(rows, pageSize, cursorOf);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding mahasiswa page: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ambil satu halaman mulai dari posisi tertentu (OFFSET)
+     * @param select query SELECT tanpa WHERE/ORDER BY yang membaca dari tabel mahasiswa
+     * @param offset posisi baris pertama
+     * @param pageSize ukuran halaman
+     * @param mapper pembuat mapper untuk ResultSet hasil query
+     * @param cursorOf posisi (nama, NIM) sebuah item untuk cursor halaman berikutnya
+     */
+    private <T> Page<T> queryPageAt(String select, int offset, int pageSize,
+                                    RowMapper.Factory<T> mapper, Function<T, PageCursor> cursorOf) {
+        if (offset < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("Offset minimal 0 dan ukuran halaman minimal 1");
+        }
+
+        // OFFSET tetap melewati baris satu per satu, tapi hanya di covering index idx_mahasiswa_nama
+        String sql = select + PAGE_ORDER + " LIMIT ? OFFSET ?";
+
+        try {
+            List<T> rows = database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setInt(1, pageSize + 1);
+                stmt.setInt(2, offset);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return RowMapper.mapAll(rs, mapper);
+                }
+            });
+
+            return toPage(rows, pageSize, cursorOf);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error finding mahasiswa page at offset: " + e.getMessage(), e);
+        }
     }
 
     /**
-     * Mapping ResultSet ke object Mahasiswa
-     * @param rs ResultSet dari query database
-     * @return object Mahasiswa
+     * Potong hasil query (pageSize + 1 baris) menjadi satu halaman beserta cursor berikutnya
+     * @param rows baris hasil query, maksimal pageSize + 1
+     * @param pageSize ukuran halaman
+     * @param cursorOf posisi item terakhir untuk cursor
+     * @return halaman dengan cursor, atau tanpa cursor jika tidak ada baris ekstra
+     */
+    private static <T> Page<T> toPage(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new Page<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, pageSize);
+        return new Page<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * Jalankan query dengan satu parameter dan mapping semua baris hasilnya
+     * @param sql query dengan satu placeholder
+     * @param parameter nilai parameter
+     * @return List mahasiswa hasil query
+     * @throws SQLException jika terjadi error database
+     */
+    private List<Mahasiswa> findList(String sql, String parameter) throws SQLException {
+        return database.read(connection -> {
+            PreparedStatement stmt = connection.prepare(sql);
+            stmt.setString(1, parameter);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return mapResultSetToList(rs);
+            }
+        });
+    }
+
+    /**
+     * Mapping semua baris ResultSet ke List Mahasiswa
+     * @param rs ResultSet dari query yang memilih MAHASISWA_COLUMNS
+     * @return List mahasiswa
      * @throws SQLException jika terjadi error saat mapping
      */
-    private Mahasiswa mapResultSetToMahasiswa(ResultSet rs) throws SQLException {
-        return new Mahasiswa(
-            rs.getString("nim"),
-            rs.getString("nama"),
-            rs.getString("gender"),
-            rs.getDouble("ipk"),
-            rs.getString("dosen_wali")
-        );
+    private List<Mahasiswa> mapResultSetToList(ResultSet rs) throws SQLException {
+        return RowMapper.mapAll(rs, MahasiswaMapper::new);
+    }
+
+    /**
+     * Validasi mahasiswa untuk operasi batch
+     * @return pesan error, atau null jika valid
+     */
+    private static String validate(Mahasiswa mahasiswa) {
+        return mahasiswa.isValid() ? null : "Data mahasiswa tidak valid";
+    }
+
+    /**
+     * Validasi NIM untuk operasi batch
+     * @return pesan error, atau null jika valid
+     */
+    private static String validateKey(String nim) {
+        return nim.trim().isEmpty() ? "NIM tidak boleh kosong" : null;
+    }
+
+    private static void bindInsert(PreparedStatement stmt, Mahasiswa mahasiswa) throws SQLException {
+        stmt.setString(1, mahasiswa.getNim());
+        stmt.setString(2, mahasiswa.getNama());
+        stmt.setString(3, mahasiswa.getGender());
+        stmt.setDouble(4, mahasiswa.getIpk());
+        stmt.setString(5, mahasiswa.getDosenWali());
+    }
+
+    private static void bindUpdate(PreparedStatement stmt, Mahasiswa mahasiswa) throws SQLException {
+        stmt.setString(1, mahasiswa.getNama());
+        stmt.setString(2, mahasiswa.getGender());
+        stmt.setDouble(3, mahasiswa.getIpk());
+        stmt.setString(4, mahasiswa.getDosenWali());
+        stmt.setString(5, mahasiswa.getNim());
     }
 }
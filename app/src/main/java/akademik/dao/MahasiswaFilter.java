@@ -0,0 +1,69 @@
+package akademik.dao;
+
+/**
+ * Kriteria filter mahasiswa untuk query yang memproses banyak baris (misalnya export)
+ * Kriteria yang tidak diisi (null) tidak membatasi hasil; kriteria yang diisi digabung dengan AND
+ */
+public class MahasiswaFilter {
+
+    private String gender;
+    private String dosenWali;
+    private Double ipkMin;
+    private Double ipkMax;
+
+    /**
+     * @return true jika tidak ada kriteria yang diisi (semua mahasiswa)
+     */
+    public boolean isEmpty() {
+        return gender == null && dosenWali == null && ipkMin == null && ipkMax == null;
+    }
+
+    // === GETTERS ===
+    public String getGender() {
+        return gender;
+    }
+
+    public String getDosenWali() {
+        return dosenWali;
+    }
+
+    public Double getIpkMin() {
+        return ipkMin;
+    }
+
+    public Double getIpkMax() {
+        return ipkMax;
+    }
+
+    // === SETTERS ===
+    public void setGender(String gender) {
+        this.gender = gender;
+    }
+
+    /**
+     * @param dosenWali NPP dosen wali
+     */
+    public void setDosenWali(String dosenWali) {
+        this.dosenWali = dosenWali;
+    }
+
+    /**
+     * @param ipkMin batas bawah IPK (inklusif)
+     */
+    public void setIpkMin(Double ipkMin) {
+        this.ipkMin = ipkMin;
+    }
+
+    /**
+     * @param ipkMax batas atas IPK (inklusif)
+     */
+    public void setIpkMax(Double ipkMax) {
+        this.ipkMax = ipkMax;
+    }
+
+    @Override
+    public String toString() {
+        return "MahasiswaFilter{gender=" + gender + ", dosenWali=" + dosenWali
+            + ", ipkMin=" + ipkMin + ", ipkMax=" + ipkMax + "}";
+    }
+}
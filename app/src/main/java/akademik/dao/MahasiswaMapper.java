@@ -0,0 +1,37 @@
+package akademik.dao;
+
+import akademik.model.Mahasiswa;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper untuk query yang memilih kolom MahasiswaDAOImpl.MAHASISWA_COLUMNS
+ */
+final class MahasiswaMapper implements RowMapper<Mahasiswa> {
+
+    private final int nim;
+    private final int nama;
+    private final int gender;
+    private final int ipk;
+    private final int dosenWali;
+
+    MahasiswaMapper(ResultSet rs) throws SQLException {
+        this.nim = rs.findColumn("nim");
+        this.nama = rs.findColumn("nama");
+        this.gender = rs.findColumn("gender");
+        this.ipk = rs.findColumn("ipk");
+        this.dosenWali = rs.findColumn("dosen_wali");
+    }
+
+    @Override
+    public Mahasiswa map(ResultSet rs) throws SQLException {
+        return new Mahasiswa(
+            rs.getString(nim),
+            rs.getString(nama),
+            ColumnValues.gender(rs.getString(gender)),
+            rs.getDouble(ipk),
+            ColumnValues.npp(rs.getString(dosenWali))
+        );
+    }
+}
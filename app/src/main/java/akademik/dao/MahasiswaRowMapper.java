@@ -0,0 +1,40 @@
+package akademik.dao;
+
+import akademik.model.MahasiswaRow;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper untuk query read model MahasiswaDAOImpl.SELECT_ROW (mahasiswa + nama dosen wali)
+ */
+final class MahasiswaRowMapper implements RowMapper<MahasiswaRow> {
+
+    private final int nim;
+    private final int nama;
+    private final int gender;
+    private final int ipk;
+    private final int dosenWali;
+    private final int dosenWaliNama;
+
+    MahasiswaRowMapper(ResultSet rs) throws SQLException {
+        this.nim = rs.findColumn("nim");
+        this.nama = rs.findColumn("nama");
+        this.gender = rs.findColumn("gender");
+        this.ipk = rs.findColumn("ipk");
+        this.dosenWali = rs.findColumn("dosen_wali");
+        this.dosenWaliNama = rs.findColumn("dosen_wali_nama");
+    }
+
+    @Override
+    public MahasiswaRow map(ResultSet rs) throws SQLException {
+        return new MahasiswaRow(
+            rs.getString(nim),
+            rs.getString(nama),
+            ColumnValues.gender(rs.getString(gender)),
+            rs.getDouble(ipk),
+            ColumnValues.npp(rs.getString(dosenWali)),
+            ColumnValues.namaDosen(rs.getString(dosenWaliNama))
+        );
+    }
+}
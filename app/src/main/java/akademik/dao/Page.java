@@ -0,0 +1,45 @@
+package akademik.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Satu halaman hasil query dengan keyset pagination
+ * Halaman berikutnya diminta dengan mengirim nextCursor ke method findPage
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * @param items isi halaman
+     * @param nextCursor token untuk halaman berikutnya, null jika ini halaman terakhir
+     */
+    public Page(List<T> items, String nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    // === GETTERS ===
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" + items.size() + " item" + (hasNext() ? ", ada halaman berikutnya" : "") + "}";
+    }
+}
@@ -0,0 +1,75 @@
+package akademik.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Posisi terakhir keyset pagination pada urutan (nama COLLATE NOCASE, key)
+ * Dikirim ke pemanggil sebagai token Base64 yang tidak perlu dipahami isinya
+ */
+final class PageCursor {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final String nama;
+    private final String key;
+
+    PageCursor(String nama, String key) {
+        this.nama = nama;
+        this.key = key;
+    }
+
+    String getNama() {
+        return nama;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * @return token URL-safe untuk dikirim ke pemanggil
+     */
+    String encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeByte(FORMAT_VERSION);
+                out.writeUTF(nama);
+                out.writeUTF(key);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Error encoding cursor", e);
+        }
+    }
+
+    /**
+     * @param token token dari encode(), atau null/kosong untuk halaman pertama
+     * @return posisi cursor, null untuk halaman pertama
+     * @throws IllegalArgumentException jika token rusak atau bukan dari versi ini
+     */
+    static PageCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                if (in.readByte() != FORMAT_VERSION) {
+                    throw new IllegalArgumentException("Versi cursor tidak dikenal");
+                }
+                return new PageCursor(in.readUTF(), in.readUTF());
+            }
+
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor tidak valid: " + token, e);
+        }
+    }
+}
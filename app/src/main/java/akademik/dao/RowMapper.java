@@ -0,0 +1,62 @@
+package akademik.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapping satu baris ResultSet ke object
+ * Instance dibuat sekali per ResultSet lewat Factory, sehingga index kolom cukup
+ * di-resolve (findColumn) sekali di constructor dan setiap baris dibaca dengan getXxx(int)
+ */
+@FunctionalInterface
+interface RowMapper<T> {
+
+    /**
+     * Mapping baris yang sedang ditunjuk ResultSet
+     * @param rs ResultSet yang sama dengan yang dipakai untuk membuat mapper ini
+     * @return object hasil mapping
+     * @throws SQLException jika terjadi error saat membaca kolom
+     */
+    T map(ResultSet rs) throws SQLException;
+
+    /**
+     * Pembuat RowMapper untuk satu ResultSet
+     */
+    @FunctionalInterface
+    interface Factory<T> {
+        RowMapper<T> create(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Mapping semua baris ResultSet
+     * @param rs ResultSet dari query database
+     * @param factory pembuat mapper
+     * @return List hasil mapping
+     * @throws SQLException jika terjadi error saat mapping
+     */
+    static <T> List<T> mapAll(ResultSet rs, Factory<T> factory) throws SQLException {
+        List<T> list = new ArrayList<>();
+        if (!rs.next()) {
+            return list;
+        }
+
+        RowMapper<T> mapper = factory.create(rs);
+        do {
+            list.add(mapper.map(rs));
+        } while (rs.next());
+        return list;
+    }
+
+    /**
+     * Mapping baris pertama ResultSet
+     * @param rs ResultSet dari query database
+     * @param factory pembuat mapper
+     * @return object hasil mapping, atau null jika ResultSet kosong
+     * @throws SQLException jika terjadi error saat mapping
+     */
+    static <T> T mapFirst(ResultSet rs, Factory<T> factory) throws SQLException {
+        return rs.next() ? factory.create(rs).map(rs) : null;
+    }
+}
@@ -0,0 +1,113 @@
+package akademik.dao;
+
+import akademik.model.IpkHistogram;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.RingkasanIpk;
+import akademik.model.VersiData;
+import java.util.List;
+
+/**
+ * DAO untuk statistik IPK mahasiswa
+ * Semua agregasi (COUNT, AVG, MIN, MAX, kategori prestasi, histogram) dijalankan
+ * dengan GROUP BY di database; hasilnya satu object per kelompok, bukan per mahasiswa
+ */
+public interface StatistikDAO {
+
+    /**
+     * Lebar default bucket histogram IPK
+     */
+    double DEFAULT_LEBAR_BUCKET = 0.25;
+
+    /**
+     * Jumlah, rata-rata, dan simpangan baku IPK seluruh mahasiswa dari counter yang dijaga trigger
+     * O(1): tidak membaca tabel mahasiswa, cocok untuk status bar dan refresh yang sering
+     * @return ringkasan keseluruhan
+     */
+    RingkasanIpk getRingkasan();
+
+    /**
+     * Seperti getRingkasan, untuk mahasiswa bimbingan satu dosen wali
+     * @param nppDosenWali NPP dosen wali, atau null untuk mahasiswa tanpa dosen wali
+     * @return ringkasan (jumlah 0 jika dosen tidak memiliki mahasiswa)
+     */
+    RingkasanIpk getRingkasanDosenWali(String nppDosenWali);
+
+    /**
+     * Versi data tabel mahasiswa dan dosen, O(1) dari counter yang dijaga trigger
+     * @return versi saat ini; berubah setiap ada baris yang di-insert/update/delete
+     */
+    VersiData getVersiData();
+
+    /**
+     * Statistik IPK seluruh mahasiswa
+     * Berbeda dengan getRingkasan, ini menghitung ulang dari tabel (O(n)) termasuk min/max dan kategori
+     * @return ringkasan keseluruhan (jumlah 0 jika belum ada data)
+     */
+    IpkStatistik getStatistikKeseluruhan();
+
+    /**
+     * Statistik IPK per dosen wali, termasuk jumlah mahasiswa per kategori prestasi
+     * Mahasiswa tanpa dosen wali dikelompokkan dengan kelompok null
+     * @return satu baris per dosen wali, urut nama dosen
+     */
+    List<IpkStatistik> getStatistikPerDosenWali();
+
+    /**
+     * Statistik IPK per gender
+     * @return satu baris per gender
+     */
+    List<IpkStatistik> getStatistikPerGender();
+
+    /**
+     * Statistik IPK per kategori prestasi
+     * @return satu baris per kategori yang memiliki mahasiswa, urut dari kategori tertinggi
+     */
+    List<IpkStatistik> getStatistikPerKategori();
+
+    /**
+     * Histogram IPK dari 0.00 sampai 4.00
+     * Batas bucket dibandingkan dengan IPK apa adanya, sama seperti batas kategori prestasi
+     * @param lebarBucket lebar tiap bucket (kelipatan 0.01)
+     * @return semua bucket berurutan, termasuk yang kosong
+     */
+    List<IpkHistogramBucket> getHistogramIpk(double lebarBucket);
+
+    default List<IpkHistogramBucket> getHistogramIpk() {
+        return getHistogramIpk(DEFAULT_LEBAR_BUCKET);
+    }
+
+    /**
+     * Histogram IPK per dosen wali
+     * Mahasiswa tanpa dosen wali dikelompokkan dengan kelompok null
+     * @param lebarBucket lebar tiap bucket (kelipatan 0.01)
+     * @return satu histogram per dosen wali yang memiliki mahasiswa, urut nama dosen
+     */
+    List<IpkHistogram> getHistogramIpkPerDosenWali(double lebarBucket);
+
+    default List<IpkHistogram> getHistogramIpkPerDosenWali() {
+        return getHistogramIpkPerDosenWali(DEFAULT_LEBAR_BUCKET);
+    }
+
+    /**
+     * Histogram IPK per gender
+     * @param lebarBucket lebar tiap bucket (kelipatan 0.01)
+     * @return satu histogram per gender yang memiliki mahasiswa
+     */
+    List<IpkHistogram> getHistogramIpkPerGender(double lebarBucket);
+
+    default List<IpkHistogram> getHistogramIpkPerGender() {
+        return getHistogramIpkPerGender(DEFAULT_LEBAR_BUCKET);
+    }
+
+    /**
+     * Histogram IPK per kategori prestasi
+     * @param lebarBucket lebar tiap bucket (kelipatan 0.01)
+     * @return satu histogram per kategori yang memiliki mahasiswa, urut dari kategori tertinggi
+     */
+    List<IpkHistogram> getHistogramIpkPerKategori(double lebarBucket);
+
+    default List<IpkHistogram> getHistogramIpkPerKategori() {
+        return getHistogramIpkPerKategori(DEFAULT_LEBAR_BUCKET);
+    }
+}
@@ -0,0 +1,361 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConnection;
+import akademik.model.IpkHistogram;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.PrestasiKategori;
+import akademik.model.RingkasanIpk;
+import akademik.model.VersiData;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Implementasi StatistikDAO untuk SQLite
+ * Per dosen wali dan per gender dihitung dari covering index (idx_mahasiswa_dosen_wali,
+ * idx_mahasiswa_gender) sehingga GROUP BY tidak perlu sort maupun membaca tabel
+ */
+public class StatistikDAOImpl implements StatistikDAO {
+
+    // Skala IPK maksimum dan resolusinya (IPK disimpan dengan 2 angka di belakang koma)
+    private static final double IPK_MAKSIMUM = 4.0;
+    private static final int SKALA_IPK = 100;
+
+    // Kategori prestasi sebagai ordinal PrestasiKategori, dengan batas yang sama seperti di Java
+    private static final String KATEGORI_SQL = kategoriCase(kategori -> String.valueOf(kategori.ordinal()));
+
+    // COUNT/AVG/MIN/MAX ditambah jumlah per kategori (conditional aggregation, satu kali scan)
+    private static final String AGREGAT_SQL = agregatColumns();
+
+    private static final String KESELURUHAN_SQL = "SELECT " + AGREGAT_SQL + " FROM mahasiswa";
+
+    // Agregasi dulu, baru join ke dosen: join dilakukan per kelompok, bukan per mahasiswa
+    private static final String PER_DOSEN_WALI_SQL = "SELECT s.*, dosen.nama AS label FROM ("
+        + "SELECT dosen_wali AS kelompok, " + AGREGAT_SQL + " FROM mahasiswa GROUP BY dosen_wali"
+        + ") s LEFT JOIN dosen ON dosen.npp = s.kelompok"
+        + " ORDER BY s.kelompok IS NULL, dosen.nama COLLATE NOCASE, s.kelompok";
+
+    private static final String PER_GENDER_SQL = "SELECT gender AS kelompok, gender AS label, " + AGREGAT_SQL
+        + " FROM mahasiswa GROUP BY gender ORDER BY gender";
+
+    // Rentang kategori tidak tumpang tindih, jadi MIN(ipk) DESC = urutan kategori dari yang tertinggi
+    private static final String PER_KATEGORI_SQL = "SELECT "
+        + kategoriCase(kategori -> "'" + kategori.name() + "'") + " AS kelompok, "
+        + kategoriCase(kategori -> "'" + kategori.getLabel() + "'") + " AS label, " + AGREGAT_SQL
+        + " FROM mahasiswa GROUP BY kelompok ORDER BY minimum DESC";
+
+    // Bucket dari IPK apa adanya (tanpa pembulatan) supaya sama dengan batas kategori prestasi (ipk >= 3.5):
+    // CAST(ipk * 100) bisa meleset satu bucket karena representasi double, lalu dikoreksi dengan
+    // membandingkan IPK ke batas bucket. Parameter: lebar, lebar, bucket terakhir, lalu lebar di BUCKET_FROM_SQL
+    private static final String BUCKET_SQL = "MIN(MAX(b - (ipk < b * ? / 100.0) + (ipk >= (b + 1) * ? / 100.0), 0), ?)";
+    private static final String BUCKET_FROM_SQL = " FROM (SELECT dosen_wali, gender, ipk, CAST(ipk * "
+        + SKALA_IPK + " AS INTEGER) / ? AS b FROM mahasiswa)";
+
+    private static final String HISTOGRAM_SQL = "SELECT NULL AS kelompok, NULL AS label, " + BUCKET_SQL
+        + " AS bucket, COUNT(*) AS jumlah" + BUCKET_FROM_SQL + " GROUP BY bucket";
+
+    // Sama seperti PER_DOSEN_WALI_SQL: agregasi dulu, baru join ke dosen
+    private static final String HISTOGRAM_PER_DOSEN_WALI_SQL = "SELECT h.kelompok, dosen.nama AS label, h.bucket, h.jumlah FROM ("
+        + "SELECT dosen_wali AS kelompok, " + BUCKET_SQL + " AS bucket, COUNT(*) AS jumlah" + BUCKET_FROM_SQL
+        + " GROUP BY kelompok, bucket"
+        + ") h LEFT JOIN dosen ON dosen.npp = h.kelompok"
+        + " ORDER BY h.kelompok IS NULL, dosen.nama COLLATE NOCASE, h.kelompok";
+
+    private static final String HISTOGRAM_PER_GENDER_SQL = "SELECT gender AS kelompok, gender AS label, " + BUCKET_SQL
+        + " AS bucket, COUNT(*) AS jumlah" + BUCKET_FROM_SQL + " GROUP BY kelompok, bucket ORDER BY kelompok";
+
+    private static final String HISTOGRAM_PER_KATEGORI_SQL = "SELECT "
+        + kategoriCase(kategori -> "'" + kategori.name() + "'") + " AS kelompok, "
+        + kategoriCase(kategori -> "'" + kategori.getLabel() + "'") + " AS label, " + BUCKET_SQL
+        + " AS bucket, COUNT(*) AS jumlah" + BUCKET_FROM_SQL + " GROUP BY kelompok, bucket ORDER BY MIN(ipk) DESC";
+
+    // Counter dari migration V4, dibaca per primary key
+    private static final String RINGKASAN_SQL = "SELECT jumlah, total_ipk, total_ipk_kuadrat"
+        + " FROM statistik_tabel WHERE tabel = 'mahasiswa'";
+    private static final String RINGKASAN_DOSEN_WALI_SQL = "SELECT jumlah, total_ipk, total_ipk_kuadrat"
+        + " FROM statistik_dosen_wali WHERE dosen_wali = ?";
+    // Versi data dari migration V5
+    private static final String VERSI_SQL = "SELECT tabel, versi FROM statistik_tabel";
+
+    private final DatabaseConnection database;
+
+    public StatistikDAOImpl() {
+        this(DatabaseConnection.getInstance());
+    }
+
+    public StatistikDAOImpl(DatabaseConnection database) {
+        this.database = database;
+    }
+
+    @Override
+    public RingkasanIpk getRingkasan() {
+        try {
+            return readRingkasan(RINGKASAN_SQL, null);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error membaca ringkasan IPK: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public RingkasanIpk getRingkasanDosenWali(String nppDosenWali) {
+        try {
+            // Mahasiswa tanpa dosen wali dicatat dengan key ''
+            return readRingkasan(RINGKASAN_DOSEN_WALI_SQL, nppDosenWali != null ? nppDosenWali : "");
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error membaca ringkasan IPK dosen wali: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public VersiData getVersiData() {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(VERSI_SQL);
+                long mahasiswa = 0;
+                long dosen = 0;
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        if ("mahasiswa".equals(rs.getString(1))) {
+                            mahasiswa = rs.getLong(2);
+                        } else if ("dosen".equals(rs.getString(1))) {
+                            dosen = rs.getLong(2);
+                        }
+                    }
+                }
+                return new VersiData(mahasiswa, dosen);
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error membaca versi data: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public IpkStatistik getStatistikKeseluruhan() {
+        try {
+            List<IpkStatistik> rows = query(KESELURUHAN_SQL, rs -> statistikMapper(rs, null, null));
+            return rows.get(0);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error menghitung statistik mahasiswa: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<IpkStatistik> getStatistikPerDosenWali() {
+        try {
+            return query(PER_DOSEN_WALI_SQL, rs -> statistikMapper(rs, "kelompok", "label"));
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error menghitung statistik per dosen wali: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<IpkStatistik> getStatistikPerGender() {
+        try {
+            return query(PER_GENDER_SQL, rs -> statistikMapper(rs, "kelompok", "label"));
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error menghitung statistik per gender: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<IpkStatistik> getStatistikPerKategori() {
+        try {
+            return query(PER_KATEGORI_SQL, rs -> statistikMapper(rs, "kelompok", "label"));
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error menghitung statistik per kategori: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<IpkHistogramBucket> getHistogramIpk(double lebarBucket) {
+        int lebar = lebarOf(lebarBucket);
+        List<IpkHistogram> histogram = queryHistogram(HISTOGRAM_SQL, lebarBucket);
+        // Tanpa mahasiswa, GROUP BY tidak menghasilkan baris; semua bucket tetap dikembalikan (kosong)
+        return histogram.isEmpty() ? toBuckets(new int[jumlahBucket(lebar)], lebar) : histogram.get(0).getBuckets();
+    }
+
+    @Override
+    public List<IpkHistogram> getHistogramIpkPerDosenWali(double lebarBucket) {
+        return queryHistogram(HISTOGRAM_PER_DOSEN_WALI_SQL, lebarBucket);
+    }
+
+    @Override
+    public List<IpkHistogram> getHistogramIpkPerGender(double lebarBucket) {
+        return queryHistogram(HISTOGRAM_PER_GENDER_SQL, lebarBucket);
+    }
+
+    @Override
+    public List<IpkHistogram> getHistogramIpkPerKategori(double lebarBucket) {
+        return queryHistogram(HISTOGRAM_PER_KATEGORI_SQL, lebarBucket);
+    }
+
+    /**
+     * Jalankan query histogram (kolom kelompok, label, bucket, jumlah) dan susun satu histogram per kelompok
+     * @return histogram dengan urutan kelompok pertama kali muncul di hasil query
+     */
+    private List<IpkHistogram> queryHistogram(String sql, double lebarBucket) {
+        int lebar = lebarOf(lebarBucket);
+        int jumlahBucket = jumlahBucket(lebar);
+        Map<String, int[]> jumlahPerKelompok = new LinkedHashMap<>();
+        Map<String, String> labelPerKelompok = new HashMap<>();
+
+        try {
+            database.read(connection -> {
+                PreparedStatement stmt = connection.prepare(sql);
+                stmt.setInt(1, lebar);
+                stmt.setInt(2, lebar);
+                stmt.setInt(3, jumlahBucket - 1);
+                stmt.setInt(4, lebar);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String kelompok = rs.getString(1);
+                        int[] jumlah = jumlahPerKelompok.computeIfAbsent(kelompok, key -> new int[jumlahBucket]);
+                        labelPerKelompok.put(kelompok, rs.getString(2));
+                        jumlah[rs.getInt(3)] += rs.getInt(4);
+                    }
+                }
+                return null;
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error menghitung histogram IPK: " + e.getMessage(), e);
+        }
+
+        List<IpkHistogram> result = new ArrayList<>(jumlahPerKelompok.size());
+        for (Map.Entry<String, int[]> entry : jumlahPerKelompok.entrySet()) {
+            String kelompok = entry.getKey();
+            result.add(new IpkHistogram(kelompok, labelOf(kelompok, labelPerKelompok.get(kelompok)),
+                toBuckets(entry.getValue(), lebar)));
+        }
+        return result;
+    }
+
+    /**
+     * @return lebar bucket dalam satuan 0.01
+     * @throws IllegalArgumentException jika lebar di luar 0.01 sampai IPK maksimum
+     */
+    private static int lebarOf(double lebarBucket) {
+        int lebar = (int) Math.round(lebarBucket * SKALA_IPK);
+        if (lebar < 1 || lebar > IPK_MAKSIMUM * SKALA_IPK) {
+            throw new IllegalArgumentException("Lebar bucket harus antara 0.01 dan " + IPK_MAKSIMUM);
+        }
+        return lebar;
+    }
+
+    private static int jumlahBucket(int lebar) {
+        // IPK 4.00 masuk ke bucket terakhir, bukan bucket baru
+        return (int) Math.ceil(IPK_MAKSIMUM * SKALA_IPK / lebar);
+    }
+
+    private static List<IpkHistogramBucket> toBuckets(int[] jumlah, int lebar) {
+        List<IpkHistogramBucket> buckets = new ArrayList<>(jumlah.length);
+        for (int i = 0; i < jumlah.length; i++) {
+            double batasBawah = (double) i * lebar / SKALA_IPK;
+            double batasAtas = Math.min(IPK_MAKSIMUM, (double) (i + 1) * lebar / SKALA_IPK);
+            buckets.add(new IpkHistogramBucket(batasBawah, batasAtas, jumlah[i]));
+        }
+        return buckets;
+    }
+
+    private RingkasanIpk readRingkasan(String sql, String parameter) throws SQLException {
+        return database.read(connection -> {
+            PreparedStatement stmt = connection.prepare(sql);
+            if (parameter != null) {
+                stmt.setString(1, parameter);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next()
+                    ? new RingkasanIpk(rs.getInt(1), rs.getLong(2), rs.getLong(3))
+                    : new RingkasanIpk(0, 0, 0);
+            }
+        });
+    }
+
+    private List<IpkStatistik> query(String sql, RowMapper.Factory<IpkStatistik> factory) throws SQLException {
+        return database.read(connection -> {
+            PreparedStatement stmt = connection.prepare(sql);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return RowMapper.mapAll(rs, factory);
+            }
+        });
+    }
+
+    /**
+     * Mapper untuk kolom AGREGAT_SQL
+     * @param kelompokColumn kolom key kelompok, atau null
+     * @param labelColumn kolom label kelompok, atau null
+     */
+    private static RowMapper<IpkStatistik> statistikMapper(ResultSet rs, String kelompokColumn, String labelColumn)
+            throws SQLException {
+        int kelompok = kelompokColumn != null ? rs.findColumn(kelompokColumn) : 0;
+        int label = labelColumn != null ? rs.findColumn(labelColumn) : 0;
+        int jumlah = rs.findColumn("jumlah");
+        int rataRata = rs.findColumn("rata_rata");
+        int minimum = rs.findColumn("minimum");
+        int maksimum = rs.findColumn("maksimum");
+        int kategoriPertama = rs.findColumn("kategori_0");
+
+        return row -> {
+            String key = kelompok > 0 ? row.getString(kelompok) : null;
+            String text = label > 0 ? row.getString(label) : null;
+
+            int[] perKategori = new int[PrestasiKategori.values().length];
+            for (int i = 0; i < perKategori.length; i++) {
+                perKategori[i] = row.getInt(kategoriPertama + i);
+            }
+
+            return new IpkStatistik(key, labelOf(key, text), row.getInt(jumlah), row.getDouble(rataRata),
+                row.getDouble(minimum), row.getDouble(maksimum), perKategori);
+        };
+    }
+
+    private static String labelOf(String kelompok, String label) {
+        if (label != null) {
+            return label;
+        }
+        // Dosen wali tanpa data dosen (seharusnya tidak terjadi karena foreign key) tetap tampil dengan NPP
+        return kelompok != null ? kelompok : "Tanpa dosen wali";
+    }
+
+    /**
+     * CASE WHEN ipk >= 3.5 THEN ... WHEN ipk >= 3.0 THEN ... ELSE ... END
+     * @param value literal SQL hasil CASE untuk tiap kategori
+     */
+    private static String kategoriCase(Function<PrestasiKategori, String> value) {
+        StringBuilder sql = new StringBuilder("CASE");
+        PrestasiKategori[] values = PrestasiKategori.values();
+        for (int i = 0; i < values.length - 1; i++) {
+            sql.append(" WHEN ipk >= ").append(values[i].getBatasBawah())
+                .append(" THEN ").append(value.apply(values[i]));
+        }
+        return sql.append(" ELSE ").append(value.apply(values[values.length - 1])).append(" END").toString();
+    }
+
+    private static String agregatColumns() {
+        StringBuilder sql = new StringBuilder(
+            "COUNT(*) AS jumlah, COALESCE(AVG(ipk), 0) AS rata_rata,"
+                + " COALESCE(MIN(ipk), 0) AS minimum, COALESCE(MAX(ipk), 0) AS maksimum");
+        for (int i = 0; i < PrestasiKategori.values().length; i++) {
+            sql.append(", COALESCE(SUM(").append(KATEGORI_SQL).append(" = ").append(i)
+                .append("), 0) AS kategori_").append(i);
+        }
+        return sql.toString();
+    }
+}
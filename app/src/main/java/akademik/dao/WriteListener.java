@@ -0,0 +1,25 @@
+package akademik.dao;
+
+import java.util.List;
+
+/**
+ * Listener untuk penulisan yang berhasil lewat caching DAO (CachingMahasiswaDAO, CachingDosenDAO)
+ * Dipakai untuk menjaga struktur in-memory (misalnya index NIM/NPP) tetap sama dengan database
+ * tanpa membaca ulang tabel. Dipanggil di thread yang melakukan penulisan, setelah commit
+ * @param <T> entity yang ditulis
+ */
+public interface WriteListener<T> {
+
+    /**
+     * Entity yang baru disimpan, di-upsert, atau diupdate
+     * Untuk operasi batch, baris yang gagal tidak ikut dilaporkan
+     * @param saved entity yang berhasil ditulis
+     */
+    void onSaved(List<T> saved);
+
+    /**
+     * Key (NIM/NPP) yang dihapus
+     * @param keys key yang berhasil dihapus
+     */
+    void onDeleted(List<String> keys);
+}
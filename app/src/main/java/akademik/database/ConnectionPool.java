@@ -0,0 +1,276 @@
+package akademik.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool koneksi SQLite dalam mode WAL
+ * Beberapa koneksi reader dipakai bergantian oleh banyak thread,
+ * sedangkan semua operasi tulis diserialisasi lewat satu koneksi writer.
+ * Scan panjang (Stream atas seluruh tabel) memakai koneksi scan sendiri di luar pool,
+ * supaya tidak menghabiskan reader yang dibutuhkan query UI
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final DatabaseConfig config;
+
+    // Koneksi writer tunggal, dijaga oleh writeLock
+    private final PooledConnection writer;
+    private final ReentrantLock writeLock = new ReentrantLock(true);
+
+    // Koneksi reader yang sedang idle dan semua reader yang pernah dibuka
+    private final BlockingQueue<PooledConnection> idleReaders;
+    private final List<PooledConnection> allReaders = new ArrayList<>();
+
+    // Reader yang sedang dipinjam thread ini (untuk pemanggilan bersarang)
+    private final ThreadLocal<PooledConnection> currentReader = new ThreadLocal<>();
+
+    // Koneksi scan yang masih terbuka, ditutup paksa saat pool ditutup
+    private final Set<PooledConnection> scanConnections = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, DatabaseConfig config) throws SQLException {
+        this.url = url;
+        this.config = config;
+        this.idleReaders = new ArrayBlockingQueue<>(config.getReaderPoolSize());
+
+        // Writer dibuka lebih dulu supaya journal_mode WAL sudah aktif untuk reader
+        this.writer = openConnection(false);
+
+        try {
+            for (int i = 0; i < config.getReaderPoolSize(); i++) {
+                PooledConnection reader = openConnection(true);
+                allReaders.add(reader);
+                idleReaders.add(reader);
+            }
+        } catch (SQLException e) {
+            closeConnections();
+            throw e;
+        }
+    }
+
+    /**
+     * Jalankan pekerjaan baca dengan salah satu koneksi reader
+     * Jika thread ini sedang memegang writer, writer yang dipakai agar
+     * perubahan yang belum di-commit tetap terlihat
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database atau pool habis
+     */
+    public <T> T read(SqlWork<T> work) throws SQLException {
+        ensureOpen();
+
+        if (writeLock.isHeldByCurrentThread()) {
+            return work.execute(writer);
+        }
+
+        PooledConnection held = currentReader.get();
+        if (held != null) {
+            return work.execute(held);
+        }
+
+        PooledConnection reader = acquireReader();
+        currentReader.set(reader);
+        try {
+            return work.execute(reader);
+        } finally {
+            currentReader.remove();
+            reader.release();
+            idleReaders.offer(reader);
+        }
+    }
+
+    /**
+     * Buka koneksi read-only baru di luar pool untuk cursor yang dibaca lama (misalnya Stream
+     * seluruh tabel saat export atau pengisian index). Satu ResultSet di satu koneksi tetap
+     * membaca snapshot yang konsisten, dan reader pool tetap bebas untuk query lain
+     * @return koneksi scan, wajib ditutup lewat closeScanConnection
+     * @throws SQLException jika pool sudah ditutup atau koneksi gagal dibuka
+     */
+    public PooledConnection openScanConnection() throws SQLException {
+        ensureOpen();
+        PooledConnection scan = openConnection(true);
+        scanConnections.add(scan);
+        return scan;
+    }
+
+    /**
+     * Tutup koneksi dari openScanConnection (boleh dipanggil berkali-kali)
+     * @param scan koneksi scan
+     */
+    public void closeScanConnection(PooledConnection scan) {
+        if (scanConnections.remove(scan)) {
+            scan.close();
+        }
+    }
+
+    /**
+     * @return jumlah koneksi scan yang belum ditutup
+     */
+    public int getOpenScanConnectionCount() {
+        return scanConnections.size();
+    }
+
+    /**
+     * Jalankan pekerjaan tulis dengan koneksi writer tunggal
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database
+     */
+    public <T> T write(SqlWork<T> work) throws SQLException {
+        ensureOpen();
+
+        writeLock.lock();
+        try {
+            return work.execute(writer);
+        } finally {
+            if (writeLock.getHoldCount() == 1) {
+                writer.release();
+            }
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Jalankan pekerjaan tulis di dalam satu transaksi
+     * Commit jika pekerjaan selesai, rollback jika terjadi exception.
+     * Pemanggilan bersarang ikut transaksi yang sudah berjalan
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database
+     */
+    public <T> T transaction(SqlWork<T> work) throws SQLException {
+        return write(connection -> {
+            Connection raw = connection.getConnection();
+            if (!raw.getAutoCommit()) {
+                return work.execute(connection);
+            }
+
+            raw.setAutoCommit(false);
+            try {
+                T result = work.execute(connection);
+                raw.commit();
+                return result;
+            } catch (Throwable e) {
+                raw.rollback();
+                throw e;
+            } finally {
+                raw.setAutoCommit(true);
+            }
+        });
+    }
+
+    /**
+     * Cek apakah koneksi writer masih valid
+     * @return true jika pool terbuka dan writer bisa dipakai
+     */
+    public boolean isHealthy() {
+        if (closed) {
+            return false;
+        }
+        try {
+            Connection connection = writer.getConnection();
+            return !connection.isClosed() && connection.isValid(5);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tutup semua koneksi di dalam pool
+     */
+    public void close() {
+        closeConnections();
+    }
+
+    private void closeConnections() {
+        closed = true;
+
+        writeLock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        for (PooledConnection reader : allReaders) {
+            reader.close();
+        }
+        idleReaders.clear();
+
+        for (PooledConnection scan : scanConnections) {
+            closeScanConnection(scan);
+        }
+    }
+
+    /**
+     * Statistik gabungan statement cache dari semua koneksi
+     * @return statistik hit/miss seluruh pool
+     */
+    public StatementCache.Stats getStatementCacheStats() {
+        StatementCache.Stats stats = writer.getStatementCacheStats();
+        for (PooledConnection reader : allReaders) {
+            stats = stats.plus(reader.getStatementCacheStats());
+        }
+        return stats;
+    }
+
+    public DatabaseConfig getConfig() {
+        return config;
+    }
+
+    private PooledConnection acquireReader() throws SQLException {
+        try {
+            PooledConnection reader = idleReaders.poll(config.getAcquireTimeoutMs(), TimeUnit.MILLISECONDS);
+            if (reader == null) {
+                throw new SQLException("Timeout menunggu koneksi reader dari pool");
+            }
+            return reader;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Menunggu koneksi reader terinterupsi", e);
+        }
+    }
+
+    private PooledConnection openConnection(boolean readOnly) throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+
+        try (Statement stmt = connection.createStatement()) {
+            if (!readOnly) {
+                stmt.execute("PRAGMA journal_mode = WAL");
+            }
+            stmt.execute("PRAGMA busy_timeout = " + config.getBusyTimeoutMs());
+            stmt.execute("PRAGMA synchronous = " + config.getSynchronous());
+            stmt.execute("PRAGMA cache_size = -" + config.getCacheSizeKb());
+            stmt.execute("PRAGMA foreign_keys = ON");
+            if (readOnly) {
+                stmt.execute("PRAGMA query_only = ON");
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+
+        return new PooledConnection(connection, config.getStatementCacheSize());
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool sudah ditutup");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package akademik.database;
+
+/**
+ * Konfigurasi koneksi SQLite untuk ConnectionPool
+ * Nilai default bisa di-override lewat system property "akademik.db.*"
+ */
+public class DatabaseConfig {
+
+    // Nilai yang diizinkan untuk PRAGMA synchronous
+    private static final String[] SYNCHRONOUS_LEVELS = {"OFF", "NORMAL", "FULL", "EXTRA"};
+
+    private int readerPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private int busyTimeoutMs = 5000;
+    private String synchronous = "NORMAL";
+    private int cacheSizeKb = 16 * 1024;
+    private long acquireTimeoutMs = 10_000;
+    private int statementCacheSize = 64;
+
+    /**
+     * Buat konfigurasi dari system properties, fallback ke nilai default
+     * @return DatabaseConfig hasil pembacaan system properties
+     */
+    public static DatabaseConfig fromSystemProperties() {
+        DatabaseConfig config = new DatabaseConfig();
+        config.setReaderPoolSize(Integer.getInteger("akademik.db.readers", config.getReaderPoolSize()));
+        config.setBusyTimeoutMs(Integer.getInteger("akademik.db.busyTimeout", config.getBusyTimeoutMs()));
+        config.setSynchronous(System.getProperty("akademik.db.synchronous", config.getSynchronous()));
+        config.setCacheSizeKb(Integer.getInteger("akademik.db.cacheSizeKb", config.getCacheSizeKb()));
+        config.setAcquireTimeoutMs(Long.getLong("akademik.db.acquireTimeout", config.getAcquireTimeoutMs()));
+        config.setStatementCacheSize(Integer.getInteger("akademik.db.statementCacheSize", config.getStatementCacheSize()));
+        return config;
+    }
+
+    // === GETTERS ===
+    public int getReaderPoolSize() {
+        return readerPoolSize;
+    }
+
+    public int getBusyTimeoutMs() {
+        return busyTimeoutMs;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    public int getCacheSizeKb() {
+        return cacheSizeKb;
+    }
+
+    public long getAcquireTimeoutMs() {
+        return acquireTimeoutMs;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    // === SETTERS ===
+    public void setReaderPoolSize(int readerPoolSize) {
+        if (readerPoolSize < 1) {
+            throw new IllegalArgumentException("Jumlah koneksi reader minimal 1");
+        }
+        this.readerPoolSize = readerPoolSize;
+    }
+
+    public void setBusyTimeoutMs(int busyTimeoutMs) {
+        if (busyTimeoutMs < 0) {
+            throw new IllegalArgumentException("busy_timeout tidak boleh negatif");
+        }
+        this.busyTimeoutMs = busyTimeoutMs;
+    }
+
+    public void setSynchronous(String synchronous) {
+        String level = synchronous == null ? "" : synchronous.trim().toUpperCase();
+        for (String allowed : SYNCHRONOUS_LEVELS) {
+            if (allowed.equals(level)) {
+                this.synchronous = level;
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Level synchronous tidak dikenal: " + synchronous);
+    }
+
+    public void setCacheSizeKb(int cacheSizeKb) {
+        if (cacheSizeKb < 0) {
+            throw new IllegalArgumentException("cache_size tidak boleh negatif");
+        }
+        this.cacheSizeKb = cacheSizeKb;
+    }
+
+    public void setAcquireTimeoutMs(long acquireTimeoutMs) {
+        if (acquireTimeoutMs < 0) {
+            throw new IllegalArgumentException("Timeout akuisisi koneksi tidak boleh negatif");
+        }
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    /**
+     * Set kapasitas statement cache per koneksi, 0 untuk menonaktifkan cache
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Ukuran statement cache tidak boleh negatif");
+        }
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "readers=" + readerPoolSize + ", busy_timeout=" + busyTimeoutMs
+            + "ms, synchronous=" + synchronous + ", cache_size=" + cacheSizeKb + "KiB"
+            + ", statement_cache=" + statementCacheSize;
+    }
+}
@@ -1,40 +1,36 @@
 package akademik.database;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 /**
  * Database connection utility class menggunakan Singleton pattern
- * Mengelola koneksi ke database SQLite dan inisialisasi tabel
+ * Mengelola pool koneksi SQLite (mode WAL) dan inisialisasi tabel
  */
 public class DatabaseConnection {
 
     // Database configuration
     private static final String DB_NAME = "akademik.db";
-    private static final String DB_URL = "jdbc:sqlite:" + DB_NAME;
 
     // Singleton instance
     private static DatabaseConnection instance;
-    private Connection connection;
+    private final String databaseName;
+    private final ConnectionPool pool;
 
     // Private constructor untuk Singleton pattern
-    private DatabaseConnection() {
+    private DatabaseConnection(String databaseName, DatabaseConfig config) {
+        this.databaseName = databaseName;
+
         try {
             // Load SQLite JDBC driver
             Class.forName("org.sqlite.JDBC");
 
-            // Create connection
-            connection = DriverManager.getConnection(DB_URL);
-
-            // Enable foreign key support
-            enableForeignKeys();
+            // Create connection pool (WAL, foreign keys aktif di setiap koneksi)
+            pool = new ConnectionPool("jdbc:sqlite:" + databaseName, config);
 
-            // Initialize tables
+            // Initialize tables dan index (migration berurutan)
             initializeTables();
 
-            System.out.println("✅ Database connection established successfully");
+            System.out.println("✅ Database connection pool established successfully (" + config + ")");
 
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("SQLite JDBC driver not found", e);
@@ -49,80 +45,94 @@ public class DatabaseConnection {
      */
     public static synchronized DatabaseConnection getInstance() {
         if (instance == null) {
-            instance = new DatabaseConnection();
+            instance = new DatabaseConnection(DB_NAME, DatabaseConfig.fromSystemProperties());
         }
         return instance;
     }
 
     /**
-     * Get database connection
-     * @return Connection object
+     * Buka database terpisah di luar singleton (untuk benchmark dan tools)
+     * Pemanggil bertanggung jawab memanggil closeConnection()
+     * @param databaseName nama file database SQLite
+     * @param config konfigurasi pool koneksi
+     * @return DatabaseConnection baru dengan tabel yang sudah diinisialisasi
      */
-    public Connection getConnection() {
-        return connection;
+    public static DatabaseConnection open(String databaseName, DatabaseConfig config) {
+        return new DatabaseConnection(databaseName, config);
     }
 
     /**
-     * Enable foreign key constraints in SQLite
+     * Get connection pool
+     * @return ConnectionPool yang dipakai oleh DAO
      */
-    private void enableForeignKeys() throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute("PRAGMA foreign_keys = ON");
-        }
+    public ConnectionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Buka koneksi scan sendiri untuk cursor yang hidup lebih lama dari satu pemanggilan
+     * @return koneksi scan, wajib ditutup lewat closeScanConnection
+     * @throws SQLException jika terjadi error database
+     */
+    public PooledConnection openScanConnection() throws SQLException {
+        return pool.openScanConnection();
     }
 
     /**
-     * Initialize database tables
+     * Tutup koneksi dari openScanConnection
+     * @param scan koneksi scan
      */
-    private void initializeTables() {
-        createDosenTable();
-        createMahasiswaTable();
+    public void closeScanConnection(PooledConnection scan) {
+        pool.closeScanConnection(scan);
     }
 
     /**
-     * Create dosen table
+     * Jalankan pekerjaan baca dengan koneksi reader dari pool
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database
      */
-    private void createDosenTable() {
-        String sql = """
-            CREATE TABLE IF NOT EXISTS dosen (
-                npp TEXT PRIMARY KEY,
-                nama TEXT NOT NULL,
-                no_hp TEXT
-            )
-        """;
-
-        executeSQL(sql, "dosen table");
+    public <T> T read(SqlWork<T> work) throws SQLException {
+        return pool.read(work);
     }
 
     /**
-     * Create mahasiswa table with foreign key to dosen
+     * Jalankan pekerjaan tulis dengan koneksi writer tunggal
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database
      */
-    private void createMahasiswaTable() {
-        String sql = """
-            CREATE TABLE IF NOT EXISTS mahasiswa (
-                nim TEXT PRIMARY KEY,
-                nama TEXT NOT NULL,
-                gender TEXT NOT NULL CHECK (gender IN ('Laki-laki', 'Perempuan')),
-                ipk REAL NOT NULL CHECK (ipk >= 0.0 AND ipk <= 4.0),
-                dosen_wali TEXT,
-                FOREIGN KEY (dosen_wali) REFERENCES dosen(npp) ON DELETE SET NULL
-            )
-        """;
-
-        executeSQL(sql, "mahasiswa table");
+    public <T> T write(SqlWork<T> work) throws SQLException {
+        return pool.write(work);
     }
 
     /**
-     * Execute SQL statement with error handling
-     * @param sql SQL statement to execute
-     * @param description Description for logging
+     * Jalankan pekerjaan tulis di dalam satu transaksi
+     * @param work pekerjaan yang akan dijalankan
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database (transaksi di-rollback)
      */
-    private void executeSQL(String sql, String description) {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute(sql);
-            System.out.println("✅ " + description + " created/verified successfully");
+    public <T> T transaction(SqlWork<T> work) throws SQLException {
+        return pool.transaction(work);
+    }
+
+    /**
+     * Initialize database tables lewat migration skema (PRAGMA user_version)
+     * @throws SQLException jika migration gagal
+     */
+    private void initializeTables() throws SQLException {
+        new SchemaMigrator(pool).migrate();
+    }
+
+    /**
+     * Get versi skema database
+     * @return nilai PRAGMA user_version
+     */
+    public int getSchemaVersion() {
+        try {
+            return new SchemaMigrator(pool).getCurrentVersion();
         } catch (SQLException e) {
-            throw new RuntimeException("Error creating " + description, e);
+            throw new RuntimeException("Error reading schema version: " + e.getMessage(), e);
         }
     }
 
@@ -131,24 +141,16 @@ public class DatabaseConnection {
      * @return true if connection is valid
      */
     public boolean testConnection() {
-        try {
-            return connection != null && !connection.isClosed() && connection.isValid(5);
-        } catch (SQLException e) {
-            return false;
-        }
+        return pool != null && pool.isHealthy();
     }
 
     /**
-     * Close database connection
+     * Close semua koneksi di dalam pool
      */
     public void closeConnection() {
-        if (connection != null) {
-            try {
-                connection.close();
-                System.out.println("🔒 Database connection closed");
-            } catch (SQLException e) {
-                System.err.println("Error closing database connection: " + e.getMessage());
-            }
+        if (pool != null) {
+            pool.close();
+            System.out.println("🔒 Database connection pool closed");
         }
     }
 
@@ -157,6 +159,6 @@ public class DatabaseConnection {
      * @return database file name
      */
     public String getDatabaseName() {
-        return DB_NAME;
+        return databaseName;
     }
 }
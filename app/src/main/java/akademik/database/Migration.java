@@ -0,0 +1,68 @@
+package akademik.database;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Satu langkah perubahan skema database
+ * Versi migration disimpan di PRAGMA user_version setelah semua statement berhasil
+ */
+public class Migration {
+
+    private final int version;
+    private final String description;
+    private final List<String> statements;
+    private final boolean rebuildsTables;
+
+    /**
+     * @param version nomor versi skema setelah migration ini dijalankan (mulai dari 1)
+     * @param description deskripsi singkat untuk logging
+     * @param statements statement DDL yang dijalankan berurutan
+     */
+    public Migration(int version, String description, String... statements) {
+        this(version, description, false, statements);
+    }
+
+    /**
+     * @param version nomor versi skema setelah migration ini dijalankan (mulai dari 1)
+     * @param description deskripsi singkat untuk logging
+     * @param rebuildsTables true jika migration membuat ulang tabel yang direferensikan foreign key
+     *                       (DROP TABLE parent tidak boleh memicu ON DELETE di tabel lain)
+     * @param statements statement DDL yang dijalankan berurutan
+     */
+    public Migration(int version, String description, boolean rebuildsTables, String... statements) {
+        if (version < 1) {
+            throw new IllegalArgumentException("Versi migration minimal 1");
+        }
+        this.version = version;
+        this.description = description;
+        this.rebuildsTables = rebuildsTables;
+        this.statements = Collections.unmodifiableList(Arrays.asList(statements));
+    }
+
+    // === GETTERS ===
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return true jika foreign key harus dimatikan selama migration dan diperiksa sebelum commit
+     */
+    public boolean isRebuildsTables() {
+        return rebuildsTables;
+    }
+
+    @Override
+    public String toString() {
+        return "V" + version + " - " + description;
+    }
+}
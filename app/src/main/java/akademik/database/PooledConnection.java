@@ -0,0 +1,90 @@
+package akademik.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Koneksi milik ConnectionPool beserta statement cache-nya
+ * Diberikan ke SqlWork selama pekerjaan berjalan
+ */
+public class PooledConnection {
+
+    private final Connection connection;
+    private final StatementCache statementCache;
+
+    // Statement yang tidak di-cache, ditutup saat koneksi dikembalikan ke pool
+    private final List<PreparedStatement> transientStatements = new ArrayList<>();
+
+    PooledConnection(Connection connection, int statementCacheSize) {
+        this.connection = connection;
+        this.statementCache = statementCacheSize > 0
+            ? new StatementCache(connection, statementCacheSize)
+            : null;
+    }
+
+    /**
+     * Prepare query, memakai statement cache jika aktif
+     * Statement tidak boleh ditutup oleh pemanggil dan tidak boleh dipakai
+     * bersarang dengan query yang sama selama ResultSet-nya masih terbuka
+     * @param sql query yang akan di-prepare
+     * @return PreparedStatement siap pakai
+     * @throws SQLException jika query gagal di-prepare
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        if (statementCache != null) {
+            return statementCache.get(sql);
+        }
+
+        PreparedStatement stmt = connection.prepareStatement(sql);
+        transientStatements.add(stmt);
+        return stmt;
+    }
+
+    /**
+     * Akses koneksi JDBC mentah (untuk transaksi, DDL, dsb)
+     * @return Connection yang sedang dipinjam
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Statistik statement cache koneksi ini
+     * @return statistik, atau statistik kosong jika cache dimatikan
+     */
+    public StatementCache.Stats getStatementCacheStats() {
+        return statementCache != null ? statementCache.getStats() : new StatementCache.Stats(0, 0, 0);
+    }
+
+    /**
+     * Dipanggil pool saat koneksi dikembalikan
+     */
+    void release() {
+        for (PreparedStatement stmt : transientStatements) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing statement: " + e.getMessage());
+            }
+        }
+        transientStatements.clear();
+    }
+
+    /**
+     * Tutup statement cache dan koneksi JDBC
+     */
+    void close() {
+        release();
+        if (statementCache != null) {
+            statementCache.clear();
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package akademik.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Daftar migration skema database akademik
+ * Migration yang sudah dirilis tidak boleh diubah; perubahan skema baru
+ * selalu ditambahkan sebagai migration dengan versi berikutnya
+ */
+public final class SchemaMigrations {
+
+    private SchemaMigrations() {
+    }
+
+    /**
+     * @return semua migration, urut berdasarkan versi
+     */
+    public static List<Migration> all() {
+        return Arrays.asList(
+            createBaseTables(),
+            createMahasiswaIndexes(),
+            createNamaSearchIndexes(),
+            createStatistikCounters(),
+            createVersiData(),
+            createIntegerRowids()
+        );
+    }
+
+    /**
+     * V1: tabel dosen dan mahasiswa
+     * Memakai IF NOT EXISTS supaya database lama (sebelum ada user_version) tetap bisa dimigrasi
+     */
+    private static Migration createBaseTables() {
+        return new Migration(1, "tabel dosen dan mahasiswa",
+            """
+                CREATE TABLE IF NOT EXISTS dosen (
+                    npp TEXT PRIMARY KEY,
+                    nama TEXT NOT NULL,
+                    no_hp TEXT
+                )
+            """,
+            """
+                CREATE TABLE IF NOT EXISTS mahasiswa (
+                    nim TEXT PRIMARY KEY,
+                    nama TEXT NOT NULL,
+                    gender TEXT NOT NULL CHECK (gender IN ('Laki-laki', 'Perempuan')),
+                    ipk REAL NOT NULL CHECK (ipk >= 0.0 AND ipk <= 4.0),
+                    dosen_wali TEXT,
+                    FOREIGN KEY (dosen_wali) REFERENCES dosen(npp) ON DELETE SET NULL
+                )
+            """
+        );
+    }
+
+    /**
+     * V2: covering index untuk akses per dosen wali, gender, dan urutan nama
+     * Urutan nama memakai COLLATE NOCASE (nim sebagai tie-breaker) sehingga
+     * "ORDER BY nama COLLATE NOCASE, nim" dilayani langsung dari index tanpa sort.
+     * Semua kolom ikut di index supaya query tidak perlu lookup ke tabel
+     */
+    private static Migration createMahasiswaIndexes() {
+        return new Migration(2, "covering index mahasiswa dan dosen",
+            "CREATE INDEX IF NOT EXISTS idx_mahasiswa_nama"
+                + " ON mahasiswa (nama COLLATE NOCASE, nim, gender, ipk, dosen_wali)",
+            // Juga dipakai oleh ON DELETE SET NULL saat dosen dihapus
+            "CREATE INDEX IF NOT EXISTS idx_mahasiswa_dosen_wali"
+                + " ON mahasiswa (dosen_wali, nama COLLATE NOCASE, nim, gender, ipk)",
+            "CREATE INDEX IF NOT EXISTS idx_mahasiswa_gender"
+                + " ON mahasiswa (gender, nama COLLATE NOCASE, nim, ipk, dosen_wali)",
+            "CREATE INDEX IF NOT EXISTS idx_mahasiswa_ipk ON mahasiswa (ipk)",
+            "CREATE INDEX IF NOT EXISTS idx_dosen_nama ON dosen (nama COLLATE NOCASE, npp, no_hp)",
+            "ANALYZE"
+        );
+    }
+
+    /**
+     * V3: index full-text FTS5 untuk pencarian nama mahasiswa dan dosen
+     * Tabel FTS memakai external content (isi diambil dari tabel asli lewat rowid)
+     * dan dijaga tetap sinkron oleh trigger insert/update/delete.
+     * rowid implisit bisa berubah oleh VACUUM; V6 menggantinya dengan kolom id INTEGER PRIMARY KEY
+     */
+    private static Migration createNamaSearchIndexes() {
+        List<String> statements = new ArrayList<>();
+        statements.addAll(fullTextIndex("mahasiswa", "rowid"));
+        statements.addAll(fullTextIndex("dosen", "rowid"));
+        return new Migration(3, "pencarian nama FTS5", statements.toArray(new String[0]));
+    }
+
+    /**
+     * Statement untuk tabel FTS5 kolom nama, trigger sinkronisasi, dan pengisian awal
+     * @param table nama tabel sumber (mahasiswa/dosen)
+     * @param contentRowid kolom rowid tabel sumber yang disimpan di index
+     */
+    private static List<String> fullTextIndex(String table, String contentRowid) {
+        String fts = table + "_fts";
+        return Arrays.asList(
+            // prefix index 2 dan 3 huruf supaya query "ah"* tidak perlu scan seluruh term
+            "CREATE VIRTUAL TABLE IF NOT EXISTS " + fts + " USING fts5(nama, content='" + table + "',"
+                + " content_rowid='" + contentRowid + "', tokenize='unicode61 remove_diacritics 2', prefix='2 3')",
+            "CREATE TRIGGER IF NOT EXISTS " + fts + "_ai AFTER INSERT ON " + table + " BEGIN"
+                + " INSERT INTO " + fts + " (rowid, nama) VALUES (new.rowid, new.nama);"
+                + " END",
+            "CREATE TRIGGER IF NOT EXISTS " + fts + "_ad AFTER DELETE ON " + table + " BEGIN"
+                + " INSERT INTO " + fts + " (" + fts + ", rowid, nama) VALUES ('delete', old.rowid, old.nama);"
+                + " END",
+            "CREATE TRIGGER IF NOT EXISTS " + fts + "_au AFTER UPDATE OF nama ON " + table + " BEGIN"
+                + " INSERT INTO " + fts + " (" + fts + ", rowid, nama) VALUES ('delete', old.rowid, old.nama);"
+                + " INSERT INTO " + fts + " (rowid, nama) VALUES (new.rowid, new.nama);"
+                + " END",
+            // Isi index dari data yang sudah ada
+            "INSERT INTO " + fts + " (" + fts + ") VALUES ('rebuild')"
+        );
+    }
+
+    /**
+     * V4: tabel ringkasan yang dijaga trigger, supaya jumlah baris dan rata-rata IPK
+     * bisa dibaca O(1) tanpa COUNT(*)/AVG atas seluruh tabel.
+     * IPK dijumlahkan sebagai integer seperseratus (3.75 -> 375) sehingga total dan
+     * jumlah kuadratnya eksak walaupun ditambah/dikurangi jutaan kali.
+     * Mahasiswa tanpa dosen wali dicatat dengan dosen_wali '' (NULL tidak unik di PRIMARY KEY)
+     */
+    private static Migration createStatistikCounters() {
+        List<String> statements = new ArrayList<>();
+        statements.add(
+            """
+                CREATE TABLE IF NOT EXISTS statistik_tabel (
+                    tabel TEXT PRIMARY KEY,
+                    jumlah INTEGER NOT NULL DEFAULT 0,
+                    total_ipk INTEGER NOT NULL DEFAULT 0,
+                    total_ipk_kuadrat INTEGER NOT NULL DEFAULT 0
+                )
+            """);
+        statements.add(
+            """
+                CREATE TABLE IF NOT EXISTS statistik_dosen_wali (
+                    dosen_wali TEXT PRIMARY KEY NOT NULL,
+                    jumlah INTEGER NOT NULL DEFAULT 0,
+                    total_ipk INTEGER NOT NULL DEFAULT 0,
+                    total_ipk_kuadrat INTEGER NOT NULL DEFAULT 0
+                )
+            """);
+        statements.addAll(statistikTriggers());
+        statements.addAll(Arrays.asList(
+            // Isi awal dari data yang sudah ada
+            "INSERT OR REPLACE INTO statistik_tabel (tabel, jumlah, total_ipk, total_ipk_kuadrat)"
+                + " SELECT 'mahasiswa', COUNT(*), COALESCE(SUM(v), 0), COALESCE(SUM(v * v), 0)"
+                + " FROM (SELECT CAST(ROUND(ipk * 100) AS INTEGER) AS v FROM mahasiswa)",
+            "INSERT OR REPLACE INTO statistik_tabel (tabel, jumlah) SELECT 'dosen', COUNT(*) FROM dosen",
+            "DELETE FROM statistik_dosen_wali",
+            "INSERT INTO statistik_dosen_wali (dosen_wali, jumlah, total_ipk, total_ipk_kuadrat)"
+                + " SELECT COALESCE(dosen_wali, ''), COUNT(*), SUM(v), SUM(v * v)"
+                + " FROM (SELECT dosen_wali, CAST(ROUND(ipk * 100) AS INTEGER) AS v FROM mahasiswa)"
+                + " GROUP BY COALESCE(dosen_wali, '')"
+        ));
+        return new Migration(4, "counter statistik mahasiswa dan dosen", statements.toArray(new String[0]));
+    }
+
+    /**
+     * Trigger yang menjaga statistik_tabel dan statistik_dosen_wali
+     */
+    private static List<String> statistikTriggers() {
+        String ipkBaru = "CAST(ROUND(new.ipk * 100) AS INTEGER)";
+        String ipkLama = "CAST(ROUND(old.ipk * 100) AS INTEGER)";
+
+        return Arrays.asList(
+            // Mahasiswa: total dan per dosen wali
+            "CREATE TRIGGER IF NOT EXISTS statistik_mahasiswa_ai AFTER INSERT ON mahasiswa BEGIN"
+                + tambahMahasiswa(ipkBaru, "+")
+                + tambahDosenWali("new", ipkBaru)
+                + " END",
+            "CREATE TRIGGER IF NOT EXISTS statistik_mahasiswa_ad AFTER DELETE ON mahasiswa BEGIN"
+                + tambahMahasiswa(ipkLama, "-")
+                + kurangiDosenWali("old", ipkLama)
+                + " END",
+            // Juga terpicu oleh ON DELETE SET NULL saat dosen wali dihapus
+            "CREATE TRIGGER IF NOT EXISTS statistik_mahasiswa_au AFTER UPDATE OF ipk, dosen_wali ON mahasiswa BEGIN"
+                + tambahMahasiswa(ipkLama, "-")
+                + tambahMahasiswa(ipkBaru, "+")
+                + kurangiDosenWali("old", ipkLama)
+                + tambahDosenWali("new", ipkBaru)
+                + " END",
+
+            // Dosen: jumlah saja
+            "CREATE TRIGGER IF NOT EXISTS statistik_dosen_ai AFTER INSERT ON dosen BEGIN"
+                + " UPDATE statistik_tabel SET jumlah = jumlah + 1 WHERE tabel = 'dosen';"
+                + " END",
+            "CREATE TRIGGER IF NOT EXISTS statistik_dosen_ad AFTER DELETE ON dosen BEGIN"
+                + " UPDATE statistik_tabel SET jumlah = jumlah - 1 WHERE tabel = 'dosen';"
+                + " END"
+        );
+    }
+
+    /**
+     * V5: nomor versi data per tabel, naik satu setiap ada baris yang di-insert/update/delete
+     * Dipakai untuk memeriksa apakah snapshot data di disk masih sama dengan isi database.
+     * Data version SQLite tidak bisa dipakai: nilainya per koneksi dan tidak tersimpan di file
+     */
+    private static Migration createVersiData() {
+        List<String> statements = new ArrayList<>();
+        statements.add("ALTER TABLE statistik_tabel ADD COLUMN versi INTEGER NOT NULL DEFAULT 0");
+        statements.addAll(versiTriggers("mahasiswa"));
+        statements.addAll(versiTriggers("dosen"));
+        return new Migration(5, "versi data mahasiswa dan dosen", statements.toArray(new String[0]));
+    }
+
+    /**
+     * V6: kolom id INTEGER PRIMARY KEY sebagai alias rowid untuk dosen dan mahasiswa
+     * Tabel dengan primary key TEXT memakai rowid implisit yang boleh dinomori ulang oleh VACUUM,
+     * padahal index FTS (V3) menyimpan rowid tersebut. Dengan alias, rowid menjadi kolom tetap.
+     * Tabel dibuat ulang (rowid lama disalin ke id) sehingga index, trigger, dan index FTS
+     * ikut dibuat ulang; NIM/NPP tetap unik lewat UNIQUE
+     */
+    private static Migration createIntegerRowids() {
+        List<String> statements = new ArrayList<>(Arrays.asList(
+            """
+                CREATE TABLE dosen_baru (
+                    id INTEGER PRIMARY KEY,
+                    npp TEXT NOT NULL UNIQUE,
+                    nama TEXT NOT NULL,
+                    no_hp TEXT
+                )
+            """,
+            "INSERT INTO dosen_baru (id, npp, nama, no_hp) SELECT rowid, npp, nama, no_hp FROM dosen",
+            "DROP TABLE dosen",
+            "ALTER TABLE dosen_baru RENAME TO dosen",
+            """
+                CREATE TABLE mahasiswa_baru (
+                    id INTEGER PRIMARY KEY,
+                    nim TEXT NOT NULL UNIQUE,
+                    nama TEXT NOT NULL,
+                    gender TEXT NOT NULL CHECK (gender IN ('Laki-laki', 'Perempuan')),
+                    ipk REAL NOT NULL CHECK (ipk >= 0.0 AND ipk <= 4.0),
+                    dosen_wali TEXT,
+                    FOREIGN KEY (dosen_wali) REFERENCES dosen(npp) ON DELETE SET NULL
+                )
+            """,
+            "INSERT INTO mahasiswa_baru (id, nim, nama, gender, ipk, dosen_wali)"
+                + " SELECT rowid, nim, nama, gender, ipk, dosen_wali FROM mahasiswa",
+            "DROP TABLE mahasiswa",
+            "ALTER TABLE mahasiswa_baru RENAME TO mahasiswa",
+            // Tabel FTS baru dihapus setelah trigger yang merujuknya ikut terhapus bersama tabel lama
+            "DROP TABLE IF EXISTS mahasiswa_fts",
+            "DROP TABLE IF EXISTS dosen_fts"
+        ));
+        // Index dan trigger ikut terhapus bersama tabel lama
+        statements.addAll(createMahasiswaIndexes().getStatements());
+        statements.addAll(fullTextIndex("mahasiswa", "id"));
+        statements.addAll(fullTextIndex("dosen", "id"));
+        statements.addAll(statistikTriggers());
+        statements.addAll(versiTriggers("mahasiswa"));
+        statements.addAll(versiTriggers("dosen"));
+        return new Migration(6, "id INTEGER PRIMARY KEY untuk dosen dan mahasiswa", true, statements.toArray(new String[0]));
+    }
+
+    /**
+     * Trigger yang menaikkan versi tabel untuk setiap perubahan baris
+     * Update mahasiswa juga terpicu oleh ON DELETE SET NULL saat dosen wali dihapus
+     */
+    private static List<String> versiTriggers(String table) {
+        return Arrays.asList(
+            versiTrigger(table, "ai", "INSERT"),
+            versiTrigger(table, "au", "UPDATE"),
+            versiTrigger(table, "ad", "DELETE")
+        );
+    }
+
+    private static String versiTrigger(String table, String suffix, String event) {
+        return "CREATE TRIGGER IF NOT EXISTS versi_" + table + "_" + suffix
+            + " AFTER " + event + " ON " + table + " BEGIN"
+            + " UPDATE statistik_tabel SET versi = versi + 1 WHERE tabel = '" + table + "';"
+            + " END";
+    }
+
+    /**
+     * Tambah (+) atau kurangi (-) satu mahasiswa dari total keseluruhan
+     */
+    private static String tambahMahasiswa(String ipk, String operator) {
+        return " UPDATE statistik_tabel SET jumlah = jumlah " + operator + " 1,"
+            + " total_ipk = total_ipk " + operator + " " + ipk + ","
+            + " total_ipk_kuadrat = total_ipk_kuadrat " + operator + " " + ipk + " * " + ipk
+            + " WHERE tabel = 'mahasiswa';";
+    }
+
+    private static String tambahDosenWali(String row, String ipk) {
+        return " INSERT INTO statistik_dosen_wali (dosen_wali, jumlah, total_ipk, total_ipk_kuadrat)"
+            + " VALUES (COALESCE(" + row + ".dosen_wali, ''), 1, " + ipk + ", " + ipk + " * " + ipk + ")"
+            + " ON CONFLICT(dosen_wali) DO UPDATE SET jumlah = jumlah + 1,"
+            + " total_ipk = total_ipk + excluded.total_ipk,"
+            + " total_ipk_kuadrat = total_ipk_kuadrat + excluded.total_ipk_kuadrat;";
+    }
+
+    private static String kurangiDosenWali(String row, String ipk) {
+        String key = "COALESCE(" + row + ".dosen_wali, '')";
+        return " UPDATE statistik_dosen_wali SET jumlah = jumlah - 1,"
+            + " total_ipk = total_ipk - " + ipk + ","
+            + " total_ipk_kuadrat = total_ipk_kuadrat - " + ipk + " * " + ipk
+            + " WHERE dosen_wali = " + key + ";"
+            // Dosen wali tanpa mahasiswa tidak perlu baris
+            + " DELETE FROM statistik_dosen_wali WHERE dosen_wali = " + key + " AND jumlah = 0;";
+    }
+}
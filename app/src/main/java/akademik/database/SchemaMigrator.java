@@ -0,0 +1,134 @@
+package akademik.database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Menjalankan migration skema secara berurutan berdasarkan PRAGMA user_version
+ * Setiap migration berjalan di dalam satu transaksi bersama update user_version,
+ * sehingga migration yang gagal tidak meninggalkan skema setengah jadi
+ */
+public class SchemaMigrator {
+
+    private final ConnectionPool pool;
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(ConnectionPool pool) {
+        this(pool, SchemaMigrations.all());
+    }
+
+    /**
+     * @param pool pool koneksi database
+     * @param migrations daftar migration, versinya harus berurutan 1, 2, 3, ...
+     */
+    public SchemaMigrator(ConnectionPool pool, List<Migration> migrations) {
+        List<Migration> ordered = new ArrayList<>(migrations);
+        for (int i = 0; i < ordered.size(); i++) {
+            if (ordered.get(i).getVersion() != i + 1) {
+                throw new IllegalArgumentException("Migration harus berurutan, ditemukan " + ordered.get(i) + " di posisi " + (i + 1));
+            }
+        }
+
+        this.pool = pool;
+        this.migrations = Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * Jalankan semua migration yang belum diterapkan
+     * @return jumlah migration yang dijalankan
+     * @throws SQLException jika migration gagal atau database berasal dari versi aplikasi yang lebih baru
+     */
+    public int migrate() throws SQLException {
+        return pool.write(connection -> {
+            int current = getCurrentVersion();
+            int latest = getLatestVersion();
+
+            if (current > latest) {
+                throw new SQLException("Versi skema database (" + current + ") lebih baru dari versi aplikasi (" + latest + ")");
+            }
+
+            for (Migration migration : migrations.subList(current, latest)) {
+                apply(migration);
+            }
+
+            if (current < latest) {
+                System.out.println("✅ Skema database dimigrasi dari versi " + current + " ke " + latest);
+            } else {
+                System.out.println("✅ Skema database sudah versi terbaru (" + latest + ")");
+            }
+            return latest - current;
+        });
+    }
+
+    /**
+     * @return versi skema yang tersimpan di database (PRAGMA user_version)
+     * @throws SQLException jika terjadi error database
+     */
+    public int getCurrentVersion() throws SQLException {
+        return pool.write(connection -> {
+            try (Statement stmt = connection.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA user_version")) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        });
+    }
+
+    /**
+     * @return versi skema yang diharapkan oleh aplikasi
+     */
+    public int getLatestVersion() {
+        return migrations.size();
+    }
+
+    private void apply(Migration migration) throws SQLException {
+        if (migration.isRebuildsTables()) {
+            // PRAGMA foreign_keys tidak berpengaruh di dalam transaksi, jadi diubah sebelum transaksi dimulai
+            setForeignKeys(false);
+        }
+        try {
+            pool.transaction(connection -> {
+                try (Statement stmt = connection.getConnection().createStatement()) {
+                    for (String sql : migration.getStatements()) {
+                        stmt.execute(sql);
+                    }
+                    if (migration.isRebuildsTables()) {
+                        checkForeignKeys(stmt, migration);
+                    }
+                    // user_version ikut di-rollback jika salah satu statement gagal
+                    stmt.execute("PRAGMA user_version = " + migration.getVersion());
+                }
+                return null;
+            });
+        } finally {
+            if (migration.isRebuildsTables()) {
+                setForeignKeys(true);
+            }
+        }
+
+        System.out.println("✅ Migration " + migration + " berhasil");
+    }
+
+    private void setForeignKeys(boolean enabled) throws SQLException {
+        pool.write(connection -> {
+            try (Statement stmt = connection.getConnection().createStatement()) {
+                stmt.execute("PRAGMA foreign_keys = " + (enabled ? "ON" : "OFF"));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Pastikan tabel yang dibuat ulang tidak melanggar foreign key sebelum transaksi di-commit
+     */
+    private static void checkForeignKeys(Statement stmt, Migration migration) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA foreign_key_check")) {
+            if (rs.next()) {
+                throw new SQLException("Migration " + migration + " melanggar foreign key di tabel " + rs.getString(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package akademik.database;
+
+import java.sql.SQLException;
+
+/**
+ * Unit kerja JDBC yang dijalankan dengan koneksi pinjaman dari ConnectionPool
+ * @param <T> tipe hasil pekerjaan
+ */
+@FunctionalInterface
+public interface SqlWork<T> {
+
+    /**
+     * Jalankan pekerjaan dengan koneksi yang diberikan
+     * Koneksi tidak boleh ditutup atau disimpan di luar pemanggilan ini
+     * @param connection koneksi pinjaman beserta statement cache-nya
+     * @return hasil pekerjaan
+     * @throws SQLException jika terjadi error database
+     */
+    T execute(PooledConnection connection) throws SQLException;
+}
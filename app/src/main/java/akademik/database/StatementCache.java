@@ -0,0 +1,138 @@
+package akademik.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache LRU untuk PreparedStatement milik satu koneksi
+ * Hanya boleh dipakai oleh thread yang sedang meminjam koneksi tersebut,
+ * counter statistik aman dibaca dari thread lain
+ */
+public class StatementCache {
+
+    private final Connection connection;
+    private final int capacity;
+    private final Map<String, PreparedStatement> statements;
+
+    // Statistik cache
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public StatementCache(Connection connection, int capacity) {
+        this.connection = connection;
+        this.capacity = capacity;
+
+        // Access-order LinkedHashMap: entry paling lama tidak dipakai dibuang lebih dulu
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Ambil PreparedStatement dari cache atau compile baru jika belum ada
+     * Statement hasil cache tidak boleh ditutup oleh pemanggil
+     * @param sql query yang akan di-prepare
+     * @return PreparedStatement dengan parameter yang sudah dibersihkan
+     * @throws SQLException jika query gagal di-prepare
+     */
+    public PreparedStatement get(String sql) throws SQLException {
+        PreparedStatement stmt = statements.get(sql);
+
+        if (stmt != null && !stmt.isClosed()) {
+            hits.incrementAndGet();
+            stmt.clearParameters();
+            return stmt;
+        }
+
+        misses.incrementAndGet();
+        stmt = connection.prepareStatement(sql);
+        statements.put(sql, stmt);
+        return stmt;
+    }
+
+    /**
+     * Tutup dan buang semua statement di dalam cache
+     */
+    public void clear() {
+        for (PreparedStatement stmt : statements.values()) {
+            closeQuietly(stmt);
+        }
+        statements.clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), evictions.get());
+    }
+
+    private void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing cached statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Snapshot statistik hit/miss statement cache
+     */
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public Stats(long hits, long misses, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        /**
+         * Gabungkan dua snapshot statistik
+         * @param other statistik lain
+         * @return statistik gabungan
+         */
+        public Stats plus(Stats other) {
+            return new Stats(hits + other.hits, misses + other.misses, evictions + other.evictions);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%",
+                hits, misses, evictions, getHitRate() * 100);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package akademik.io;
+
+import akademik.dao.BatchResult;
+import akademik.dao.DosenDAO;
+import akademik.dao.MahasiswaDAO;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+
+import com.google.common.io.CountingInputStream;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Import file CSV ke database lewat pipeline tiga tahap:
+ * 1. Thread reader mem-parse file dan mengelompokkan record per chunk
+ * 2. Thread pool validator mengubah record menjadi model dan memvalidasinya secara paralel
+ * 3. Thread pemanggil menyimpan setiap chunk dengan batch DAO (satu transaksi per chunk)
+ *
+ * Chunk yang sedang divalidasi atau menunggu ditulis dibatasi oleh antrian berkapasitas
+ * tetap; reader berhenti membaca selama antrian penuh (backpressure), sehingga memori
+ * tidak bergantung pada ukuran file. Chunk ditulis sesuai urutan di file.
+ *
+ * Import yang gagal di tengah jalan atau dibatalkan tidak me-rollback chunk yang sudah
+ * tersimpan. Satu instance dipakai untuk satu file; buat importer baru untuk file berikutnya
+ */
+public final class CsvImporter<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final int DEFAULT_PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Jumlah error yang ditulis ke log; semua error tersimpan tetap ada di ImportReport
+    private static final int LOGGED_ERRORS = 20;
+
+    /**
+     * Mengubah nilai kolom satu record menjadi model
+     * Nilai yang tidak bisa diubah (misalnya IPK bukan angka) dilaporkan dengan IllegalArgumentException
+     */
+    @FunctionalInterface
+    interface RecordMapper<T> {
+        T map(String[] values);
+    }
+
+    /**
+     * Menyimpan satu chunk, misalnya MahasiswaDAO::saveAll
+     */
+    @FunctionalInterface
+    interface BatchWriter<T> {
+        BatchResult write(List<T> items, int batchSize);
+    }
+
+    private final String entity;
+    private final String[] columns;
+    private final int requiredColumns;
+    private final RecordMapper<T> mapper;
+    private final Function<T, String> keyOf;
+    private final Function<T, String> validator;
+    private final BatchWriter<T> writer;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * @param entity nama entitas untuk pesan log dan error
+     * @param columns nama kolom header yang dibaca; kolom wajib ditulis lebih dulu
+     * @param requiredColumns jumlah kolom wajib di awal columns
+     * @param mapper pengubah nilai kolom (urutan sesuai columns, null jika kolom tidak ada) menjadi model
+     * @param keyOf pengambil NIM/NPP untuk laporan error
+     * @param validator mengembalikan pesan error jika item tidak valid, null jika valid
+     * @param writer penyimpan satu chunk
+     */
+    CsvImporter(String entity, String[] columns, int requiredColumns, RecordMapper<T> mapper,
+                Function<T, String> keyOf, Function<T, String> validator, BatchWriter<T> writer) {
+        this.entity = entity;
+        this.columns = columns;
+        this.requiredColumns = requiredColumns;
+        this.mapper = mapper;
+        this.keyOf = keyOf;
+        this.validator = validator;
+        this.writer = writer;
+    }
+
+    /**
+     * Importer untuk file mahasiswa dengan header nim,nama,gender,ipk[,dosen_wali]
+     * Dosen wali harus sudah ada di database; daftar NPP dibaca saat importer dibuat
+     * @param mahasiswaDAO DAO tujuan
+     * @param dosenDAO DAO untuk pengecekan dosen wali
+     * @param upsert true untuk menimpa NIM yang sudah ada, false untuk melaporkannya sebagai error
+     */
+    public static CsvImporter<Mahasiswa> forMahasiswa(MahasiswaDAO mahasiswaDAO, DosenDAO dosenDAO, boolean upsert) {
+        Set<String> nppDosen = new HashSet<>();
+        for (Dosen dosen : dosenDAO.findAll()) {
+            nppDosen.add(dosen.getNpp());
+        }
+
+        return new CsvImporter<>("mahasiswa",
+            new String[] {"nim", "nama", "gender", "ipk", "dosen_wali"}, 4,
+            CsvImporter::toMahasiswa, Mahasiswa::getNim,
+            mahasiswa -> validateMahasiswa(mahasiswa, nppDosen),
+            upsert ? mahasiswaDAO::upsertAll : mahasiswaDAO::saveAll);
+    }
+
+    /**
+     * Importer untuk file dosen dengan header npp,nama[,no_hp]
+     * @param dosenDAO DAO tujuan
+     * @param upsert true untuk menimpa NPP yang sudah ada, false untuk melaporkannya sebagai error
+     */
+    public static CsvImporter<Dosen> forDosen(DosenDAO dosenDAO, boolean upsert) {
+        return new CsvImporter<>("dosen",
+            new String[] {"npp", "nama", "no_hp"}, 2,
+            CsvImporter::toDosen, Dosen::getNpp,
+            dosen -> dosen.isValid() ? null : "NPP dan nama tidak boleh kosong",
+            upsert ? dosenDAO::upsertAll : dosenDAO::saveAll);
+    }
+
+    // === CONFIGURATION ===
+
+    /**
+     * @param chunkSize jumlah record per chunk validasi dan per transaksi
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Ukuran chunk minimal 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param parallelism jumlah thread validator
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Jumlah thread validator minimal 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    // === IMPORT ===
+
+    /**
+     * Import file CSV (UTF-8) dengan baris pertama sebagai header
+     * Method ini memblok sampai import selesai; panggil dari thread background
+     * @param file file CSV
+     * @param listener penerima progress dalam byte file, dipanggil dari thread pemanggil setelah
+     *                 setiap chunk tersimpan; false menghentikan import setelah chunk tersebut
+     * @return hasil import beserta error per baris
+     * @throws IOException jika file tidak bisa dibaca atau header tidak lengkap
+     */
+    public ImportReport importFile(Path file, ProgressListener listener) throws IOException {
+        long totalBytes = Files.size(file);
+
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(file));
+             CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            return importRecords(reader, input::getCount, totalBytes, listener);
+        }
+    }
+
+    private ImportReport importRecords(CsvReader reader, LongSupplier bytesRead, long totalBytes,
+                                       ProgressListener listener) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return report;
+        }
+        int[] columnIndex = resolveColumns(header);
+
+        // Future berisi chunk tervalidasi, dalam urutan file; future null menandai akhir file
+        BlockingQueue<Future<Chunk<T>>> queue = new ArrayBlockingQueue<>(parallelism * 2);
+        ExecutorService validators = Executors.newFixedThreadPool(parallelism, daemonThreads("csv-validator-"));
+        Thread readerThread = new Thread(() -> readChunks(reader, columnIndex, bytesRead, validators, queue),
+            "csv-reader");
+        readerThread.setDaemon(true);
+        readerThread.start();
+
+        try {
+            while (true) {
+                Chunk<T> chunk = takeChunk(queue);
+                if (chunk == null) {
+                    break;
+                }
+
+                writeChunk(chunk, report);
+                if (listener != null && !listener.onProgress(chunk.bytesRead, totalBytes)) {
+                    report.markCancelled();
+                    break;
+                }
+            }
+
+        } finally {
+            // Hentikan reader (juga jika penulisan gagal) sebelum file ditutup oleh pemanggil
+            readerThread.interrupt();
+            queue.clear();
+            validators.shutdownNow();
+            joinQuietly(readerThread);
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        System.out.println("✅ Import " + entity + ": " + report + " dalam " + report.getElapsedMillis() + " ms");
+        report.getErrors().stream().limit(LOGGED_ERRORS).forEach(error -> System.out.println("   ⚠️ " + error));
+        return report;
+    }
+
+    /**
+     * Cari posisi setiap kolom di header (tidak case sensitive)
+     * @return index kolom di record untuk setiap entri columns, -1 jika kolom opsional tidak ada
+     */
+    private int[] resolveColumns(List<String> header) throws IOException {
+        int[] columnIndex = new int[columns.length];
+        List<String> missing = new ArrayList<>();
+
+        for (int i = 0; i < columns.length; i++) {
+            columnIndex[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (columns[i].equals(header.get(j).trim().toLowerCase(Locale.ROOT))) {
+                    columnIndex[i] = j;
+                    break;
+                }
+            }
+            if (columnIndex[i] < 0 && i < requiredColumns) {
+                missing.add(columns[i]);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IOException("Header CSV " + entity + " tidak memiliki kolom " + String.join(", ", missing)
+                + " (header yang diharapkan: " + String.join(",", columns) + ")");
+        }
+        return columnIndex;
+    }
+
+    // === STAGE 1: READER ===
+
+    /**
+     * Baca file per chunk dan serahkan setiap chunk ke validator
+     * queue.put memblok selama antrian penuh, sehingga reader tidak pernah jauh di depan writer
+     */
+    private void readChunks(CsvReader reader, int[] columnIndex, LongSupplier bytesRead,
+                            ExecutorService validators, BlockingQueue<Future<Chunk<T>>> queue) {
+        try {
+            try {
+                List<RawRecord> records = new ArrayList<>(chunkSize);
+                List<String> fields;
+
+                while ((fields = reader.readRecord()) != null) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+
+                    records.add(new RawRecord(reader.getLineNumber(), select(fields, columnIndex)));
+                    if (records.size() == chunkSize) {
+                        List<RawRecord> full = records;
+                        long position = bytesRead.getAsLong();
+                        queue.put(validators.submit(() -> validateChunk(full, position)));
+                        records = new ArrayList<>(chunkSize);
+                    }
+                }
+
+                if (!records.isEmpty()) {
+                    List<RawRecord> last = records;
+                    long position = bytesRead.getAsLong();
+                    queue.put(validators.submit(() -> validateChunk(last, position)));
+                }
+                queue.put(CompletableFuture.completedFuture(null));
+
+            } catch (IOException | RuntimeException e) {
+                // Diteruskan ke writer lewat antrian, sesudah chunk-chunk sebelumnya
+                queue.put(CompletableFuture.failedFuture(e));
+            }
+
+        } catch (InterruptedException e) {
+            // Writer sudah berhenti; tidak ada lagi yang membaca antrian
+        }
+    }
+
+    private static String[] select(List<String> fields, int[] columnIndex) {
+        String[] values = new String[columnIndex.length];
+        for (int i = 0; i < columnIndex.length; i++) {
+            int index = columnIndex[i];
+            values[i] = index >= 0 && index < fields.size() ? fields.get(index).trim() : null;
+        }
+        return values;
+    }
+
+    // === STAGE 2: VALIDATOR ===
+
+    private Chunk<T> validateChunk(List<RawRecord> records, long bytesRead) {
+        Chunk<T> chunk = new Chunk<>(records.size(), bytesRead);
+
+        for (RawRecord record : records) {
+            String key = record.values[0];
+            try {
+                T item = mapper.map(record.values);
+                String error = validator.apply(item);
+                if (error == null) {
+                    chunk.items.add(item);
+                    chunk.lineNumbers.add(record.lineNumber);
+                } else {
+                    chunk.errors.add(new ImportReport.LineError(record.lineNumber, keyOf.apply(item), error));
+                }
+            } catch (IllegalArgumentException e) {
+                chunk.errors.add(new ImportReport.LineError(record.lineNumber, key, e.getMessage()));
+            }
+        }
+
+        return chunk;
+    }
+
+    // === STAGE 3: WRITER ===
+
+    private Chunk<T> takeChunk(BlockingQueue<Future<Chunk<T>>> queue) throws IOException {
+        try {
+            return queue.take().get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import " + entity + " diinterupsi", e);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Error import " + entity + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    private void writeChunk(Chunk<T> chunk, ImportReport report) {
+        report.recordRecords(chunk.records);
+        for (ImportReport.LineError error : chunk.errors) {
+            report.recordError(error.getLineNumber(), error.getKey(), error.getMessage());
+        }
+
+        if (chunk.items.isEmpty()) {
+            return;
+        }
+
+        BatchResult result = writer.write(chunk.items, chunk.items.size());
+        report.recordImported(result.getSucceeded());
+        for (BatchResult.RowError error : result.getErrors()) {
+            // Index di BatchResult relatif terhadap chunk; kembalikan ke nomor baris file
+            report.recordError(chunk.lineNumbers.get(error.getIndex()), error.getKey(), error.getMessage());
+        }
+    }
+
+    private static void joinQuietly(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // === MAPPING & VALIDATION ===
+
+    private static Mahasiswa toMahasiswa(String[] values) {
+        double ipk;
+        try {
+            ipk = values[3] == null || values[3].isEmpty() ? 0.0 : Double.parseDouble(values[3].replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("IPK harus berupa angka: " + values[3]);
+        }
+
+        return new Mahasiswa(values[0], values[1], values[2], ipk, emptyToNull(values[4]));
+    }
+
+    private static Dosen toDosen(String[] values) {
+        return new Dosen(values[0], values[1], emptyToNull(values[2]));
+    }
+
+    /**
+     * Validasi mahasiswa dengan pesan yang menyebutkan field yang salah
+     */
+    private static String validateMahasiswa(Mahasiswa mahasiswa, Set<String> nppDosen) {
+        if (!mahasiswa.isValid()) {
+            if (!mahasiswa.isValidGender()) {
+                return "Gender harus " + Mahasiswa.GENDER_LAKI + " atau " + Mahasiswa.GENDER_PEREMPUAN;
+            }
+            if (!mahasiswa.isValidIpk()) {
+                return "IPK harus antara 0.0 - 4.0";
+            }
+            return "NIM dan nama tidak boleh kosong";
+        }
+
+        if (mahasiswa.getDosenWali() != null && !nppDosen.contains(mahasiswa.getDosenWali())) {
+            return "Dosen wali dengan NPP " + mahasiswa.getDosenWali() + " tidak ditemukan";
+        }
+        return null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Record mentah hasil parse: nilai kolom sesuai urutan columns
+     */
+    private static final class RawRecord {
+        final int lineNumber;
+        final String[] values;
+
+        RawRecord(int lineNumber, String[] values) {
+            this.lineNumber = lineNumber;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Chunk tervalidasi: item yang siap ditulis beserta nomor barisnya, dan error validasi
+     */
+    private static final class Chunk<T> {
+        final int records;
+        final long bytesRead;
+        final List<T> items;
+        final List<Integer> lineNumbers;
+        final List<ImportReport.LineError> errors = new ArrayList<>();
+
+        Chunk(int records, long bytesRead) {
+            this.records = records;
+            this.bytesRead = bytesRead;
+            this.items = new ArrayList<>(records);
+            this.lineNumbers = new ArrayList<>(records);
+        }
+    }
+}
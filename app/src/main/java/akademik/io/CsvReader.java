@@ -0,0 +1,111 @@
+package akademik.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pembaca CSV (RFC 4180) yang membaca satu record setiap kali dipanggil
+ * Field boleh diapit tanda kutip; di dalamnya koma dan baris baru ikut menjadi isi
+ * field, dan "" berarti satu tanda kutip. Baris kosong dilewati
+ */
+public final class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private int lineNumber;         // Baris fisik terakhir yang dibaca
+    private int recordLineNumber;   // Baris awal record terakhir
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Baca record berikutnya
+     * @return daftar field, atau null jika file sudah habis
+     * @throws IOException jika gagal membaca atau tanda kutip tidak ditutup sampai akhir file
+     */
+    public List<String> readRecord() throws IOException {
+        String line;
+        do {
+            line = nextLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+
+        recordLineNumber = lineNumber;
+        if (recordLineNumber == 1 && line.charAt(0) == BOM) {
+            line = line.substring(1);
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Field dalam tanda kutip berlanjut ke baris berikutnya
+                line = nextLine();
+                if (line == null) {
+                    throw new IOException("Tanda kutip tidak ditutup mulai baris " + recordLineNumber);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * @return nomor baris (mulai dari 1) tempat record terakhir dimulai
+     */
+    public int getLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+}
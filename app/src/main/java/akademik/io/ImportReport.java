@@ -0,0 +1,130 @@
+package akademik.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hasil import CSV: jumlah record, jumlah yang tersimpan, dan error per baris
+ * Hanya MAX_STORED_ERRORS error pertama yang disimpan supaya file besar yang
+ * salah format tidak menghabiskan memori; getFailed() tetap menghitung semuanya
+ */
+public class ImportReport {
+
+    public static final int MAX_STORED_ERRORS = 1000;
+
+    private int total;
+    private int imported;
+    private int failed;
+    private boolean cancelled;
+    private long elapsedMillis;
+    private final List<LineError> errors = new ArrayList<>();
+
+    // === GETTERS ===
+
+    /**
+     * @return jumlah record data yang dibaca (tanpa header)
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * @return error per baris, maksimal MAX_STORED_ERRORS
+     */
+    public List<LineError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean hasErrors() {
+        return failed > 0;
+    }
+
+    /**
+     * @return true jika import dihentikan sebelum file habis dibaca
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    // === RECORDING (dipakai oleh CsvImporter) ===
+    void recordRecords(int count) {
+        total += count;
+    }
+
+    void recordImported(int count) {
+        imported += count;
+    }
+
+    void recordError(int lineNumber, String key, String message) {
+        failed++;
+        if (errors.size() < MAX_STORED_ERRORS) {
+            errors.add(new LineError(lineNumber, key, message));
+        }
+    }
+
+    void markCancelled() {
+        cancelled = true;
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return imported + " dari " + total + " baris diimport"
+            + (failed == 0 ? "" : " (" + failed + " gagal)")
+            + (cancelled ? ", dibatalkan" : "");
+    }
+
+    /**
+     * Error untuk satu baris file CSV
+     */
+    public static class LineError {
+        private final int lineNumber;
+        private final String key;
+        private final String message;
+
+        public LineError(int lineNumber, String key, String message) {
+            this.lineNumber = lineNumber;
+            this.key = key;
+            this.message = message;
+        }
+
+        /**
+         * @return nomor baris di file CSV (mulai dari 1, header adalah baris 1)
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * @return NIM/NPP baris yang gagal, null jika tidak terbaca
+         */
+        public String getKey() {
+            return key;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Baris " + lineNumber + (key == null || key.isEmpty() ? "" : " [" + key + "]") + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package akademik.io;
+
+import akademik.dao.MahasiswaDAO;
+import akademik.dao.MahasiswaFilter;
+import akademik.model.MahasiswaRow;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Export tabel mahasiswa ke CSV atau JSON Lines langsung dari cursor database
+ * Setiap baris di-encode ke buffer channel lalu dilepas; tidak ada list berisi seluruh
+ * tabel di memori. File ditulis ke file sementara ".part" dan baru dipindahkan ke tujuan
+ * jika export selesai, sehingga export yang gagal atau dibatalkan tidak meninggalkan file setengah jadi
+ */
+public final class MahasiswaExporter {
+
+    // Ukuran buffer byte antara encoder dan FileChannel
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Progress dilaporkan (dan pembatalan dicek) setiap sejumlah baris
+    private static final int PROGRESS_INTERVAL = 1000;
+
+    /**
+     * Format file export
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSONL(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Kolom yang bisa diexport; nama kolom CSV sama dengan header yang dibaca CsvImporter
+     */
+    public enum Column {
+        NIM("nim", MahasiswaRow::getNim),
+        NAMA("nama", MahasiswaRow::getNama),
+        GENDER("gender", MahasiswaRow::getGender),
+        IPK("ipk", MahasiswaRow::getIpk),
+        DOSEN_WALI("dosen_wali", MahasiswaRow::getDosenWali),
+        DOSEN_WALI_NAMA("dosen_wali_nama", MahasiswaRow::getDosenWaliNama);
+
+        private final String name;
+        private final Function<MahasiswaRow, Object> value;
+
+        Column(String name, Function<MahasiswaRow, Object> value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * @return nama kolom di header CSV dan key JSON
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final MahasiswaDAO mahasiswaDAO;
+
+    public MahasiswaExporter(MahasiswaDAO mahasiswaDAO) {
+        this.mahasiswaDAO = mahasiswaDAO;
+    }
+
+    /**
+     * Export mahasiswa yang memenuhi filter, urut nama lalu NIM
+     * Method ini memblok sampai export selesai; panggil dari thread background
+     * @param file file tujuan (ditimpa jika sudah ada)
+     * @param format format file
+     * @param columns kolom yang diexport sesuai urutan, null atau kosong untuk semua kolom
+     * @param filter kriteria filter, null untuk semua mahasiswa
+     * @param listener penerima progress dalam jumlah baris, boleh null
+     * @return jumlah baris yang diexport
+     * @throws IOException jika file tidak bisa ditulis
+     * @throws CancellationException jika listener menghentikan export
+     */
+    public int export(Path file, Format format, List<Column> columns, MahasiswaFilter filter,
+                      ProgressListener listener) throws IOException {
+        List<Column> selected = columns == null || columns.isEmpty() ? Arrays.asList(Column.values()) : columns;
+        long start = System.nanoTime();
+        int total = mahasiswaDAO.count(filter);
+
+        Path part = file.resolveSibling(file.getFileName() + ".part");
+        int exported = 0;
+        boolean completed = false;
+
+        try {
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE);
+                 Stream<MahasiswaRow> rows = mahasiswaDAO.streamRows(filter, MahasiswaDAO.DEFAULT_FETCH_SIZE)) {
+
+                if (format == Format.CSV) {
+                    writeCsvHeader(writer, selected);
+                }
+
+                Iterator<MahasiswaRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    MahasiswaRow row = iterator.next();
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, selected, row);
+                    } else {
+                        writeJsonRow(writer, selected, row);
+                    }
+                    exported++;
+
+                    if (exported % PROGRESS_INTERVAL == 0 && listener != null
+                            && !listener.onProgress(exported, Math.max(total, exported))) {
+                        throw new CancellationException("Export mahasiswa dibatalkan");
+                    }
+                }
+            }
+
+            Files.move(part, file, StandardCopyOption.REPLACE_EXISTING);
+            completed = true;
+
+        } finally {
+            if (!completed) {
+                Files.deleteIfExists(part);
+            }
+        }
+
+        if (listener != null) {
+            listener.onProgress(exported, exported);
+        }
+
+        System.out.println("✅ Export " + exported + " mahasiswa ke " + file.getFileName()
+            + " dalam " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return exported;
+    }
+
+    // === CSV ===
+
+    private static void writeCsvHeader(Writer writer, List<Column> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).getName());
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvRow(Writer writer, List<Column> columns, MahasiswaRow row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value.apply(row);
+            if (value != null) {
+                writeCsvField(writer, value.toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Tulis field CSV; diapit tanda kutip hanya jika berisi koma, tanda kutip, atau baris baru
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean needsQuote = false;
+        for (int i = 0; i < value.length() && !needsQuote; i++) {
+            char c = value.charAt(i);
+            needsQuote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // === JSON LINES ===
+
+    private static void writeJsonRow(Writer writer, List<Column> columns, MahasiswaRow row) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Column column = columns.get(i);
+            writeJsonString(writer, column.getName());
+            writer.write(':');
+
+            Object value = column.value.apply(row);
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Number) {
+                writer.write(value.toString());
+            } else {
+                writeJsonString(writer, value.toString());
+            }
+        }
+        writer.write("}\n");
+    }
+
+    /**
+     * Tulis string JSON dengan escape untuk tanda kutip, backslash, dan karakter kontrol
+     */
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        if (!needsJsonEscape(value)) {
+            writer.write(value);
+            writer.write('"');
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.write('\\');
+                writer.write(c);
+            } else if (c == '\n') {
+                writer.write("\\n");
+            } else if (c == '\r') {
+                writer.write("\\r");
+            } else if (c == '\t') {
+                writer.write("\\t");
+            } else if (c < 0x20) {
+                writer.write(String.format("\\u%04x", (int) c));
+            } else {
+                writer.write(c);
+            }
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsJsonEscape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
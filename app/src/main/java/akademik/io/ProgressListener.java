@@ -0,0 +1,16 @@
+package akademik.io;
+
+/**
+ * Penerima progress untuk import/export file yang berjalan lama
+ * Dipanggil dari thread yang menjalankan pekerjaan, bukan dari FX Application Thread
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * @param workDone jumlah pekerjaan yang sudah selesai (byte atau baris, lihat pemanggil)
+     * @param workTotal jumlah seluruh pekerjaan
+     * @return false untuk menghentikan pekerjaan secepatnya
+     */
+    boolean onProgress(long workDone, long workTotal);
+}
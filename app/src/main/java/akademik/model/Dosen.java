@@ -1,5 +1,7 @@
 package akademik.model;
 
+import java.util.Objects;
+
 /**
  * Model class untuk entitas Dosen
  * Merepresentasikan data dosen dalam sistem akademik
@@ -62,6 +64,18 @@ public class Dosen {
                nama != null && !nama.trim().isEmpty();
     }
 
+    /**
+     * Bandingkan semua field (equals() hanya membandingkan NPP)
+     * @param other dosen lain
+     * @return true jika NPP dan semua data sama
+     */
+    public boolean hasSameData(Dosen other) {
+        return other != null
+            && Objects.equals(npp, other.npp)
+            && Objects.equals(nama, other.nama)
+            && Objects.equals(noHp, other.noHp);
+    }
+
     // === OBJECT METHODS ===
 
     @Override
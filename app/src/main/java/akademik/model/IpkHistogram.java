@@ -0,0 +1,52 @@
+package akademik.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Histogram IPK satu kelompok mahasiswa (per dosen wali, gender, atau kategori)
+ * Dihitung dengan GROUP BY di database; tidak berisi data per mahasiswa
+ */
+public final class IpkHistogram {
+    private final String kelompok;     // Key kelompok (NPP, gender, nama kategori), null = tanpa kelompok
+    private final String label;        // Teks tampilan kelompok
+    private final List<IpkHistogramBucket> buckets;
+
+    public IpkHistogram(String kelompok, String label, List<IpkHistogramBucket> buckets) {
+        this.kelompok = kelompok;
+        this.label = label;
+        this.buckets = Collections.unmodifiableList(buckets);
+    }
+
+    // === GETTERS ===
+    public String getKelompok() {
+        return kelompok;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return semua bucket berurutan, termasuk yang kosong
+     */
+    public List<IpkHistogramBucket> getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * @return jumlah mahasiswa di semua bucket
+     */
+    public int getJumlah() {
+        int jumlah = 0;
+        for (IpkHistogramBucket bucket : buckets) {
+            jumlah += bucket.getJumlah();
+        }
+        return jumlah;
+    }
+
+    @Override
+    public String toString() {
+        return label + ": " + buckets;
+    }
+}
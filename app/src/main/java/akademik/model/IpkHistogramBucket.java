@@ -0,0 +1,62 @@
+package akademik.model;
+
+/**
+ * Satu batang histogram IPK: jumlah mahasiswa dengan IPK dalam [batasBawah, batasAtas)
+ * Bucket terakhir juga mencakup batasAtas (IPK 4.00)
+ */
+public final class IpkHistogramBucket {
+    private final double batasBawah;
+    private final double batasAtas;
+    private final int jumlah;
+
+    public IpkHistogramBucket(double batasBawah, double batasAtas, int jumlah) {
+        this.batasBawah = batasBawah;
+        this.batasAtas = batasAtas;
+        this.jumlah = jumlah;
+    }
+
+    /**
+     * Tentukan bucket untuk sebuah IPK dengan aturan yang sama seperti PrestasiKategori:
+     * IPK masuk bucket i jika batas bawah bucket i <= IPK (dibandingkan sebagai double, tanpa pembulatan),
+     * sehingga IPK 3.495 masuk bucket 3.00-3.50, sama dengan kategorinya (Sangat Memuaskan)
+     * @param ipk nilai IPK
+     * @param lebar lebar bucket dalam satuan 0.01
+     * @param jumlahBucket jumlah bucket; IPK di atas bucket terakhir masuk ke bucket terakhir
+     * @return index bucket
+     */
+    public static int indexOf(double ipk, int lebar, int jumlahBucket) {
+        // ipk * 100 bisa meleset sedikit di bawah bilangan bulat (0.57 * 100 = 56.99...), jadi dikoreksi satu bucket
+        int bucket = (int) (ipk * 100) / lebar;
+        if (ipk < (double) bucket * lebar / 100) {
+            bucket--;
+        } else if (ipk >= (double) (bucket + 1) * lebar / 100) {
+            bucket++;
+        }
+        return Math.max(0, Math.min(bucket, jumlahBucket - 1));
+    }
+
+    // === GETTERS ===
+    public double getBatasBawah() {
+        return batasBawah;
+    }
+
+    public double getBatasAtas() {
+        return batasAtas;
+    }
+
+    public int getJumlah() {
+        return jumlah;
+    }
+
+    /**
+     * @return label rentang, misalnya "3.00-3.50"
+     */
+    public String getLabel() {
+        return String.format("%.2f-%.2f", batasBawah, batasAtas);
+    }
+
+    @Override
+    public String toString() {
+        return getLabel() + ": " + jumlah;
+    }
+}
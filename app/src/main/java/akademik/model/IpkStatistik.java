@@ -0,0 +1,71 @@
+package akademik.model;
+
+/**
+ * Ringkasan IPK satu kelompok mahasiswa (per dosen wali, gender, kategori, atau keseluruhan)
+ * Dihitung dengan GROUP BY di database; tidak berisi data per mahasiswa
+ */
+public final class IpkStatistik {
+    private final String kelompok;     // Key kelompok (NPP, gender, label kategori), null = tanpa kelompok
+    private final String label;        // Teks tampilan kelompok
+    private final int jumlah;
+    private final double rataRata;
+    private final double minimum;
+    private final double maksimum;
+    private final int[] jumlahPerKategori;  // Index = PrestasiKategori.ordinal()
+
+    public IpkStatistik(String kelompok, String label, int jumlah, double rataRata,
+                        double minimum, double maksimum, int[] jumlahPerKategori) {
+        this.kelompok = kelompok;
+        this.label = label;
+        this.jumlah = jumlah;
+        this.rataRata = rataRata;
+        this.minimum = minimum;
+        this.maksimum = maksimum;
+        this.jumlahPerKategori = jumlahPerKategori.clone();
+    }
+
+    // === GETTERS ===
+    public String getKelompok() {
+        return kelompok;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getJumlah() {
+        return jumlah;
+    }
+
+    public double getRataRata() {
+        return rataRata;
+    }
+
+    public double getMinimum() {
+        return minimum;
+    }
+
+    public double getMaksimum() {
+        return maksimum;
+    }
+
+    /**
+     * @param kategori kategori prestasi
+     * @return jumlah mahasiswa kelompok ini yang masuk kategori tersebut
+     */
+    public int getJumlah(PrestasiKategori kategori) {
+        return jumlahPerKategori[kategori.ordinal()];
+    }
+
+    public int getJumlahCumLaude() {
+        return getJumlah(PrestasiKategori.CUM_LAUDE);
+    }
+
+    // === OBJECT METHODS ===
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d mahasiswa, IPK rata-rata %.2f (%.2f - %.2f)",
+            label, jumlah, rataRata, minimum, maksimum);
+    }
+}
@@ -0,0 +1,49 @@
+package akademik.model;
+
+import java.util.Objects;
+
+/**
+ * Satu saran autocomplete untuk field NIM/NPP: key yang sudah ada di database beserta namanya
+ */
+public final class KeySuggestion {
+    private final String key;
+    private final String nama;
+
+    public KeySuggestion(String key, String nama) {
+        this.key = key;
+        this.nama = nama;
+    }
+
+    // === GETTERS ===
+    public String getKey() {
+        return key;
+    }
+
+    public String getNama() {
+        return nama;
+    }
+
+    // === OBJECT METHODS ===
+
+    /**
+     * Teks yang ditampilkan di popup autocomplete
+     */
+    @Override
+    public String toString() {
+        return key + " - " + nama;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        KeySuggestion suggestion = (KeySuggestion) obj;
+        return key.equals(suggestion.key) && Objects.equals(nama, suggestion.nama);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode() * 31 + Objects.hashCode(nama);
+    }
+}
@@ -1,5 +1,7 @@
 package akademik.model;
 
+import java.util.Objects;
+
 /**
  * Model class untuk entitas Mahasiswa
  * Merepresentasikan data mahasiswa dalam sistem akademik
@@ -108,11 +110,21 @@ public class Mahasiswa {
      * @return kategori prestasi berdasarkan IPK
      */
     public String getPrestasiKategori() {
-        if (ipk >= 3.50) return "Cum Laude";
-        if (ipk >= 3.00) return "Sangat Memuaskan";
-        if (ipk >= 2.50) return "Memuaskan";
-        if (ipk >= 2.00) return "Cukup";
-        return "Kurang";
+        return PrestasiKategori.of(ipk).getLabel();
+    }
+
+    /**
+     * Bandingkan semua field (equals() hanya membandingkan NIM)
+     * @param other mahasiswa lain
+     * @return true jika NIM dan semua data sama
+     */
+    public boolean hasSameData(Mahasiswa other) {
+        return other != null
+            && Objects.equals(nim, other.nim)
+            && Objects.equals(nama, other.nama)
+            && Objects.equals(gender, other.gender)
+            && Double.compare(ipk, other.ipk) == 0
+            && Objects.equals(dosenWali, other.dosenWali);
     }
 
     // === OBJECT METHODS ===
@@ -0,0 +1,97 @@
+package akademik.model;
+
+import java.util.Objects;
+
+/**
+ * Read model satu baris tabel mahasiswa beserta nama dosen walinya
+ * Diisi langsung dari query LEFT JOIN mahasiswa-dosen sehingga nama dosen wali
+ * tidak perlu dicari per baris. Immutable; untuk diedit diubah ke Mahasiswa lewat toMahasiswa()
+ */
+public final class MahasiswaRow {
+    private final String nim;
+    private final String nama;
+    private final String gender;
+    private final double ipk;
+    private final String dosenWali;       // NPP dosen wali
+    private final String dosenWaliNama;   // Nama dosen wali, null jika tidak ada dosen wali
+
+    public MahasiswaRow(String nim, String nama, String gender, double ipk,
+                        String dosenWali, String dosenWaliNama) {
+        this.nim = nim;
+        this.nama = nama;
+        this.gender = gender;
+        this.ipk = ipk;
+        this.dosenWali = dosenWali;
+        this.dosenWaliNama = dosenWaliNama;
+    }
+
+    // === GETTERS ===
+    public String getNim() {
+        return nim;
+    }
+
+    public String getNama() {
+        return nama;
+    }
+
+    public String getGender() {
+        return gender;
+    }
+
+    public double getIpk() {
+        return ipk;
+    }
+
+    public String getDosenWali() {
+        return dosenWali;
+    }
+
+    public String getDosenWaliNama() {
+        return dosenWaliNama;
+    }
+
+    // === BUSINESS METHODS ===
+
+    /**
+     * @return data mahasiswa (tanpa nama dosen wali) untuk form dan operasi DAO
+     */
+    public Mahasiswa toMahasiswa() {
+        return new Mahasiswa(nim, nama, gender, ipk, dosenWali);
+    }
+
+    /**
+     * Bandingkan semua field (equals() hanya membandingkan NIM)
+     * @param other baris lain
+     * @return true jika NIM dan semua data, termasuk nama dosen wali, sama
+     */
+    public boolean hasSameData(MahasiswaRow other) {
+        return other != null
+            && Objects.equals(nim, other.nim)
+            && Objects.equals(nama, other.nama)
+            && Objects.equals(gender, other.gender)
+            && Double.compare(ipk, other.ipk) == 0
+            && Objects.equals(dosenWali, other.dosenWali)
+            && Objects.equals(dosenWaliNama, other.dosenWaliNama);
+    }
+
+    // === OBJECT METHODS ===
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %s", nim, nama);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        MahasiswaRow row = (MahasiswaRow) obj;
+        return nim != null ? nim.equals(row.nim) : row.nim == null;
+    }
+
+    @Override
+    public int hashCode() {
+        return nim != null ? nim.hashCode() : 0;
+    }
+}
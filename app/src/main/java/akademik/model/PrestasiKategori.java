@@ -0,0 +1,52 @@
+package akademik.model;
+
+/**
+ * Kategori prestasi mahasiswa berdasarkan IPK, urut dari yang tertinggi
+ * Batas bawah tiap kategori dipakai di Java (Mahasiswa.getPrestasiKategori)
+ * dan di SQL (StatistikDAOImpl) supaya keduanya selalu sama
+ */
+public enum PrestasiKategori {
+    CUM_LAUDE("Cum Laude", 3.50),
+    SANGAT_MEMUASKAN("Sangat Memuaskan", 3.00),
+    MEMUASKAN("Memuaskan", 2.50),
+    CUKUP("Cukup", 2.00),
+    KURANG("Kurang", Double.NEGATIVE_INFINITY);
+
+    private final String label;
+    private final double batasBawah;
+
+    PrestasiKategori(String label, double batasBawah) {
+        this.label = label;
+        this.batasBawah = batasBawah;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * @return IPK minimum kategori ini (inklusif)
+     */
+    public double getBatasBawah() {
+        return batasBawah;
+    }
+
+    /**
+     * Tentukan kategori untuk sebuah IPK
+     * @param ipk nilai IPK
+     * @return kategori tertinggi yang batas bawahnya terpenuhi
+     */
+    public static PrestasiKategori of(double ipk) {
+        for (PrestasiKategori kategori : values()) {
+            if (ipk >= kategori.batasBawah) {
+                return kategori;
+            }
+        }
+        return KURANG;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
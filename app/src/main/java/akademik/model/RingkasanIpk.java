@@ -0,0 +1,48 @@
+package akademik.model;
+
+/**
+ * Ringkasan IPK yang dibaca dari counter statistik (jumlah, total, total kuadrat)
+ * Rata-rata dan simpangan baku dihitung dari ketiga angka tersebut tanpa membaca data mahasiswa
+ */
+public final class RingkasanIpk {
+    private final int jumlah;
+    private final double rataRata;
+    private final double simpanganBaku;
+
+    /**
+     * @param jumlah jumlah mahasiswa
+     * @param totalIpk total IPK dalam seperseratus (3.75 -> 375)
+     * @param totalIpkKuadrat total kuadrat IPK dalam seperseratus
+     */
+    public RingkasanIpk(int jumlah, long totalIpk, long totalIpkKuadrat) {
+        this.jumlah = jumlah;
+        if (jumlah > 0) {
+            double rataRataSeratus = (double) totalIpk / jumlah;
+            // Varians populasi = E[x^2] - E[x]^2 (bisa sedikit negatif karena pembulatan double)
+            double varians = Math.max(0.0, (double) totalIpkKuadrat / jumlah - rataRataSeratus * rataRataSeratus);
+            this.rataRata = rataRataSeratus / 100.0;
+            this.simpanganBaku = Math.sqrt(varians) / 100.0;
+        } else {
+            this.rataRata = 0.0;
+            this.simpanganBaku = 0.0;
+        }
+    }
+
+    // === GETTERS ===
+    public int getJumlah() {
+        return jumlah;
+    }
+
+    public double getRataRata() {
+        return rataRata;
+    }
+
+    public double getSimpanganBaku() {
+        return simpanganBaku;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d mahasiswa, IPK rata-rata %.2f (simpangan baku %.2f)", jumlah, rataRata, simpanganBaku);
+    }
+}
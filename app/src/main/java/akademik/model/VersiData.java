@@ -0,0 +1,46 @@
+package akademik.model;
+
+/**
+ * Nomor versi data tabel mahasiswa dan dosen dari counter yang dijaga trigger
+ * Setiap insert/update/delete menaikkan versi tabelnya, sehingga dua VersiData yang sama
+ * berarti isi kedua tabel tidak berubah di antara dua pembacaan
+ */
+public final class VersiData {
+    private final long mahasiswa;
+    private final long dosen;
+
+    public VersiData(long mahasiswa, long dosen) {
+        this.mahasiswa = mahasiswa;
+        this.dosen = dosen;
+    }
+
+    // === GETTERS ===
+    public long getMahasiswa() {
+        return mahasiswa;
+    }
+
+    public long getDosen() {
+        return dosen;
+    }
+
+    // === OBJECT METHODS ===
+
+    @Override
+    public String toString() {
+        return "VersiData{mahasiswa=" + mahasiswa + ", dosen=" + dosen + "}";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        VersiData versi = (VersiData) obj;
+        return mahasiswa == versi.mahasiswa && dosen == versi.dosen;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mahasiswa) * 31 + Long.hashCode(dosen);
+    }
+}
@@ -0,0 +1,574 @@
+package akademik.store;
+
+import akademik.dao.MahasiswaDAO;
+import akademik.dao.MahasiswaFilter;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.MahasiswaRow;
+import akademik.model.PrestasiKategori;
+import akademik.model.RingkasanIpk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Penyimpanan data mahasiswa per kolom untuk analisis di memori
+ * Tidak ada object per mahasiswa: NIM dan nama dikemas di PackedStrings, gender dan dosen wali
+ * di-dictionary-encode menjadi kode byte/int, IPK dan kategori prestasi di array primitif.
+ * Filter dan pencarian menghasilkan array nomor baris (selection) yang bisa diurutkan,
+ * dikelompokkan, atau dibaca per kolom; MahasiswaRow hanya dibuat lewat toRow untuk baris yang ditampilkan.
+ *
+ * Nomor baris mengikuti urutan data saat dimuat, yaitu nama COLLATE NOCASE lalu NIM,
+ * sehingga urutan nama tidak perlu sort. Isi store tidak berubah setelah dimuat (aman dibaca
+ * dari banyak thread); muat ulang untuk melihat perubahan di database
+ */
+public final class MahasiswaColumnStore {
+
+    /**
+     * Urutan hasil untuk sort
+     */
+    public enum Urutan {
+        NAMA,
+        NIM,
+        IPK_NAIK,
+        IPK_TURUN
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int SKALA_IPK = 100;
+    private static final double IPK_MAKSIMUM = 4.0;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private static final PrestasiKategori[] KATEGORI = PrestasiKategori.values();
+
+    private int size;
+    private final PackedStrings nim = new PackedStrings();
+    private final PackedStrings nama = new PackedStrings();
+    private byte[] gender = new byte[INITIAL_CAPACITY];
+    private int[] dosenWali = new int[INITIAL_CAPACITY];
+    private double[] ipk = new double[INITIAL_CAPACITY];
+    private byte[] kategori = new byte[INITIAL_CAPACITY];   // PrestasiKategori.ordinal()
+
+    private final ValueDictionary genderValues = new ValueDictionary();
+    private final ValueDictionary dosenWaliValues = new ValueDictionary();
+    private final List<String> dosenWaliNama = new ArrayList<>();   // Index = kode dosen wali
+
+    // Hash table open addressing: NIM -> nomor baris + 1 (0 = slot kosong)
+    private int[] nimIndex;
+
+    private MahasiswaColumnStore() {
+    }
+
+    // === LOAD ===
+
+    /**
+     * Muat semua mahasiswa dari database lewat cursor (tanpa list Mahasiswa di memori)
+     * @param mahasiswaDAO sumber data
+     * @return store berisi semua mahasiswa
+     */
+    public static MahasiswaColumnStore load(MahasiswaDAO mahasiswaDAO) {
+        long start = System.nanoTime();
+        MahasiswaColumnStore store;
+        try (Stream<MahasiswaRow> rows = mahasiswaDAO.streamRows(null, MahasiswaDAO.DEFAULT_FETCH_SIZE)) {
+            store = of(rows.iterator());
+        }
+
+        System.out.println("✅ Column store: " + store.size() + " mahasiswa dimuat dalam "
+            + (System.nanoTime() - start) / 1_000_000 + " ms (" + store.getMemoryBytes() / 1024 + " KB)");
+        return store;
+    }
+
+    /**
+     * @param rows baris mahasiswa, urut nama COLLATE NOCASE lalu NIM
+     * @return store berisi semua baris
+     */
+    public static MahasiswaColumnStore of(Iterator<MahasiswaRow> rows) {
+        MahasiswaColumnStore store = new MahasiswaColumnStore();
+        while (rows.hasNext()) {
+            store.add(rows.next());
+        }
+        store.trim();
+        store.buildNimIndex();
+        return store;
+    }
+
+    private void add(MahasiswaRow row) {
+        if (size == ipk.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            gender = Arrays.copyOf(gender, capacity);
+            dosenWali = Arrays.copyOf(dosenWali, capacity);
+            ipk = Arrays.copyOf(ipk, capacity);
+            kategori = Arrays.copyOf(kategori, capacity);
+        }
+
+        int genderCode = genderValues.encode(row.getGender());
+        if (genderCode > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Terlalu banyak nilai gender berbeda untuk column store");
+        }
+
+        int dosenCode = dosenWaliValues.encode(row.getDosenWali());
+        if (dosenCode == dosenWaliNama.size()) {
+            dosenWaliNama.add(row.getDosenWaliNama());
+        }
+
+        nim.add(row.getNim());
+        nama.add(row.getNama());
+        gender[size] = (byte) genderCode;
+        dosenWali[size] = dosenCode;
+        ipk[size] = row.getIpk();
+        kategori[size] = (byte) PrestasiKategori.of(row.getIpk()).ordinal();
+        size++;
+    }
+
+    private void trim() {
+        nim.trim();
+        nama.trim();
+        gender = Arrays.copyOf(gender, size);
+        dosenWali = Arrays.copyOf(dosenWali, size);
+        ipk = Arrays.copyOf(ipk, size);
+        kategori = Arrays.copyOf(kategori, size);
+    }
+
+    private void buildNimIndex() {
+        int capacity = Integer.highestOneBit(Math.max(size, 8) * 2) * 2;
+        nimIndex = new int[capacity];
+        for (int row = 0; row < size; row++) {
+            int slot = slotOf(nim.hashAt(row));
+            while (nimIndex[slot] != 0) {
+                slot = (slot + 1) & (nimIndex.length - 1);
+            }
+            nimIndex[slot] = row + 1;
+        }
+    }
+
+    private int slotOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (nimIndex.length - 1);
+    }
+
+    // === SELECTION ===
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return semua nomor baris (urut nama)
+     */
+    public int[] all() {
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+
+    /**
+     * Pilih baris yang memenuhi filter
+     * Nilai gender dan dosen wali di filter diubah ke kode sekali, lalu yang dibandingkan per baris hanya angka
+     * @param filter kriteria filter, null untuk semua mahasiswa
+     * @return nomor baris yang cocok, urut nama
+     */
+    public int[] filter(MahasiswaFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            return all();
+        }
+
+        // Nilai yang tidak ada di dictionary tidak mungkin cocok dengan baris mana pun
+        if ((filter.getGender() != null && !genderValues.contains(filter.getGender()))
+                || (filter.getDosenWali() != null && !dosenWaliValues.contains(filter.getDosenWali()))) {
+            return new int[0];
+        }
+
+        boolean byGender = filter.getGender() != null;
+        boolean byDosenWali = filter.getDosenWali() != null;
+        int genderCode = genderValues.find(filter.getGender());
+        int dosenCode = dosenWaliValues.find(filter.getDosenWali());
+        double ipkMin = filter.getIpkMin() != null ? filter.getIpkMin() : Double.NEGATIVE_INFINITY;
+        double ipkMax = filter.getIpkMax() != null ? filter.getIpkMax() : Double.POSITIVE_INFINITY;
+
+        int[] rows = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((!byGender || gender[i] == genderCode)
+                    && (!byDosenWali || dosenWali[i] == dosenCode)
+                    && ipk[i] >= ipkMin && ipk[i] <= ipkMax) {
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Cari mahasiswa berdasarkan nama dengan aturan yang sama seperti MahasiswaDAO.searchByNama:
+     * setiap kata harus cocok dengan awal salah satu kata di nama, tanpa membedakan huruf besar/kecil
+     * @param text teks pencarian, misalnya "ahm sap"
+     * @param limit jumlah maksimum hasil
+     * @return nomor baris yang cocok, urut nama; kosong jika tidak ada kata yang bisa dicari
+     */
+    public int[] search(String text, int limit) {
+        List<char[]> words = new ArrayList<>();
+        if (text != null) {
+            for (String word : text.trim().split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    words.add(toLowerCase(word));
+                }
+            }
+        }
+        if (words.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        char[][] query = words.toArray(new char[0][]);
+        int[] rows = new int[Math.min(limit, size)];
+        int count = 0;
+        for (int i = 0; i < size && count < rows.length; i++) {
+            if (nama.matchesWordPrefixes(i, query)) {
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * @param nimValue NIM yang dicari
+     * @return nomor baris mahasiswa, atau -1 jika tidak ada
+     */
+    public int indexOfNim(String nimValue) {
+        if (nimValue == null) {
+            return -1;
+        }
+
+        int slot = slotOf(nimValue.hashCode());
+        while (nimIndex[slot] != 0) {
+            int row = nimIndex[slot] - 1;
+            if (nim.equalsAt(row, nimValue)) {
+                return row;
+            }
+            slot = (slot + 1) & (nimIndex.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Urutkan selection (stable: baris dengan nilai sama tetap urut nama)
+     * @param rows nomor baris, tidak diubah
+     * @param urutan kolom dan arah urutan
+     * @return nomor baris dalam urutan baru
+     */
+    public int[] sort(int[] rows, Urutan urutan) {
+        int[] sorted = rows.clone();
+        if (urutan == Urutan.NAMA) {
+            // Nomor baris sudah mengikuti urutan nama
+            Arrays.sort(sorted);
+        } else if (urutan == Urutan.NIM) {
+            mergeSort(sorted, nim::compare);
+        } else if (urutan == Urutan.IPK_NAIK) {
+            mergeSort(sorted, (a, b) -> Double.compare(ipk[a], ipk[b]));
+        } else {
+            mergeSort(sorted, (a, b) -> Double.compare(ipk[b], ipk[a]));
+        }
+        return sorted;
+    }
+
+    // === COLUMN ACCESS ===
+
+    public String getNim(int row) {
+        return nim.get(row);
+    }
+
+    public String getNama(int row) {
+        return nama.get(row);
+    }
+
+    public String getGender(int row) {
+        return genderValues.decode(gender[row]);
+    }
+
+    public double getIpk(int row) {
+        return ipk[row];
+    }
+
+    public String getDosenWali(int row) {
+        return dosenWaliValues.decode(dosenWali[row]);
+    }
+
+    public String getDosenWaliNama(int row) {
+        return dosenWali[row] != ValueDictionary.NULL_CODE ? dosenWaliNama.get(dosenWali[row]) : null;
+    }
+
+    public PrestasiKategori getKategori(int row) {
+        return KATEGORI[kategori[row]];
+    }
+
+    /**
+     * @return baris sebagai MahasiswaRow, untuk ditampilkan di tabel
+     */
+    public MahasiswaRow toRow(int row) {
+        return new MahasiswaRow(getNim(row), getNama(row), getGender(row), ipk[row],
+            getDosenWali(row), getDosenWaliNama(row));
+    }
+
+    /**
+     * @return baris-baris sebagai MahasiswaRow, sesuai urutan rows
+     */
+    public List<MahasiswaRow> toRows(int[] rows) {
+        List<MahasiswaRow> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(toRow(row));
+        }
+        return result;
+    }
+
+    // === STATISTICS ===
+
+    /**
+     * Seperti StatistikDAO.getRingkasan, untuk baris yang dipilih
+     * IPK dijumlahkan dalam seperseratus seperti counter di database
+     */
+    public RingkasanIpk getRingkasan(int[] rows) {
+        long total = 0;
+        long totalKuadrat = 0;
+        for (int row : rows) {
+            long nilai = Math.round(ipk[row] * SKALA_IPK);
+            total += nilai;
+            totalKuadrat += nilai * nilai;
+        }
+        return new RingkasanIpk(rows.length, total, totalKuadrat);
+    }
+
+    /**
+     * Seperti StatistikDAO.getStatistikKeseluruhan, untuk baris yang dipilih
+     */
+    public IpkStatistik getStatistik(int[] rows) {
+        Kelompok kelompok = new Kelompok();
+        for (int row : rows) {
+            kelompok.add(ipk[row], kategori[row]);
+        }
+        return kelompok.toStatistik(null, "Keseluruhan");
+    }
+
+    /**
+     * Seperti StatistikDAO.getStatistikPerDosenWali, untuk baris yang dipilih
+     * @return satu baris per dosen wali, urut nama dosen; tanpa dosen wali di akhir
+     */
+    public List<IpkStatistik> getStatistikPerDosenWali(int[] rows) {
+        // Slot 0 untuk mahasiswa tanpa dosen wali, slot kode + 1 untuk dosen
+        Kelompok[] kelompok = group(rows, dosenWali, dosenWaliValues.size());
+
+        List<Integer> codes = new ArrayList<>();
+        for (int code = 0; code < dosenWaliValues.size(); code++) {
+            if (kelompok[code + 1] != null) {
+                codes.add(code);
+            }
+        }
+        codes.sort(Comparator.comparing((Integer code) -> labelDosenWali(code), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(code -> dosenWaliValues.decode(code)));
+
+        List<IpkStatistik> result = new ArrayList<>(codes.size() + 1);
+        for (int code : codes) {
+            result.add(kelompok[code + 1].toStatistik(dosenWaliValues.decode(code), labelDosenWali(code)));
+        }
+        if (kelompok[0] != null) {
+            result.add(kelompok[0].toStatistik(null, "Tanpa dosen wali"));
+        }
+        return result;
+    }
+
+    /**
+     * Seperti StatistikDAO.getStatistikPerGender, untuk baris yang dipilih
+     * @return satu baris per gender, urut gender
+     */
+    public List<IpkStatistik> getStatistikPerGender(int[] rows) {
+        Kelompok[] kelompok = new Kelompok[genderValues.size()];
+        for (int row : rows) {
+            int code = gender[row];
+            if (kelompok[code] == null) {
+                kelompok[code] = new Kelompok();
+            }
+            kelompok[code].add(ipk[row], kategori[row]);
+        }
+
+        List<IpkStatistik> result = new ArrayList<>();
+        for (int code = 0; code < kelompok.length; code++) {
+            if (kelompok[code] != null) {
+                String value = genderValues.decode(code);
+                result.add(kelompok[code].toStatistik(value, value));
+            }
+        }
+        result.sort(Comparator.comparing(IpkStatistik::getKelompok));
+        return result;
+    }
+
+    /**
+     * Seperti StatistikDAO.getStatistikPerKategori, untuk baris yang dipilih
+     * @return satu baris per kategori yang memiliki mahasiswa, urut dari kategori tertinggi
+     */
+    public List<IpkStatistik> getStatistikPerKategori(int[] rows) {
+        Kelompok[] kelompok = new Kelompok[KATEGORI.length];
+        for (int row : rows) {
+            int code = kategori[row];
+            if (kelompok[code] == null) {
+                kelompok[code] = new Kelompok();
+            }
+            kelompok[code].add(ipk[row], kategori[row]);
+        }
+
+        List<IpkStatistik> result = new ArrayList<>();
+        for (PrestasiKategori item : KATEGORI) {
+            if (kelompok[item.ordinal()] != null) {
+                result.add(kelompok[item.ordinal()].toStatistik(item.name(), item.getLabel()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Seperti StatistikDAO.getHistogramIpk, untuk baris yang dipilih
+     * @param lebarBucket lebar tiap bucket (kelipatan 0.01)
+     * @return semua bucket berurutan, termasuk yang kosong
+     */
+    public List<IpkHistogramBucket> getHistogramIpk(int[] rows, double lebarBucket) {
+        int lebar = (int) Math.round(lebarBucket * SKALA_IPK);
+        if (lebar < 1 || lebar > IPK_MAKSIMUM * SKALA_IPK) {
+            throw new IllegalArgumentException("Lebar bucket harus antara 0.01 dan " + IPK_MAKSIMUM);
+        }
+
+        // IPK 4.00 masuk ke bucket terakhir, bukan bucket baru
+        int jumlahBucket = (int) Math.ceil(IPK_MAKSIMUM * SKALA_IPK / lebar);
+        int[] jumlah = new int[jumlahBucket];
+        for (int row : rows) {
+            jumlah[IpkHistogramBucket.indexOf(ipk[row], lebar, jumlahBucket)]++;
+        }
+
+        List<IpkHistogramBucket> buckets = new ArrayList<>(jumlahBucket);
+        for (int i = 0; i < jumlahBucket; i++) {
+            double batasBawah = (double) i * lebar / SKALA_IPK;
+            double batasAtas = Math.min(IPK_MAKSIMUM, (double) (i + 1) * lebar / SKALA_IPK);
+            buckets.add(new IpkHistogramBucket(batasBawah, batasAtas, jumlah[i]));
+        }
+        return buckets;
+    }
+
+    /**
+     * @return perkiraan memori yang dipakai semua kolom dalam byte
+     */
+    public long getMemoryBytes() {
+        return nim.getMemoryBytes() + nama.getMemoryBytes()
+            + gender.length + kategori.length
+            + (long) dosenWali.length * Integer.BYTES
+            + (long) ipk.length * Double.BYTES
+            + (long) nimIndex.length * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "MahasiswaColumnStore{" + size + " mahasiswa, " + dosenWaliValues.size() + " dosen wali}";
+    }
+
+    // === PRIVATE HELPERS ===
+
+    /**
+     * Kelompokkan baris berdasarkan kode kolom; slot 0 untuk NULL_CODE, slot kode + 1 untuk nilai lain
+     */
+    private Kelompok[] group(int[] rows, int[] codes, int dictionarySize) {
+        Kelompok[] kelompok = new Kelompok[dictionarySize + 1];
+        for (int row : rows) {
+            int slot = codes[row] + 1;
+            if (kelompok[slot] == null) {
+                kelompok[slot] = new Kelompok();
+            }
+            kelompok[slot].add(ipk[row], kategori[row]);
+        }
+        return kelompok;
+    }
+
+    /**
+     * Dosen wali tanpa data dosen (seharusnya tidak terjadi karena foreign key) tetap tampil dengan NPP
+     */
+    private String labelDosenWali(int code) {
+        String label = dosenWaliNama.get(code);
+        return label != null ? label : dosenWaliValues.decode(code);
+    }
+
+    /**
+     * Huruf kecil per karakter, sama dengan perbandingan di PackedStrings.matchesWordPrefixes
+     */
+    private static char[] toLowerCase(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return chars;
+    }
+
+    /**
+     * Merge sort stable untuk array nomor baris dengan comparator primitif (tanpa boxing)
+     */
+    private static void mergeSort(int[] rows, IntBinaryOperator comparator) {
+        mergeSort(rows, rows.clone(), 0, rows.length, comparator);
+    }
+
+    private static void mergeSort(int[] rows, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= from && comparator.applyAsInt(rows[j], row) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(rows, buffer, from, middle, comparator);
+        mergeSort(rows, buffer, middle, to, comparator);
+        if (comparator.applyAsInt(rows[middle - 1], rows[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparator.applyAsInt(buffer[left], buffer[right]) <= 0)) {
+                rows[i] = buffer[left++];
+            } else {
+                rows[i] = buffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Akumulator statistik satu kelompok
+     */
+    private static final class Kelompok {
+        private int jumlah;
+        private double total;
+        private double minimum = Double.POSITIVE_INFINITY;
+        private double maksimum = Double.NEGATIVE_INFINITY;
+        private final int[] perKategori = new int[KATEGORI.length];
+
+        void add(double nilai, int kategori) {
+            jumlah++;
+            total += nilai;
+            minimum = Math.min(minimum, nilai);
+            maksimum = Math.max(maksimum, nilai);
+            perKategori[kategori]++;
+        }
+
+        IpkStatistik toStatistik(String key, String label) {
+            if (jumlah == 0) {
+                return new IpkStatistik(key, label, 0, 0.0, 0.0, 0.0, perKategori);
+            }
+            return new IpkStatistik(key, label, jumlah, total / jumlah, minimum, maksimum, perKategori);
+        }
+    }
+}
@@ -0,0 +1,690 @@
+package akademik.store;
+
+import akademik.dao.MahasiswaDAO;
+import akademik.model.Mahasiswa;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Penyimpanan record mahasiswa di luar heap Java dengan index NIM
+ * Record disimpan berurutan di chunk ByteBuffer direct (di memori) atau memory-mapped
+ * (dipersist ke file), sehingga jutaan mahasiswa tidak menambah object yang harus
+ * ditelusuri GC. Index NIM -> posisi record adalah hash table open addressing yang juga
+ * berada di luar heap (hash int dan posisi long per slot).
+ *
+ * Lookup memakai nama dan perilaku yang sama dengan MahasiswaDAO (findByNim, existsByNim, count).
+ * Update menulis record baru dan menandai record lama terhapus; ruang record lama tidak dipakai ulang.
+ * Pada mode file, status record lama baru diubah setelah flush() menyimpan akhir data yang baru,
+ * sehingga crash sebelum flush selalu menyisakan salah satu versi record.
+ * Aman dipakai dari banyak thread: lookup berjalan paralel, penulisan bergantian.
+ * Mode di memori dibatasi -XX:MaxDirectMemorySize (default sama dengan ukuran heap maksimum)
+ */
+public final class OffHeapMahasiswaStore implements Closeable {
+
+    private static final int MAGIC = 0x414B4D48; // "AKMH"
+    private static final int FORMAT_VERSION = 1;
+
+    // Record tidak pernah melewati batas chunk; sisa chunk yang tidak cukup ditandai padding
+    private static final int CHUNK_SIZE = 16 * 1024 * 1024;
+
+    // Header file di awal chunk pertama: magic, versi, akhir data, jumlah record hidup
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_DATA_END = 8;
+    private static final int HEADER_COUNT = 16;
+
+    // Record: status, hash NIM, ipk, gender, panjang nim/nama/dosen wali, lalu byte UTF-8 ketiganya
+    private static final byte STATUS_LIVE = 1;
+    private static final byte STATUS_DELETED = 2;
+    private static final byte STATUS_PADDING = 3;
+    private static final int RECORD_HASH = 1;
+    private static final int RECORD_IPK = 5;
+    private static final int RECORD_GENDER = 13;
+    private static final int RECORD_NIM_LENGTH = 14;
+    private static final int RECORD_NAMA_LENGTH = 16;
+    private static final int RECORD_DOSEN_LENGTH = 18;
+    private static final int RECORD_HEADER_SIZE = 20;
+
+    private static final byte GENDER_LAKI = 0;
+    private static final byte GENDER_PEREMPUAN = 1;
+
+    private static final int NULL_TEXT = 0xFFFF;
+    private static final int MAX_TEXT_BYTES = NULL_TEXT - 1;
+
+    // Index: kapasitas pangkat dua, diperbesar dua kali lipat saat terisi lebih dari setengah
+    // Kapasitas maksimum membuat buffer posisi tetap 1 GB (batas ukuran satu ByteBuffer 2 GB)
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 27;
+
+    private final FileChannel channel;     // null untuk mode di memori
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long dataEnd = HEADER_SIZE;
+    private int count;
+    private long deletedBytes;
+
+    // Posisi record lama yang statusnya menunggu flush() (mode file); lihat retire()
+    private long[] pendingDeletes = new long[16];
+    private int pendingDeleteCount;
+
+    private ByteBuffer indexHashes;
+    private ByteBuffer indexOffsets;
+    private int indexCapacity;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private OffHeapMahasiswaStore(FileChannel channel) {
+        this.channel = channel;
+        allocateIndex(INITIAL_INDEX_CAPACITY);
+    }
+
+    /**
+     * @return store kosong di memori off-heap; isinya hilang saat store tidak dipakai lagi
+     */
+    public static OffHeapMahasiswaStore inMemory() {
+        OffHeapMahasiswaStore store = new OffHeapMahasiswaStore(null);
+        store.writeHeader();
+        return store;
+    }
+
+    /**
+     * Buka store yang dipersist ke file (dibuat jika belum ada)
+     * Index NIM dibangun ulang dengan membaca semua record. Perubahan dijamin tersimpan
+     * setelah flush() atau close()
+     * @param file file data
+     * @return store berisi record dari file
+     * @throws IOException jika file tidak bisa dibuka atau bukan file store ini
+     */
+    public static OffHeapMahasiswaStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            OffHeapMahasiswaStore store = new OffHeapMahasiswaStore(channel);
+            if (size == 0) {
+                store.writeHeader();
+                return store;
+            }
+
+            for (long position = 0; position < size; position += CHUNK_SIZE) {
+                store.chunk((int) (position / CHUNK_SIZE));
+            }
+            store.readHeader();
+            store.rebuildIndex();
+
+            System.out.println("✅ Off-heap store " + file.getFileName() + " dibuka: " + store.count + " mahasiswa");
+            return store;
+
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Salin semua mahasiswa dari database lewat cursor
+     * @param mahasiswaDAO sumber data
+     * @return jumlah mahasiswa yang disalin
+     */
+    public int loadFrom(MahasiswaDAO mahasiswaDAO) {
+        long start = System.nanoTime();
+        int[] loaded = {0};
+        mahasiswaDAO.forEach(mahasiswa -> {
+            upsert(mahasiswa);
+            loaded[0]++;
+        });
+
+        System.out.println("✅ Off-heap store: " + loaded[0] + " mahasiswa dimuat dalam "
+            + (System.nanoTime() - start) / 1_000_000 + " ms (" + getDataBytes() / 1024 + " KB data, "
+            + getIndexBytes() / 1024 + " KB index)");
+        return loaded[0];
+    }
+
+    // === LOOKUPS (seperti MahasiswaDAO) ===
+
+    /**
+     * @param nim NIM mahasiswa yang dicari
+     * @return object Mahasiswa baru jika ditemukan, null jika tidak ditemukan
+     */
+    public Mahasiswa findByNim(String nim) {
+        if (nim == null || nim.trim().isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(nim.hashCode(), utf8(nim));
+            return slot >= 0 ? readRecord(indexOffsets.getLong(slot * Long.BYTES)) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param nim NIM yang akan dicek
+     * @return true jika NIM ada di store
+     */
+    public boolean existsByNim(String nim) {
+        if (nim == null || nim.trim().isEmpty()) {
+            return false;
+        }
+
+        lock.readLock().lock();
+        try {
+            return findSlot(nim.hashCode(), utf8(nim)) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return jumlah mahasiswa di store
+     */
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Proses semua mahasiswa satu per satu, urut sesuai waktu ditulis
+     * @param action dipanggil untuk setiap mahasiswa; tidak boleh menulis ke store ini
+     */
+    public void forEach(Consumer<? super Mahasiswa> action) {
+        lock.readLock().lock();
+        try {
+            long position = HEADER_SIZE;
+            while (position < dataEnd) {
+                ByteBuffer chunk = chunks.get(chunkIndex(position));
+                int offset = chunkOffset(position);
+                byte status = chunk.get(offset);
+                if (status == STATUS_PADDING) {
+                    position = nextChunkStart(position);
+                    continue;
+                }
+                // Record yang sudah diganti/dihapus tapi belum di-flush masih berstatus hidup
+                if (status == STATUS_LIVE && (pendingDeleteCount == 0 || isIndexed(chunk, offset, position))) {
+                    action.accept(readRecord(position));
+                }
+                position += recordSize(chunk, offset);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === WRITES ===
+
+    /**
+     * Simpan mahasiswa baru atau ganti data mahasiswa dengan NIM yang sama
+     * @param mahasiswa data mahasiswa (NIM, nama, dan gender wajib diisi)
+     * @throws IllegalArgumentException jika data tidak lengkap atau teks lebih dari 65534 byte
+     */
+    public void upsert(Mahasiswa mahasiswa) {
+        byte[] nim = utf8(mahasiswa.getNim());
+        byte[] nama = utf8(mahasiswa.getNama());
+        byte[] dosenWali = utf8(mahasiswa.getDosenWali());
+        if (nim == null || nim.length == 0 || nama == null) {
+            throw new IllegalArgumentException("NIM dan nama mahasiswa wajib diisi");
+        }
+        byte gender = genderCode(mahasiswa.getGender());
+        int hash = mahasiswa.getNim().hashCode();
+
+        lock.writeLock().lock();
+        try {
+            long position = appendRecord(hash, mahasiswa.getIpk(), gender, nim, nama, dosenWali);
+
+            int slot = findSlot(hash, nim);
+            if (slot >= 0) {
+                retire(indexOffsets.getLong(slot * Long.BYTES));
+                indexOffsets.putLong(slot * Long.BYTES, position);
+            } else {
+                if ((long) (count + 1) * 2 > indexCapacity) {
+                    resizeIndex(indexCapacity * 2);
+                }
+                insertSlot(hash, position);
+                count++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param nim NIM mahasiswa yang dihapus
+     * @return true jika ada mahasiswa yang dihapus
+     */
+    public boolean delete(String nim) {
+        if (nim == null) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(nim.hashCode(), utf8(nim));
+            if (slot < 0) {
+                return false;
+            }
+            retire(indexOffsets.getLong(slot * Long.BYTES));
+            removeSlot(slot);
+            count--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tulis header dan paksa isi file ke disk (tidak berpengaruh untuk mode di memori)
+     * Urutannya: record baru, lalu header dengan akhir data baru, baru kemudian status record lama.
+     * Crash di tengah flush paling buruk menyisakan dua versi hidup, dan saat dibuka versi terbaru yang dipakai
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            if (channel == null) {
+                writeHeader();
+                return;
+            }
+
+            for (ByteBuffer chunk : chunks) {
+                ((MappedByteBuffer) chunk).force();
+            }
+            writeHeader();
+            ((MappedByteBuffer) chunks.get(0)).force();
+
+            for (int i = 0; i < pendingDeleteCount; i++) {
+                markDeleted(pendingDeletes[i]);
+            }
+            pendingDeleteCount = 0;
+            for (ByteBuffer chunk : chunks) {
+                ((MappedByteBuffer) chunk).force();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    // === MEMORY ===
+
+    /**
+     * @return byte data record yang terpakai, termasuk record yang sudah dihapus/diganti
+     */
+    public long getDataBytes() {
+        lock.readLock().lock();
+        try {
+            return dataEnd;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return byte record yang sudah dihapus atau diganti (tidak dipakai ulang)
+     */
+    public long getDeletedBytes() {
+        lock.readLock().lock();
+        try {
+            return deletedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return byte yang dipakai index NIM
+     */
+    public long getIndexBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) indexCapacity * (Integer.BYTES + Long.BYTES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapMahasiswaStore{" + count() + " mahasiswa, " + (channel != null ? "file" : "memori") + "}";
+    }
+
+    // === RECORDS ===
+
+    private long appendRecord(int hash, double ipk, byte gender, byte[] nim, byte[] nama, byte[] dosenWali) {
+        int size = RECORD_HEADER_SIZE + nim.length + nama.length + (dosenWali != null ? dosenWali.length : 0);
+
+        long position = dataEnd;
+        int remaining = CHUNK_SIZE - chunkOffset(position);
+        if (size > remaining) {
+            // Sisa chunk terlalu kecil: tandai padding dan mulai di chunk berikutnya
+            chunk(chunkIndex(position)).put(chunkOffset(position), STATUS_PADDING);
+            position = nextChunkStart(position);
+        }
+
+        ByteBuffer chunk = chunk(chunkIndex(position));
+        int offset = chunkOffset(position);
+        chunk.put(offset, STATUS_LIVE);
+        chunk.putInt(offset + RECORD_HASH, hash);
+        chunk.putDouble(offset + RECORD_IPK, ipk);
+        chunk.put(offset + RECORD_GENDER, gender);
+        chunk.putShort(offset + RECORD_NIM_LENGTH, (short) nim.length);
+        chunk.putShort(offset + RECORD_NAMA_LENGTH, (short) nama.length);
+        chunk.putShort(offset + RECORD_DOSEN_LENGTH, (short) (dosenWali != null ? dosenWali.length : NULL_TEXT));
+
+        int text = offset + RECORD_HEADER_SIZE;
+        chunk.put(text, nim);
+        chunk.put(text + nim.length, nama);
+        if (dosenWali != null) {
+            chunk.put(text + nim.length + nama.length, dosenWali);
+        }
+
+        dataEnd = position + size;
+        return position;
+    }
+
+    private Mahasiswa readRecord(long position) {
+        ByteBuffer chunk = chunks.get(chunkIndex(position));
+        int offset = chunkOffset(position);
+
+        int nimLength = Short.toUnsignedInt(chunk.getShort(offset + RECORD_NIM_LENGTH));
+        int namaLength = Short.toUnsignedInt(chunk.getShort(offset + RECORD_NAMA_LENGTH));
+        int dosenLength = Short.toUnsignedInt(chunk.getShort(offset + RECORD_DOSEN_LENGTH));
+
+        int text = offset + RECORD_HEADER_SIZE;
+        String nim = readText(chunk, text, nimLength);
+        String nama = readText(chunk, text + nimLength, namaLength);
+        String dosenWali = dosenLength != NULL_TEXT ? readText(chunk, text + nimLength + namaLength, dosenLength) : null;
+        String gender = chunk.get(offset + RECORD_GENDER) == GENDER_LAKI
+            ? Mahasiswa.GENDER_LAKI : Mahasiswa.GENDER_PEREMPUAN;
+
+        return new Mahasiswa(nim, nama, gender, chunk.getDouble(offset + RECORD_IPK), dosenWali);
+    }
+
+    /**
+     * Catat record lama sebagai terhapus setelah index tidak lagi menunjuk ke record tersebut
+     * Di mode file statusnya ditunda sampai flush(): sebelum header menyimpan akhir data baru,
+     * record lama adalah satu-satunya versi yang akan ditemukan saat file dibuka ulang
+     */
+    private void retire(long position) {
+        ByteBuffer chunk = chunks.get(chunkIndex(position));
+        deletedBytes += recordSize(chunk, chunkOffset(position));
+
+        if (channel == null) {
+            markDeleted(position);
+            return;
+        }
+        if (pendingDeleteCount == pendingDeletes.length) {
+            pendingDeletes = Arrays.copyOf(pendingDeletes, pendingDeleteCount * 2);
+        }
+        pendingDeletes[pendingDeleteCount++] = position;
+    }
+
+    private void markDeleted(long position) {
+        chunks.get(chunkIndex(position)).put(chunkOffset(position), STATUS_DELETED);
+    }
+
+    /**
+     * @return true jika index NIM menunjuk ke record di posisi ini
+     */
+    private boolean isIndexed(ByteBuffer chunk, int offset, long position) {
+        int slot = findSlot(chunk.getInt(offset + RECORD_HASH), readNim(chunk, offset));
+        return slot >= 0 && indexOffsets.getLong(slot * Long.BYTES) == position;
+    }
+
+    private static int recordSize(ByteBuffer chunk, int offset) {
+        int dosenLength = Short.toUnsignedInt(chunk.getShort(offset + RECORD_DOSEN_LENGTH));
+        return RECORD_HEADER_SIZE
+            + Short.toUnsignedInt(chunk.getShort(offset + RECORD_NIM_LENGTH))
+            + Short.toUnsignedInt(chunk.getShort(offset + RECORD_NAMA_LENGTH))
+            + (dosenLength != NULL_TEXT ? dosenLength : 0);
+    }
+
+    private static boolean nimEquals(ByteBuffer chunk, int offset, byte[] nim) {
+        if (Short.toUnsignedInt(chunk.getShort(offset + RECORD_NIM_LENGTH)) != nim.length) {
+            return false;
+        }
+        int text = offset + RECORD_HEADER_SIZE;
+        for (int i = 0; i < nim.length; i++) {
+            if (chunk.get(text + i) != nim[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] readNim(ByteBuffer chunk, int offset) {
+        byte[] nim = new byte[Short.toUnsignedInt(chunk.getShort(offset + RECORD_NIM_LENGTH))];
+        chunk.get(offset + RECORD_HEADER_SIZE, nim);
+        return nim;
+    }
+
+    private static String readText(ByteBuffer chunk, int offset, int length) {
+        byte[] bytes = new byte[length];
+        chunk.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_TEXT_BYTES) {
+            throw new IllegalArgumentException("Teks terlalu panjang untuk off-heap store (" + bytes.length + " byte)");
+        }
+        return bytes;
+    }
+
+    private static byte genderCode(String gender) {
+        if (Mahasiswa.GENDER_LAKI.equals(gender)) {
+            return GENDER_LAKI;
+        }
+        if (Mahasiswa.GENDER_PEREMPUAN.equals(gender)) {
+            return GENDER_PEREMPUAN;
+        }
+        throw new IllegalArgumentException("Gender tidak valid: " + gender);
+    }
+
+    // === CHUNKS ===
+
+    /**
+     * @return chunk ke-index, dialokasikan (atau di-map dari file) jika belum ada
+     */
+    private ByteBuffer chunk(int index) {
+        while (chunks.size() <= index) {
+            if (channel == null) {
+                chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE));
+                continue;
+            }
+            try {
+                // Mapping READ_WRITE memperbesar file jika perlu
+                chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) chunks.size() * CHUNK_SIZE, CHUNK_SIZE));
+            } catch (IOException e) {
+                throw new RuntimeException("Error memperbesar file off-heap store: " + e.getMessage(), e);
+            }
+        }
+        return chunks.get(index);
+    }
+
+    private static int chunkIndex(long position) {
+        return (int) (position / CHUNK_SIZE);
+    }
+
+    private static int chunkOffset(long position) {
+        return (int) (position % CHUNK_SIZE);
+    }
+
+    private static long nextChunkStart(long position) {
+        return (position / CHUNK_SIZE + 1) * CHUNK_SIZE;
+    }
+
+    private void writeHeader() {
+        ByteBuffer header = chunk(0);
+        header.putInt(0, MAGIC);
+        header.putInt(Integer.BYTES, FORMAT_VERSION);
+        header.putLong(HEADER_DATA_END, dataEnd);
+        header.putInt(HEADER_COUNT, count);
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = chunks.get(0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Bukan file off-heap store mahasiswa");
+        }
+        if (header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+            throw new IOException("Versi format off-heap store tidak dikenal");
+        }
+        dataEnd = header.getLong(HEADER_DATA_END);
+        if (dataEnd < HEADER_SIZE || dataEnd > (long) chunks.size() * CHUNK_SIZE) {
+            throw new IOException("Header off-heap store rusak");
+        }
+    }
+
+    /**
+     * Bangun index dari record yang masih hidup, dipakai saat membuka file
+     * Jika crash terjadi di tengah flush(), satu NIM bisa punya dua record hidup:
+     * record yang ditulis belakangan yang dipakai, yang lama ditandai terhapus
+     */
+    private void rebuildIndex() {
+        long position = HEADER_SIZE;
+        while (position < dataEnd) {
+            ByteBuffer chunk = chunks.get(chunkIndex(position));
+            int offset = chunkOffset(position);
+            byte status = chunk.get(offset);
+
+            if (status == STATUS_PADDING) {
+                position = nextChunkStart(position);
+                continue;
+            }
+
+            int size = recordSize(chunk, offset);
+            if (status == STATUS_LIVE) {
+                int hash = chunk.getInt(offset + RECORD_HASH);
+                int slot = findSlot(hash, readNim(chunk, offset));
+                if (slot >= 0) {
+                    long older = indexOffsets.getLong(slot * Long.BYTES);
+                    markDeleted(older);
+                    deletedBytes += recordSize(chunks.get(chunkIndex(older)), chunkOffset(older));
+                    indexOffsets.putLong(slot * Long.BYTES, position);
+                } else {
+                    if ((long) (count + 1) * 2 > indexCapacity) {
+                        resizeIndex(indexCapacity * 2);
+                    }
+                    insertSlot(hash, position);
+                    count++;
+                }
+            } else {
+                deletedBytes += size;
+            }
+            position += size;
+        }
+    }
+
+    // === INDEX ===
+
+    private void allocateIndex(int capacity) {
+        indexCapacity = capacity;
+        indexHashes = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+        indexOffsets = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+    }
+
+    private int idealSlot(int hash) {
+        return (hash ^ (hash >>> 16)) & (indexCapacity - 1);
+    }
+
+    /**
+     * @return slot berisi NIM tersebut, atau -1 jika tidak ada
+     */
+    private int findSlot(int hash, byte[] nim) {
+        int mask = indexCapacity - 1;
+        for (int slot = idealSlot(hash); ; slot = (slot + 1) & mask) {
+            long position = indexOffsets.getLong(slot * Long.BYTES);
+            if (position == 0) {
+                return -1;
+            }
+            if (indexHashes.getInt(slot * Integer.BYTES) == hash
+                    && nimEquals(chunks.get(chunkIndex(position)), chunkOffset(position), nim)) {
+                return slot;
+            }
+        }
+    }
+
+    private void insertSlot(int hash, long position) {
+        int mask = indexCapacity - 1;
+        int slot = idealSlot(hash);
+        while (indexOffsets.getLong(slot * Long.BYTES) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        indexHashes.putInt(slot * Integer.BYTES, hash);
+        indexOffsets.putLong(slot * Long.BYTES, position);
+    }
+
+    /**
+     * Hapus slot dengan backward shift: entri berikutnya di rangkaian probe yang sama digeser
+     * mundur, sehingga tidak perlu tombstone dan lookup tetap berhenti di slot kosong pertama
+     */
+    private void removeSlot(int slot) {
+        int mask = indexCapacity - 1;
+        int empty = slot;
+        indexOffsets.putLong(empty * Long.BYTES, 0);
+
+        for (int next = (empty + 1) & mask; ; next = (next + 1) & mask) {
+            long position = indexOffsets.getLong(next * Long.BYTES);
+            if (position == 0) {
+                return;
+            }
+
+            int hash = indexHashes.getInt(next * Integer.BYTES);
+            int ideal = idealSlot(hash);
+            // Entri boleh tetap di tempatnya jika slot idealnya berada di antara slot kosong dan posisinya
+            boolean stays = empty <= next
+                ? empty < ideal && ideal <= next
+                : empty < ideal || ideal <= next;
+            if (!stays) {
+                indexHashes.putInt(empty * Integer.BYTES, hash);
+                indexOffsets.putLong(empty * Long.BYTES, position);
+                indexOffsets.putLong(next * Long.BYTES, 0);
+                empty = next;
+            }
+        }
+    }
+
+    private void resizeIndex(int capacity) {
+        if (capacity > MAX_INDEX_CAPACITY) {
+            throw new IllegalStateException("Off-heap store penuh: maksimal " + MAX_INDEX_CAPACITY / 2 + " mahasiswa");
+        }
+
+        ByteBuffer oldHashes = indexHashes;
+        ByteBuffer oldOffsets = indexOffsets;
+        int oldCapacity = indexCapacity;
+
+        allocateIndex(capacity);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long position = oldOffsets.getLong(slot * Long.BYTES);
+            if (position != 0) {
+                insertSlot(oldHashes.getInt(slot * Integer.BYTES), position);
+            }
+        }
+    }
+}
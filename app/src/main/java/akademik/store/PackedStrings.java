@@ -0,0 +1,190 @@
+package akademik.store;
+
+import java.util.Arrays;
+
+/**
+ * Kolom teks yang disimpan sebagai satu array karakter bersambung dan array posisi akhir
+ * Tidak ada object String per baris; String hanya dibuat saat nilai diminta lewat get().
+ * Selama semua karakter muat di Latin-1 (NIM dan umumnya nama) tiap karakter disimpan
+ * sebagai satu byte; begitu ada karakter lain, seluruh isi dipindah ke char[]
+ */
+final class PackedStrings {
+
+    private byte[] latin1 = new byte[1024];
+    private char[] utf16;             // Dipakai setelah ada karakter di luar Latin-1
+    private int[] ends = new int[256];
+    private int length;               // Jumlah karakter terpakai
+    private int size;                 // Jumlah nilai
+
+    void add(String value) {
+        ensureCharCapacity(length + value.length());
+        if (utf16 == null && !isLatin1(value)) {
+            utf16 = new char[latin1.length];
+            for (int i = 0; i < length; i++) {
+                utf16[i] = (char) (latin1[i] & 0xFF);
+            }
+            latin1 = null;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (utf16 != null) {
+                utf16[length++] = value.charAt(i);
+            } else {
+                latin1[length++] = (byte) value.charAt(i);
+            }
+        }
+
+        if (size == ends.length) {
+            ends = Arrays.copyOf(ends, Math.max(16, size * 2));
+        }
+        ends[size++] = length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String get(int index) {
+        int start = start(index);
+        int end = ends[index];
+        if (utf16 != null) {
+            return new String(utf16, start, end - start);
+        }
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (latin1[start + i] & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return true jika nilai di index sama persis dengan value
+     */
+    boolean equalsAt(int index, String value) {
+        int start = start(index);
+        if (ends[index] - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return hash nilai di index, sama dengan String.hashCode() nilai tersebut
+     */
+    int hashAt(int index) {
+        int hash = 0;
+        for (int i = start(index); i < ends[index]; i++) {
+            hash = 31 * hash + charAt(i);
+        }
+        return hash;
+    }
+
+    /**
+     * Bandingkan dua nilai per karakter, seperti String.compareTo
+     */
+    int compare(int a, int b) {
+        int startA = start(a);
+        int startB = start(b);
+        int lengthA = ends[a] - startA;
+        int lengthB = ends[b] - startB;
+
+        for (int i = 0; i < Math.min(lengthA, lengthB); i++) {
+            int diff = charAt(startA + i) - charAt(startB + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    /**
+     * Cek apakah setiap kata memiliki pasangan awal kata di nilai (tanpa membedakan huruf besar/kecil)
+     * Aturannya sama dengan pencarian FTS5 "kata"*: "ahm sap" cocok dengan "Ahmad Saputra"
+     * @param index baris
+     * @param words kata pencarian dalam huruf kecil
+     */
+    boolean matchesWordPrefixes(int index, char[][] words) {
+        for (char[] word : words) {
+            if (!containsWordPrefix(index, word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsWordPrefix(int index, char[] word) {
+        int start = start(index);
+        int end = ends[index];
+
+        for (int i = start; i + word.length <= end; i++) {
+            if (i > start && Character.isLetterOrDigit(charAt(i - 1))) {
+                continue;
+            }
+
+            int matched = 0;
+            while (matched < word.length && Character.toLowerCase(charAt(i + matched)) == word[matched]) {
+                matched++;
+            }
+            if (matched == word.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Buang kapasitas cadangan setelah semua nilai ditambahkan
+     */
+    void trim() {
+        if (utf16 != null) {
+            utf16 = Arrays.copyOf(utf16, length);
+        } else {
+            latin1 = Arrays.copyOf(latin1, length);
+        }
+        ends = Arrays.copyOf(ends, size);
+    }
+
+    /**
+     * @return perkiraan memori yang dipakai kolom ini dalam byte
+     */
+    long getMemoryBytes() {
+        long chars = utf16 != null ? (long) utf16.length * Character.BYTES : latin1.length;
+        return chars + (long) ends.length * Integer.BYTES;
+    }
+
+    private int start(int index) {
+        return index > 0 ? ends[index - 1] : 0;
+    }
+
+    private char charAt(int position) {
+        return utf16 != null ? utf16[position] : (char) (latin1[position] & 0xFF);
+    }
+
+    private void ensureCharCapacity(int required) {
+        int capacity = utf16 != null ? utf16.length : latin1.length;
+        if (required <= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(required, capacity * 2);
+        if (utf16 != null) {
+            utf16 = Arrays.copyOf(utf16, newCapacity);
+        } else {
+            latin1 = Arrays.copyOf(latin1, newCapacity);
+        }
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
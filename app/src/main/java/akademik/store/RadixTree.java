@@ -0,0 +1,350 @@
+package akademik.store;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Radix tree (trie terkompresi) untuk melengkapi key berdasarkan awalannya, misalnya NIM atau NPP
+ * Setiap edge menyimpan potongan key, bukan satu karakter, sehingga kedalaman pohon mengikuti jumlah
+ * percabangan dan bukan panjang key. Mencari k key pertama dengan awalan tertentu cukup turun
+ * sepanjang awalan lalu menelusuri subtree, tanpa menyentuh key lain.
+ *
+ * Aman dipakai dari banyak thread: penulisan (dari event DAO) dan pembacaan (dari UI) dijaga read-write lock
+ * @param <V> nilai yang disimpan per key, misalnya nama
+ */
+public final class RadixTree<V> {
+
+    private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+    private final Node<V> root = new Node<>("");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /**
+     * Simpan atau ganti nilai untuk key
+     */
+    public void put(String key, V value) {
+        put(key, value, true);
+    }
+
+    /**
+     * Simpan nilai hanya jika key belum ada
+     * @return true jika key baru ditambahkan
+     */
+    public boolean putIfAbsent(String key, V value) {
+        return put(key, value, false);
+    }
+
+    private boolean put(String key, V value, boolean replace) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key dan nilai tidak boleh null");
+        }
+
+        lock.writeLock().lock();
+        try {
+            Node<V> node = root;
+            int position = 0;
+
+            while (position < key.length()) {
+                int index = node.indexOf(key.charAt(position));
+                if (index < 0) {
+                    node.insertChild(-index - 1, new Node<>(key.substring(position), value));
+                    size++;
+                    return true;
+                }
+
+                Node<V> child = node.child(index);
+                int common = commonPrefixLength(child.label, key, position);
+                if (common < child.label.length()) {
+                    // Key berpisah di tengah edge: pecah edge menjadi node perantara + sisa edge lama
+                    Node<V> middle = new Node<>(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.insertChild(0, child);
+                    node.setChild(index, middle);
+                    child = middle;
+                }
+                node = child;
+                position += common;
+            }
+
+            if (node.value == null) {
+                node.value = value;
+                size++;
+                return true;
+            }
+            if (replace) {
+                node.value = value;
+            }
+            return false;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return nilai untuk key, atau null jika key tidak ada
+     */
+    public V get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            Node<V> node = find(key);
+            return node != null ? node.value : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Hapus key; node yang tidak lagi diperlukan digabung kembali dengan edge induknya
+     * @return true jika key ada dan dihapus
+     */
+    public boolean remove(String key) {
+        if (key == null) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Node<V> parent = null;
+            Node<V> node = root;
+            int childIndex = -1;
+            int position = 0;
+
+            while (position < key.length()) {
+                int index = node.indexOf(key.charAt(position));
+                if (index < 0) {
+                    return false;
+                }
+                Node<V> child = node.child(index);
+                if (!key.startsWith(child.label, position)) {
+                    return false;
+                }
+                parent = node;
+                node = child;
+                childIndex = index;
+                position += child.label.length();
+            }
+
+            if (node.value == null) {
+                return false;
+            }
+            node.value = null;
+            size--;
+
+            if (parent == null) {
+                return true;    // Key kosong tersimpan di root
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(childIndex);
+                if (parent != root && parent.value == null && parent.children.length == 1) {
+                    parent.mergeWithOnlyChild();
+                }
+            } else if (node.children.length == 1) {
+                node.mergeWithOnlyChild();
+            }
+            return true;
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Key dengan awalan prefix beserta nilainya, urut leksikografis (per karakter)
+     * @param prefix awalan key; string kosong berarti semua key
+     * @param limit jumlah maksimum hasil
+     * @return paling banyak limit pasangan key dan nilai
+     */
+    public List<Map.Entry<String, V>> complete(String prefix, int limit) {
+        List<Map.Entry<String, V>> result = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+        if (prefix == null || limit <= 0) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            Node<V> node = root;
+            StringBuilder path = new StringBuilder(prefix.length() + 16);
+
+            while (path.length() < prefix.length()) {
+                int position = path.length();
+                int index = node.indexOf(prefix.charAt(position));
+                if (index < 0) {
+                    return result;
+                }
+                Node<V> child = node.child(index);
+                int common = commonPrefixLength(child.label, prefix, position);
+                // Awalan boleh habis di tengah edge (semua key di bawahnya cocok), tetapi tidak boleh berbeda
+                if (common < child.label.length() && position + common < prefix.length()) {
+                    return result;
+                }
+                node = child;
+                path.append(child.label);
+            }
+
+            collect(node, path, result, limit);
+            return result;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Node<V> node, StringBuilder path, List<Map.Entry<String, V>> result, int limit) {
+        if (node.value != null) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(path.toString(), node.value));
+            if (result.size() >= limit) {
+                return;
+            }
+        }
+
+        int length = path.length();
+        for (int i = 0; i < node.children.length && result.size() < limit; i++) {
+            Node<V> child = node.child(i);
+            collect(child, path.append(child.label), result, limit);
+            path.setLength(length);
+        }
+    }
+
+    /**
+     * @return jumlah key
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hapus semua key
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children = NO_CHILDREN;
+            root.value = null;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node<V> find(String key) {
+        Node<V> node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int index = node.indexOf(key.charAt(position));
+            if (index < 0) {
+                return null;
+            }
+            node = node.child(index);
+            if (!key.startsWith(node.label, position)) {
+                return null;
+            }
+            position += node.label.length();
+        }
+        return node;
+    }
+
+    /**
+     * @return panjang awalan yang sama antara label dan key mulai dari posisi start
+     */
+    private static int commonPrefixLength(String label, String key, int start) {
+        int max = Math.min(label.length(), key.length() - start);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(start + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Node pohon; children diurutkan berdasarkan karakter pertama label sehingga
+     * pencarian child memakai binary search dan penelusuran menghasilkan urutan leksikografis
+     */
+    private static final class Node<V> {
+
+        String label;
+        V value;
+        Node<?>[] children = NO_CHILDREN;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node(String label, V value) {
+            this.label = label;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<V> child(int index) {
+            return (Node<V>) children[index];
+        }
+
+        /**
+         * @return index child yang labelnya diawali c, atau -(posisi sisip) - 1 jika tidak ada
+         */
+        int indexOf(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node<V> child) {
+            Node<?>[] updated = new Node<?>[children.length + 1];
+            System.arraycopy(children, 0, updated, 0, index);
+            updated[index] = child;
+            System.arraycopy(children, index, updated, index + 1, children.length - index);
+            children = updated;
+        }
+
+        void setChild(int index, Node<V> child) {
+            children[index] = child;
+        }
+
+        void removeChild(int index) {
+            Node<?>[] updated = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+            children = updated;
+        }
+
+        /**
+         * Gabungkan node tanpa nilai dengan satu-satunya child (kebalikan dari memecah edge)
+         */
+        void mergeWithOnlyChild() {
+            Node<V> only = child(0);
+            label = label + only.label;
+            value = only.value;
+            children = only.children;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package akademik.store;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding untuk kolom yang kardinalitasnya rendah (gender, dosen wali)
+ * Setiap nilai berbeda mendapat kode 0, 1, 2, ... sesuai urutan pertama kali muncul;
+ * kolom cukup menyimpan kode tersebut di array primitif
+ */
+final class ValueDictionary {
+
+    /**
+     * Kode untuk nilai null
+     */
+    static final int NULL_CODE = -1;
+
+    private final List<String> values = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    /**
+     * @return kode nilai, dibuat baru jika nilai belum ada
+     */
+    int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            values.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * @return kode nilai, atau NULL_CODE jika value null atau tidak ada di dictionary
+     */
+    int find(String value) {
+        Integer code = value != null ? codes.get(value) : null;
+        return code != null ? code : NULL_CODE;
+    }
+
+    /**
+     * @return true jika value (bukan null) ada di dictionary
+     */
+    boolean contains(String value) {
+        return value != null && codes.containsKey(value);
+    }
+
+    String decode(int code) {
+        return code != NULL_CODE ? values.get(code) : null;
+    }
+
+    int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,482 @@
+package akademik.util;
+
+import akademik.dao.CachingMahasiswaDAO;
+import akademik.dao.DosenDAOImpl;
+import akademik.dao.MahasiswaDAO;
+import akademik.dao.MahasiswaDAOImpl;
+import akademik.dao.StatistikDAO;
+import akademik.dao.StatistikDAOImpl;
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.io.CsvImporter;
+import akademik.io.ImportReport;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import akademik.store.MahasiswaColumnStore;
+import akademik.store.OffHeapMahasiswaStore;
+import akademik.store.RadixTree;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark sederhana untuk operasi DAO
+ * Dijalankan lewat task Gradle "benchmark" dengan database terpisah (benchmark.db)
+ */
+public class DaoBenchmark {
+
+    private static final String BENCHMARK_DB = "benchmark.db";
+    private static final String BENCHMARK_CSV = "benchmark-import.csv";
+    private static final int DOSEN_COUNT = 50;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        System.out.println("🏁 DAO Benchmark: " + rows + " baris, " + iterations + " iterasi");
+
+        prepareDatabase(rows);
+        runStatementCacheBenchmark(rows, iterations);
+        runEntityCacheBenchmark(rows, iterations);
+        runMappingBenchmark(rows);
+        runImportBenchmark(rows);
+        runColumnStoreBenchmark(rows);
+        runOffHeapBenchmark(rows, iterations);
+        runAutocompleteBenchmark(rows, iterations);
+        runLiveSearchBenchmark(rows);
+    }
+
+    /**
+     * Bandingkan throughput findByNim/existsByNim dengan dan tanpa statement cache
+     */
+    private static void runStatementCacheBenchmark(int rows, int iterations) {
+        System.out.println();
+        System.out.println("1. Statement cache (findByNim + existsByNim)");
+
+        for (int cacheSize : new int[] {0, 64}) {
+            DatabaseConfig config = new DatabaseConfig();
+            config.setStatementCacheSize(cacheSize);
+            DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, config);
+
+            try {
+                MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+
+                // Warm-up JIT dan page cache SQLite
+                lookupLoop(dao, rows, iterations / 10);
+
+                long start = System.nanoTime();
+                int found = lookupLoop(dao, rows, iterations);
+                long elapsed = System.nanoTime() - start;
+
+                double opsPerSecond = iterations * 2 / (elapsed / 1_000_000_000.0);
+                System.out.printf("   cache=%-3d %,12.0f ops/s  (%d ditemukan)%n", cacheSize, opsPerSecond, found);
+                System.out.println("   📊 " + database.getPool().getStatementCacheStats());
+
+            } finally {
+                database.closeConnection();
+            }
+        }
+    }
+
+    /**
+     * Bandingkan lookup langsung ke SQLite dengan lookup lewat CachingMahasiswaDAO
+     * Key diambil dari himpunan kecil (hot set) seperti pola akses form dan combo box
+     */
+    private static void runEntityCacheBenchmark(int rows, int iterations) {
+        System.out.println();
+        System.out.println("2. Entity cache (findByNim + existsByNim, 1000 NIM hot set)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            MahasiswaDAOImpl direct = new MahasiswaDAOImpl(database);
+            CachingMahasiswaDAO cached = new CachingMahasiswaDAO(direct);
+            int hotSet = Math.min(rows, 1000);
+
+            for (MahasiswaDAO dao : new MahasiswaDAO[] {direct, cached}) {
+                lookupLoop(dao, hotSet, iterations / 10);
+
+                long start = System.nanoTime();
+                int found = lookupLoop(dao, hotSet, iterations);
+                long elapsed = System.nanoTime() - start;
+
+                double opsPerSecond = iterations * 2 / (elapsed / 1_000_000_000.0);
+                System.out.printf("   %-22s %,12.0f ops/s  (%d ditemukan)%n",
+                    dao.getClass().getSimpleName(), opsPerSecond, found);
+            }
+            System.out.println("   📊 " + cached.getStats());
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    /**
+     * Bandingkan biaya mapping findAll: kolom dicari per nama di setiap baris (SELECT *)
+     * dengan RowMapper yang me-resolve index kolom sekali per ResultSet
+     * Alokasi diukur per thread lewat ThreadMXBean; jalankan dengan 1000000 baris untuk tabel besar
+     */
+    private static void runMappingBenchmark(int rows) {
+        System.out.println();
+        System.out.println("3. Mapping findAll (" + rows + " baris)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            int rounds = Math.max(3, 2_000_000 / Math.max(rows, 1));
+
+            for (int round = 0; round < 2; round++) {
+                // Putaran pertama hanya warm-up JIT dan page cache SQLite
+                boolean report = round == 1;
+                measureMapping("by-name, SELECT *", rows, rounds, report, () -> findAllByName(database));
+                measureMapping("RowMapper", rows, rounds, report, dao::findAll);
+            }
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static void measureMapping(String label, int rows, int rounds, boolean report,
+                                       Supplier<List<Mahasiswa>> findAll) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        int mapped = 0;
+        for (int i = 0; i < rounds; i++) {
+            mapped += findAll.get().size();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        if (report && mapped > 0) {
+            System.out.printf("   %-18s %,8.0f ns/baris  %,6d byte/baris  (%d baris x %d)%n",
+                label, (double) elapsed / mapped, allocated / mapped, rows, rounds);
+        }
+    }
+
+    /**
+     * Mapping seperti sebelum RowMapper: SELECT * dan getXxx(String) per kolom per baris
+     */
+    private static List<Mahasiswa> findAllByName(DatabaseConnection database) {
+        try {
+            return database.read(connection -> {
+                PreparedStatement stmt = connection.prepare("SELECT * FROM mahasiswa ORDER BY nama COLLATE NOCASE, nim");
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    List<Mahasiswa> mahasiswaList = new ArrayList<>();
+                    while (rs.next()) {
+                        mahasiswaList.add(new Mahasiswa(
+                            rs.getString("nim"),
+                            rs.getString("nama"),
+                            rs.getString("gender"),
+                            rs.getDouble("ipk"),
+                            rs.getString("dosen_wali")
+                        ));
+                    }
+                    return mahasiswaList;
+                }
+            });
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error benchmark findAll: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Import file CSV berisi mahasiswa baru lewat CsvImporter
+     * Heap yang dipakai setelah import tidak bergantung pada jumlah baris karena file dibaca per chunk
+     */
+    private static void runImportBenchmark(int rows) {
+        System.out.println();
+        System.out.println("4. Import CSV (" + rows + " baris)");
+
+        Path csv = Paths.get(BENCHMARK_CSV);
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            writeImportCsv(csv, rows);
+
+            CsvImporter<Mahasiswa> importer = CsvImporter.forMahasiswa(
+                new MahasiswaDAOImpl(database), new DosenDAOImpl(database), false);
+            long start = System.nanoTime();
+            ImportReport report = importer.importFile(csv, (done, total) -> true);
+            long elapsed = System.nanoTime() - start;
+
+            Runtime runtime = Runtime.getRuntime();
+            System.out.printf("   %,12.0f baris/s  heap %,d MB  (%s)%n",
+                report.getTotal() / (elapsed / 1_000_000_000.0),
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024), report);
+
+        } catch (IOException e) {
+            throw new RuntimeException("Error benchmark import: " + e.getMessage(), e);
+
+        } finally {
+            database.closeConnection();
+            new File(BENCHMARK_CSV).delete();
+        }
+    }
+
+    /**
+     * Bandingkan statistik per dosen wali, per kategori, dan histogram lewat GROUP BY di SQLite
+     * dengan MahasiswaColumnStore, beserta heap yang dipakai store dan findAll untuk data yang sama
+     */
+    private static void runColumnStoreBenchmark(int rows) {
+        System.out.println();
+        System.out.println("5. Column store (" + rows + " baris)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            StatistikDAO statistikDAO = new StatistikDAOImpl(database);
+
+            long heapBefore = usedHeap();
+            List<Mahasiswa> objects = dao.findAll();
+            long objectHeap = usedHeap() - heapBefore;
+            int objectCount = objects.size();
+            objects = null;
+
+            heapBefore = usedHeap();
+            MahasiswaColumnStore store = MahasiswaColumnStore.load(dao);
+            long storeHeap = usedHeap() - heapBefore;
+            System.out.printf("   heap findAll %,d KB (%d object)  column store %,d KB%n",
+                objectHeap / 1024, objectCount, storeHeap / 1024);
+
+            int rounds = 20;
+            for (int round = 0; round < 2; round++) {
+                // Putaran pertama hanya warm-up JIT dan page cache SQLite
+                boolean report = round == 1;
+
+                long start = System.nanoTime();
+                for (int i = 0; i < rounds; i++) {
+                    statistikDAO.getStatistikPerDosenWali();
+                    statistikDAO.getStatistikPerKategori();
+                    statistikDAO.getHistogramIpk();
+                }
+                long sqlElapsed = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < rounds; i++) {
+                    int[] all = store.all();
+                    store.getStatistikPerDosenWali(all);
+                    store.getStatistikPerKategori(all);
+                    store.getHistogramIpk(all, StatistikDAO.DEFAULT_LEBAR_BUCKET);
+                }
+                long storeElapsed = System.nanoTime() - start;
+
+                if (report) {
+                    System.out.printf("   SQL GROUP BY   %,8.2f ms/putaran%n", sqlElapsed / 1_000_000.0 / rounds);
+                    System.out.printf("   column store   %,8.2f ms/putaran%n", storeElapsed / 1_000_000.0 / rounds);
+                }
+            }
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    /**
+     * Lookup findByNim + existsByNim dari OffHeapMahasiswaStore, beserta heap yang tetap terpakai
+     */
+    private static void runOffHeapBenchmark(int rows, int iterations) {
+        System.out.println();
+        System.out.println("6. Off-heap store (" + rows + " baris)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            long heapBefore = usedHeap();
+            OffHeapMahasiswaStore store = OffHeapMahasiswaStore.inMemory();
+            store.loadFrom(new MahasiswaDAOImpl(database));
+            long heap = usedHeap() - heapBefore;
+
+            Random random = new Random(42);
+            int found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                String nim = nimOf(random.nextInt(rows * 2));
+                if (store.existsByNim(nim)) {
+                    found++;
+                }
+                if (store.findByNim(nim) != null) {
+                    found++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("   %,12.0f ops/s  (%d ditemukan)  heap %,d KB, off-heap %,d KB%n",
+                iterations * 2 / (elapsed / 1_000_000_000.0), found, heap / 1024,
+                (store.getDataBytes() + store.getIndexBytes()) / 1024);
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    /**
+     * Top-10 autocomplete NIM dari RadixTree untuk awalan sepanjang 3 sampai 8 karakter
+     */
+    private static void runAutocompleteBenchmark(int rows, int iterations) {
+        System.out.println();
+        System.out.println("7. Autocomplete NIM dengan radix tree (" + rows + " baris)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            long heapBefore = usedHeap();
+            long start = System.nanoTime();
+            RadixTree<String> index = new RadixTree<>();
+            try (Stream<MahasiswaRow> stream = new MahasiswaDAOImpl(database).streamRows(null, MahasiswaDAO.DEFAULT_FETCH_SIZE)) {
+                stream.forEach(row -> index.put(row.getNim(), row.getNama()));
+            }
+            long buildMillis = (System.nanoTime() - start) / 1_000_000;
+            long heap = usedHeap() - heapBefore;
+
+            Random random = new Random(42);
+            int suggestions = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                String prefix = nimOf(random.nextInt(rows)).substring(0, 3 + random.nextInt(6));
+                suggestions += index.complete(prefix, 10).size();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("   dibangun %d ms, heap %,d KB, %.2f µs/lookup (%d saran)%n",
+                buildMillis, heap / 1024, elapsed / 1000.0 / iterations, suggestions);
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    /**
+     * Latensi searchByNama untuk urutan teks seperti saat user mengetik di field pencarian,
+     * dengan limit yang sama seperti live search di ViewModel
+     */
+    private static void runLiveSearchBenchmark(int rows) {
+        System.out.println();
+        System.out.println("8. Live search nama (" + rows + " baris, limit 100)");
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            Random random = new Random(42);
+            List<Long> latencies = new ArrayList<>();
+
+            for (int round = 0; round < 50; round++) {
+                // Setiap ketikan menambah satu huruf; awalan pendek adalah kasus terberat karena cocok dengan banyak baris
+                String typed = "mahasiswa " + random.nextInt(rows);
+                for (int length = 1; length <= typed.length(); length++) {
+                    String text = typed.substring(0, length);
+                    long start = System.nanoTime();
+                    dao.searchByNama(text, 100);
+                    latencies.add(System.nanoTime() - start);
+                }
+            }
+
+            Collections.sort(latencies);
+            System.out.printf("   %d query, p50 %.2f ms, p99 %.2f ms, maks %.2f ms%n", latencies.size(),
+                latencies.get(latencies.size() / 2) / 1_000_000.0,
+                latencies.get(latencies.size() * 99 / 100) / 1_000_000.0,
+                latencies.get(latencies.size() - 1) / 1_000_000.0);
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void writeImportCsv(Path csv, int rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("nim,nama,gender,ipk,dosen_wali");
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.format(Locale.ROOT, "C%08d,Mahasiswa Import %d,%s,%.2f,D%04d", i, i,
+                    i % 2 == 0 ? Mahasiswa.GENDER_LAKI : Mahasiswa.GENDER_PEREMPUAN, (i % 401) / 100.0, i % DOSEN_COUNT));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static int lookupLoop(MahasiswaDAO dao, int rows, int iterations) {
+        Random random = new Random(42);
+        int found = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            String nim = nimOf(random.nextInt(rows * 2));
+            if (dao.existsByNim(nim)) {
+                found++;
+            }
+            if (dao.findByNim(nim) != null) {
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Buat ulang database benchmark dengan sejumlah baris mahasiswa
+     */
+    private static void prepareDatabase(int rows) {
+        for (String suffix : new String[] {"", "-wal", "-shm"}) {
+            new File(BENCHMARK_DB + suffix).delete();
+        }
+
+        DatabaseConnection database = DatabaseConnection.open(BENCHMARK_DB, new DatabaseConfig());
+
+        try {
+            List<Dosen> dosenList = new ArrayList<>(DOSEN_COUNT);
+            for (int i = 0; i < DOSEN_COUNT; i++) {
+                dosenList.add(new Dosen(String.format("D%04d", i), "Dosen " + i, "08" + i));
+            }
+
+            List<Mahasiswa> mahasiswaList = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                mahasiswaList.add(new Mahasiswa(nimOf(i), "Mahasiswa " + i,
+                    i % 2 == 0 ? Mahasiswa.GENDER_LAKI : Mahasiswa.GENDER_PEREMPUAN, (i % 401) / 100.0,
+                    dosenList.get(i % DOSEN_COUNT).getNpp()));
+            }
+
+            long start = System.nanoTime();
+            new DosenDAOImpl(database).saveAll(dosenList, 1000);
+            new MahasiswaDAOImpl(database).saveAll(mahasiswaList, 1000);
+            System.out.printf("   📝 %,d baris disiapkan dalam %d ms%n", rows, (System.nanoTime() - start) / 1_000_000);
+
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static String nimOf(int i) {
+        return String.format("B%08d", i);
+    }
+}
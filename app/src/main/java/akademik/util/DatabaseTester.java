@@ -1,13 +1,13 @@
 package akademik.util;
 
 import akademik.database.DatabaseConnection;
+import akademik.dao.DAOFactory;
 import akademik.dao.DosenDAO;
-import akademik.dao.DosenDAOImpl;
 import akademik.dao.MahasiswaDAO;
-import akademik.dao.MahasiswaDAOImpl;
 import akademik.model.Dosen;
 import akademik.model.Mahasiswa;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -20,8 +20,8 @@ public class DatabaseTester {
     private final MahasiswaDAO mahasiswaDAO;
 
     public DatabaseTester() {
-        this.dosenDAO = new DosenDAOImpl();
-        this.mahasiswaDAO = new MahasiswaDAOImpl();
+        this.dosenDAO = DAOFactory.getDosenDAO();
+        this.mahasiswaDAO = DAOFactory.getMahasiswaDAO();
     }
 
     /**
@@ -170,22 +170,26 @@ public class DatabaseTester {
         try {
             // Sample dosen
             if (dosenDAO.count() == 0) {
-                dosenDAO.save(new Dosen("NPP001", "Dr. Ahmad Fauzi, M.Kom", "08123456789"));
-                dosenDAO.save(new Dosen("NPP002", "Dr. Siti Rahayu, M.T", "08234567890"));
-                dosenDAO.save(new Dosen("NPP003", "Prof. Budi Santoso, Ph.D", "08345678901"));
+                dosenDAO.saveAll(Arrays.asList(
+                    new Dosen("NPP001", "Dr. Ahmad Fauzi, M.Kom", "08123456789"),
+                    new Dosen("NPP002", "Dr. Siti Rahayu, M.T", "08234567890"),
+                    new Dosen("NPP003", "Prof. Budi Santoso, Ph.D", "08345678901")
+                ));
                 System.out.println("✅ Sample dosen data inserted");
             }
 
             // Sample mahasiswa
             if (mahasiswaDAO.count() == 0) {
-                mahasiswaDAO.save(new Mahasiswa("123210001", "Andi Prasetyo",
-                                               Mahasiswa.GENDER_LAKI, 3.75, "NPP001"));
-                mahasiswaDAO.save(new Mahasiswa("123210002", "Dewi Sartika",
-                                               Mahasiswa.GENDER_PEREMPUAN, 3.85, "NPP001"));
-                mahasiswaDAO.save(new Mahasiswa("123210003", "Rizki Ramadhan",
-                                               Mahasiswa.GENDER_LAKI, 3.20, "NPP002"));
-                mahasiswaDAO.save(new Mahasiswa("123210004", "Maya Indira",
-                                               Mahasiswa.GENDER_PEREMPUAN, 3.95, "NPP002"));
+                mahasiswaDAO.saveAll(Arrays.asList(
+                    new Mahasiswa("123210001", "Andi Prasetyo",
+                                  Mahasiswa.GENDER_LAKI, 3.75, "NPP001"),
+                    new Mahasiswa("123210002", "Dewi Sartika",
+                                  Mahasiswa.GENDER_PEREMPUAN, 3.85, "NPP001"),
+                    new Mahasiswa("123210003", "Rizki Ramadhan",
+                                  Mahasiswa.GENDER_LAKI, 3.20, "NPP002"),
+                    new Mahasiswa("123210004", "Maya Indira",
+                                  Mahasiswa.GENDER_PEREMPUAN, 3.95, "NPP002")
+                ));
                 System.out.println("✅ Sample mahasiswa data inserted");
             }
 
@@ -1,13 +1,17 @@
 package akademik.view;
 
+import javafx.beans.binding.Bindings;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
 import akademik.model.Dosen;
 import akademik.viewmodel.DosenViewModel;
 
+import java.io.File;
+
 /**
  * View untuk mengelola data Dosen dengan MVVM pattern
  * Menggunakan property binding untuk reactive UI
@@ -31,10 +35,16 @@ public class DosenView extends BorderPane {
     private Button deleteButton;
     private Button clearButton;
     private Button refreshButton;
+    private Button importButton;
 
     // Status components
     private Label validationLabel;
     private ProgressIndicator loadingIndicator;
+    private ProgressBar importProgressBar;
+
+    // Pencarian live tabel
+    private TextField searchField;
+    private Label searchLatencyLabel;
 
     public DosenView() {
         // Initialize ViewModel
@@ -43,7 +53,7 @@ public class DosenView extends BorderPane {
         initializeComponents();
         setupLayout();
         setupPropertyBindings();
-        // setupEventHandlers();
+        setupEventHandlers();
         // setupStyling();
     }
 
@@ -77,6 +87,12 @@ public class DosenView extends BorderPane {
         refreshButton = new Button("↻ Refresh");
         refreshButton.getStyleClass().addAll("btn", "btn-outline");
 
+        importButton = new Button("📥 Import CSV");
+        importButton.getStyleClass().addAll("btn", "btn-outline");
+
+        importProgressBar = new ProgressBar();
+        importProgressBar.setPrefWidth(150);
+
         // Status components
         validationLabel = new Label();
         validationLabel.getStyleClass().add("validation-message");
@@ -86,6 +102,15 @@ public class DosenView extends BorderPane {
         loadingIndicator.setPrefSize(24, 24);
         loadingIndicator.setVisible(false);
 
+        // Search
+        searchField = new TextField();
+        searchField.setPromptText("🔍 Cari NPP atau nama...");
+        searchField.getStyleClass().add("search-field");
+        searchField.setPrefWidth(220);
+
+        searchLatencyLabel = new Label();
+        searchLatencyLabel.getStyleClass().add("field-helper");
+
         // Table
         setupTable();
     }
@@ -190,7 +215,7 @@ public class DosenView extends BorderPane {
         tableSection.getStyleClass().add("table-section");
 
         // Table header
-        HBox tableHeader = new HBox();
+        HBox tableHeader = new HBox(10);
         tableHeader.setAlignment(Pos.CENTER_LEFT);
 
         Label tableTitle = new Label("📋 Daftar Dosen");
@@ -199,7 +224,8 @@ public class DosenView extends BorderPane {
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        tableHeader.getChildren().addAll(tableTitle, spacer, refreshButton);
+        tableHeader.getChildren().addAll(tableTitle, searchField, searchLatencyLabel, spacer,
+            importProgressBar, importButton, refreshButton);
 
         // Table
         VBox.setVgrow(dosenTable, Priority.ALWAYS);
@@ -218,14 +244,35 @@ public class DosenView extends BorderPane {
         namaField.textProperty().bindBidirectional(viewModel.namaProperty());
         noHpField.textProperty().bindBidirectional(viewModel.noHpProperty());
 
-        // Bind table data
+        // Autocomplete NPP: memilih saran memuat dosen tersebut ke form
+        new SuggestionPopup(nppField, viewModel.getNppSuggestions(), viewModel::selectNppSuggestion);
+
+        // Bind table data: daftar lengkap, atau hasil pencarian live selama field pencarian terisi
         dosenTable.setItems(viewModel.getDosenList());
+        searchField.textProperty().bindBidirectional(viewModel.searchQueryProperty());
+        viewModel.getSearchResults().comparatorProperty().bind(dosenTable.comparatorProperty());
+        viewModel.searchActiveProperty().addListener((obs, oldVal, newVal) -> {
+            dosenTable.getSortOrder().clear();
+            dosenTable.setItems(newVal ? viewModel.getSearchResults() : viewModel.getDosenList());
+        });
+
+        // Latensi pencarian terakhir: proses ketikan di FX thread dan query sampai hasil tampil
+        searchLatencyLabel.textProperty().bind(Bindings.format("⏱ ketik %.1f ms, query %.1f ms (maks %.1f ms)",
+            viewModel.searchKeystrokeLatencyProperty(), viewModel.searchQueryLatencyProperty(),
+            viewModel.searchMaxQueryLatencyProperty()));
+        searchLatencyLabel.visibleProperty().bind(viewModel.searchActiveProperty());
 
         // Bind button states to computed properties
         saveButton.disableProperty().bind(viewModel.canSaveProperty().not());
         updateButton.disableProperty().bind(viewModel.canUpdateProperty().not());
         deleteButton.disableProperty().bind(viewModel.canDeleteProperty().not());
 
+        // Import CSV: progress bar hanya tampil selama import berjalan
+        importProgressBar.progressProperty().bind(viewModel.importProgressProperty());
+        importProgressBar.visibleProperty().bind(viewModel.isImportingProperty());
+        importProgressBar.managedProperty().bind(viewModel.isImportingProperty());
+        importButton.disableProperty().bind(viewModel.isImportingProperty());
+
         // Bind loading indicator
         loadingIndicator.visibleProperty().bind(viewModel.isLoadingProperty());
 
@@ -241,4 +288,19 @@ public class DosenView extends BorderPane {
             }
         });
     }
-}
\ No newline at end of file
+
+    private void setupEventHandlers() {
+        importButton.setOnAction(e -> viewModel.importCsvCommand(chooseCsvFile()));
+    }
+
+    /**
+     * Pilih file CSV untuk diimport
+     * @return file yang dipilih, atau null jika dibatalkan
+     */
+    private File chooseCsvFile() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import Dosen dari CSV");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV (npp,nama,no_hp)", "*.csv"));
+        return fileChooser.showOpenDialog(getScene().getWindow());
+    }
+}
@@ -1,16 +1,22 @@
 package akademik.view;
 
 import javafx.collections.FXCollections;
+import javafx.beans.binding.Bindings;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
 import javafx.util.StringConverter;
 import akademik.model.Dosen;
 import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import akademik.io.MahasiswaExporter;
 import akademik.viewmodel.MahasiswaViewModel;
 
+import java.io.File;
+
 /**
  * View untuk mengelola data Mahasiswa dengan MVVM pattern
  * Menggunakan property binding untuk reactive UI
@@ -28,7 +34,7 @@ public class MahasiswaView extends BorderPane {
     private ComboBox<Dosen> dosenWaliComboBox;
 
     // Table and data
-    private TableView<Mahasiswa> mahasiswaTable;
+    private TableView<MahasiswaRow> mahasiswaTable;
 
     // Buttons
     private Button saveButton;
@@ -36,10 +42,18 @@ public class MahasiswaView extends BorderPane {
     private Button deleteButton;
     private Button clearButton;
     private Button refreshButton;
+    private Button importButton;
+    private Button exportButton;
+    private Button cancelTransferButton;
 
     // Status components
     private Label validationLabel;
     private ProgressIndicator loadingIndicator;
+    private ProgressBar transferProgressBar;
+
+    // Pencarian live tabel
+    private TextField searchField;
+    private Label searchLatencyLabel;
 
     public MahasiswaView() {
         this.viewModel = new MahasiswaViewModel();
@@ -84,15 +98,12 @@ public class MahasiswaView extends BorderPane {
         dosenWaliComboBox.setConverter(new StringConverter<Dosen>() {
             @Override
             public String toString(Dosen dosen) {
-                return dosen != null ? dosen.getNama() + " (" + dosen.getNpp() + ")" : "";
+                return viewModel.getDosenDisplayText(dosen);
             }
 
             @Override
             public Dosen fromString(String string) {
-                return dosenWaliComboBox.getItems().stream()
-                    .filter(dosen -> toString(dosen).equals(string))
-                    .findFirst()
-                    .orElse(null);
+                return viewModel.findDosenByDisplayText(string);
             }
         });
 
@@ -112,6 +123,18 @@ public class MahasiswaView extends BorderPane {
         refreshButton = new Button("↻ Refresh");
         refreshButton.getStyleClass().addAll("btn", "btn-outline");
 
+        importButton = new Button("📥 Import CSV");
+        importButton.getStyleClass().addAll("btn", "btn-outline");
+
+        exportButton = new Button("📤 Export");
+        exportButton.getStyleClass().addAll("btn", "btn-outline");
+
+        cancelTransferButton = new Button("✖ Batal");
+        cancelTransferButton.getStyleClass().addAll("btn", "btn-outline");
+
+        transferProgressBar = new ProgressBar();
+        transferProgressBar.setPrefWidth(150);
+
         // Status components
         validationLabel = new Label();
         validationLabel.getStyleClass().add("validation-message");
@@ -121,6 +144,15 @@ public class MahasiswaView extends BorderPane {
         loadingIndicator.setPrefSize(24, 24);
         loadingIndicator.setVisible(false);
 
+        // Search
+        searchField = new TextField();
+        searchField.setPromptText("🔍 Cari NIM atau nama...");
+        searchField.getStyleClass().add("search-field");
+        searchField.setPrefWidth(220);
+
+        searchLatencyLabel = new Label();
+        searchLatencyLabel.getStyleClass().add("field-helper");
+
         // Table
         setupTable();
     }
@@ -130,25 +162,25 @@ public class MahasiswaView extends BorderPane {
         mahasiswaTable.getStyleClass().add("data-table");
 
         // NIM Column
-        TableColumn<Mahasiswa, String> nimColumn = new TableColumn<>("NIM");
+        TableColumn<MahasiswaRow, String> nimColumn = new TableColumn<>("NIM");
         nimColumn.setCellValueFactory(new PropertyValueFactory<>("nim"));
         nimColumn.setPrefWidth(120);
 
         // Nama Column
-        TableColumn<Mahasiswa, String> namaColumn = new TableColumn<>("Nama Mahasiswa");
+        TableColumn<MahasiswaRow, String> namaColumn = new TableColumn<>("Nama Mahasiswa");
         namaColumn.setCellValueFactory(new PropertyValueFactory<>("nama"));
         namaColumn.setPrefWidth(200);
 
         // Gender Column
-        TableColumn<Mahasiswa, String> genderColumn = new TableColumn<>("Gender");
+        TableColumn<MahasiswaRow, String> genderColumn = new TableColumn<>("Gender");
         genderColumn.setCellValueFactory(new PropertyValueFactory<>("gender"));
         genderColumn.setPrefWidth(100);
 
         // IPK Column with custom formatting
-        TableColumn<Mahasiswa, Double> ipkColumn = new TableColumn<>("IPK");
+        TableColumn<MahasiswaRow, Double> ipkColumn = new TableColumn<>("IPK");
         ipkColumn.setCellValueFactory(new PropertyValueFactory<>("ipk"));
         ipkColumn.setPrefWidth(80);
-        ipkColumn.setCellFactory(column -> new TableCell<Mahasiswa, Double>() {
+        ipkColumn.setCellFactory(column -> new TableCell<MahasiswaRow, Double>() {
             @Override
             protected void updateItem(Double item, boolean empty) {
                 super.updateItem(item, empty);
@@ -161,11 +193,17 @@ public class MahasiswaView extends BorderPane {
         });
 
         // Dosen Wali Column
-        TableColumn<Mahasiswa, String> dosenWaliColumn = new TableColumn<>("Dosen Wali");
-        dosenWaliColumn.setCellValueFactory(new PropertyValueFactory<>("dosenWali"));
+        TableColumn<MahasiswaRow, String> dosenWaliColumn = new TableColumn<>("Dosen Wali");
+        dosenWaliColumn.setCellValueFactory(new PropertyValueFactory<>("dosenWaliNama"));
         dosenWaliColumn.setPrefWidth(150);
 
         mahasiswaTable.getColumns().addAll(nimColumn, namaColumn, genderColumn, ipkColumn, dosenWaliColumn);
+
+        // Data dimuat lazy per blok dengan urutan dari database (nama, NIM),
+        // jadi sorting di sisi TableView dimatikan
+        for (TableColumn<MahasiswaRow, ?> column : mahasiswaTable.getColumns()) {
+            column.setSortable(false);
+        }
         mahasiswaTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
     }
 
@@ -261,7 +299,7 @@ public class MahasiswaView extends BorderPane {
         tableSection.getStyleClass().add("table-section");
 
         // Table header
-        HBox tableHeader = new HBox();
+        HBox tableHeader = new HBox(10);
         tableHeader.setAlignment(Pos.CENTER_LEFT);
 
         Label tableTitle = new Label("📋 Daftar Mahasiswa");
@@ -270,7 +308,9 @@ public class MahasiswaView extends BorderPane {
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
-        tableHeader.getChildren().addAll(tableTitle, spacer, refreshButton);
+        tableHeader.getChildren().addAll(tableTitle, searchField, searchLatencyLabel, spacer,
+            transferProgressBar, cancelTransferButton,
+            importButton, exportButton, refreshButton);
 
         // Table
         VBox.setVgrow(mahasiswaTable, Priority.ALWAYS);
@@ -316,21 +356,42 @@ public class MahasiswaView extends BorderPane {
         });
 
         viewModel.dosenWaliProperty().addListener((obs, oldVal, newVal) -> {
-            Dosen selectedDosen = viewModel.getDosenList().stream()
-                .filter(dosen -> dosen.getNpp().equals(newVal))
-                .findFirst()
-                .orElse(null);
-            dosenWaliComboBox.setValue(selectedDosen);
+            dosenWaliComboBox.setValue(viewModel.findDosenByNpp(newVal));
         });
 
-        // Bind table data
+        // Bind table data: daftar lengkap, atau hasil pencarian live selama field pencarian terisi
         mahasiswaTable.setItems(viewModel.getMahasiswaList());
+        searchField.textProperty().bindBidirectional(viewModel.searchQueryProperty());
+        viewModel.getSearchResults().comparatorProperty().bind(mahasiswaTable.comparatorProperty());
+        // Daftar lengkap dimuat lazy tanpa sorting; hasil pencarian (sedikit baris) boleh diurutkan per kolom
+        for (TableColumn<MahasiswaRow, ?> column : mahasiswaTable.getColumns()) {
+            column.sortableProperty().bind(viewModel.searchActiveProperty());
+        }
+        viewModel.searchActiveProperty().addListener((obs, oldVal, newVal) -> {
+            mahasiswaTable.getSortOrder().clear();
+            mahasiswaTable.setItems(newVal ? viewModel.getSearchResults() : viewModel.getMahasiswaList());
+        });
+
+        // Latensi pencarian terakhir: proses ketikan di FX thread dan query sampai hasil tampil
+        searchLatencyLabel.textProperty().bind(Bindings.format("⏱ ketik %.1f ms, query %.1f ms (maks %.1f ms)",
+            viewModel.searchKeystrokeLatencyProperty(), viewModel.searchQueryLatencyProperty(),
+            viewModel.searchMaxQueryLatencyProperty()));
+        searchLatencyLabel.visibleProperty().bind(viewModel.searchActiveProperty());
 
         // Bind button states
         saveButton.disableProperty().bind(viewModel.canSaveProperty().not());
         updateButton.disableProperty().bind(viewModel.canUpdateProperty().not());
         deleteButton.disableProperty().bind(viewModel.canDeleteProperty().not());
 
+        // Import/export: progress bar dan tombol batal hanya tampil selama import/export berjalan
+        transferProgressBar.progressProperty().bind(viewModel.transferProgressProperty());
+        transferProgressBar.visibleProperty().bind(viewModel.isTransferringProperty());
+        transferProgressBar.managedProperty().bind(viewModel.isTransferringProperty());
+        cancelTransferButton.visibleProperty().bind(viewModel.isTransferringProperty());
+        cancelTransferButton.managedProperty().bind(viewModel.isTransferringProperty());
+        importButton.disableProperty().bind(viewModel.isTransferringProperty());
+        exportButton.disableProperty().bind(viewModel.isTransferringProperty());
+
         // Bind loading indicator
         loadingIndicator.visibleProperty().bind(viewModel.isLoadingProperty());
 
@@ -350,13 +411,16 @@ public class MahasiswaView extends BorderPane {
 
         // Bind NIM field editability
         nimField.editableProperty().bind(viewModel.isEditingProperty().not());
+
+        // Autocomplete NIM: memilih saran memuat mahasiswa tersebut ke form
+        new SuggestionPopup(nimField, viewModel.getNimSuggestions(), viewModel::selectNimSuggestion);
     }
 
     private void setupEventHandlers() {
         // Table selection
         mahasiswaTable.getSelectionModel().selectedItemProperty().addListener(
             (observable, oldValue, newValue) -> {
-                viewModel.selectMahasiswa(newValue);
+                viewModel.selectRow(newValue);
             }
         );
 
@@ -373,12 +437,46 @@ public class MahasiswaView extends BorderPane {
             mahasiswaTable.getSelectionModel().clearSelection();
         });
         refreshButton.setOnAction(e -> viewModel.refreshCommand());
+        importButton.setOnAction(e -> viewModel.importCsvCommand(chooseCsvFile()));
+        exportButton.setOnAction(e -> chooseExportFile());
+        cancelTransferButton.setOnAction(e -> viewModel.cancelTransferCommand());
     }
 
     private void setupStyling() {
         getStyleClass().add("mahasiswa-view");
     }
 
+    /**
+     * Pilih file CSV untuk diimport
+     * @return file yang dipilih, atau null jika dibatalkan
+     */
+    private File chooseCsvFile() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Import Mahasiswa dari CSV");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV (nim,nama,gender,ipk,dosen_wali)", "*.csv"));
+        return fileChooser.showOpenDialog(getScene().getWindow());
+    }
+
+    /**
+     * Pilih file tujuan export; format mengikuti filter yang dipilih di dialog
+     */
+    private void chooseExportFile() {
+        FileChooser.ExtensionFilter csvFilter = new FileChooser.ExtensionFilter("CSV", "*.csv");
+        FileChooser.ExtensionFilter jsonlFilter = new FileChooser.ExtensionFilter("JSON Lines", "*.jsonl");
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Mahasiswa");
+        fileChooser.getExtensionFilters().addAll(csvFilter, jsonlFilter);
+        fileChooser.setInitialFileName("mahasiswa.csv");
+
+        File file = fileChooser.showSaveDialog(getScene().getWindow());
+        if (file != null) {
+            viewModel.exportCommand(file, fileChooser.getSelectedExtensionFilter() == jsonlFilter
+                ? MahasiswaExporter.Format.JSONL
+                : MahasiswaExporter.Format.CSV);
+        }
+    }
+
     /**
      * Show delete confirmation dialog
      */
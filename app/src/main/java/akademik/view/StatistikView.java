@@ -0,0 +1,247 @@
+package akademik.view;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.*;
+import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.*;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.PrestasiKategori;
+import akademik.viewmodel.StatistikViewModel;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * View panel statistik IPK (dashboard)
+ * Semua angka berasal dari query agregasi; tabel berisi satu baris per kelompok
+ */
+public class StatistikView extends BorderPane {
+
+    // ViewModel instance
+    private final StatistikViewModel viewModel;
+
+    // Components
+    private Label ringkasanLabel;
+    private Label statusLabel;
+    private ProgressIndicator loadingIndicator;
+    private Button refreshButton;
+    private BarChart<String, Number> histogramChart;
+    private TableView<IpkStatistik> perDosenWaliTable;
+    private TableView<IpkStatistik> perGenderTable;
+    private TableView<IpkStatistik> perKategoriTable;
+
+    public StatistikView() {
+        // Initialize ViewModel
+        this.viewModel = new StatistikViewModel();
+
+        initializeComponents();
+        setupLayout();
+        setupPropertyBindings();
+        setupStyling();
+    }
+
+    private void initializeComponents() {
+        ringkasanLabel = new Label();
+        ringkasanLabel.getStyleClass().add("stats-label");
+
+        statusLabel = new Label();
+        statusLabel.getStyleClass().addAll("validation-message", "validation-error");
+        statusLabel.setWrapText(true);
+
+        loadingIndicator = new ProgressIndicator();
+        loadingIndicator.setPrefSize(24, 24);
+        loadingIndicator.setVisible(false);
+
+        refreshButton = new Button("↻ Refresh");
+        refreshButton.getStyleClass().addAll("btn", "btn-outline");
+
+        // Histogram IPK
+        CategoryAxis xAxis = new CategoryAxis();
+        xAxis.setLabel("IPK");
+        NumberAxis yAxis = new NumberAxis();
+        yAxis.setLabel("Jumlah Mahasiswa");
+        histogramChart = new BarChart<>(xAxis, yAxis);
+        histogramChart.setLegendVisible(false);
+        histogramChart.setAnimated(false);
+        histogramChart.setCategoryGap(2);
+        histogramChart.setPrefHeight(260);
+
+        // Tables
+        perKategoriTable = createStatistikTable("Kategori", false);
+        perGenderTable = createStatistikTable("Gender", false);
+        perDosenWaliTable = createStatistikTable("Dosen Wali", true);
+    }
+
+    /**
+     * Buat tabel statistik: kelompok, jumlah, rata-rata, min, max
+     * @param kelompokTitle judul kolom kelompok
+     * @param withKategori tambahkan satu kolom jumlah per kategori prestasi
+     */
+    private TableView<IpkStatistik> createStatistikTable(String kelompokTitle, boolean withKategori) {
+        TableView<IpkStatistik> table = new TableView<>();
+        table.getStyleClass().add("data-table");
+
+        TableColumn<IpkStatistik, String> labelColumn = new TableColumn<>(kelompokTitle);
+        labelColumn.setCellValueFactory(new PropertyValueFactory<>("label"));
+        labelColumn.setPrefWidth(180);
+
+        TableColumn<IpkStatistik, Integer> jumlahColumn = new TableColumn<>("Jumlah");
+        jumlahColumn.setCellValueFactory(new PropertyValueFactory<>("jumlah"));
+
+        table.getColumns().add(labelColumn);
+        table.getColumns().add(jumlahColumn);
+        table.getColumns().add(createIpkColumn("Rata-rata", "rataRata"));
+        table.getColumns().add(createIpkColumn("Min", "minimum"));
+        table.getColumns().add(createIpkColumn("Max", "maksimum"));
+
+        if (withKategori) {
+            for (PrestasiKategori kategori : PrestasiKategori.values()) {
+                TableColumn<IpkStatistik, Integer> kategoriColumn = new TableColumn<>(kategori.getLabel());
+                kategoriColumn.setCellValueFactory(data ->
+                    new ReadOnlyObjectWrapper<>(data.getValue().getJumlah(kategori)));
+                table.getColumns().add(kategoriColumn);
+            }
+        }
+
+        // Urutan sudah ditentukan query
+        for (TableColumn<IpkStatistik, ?> column : table.getColumns()) {
+            column.setSortable(false);
+        }
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        return table;
+    }
+
+    private TableColumn<IpkStatistik, Double> createIpkColumn(String title, String property) {
+        TableColumn<IpkStatistik, Double> column = new TableColumn<>(title);
+        column.setCellValueFactory(new PropertyValueFactory<>(property));
+        column.setCellFactory(col -> new TableCell<IpkStatistik, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(String.format("%.2f", item));
+                }
+            }
+        });
+        return column;
+    }
+
+    private void setupLayout() {
+        // Header
+        HBox header = new HBox(15);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        Label title = new Label("📊 Statistik IPK");
+        title.getStyleClass().add("section-title");
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+
+        header.getChildren().addAll(title, ringkasanLabel, spacer, loadingIndicator, refreshButton);
+
+        // Histogram + kategori + gender
+        VBox ringkasanTables = new VBox(10, createSection("Per Kategori Prestasi", perKategoriTable),
+            createSection("Per Gender", perGenderTable));
+        HBox.setHgrow(histogramChart, Priority.ALWAYS);
+        HBox.setHgrow(ringkasanTables, Priority.ALWAYS);
+        HBox topRow = new HBox(20, histogramChart, ringkasanTables);
+
+        // Per dosen wali
+        VBox dosenSection = createSection("Per Dosen Wali", perDosenWaliTable);
+        VBox.setVgrow(dosenSection, Priority.ALWAYS);
+
+        VBox content = new VBox(15, header, statusLabel, topRow, dosenSection);
+        content.setPadding(new Insets(20));
+        content.getStyleClass().add("table-section");
+
+        setCenter(content);
+    }
+
+    private VBox createSection(String title, TableView<IpkStatistik> table) {
+        Label label = new Label(title);
+        label.getStyleClass().add("field-label");
+        VBox.setVgrow(table, Priority.ALWAYS);
+        return new VBox(5, label, table);
+    }
+
+    /**
+     * Setup property bindings antara View dan ViewModel
+     */
+    private void setupPropertyBindings() {
+        perDosenWaliTable.setItems(viewModel.getPerDosenWali());
+        perGenderTable.setItems(viewModel.getPerGender());
+        perKategoriTable.setItems(viewModel.getPerKategori());
+
+        ringkasanLabel.textProperty().bind(viewModel.ringkasanProperty());
+        loadingIndicator.visibleProperty().bind(viewModel.isLoadingProperty());
+        refreshButton.disableProperty().bind(viewModel.isLoadingProperty());
+
+        statusLabel.textProperty().bind(viewModel.statusMessageProperty());
+        statusLabel.visibleProperty().bind(viewModel.hasErrorProperty());
+        statusLabel.managedProperty().bind(viewModel.hasErrorProperty());
+
+        // Histogram digambar ulang setiap kali hasil query baru masuk atau kelompok lain dipilih
+        histogramChart.titleProperty().bind(viewModel.histogramTitleProperty());
+        viewModel.getHistogram().addListener((ListChangeListener<IpkHistogramBucket>) change -> updateHistogram());
+        updateHistogram();
+
+        // Memilih baris di salah satu tabel menampilkan histogram kelompok tersebut
+        for (TableView<IpkStatistik> table : statistikTables()) {
+            table.getSelectionModel().selectedItemProperty().addListener(
+                (obs, oldVal, newVal) -> onKelompokSelected(table, newVal));
+        }
+
+        refreshButton.setOnAction(e -> viewModel.refreshCommand());
+    }
+
+    private void onKelompokSelected(TableView<IpkStatistik> source, IpkStatistik selected) {
+        if (selected == null) {
+            // Kembali ke semua mahasiswa hanya jika tidak ada tabel lain yang masih dipilih
+            for (TableView<IpkStatistik> table : statistikTables()) {
+                if (table.getSelectionModel().getSelectedItem() != null) {
+                    return;
+                }
+            }
+            viewModel.selectHistogramCommand(null);
+            return;
+        }
+
+        // Hanya satu kelompok yang dipilih di antara ketiga tabel
+        for (TableView<IpkStatistik> table : statistikTables()) {
+            if (table != source) {
+                table.getSelectionModel().clearSelection();
+            }
+        }
+        viewModel.selectHistogramCommand(selected);
+    }
+
+    private List<TableView<IpkStatistik>> statistikTables() {
+        return List.of(perKategoriTable, perGenderTable, perDosenWaliTable);
+    }
+
+    private void updateHistogram() {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        for (IpkHistogramBucket bucket : viewModel.getHistogram()) {
+            series.getData().add(new XYChart.Data<>(bucket.getLabel(), bucket.getJumlah()));
+        }
+        histogramChart.getData().setAll(Collections.singletonList(series));
+    }
+
+    private void setupStyling() {
+        getStyleClass().add("statistik-view");
+    }
+
+    public StatistikViewModel getViewModel() {
+        return viewModel;
+    }
+}
@@ -0,0 +1,63 @@
+package akademik.view;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+import akademik.model.KeySuggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Popup autocomplete di bawah TextField yang menampilkan daftar saran dari ViewModel
+ * Popup mengikuti isi list saran: tampil saat ada saran dan field sedang fokus, tertutup saat list kosong
+ */
+public class SuggestionPopup {
+
+    private final TextField field;
+    private final ObservableList<KeySuggestion> suggestions;
+    private final Consumer<KeySuggestion> onSelected;
+    private final ContextMenu menu = new ContextMenu();
+
+    /**
+     * @param field field yang diberi autocomplete
+     * @param suggestions saran dari ViewModel
+     * @param onSelected dipanggil saat user memilih saran
+     */
+    public SuggestionPopup(TextField field, ObservableList<KeySuggestion> suggestions, Consumer<KeySuggestion> onSelected) {
+        this.field = field;
+        this.suggestions = suggestions;
+        this.onSelected = onSelected;
+
+        menu.getStyleClass().add("suggestion-popup");
+        suggestions.addListener((ListChangeListener<KeySuggestion>) change -> update());
+        field.focusedProperty().addListener((obs, oldVal, newVal) -> {
+            if (!newVal) {
+                menu.hide();
+            }
+        });
+    }
+
+    private void update() {
+        if (suggestions.isEmpty() || !field.isFocused()) {
+            menu.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>(suggestions.size());
+        for (KeySuggestion suggestion : suggestions) {
+            MenuItem item = new MenuItem(suggestion.toString());
+            item.setOnAction(e -> onSelected.accept(suggestion));
+            items.add(item);
+        }
+        menu.getItems().setAll(items);
+
+        if (!menu.isShowing()) {
+            menu.show(field, Side.BOTTOM, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package akademik.viewmodel;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Menjalankan pekerjaan DAO di thread background dengan javafx.concurrent.Task
+ * Callback sukses/gagal selalu dijalankan di FX Application Thread.
+ *
+ * Pekerjaan bisa diberi key: pekerjaan baru dengan key yang sama membatalkan
+ * pekerjaan lama (misalnya reload yang sudah usang), sehingga hasil lama tidak
+ * pernah menimpa hasil baru. Method submit/cancel harus dipanggil dari FX Application Thread
+ */
+public class BackgroundTaskRunner {
+
+    // Thread pool bersama untuk semua ViewModel; daemon supaya tidak menahan aplikasi saat ditutup
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Math.max(2, Runtime.getRuntime().availableProcessors() / 2), new DaemonThreadFactory());
+
+    private final Map<String, Task<?>> latestByKey = new HashMap<>();
+    private final ReadOnlyIntegerWrapper inFlight = new ReadOnlyIntegerWrapper(0);
+    private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(false);
+
+    public BackgroundTaskRunner() {
+        running.bind(inFlight.greaterThan(0));
+    }
+
+    /**
+     * Jalankan pekerjaan di background
+     * @param work pekerjaan yang memanggil DAO
+     * @param onSuccess dipanggil dengan hasil pekerjaan di FX Application Thread
+     * @param onError dipanggil dengan exception di FX Application Thread
+     * @return task yang sedang berjalan
+     */
+    public <T> Task<T> submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return submit(null, work, onSuccess, onError);
+    }
+
+    /**
+     * Jalankan pekerjaan di background dan batalkan pekerjaan sebelumnya dengan key yang sama
+     * Pekerjaan yang dibatalkan tetap selesai di background, tetapi callback-nya tidak dipanggil
+     * @param key key pekerjaan, null jika tidak boleh dibatalkan oleh pekerjaan lain
+     * @param work pekerjaan yang memanggil DAO
+     * @param onSuccess dipanggil dengan hasil pekerjaan di FX Application Thread
+     * @param onError dipanggil dengan exception di FX Application Thread
+     * @return task yang sedang berjalan
+     */
+    public <T> Task<T> submit(String key, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+
+        return start(key, task, onSuccess, onError);
+    }
+
+    /**
+     * Jalankan pekerjaan panjang yang melaporkan progress
+     * Progress bisa diikuti lewat progressProperty() task yang dikembalikan
+     * @param key key pekerjaan, null jika tidak boleh dibatalkan oleh pekerjaan lain
+     * @param work pekerjaan yang menerima pelapor progress
+     * @param onSuccess dipanggil dengan hasil pekerjaan di FX Application Thread
+     * @param onError dipanggil dengan exception di FX Application Thread
+     * @return task yang sedang berjalan
+     */
+    public <T> Task<T> submitWithProgress(String key, ProgressWork<T> work,
+                                          Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return submitWithProgress(key, work, onSuccess, onError, () -> { });
+    }
+
+    /**
+     * Jalankan pekerjaan panjang yang melaporkan progress dan bisa dibatalkan
+     * State task menjadi CANCELLED segera setelah cancel, padahal pekerjaannya baru berhenti
+     * pada laporan progress berikutnya. onCancelled baru dipanggil setelah pekerjaan benar-benar
+     * berhenti (atau tidak pernah dimulai), sehingga aman untuk memuat ulang data di sana
+     * @param key key pekerjaan, null jika tidak boleh dibatalkan oleh pekerjaan lain
+     * @param work pekerjaan yang menerima pelapor progress
+     * @param onSuccess dipanggil dengan hasil pekerjaan di FX Application Thread
+     * @param onError dipanggil dengan exception di FX Application Thread
+     * @param onCancelled dipanggil tepat sekali di FX Application Thread setelah pekerjaan yang dibatalkan berhenti
+     * @return task yang sedang berjalan
+     */
+    public <T> Task<T> submitWithProgress(String key, ProgressWork<T> work, Consumer<T> onSuccess,
+                                          Consumer<Throwable> onError, Runnable onCancelled) {
+        CancelNotifier notifier = new CancelNotifier(onCancelled);
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                if (!notifier.started.compareAndSet(false, true)) {
+                    // Sudah dibatalkan sebelum mulai dan onCancelled sudah dijadwalkan
+                    return null;
+                }
+                try {
+                    // updateProgress aman dipanggil dari thread mana pun dan digabung per pulse FX
+                    return work.call((workDone, max) -> {
+                        updateProgress(workDone, max);
+                        return !isCancelled();
+                    });
+                } finally {
+                    Platform.runLater(notifier::workStopped);
+                }
+            }
+        };
+        task.setOnCancelled(e -> notifier.taskCancelled());
+
+        return start(key, task, onSuccess, onError);
+    }
+
+    private <T> Task<T> start(String key, Task<T> task, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        task.setOnSucceeded(e -> onSuccess.accept(task.getValue()));
+        task.setOnFailed(e -> onError.accept(task.getException()));
+
+        // In-flight dihitung sampai task selesai, gagal, atau dibatalkan (masing-masing tepat sekali)
+        inFlight.set(inFlight.get() + 1);
+        task.stateProperty().addListener((obs, oldState, newState) -> {
+            if (isFinished(newState)) {
+                inFlight.set(inFlight.get() - 1);
+                if (key != null && latestByKey.get(key) == task) {
+                    latestByKey.remove(key);
+                }
+            }
+        });
+
+        if (key != null) {
+            Task<?> superseded = latestByKey.put(key, task);
+            if (superseded != null) {
+                superseded.cancel(false);
+            }
+        }
+
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Batalkan pekerjaan dengan key tertentu jika masih berjalan
+     * @param key key pekerjaan
+     */
+    public void cancel(String key) {
+        Task<?> task = latestByKey.remove(key);
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * @return true selama masih ada pekerjaan yang belum selesai
+     */
+    public ReadOnlyBooleanProperty runningProperty() {
+        return running.getReadOnlyProperty();
+    }
+
+    /**
+     * @return jumlah pekerjaan yang belum selesai
+     */
+    public ReadOnlyIntegerProperty inFlightProperty() {
+        return inFlight.getReadOnlyProperty();
+    }
+
+    private static boolean isFinished(Worker.State state) {
+        return state == Worker.State.SUCCEEDED
+            || state == Worker.State.FAILED
+            || state == Worker.State.CANCELLED;
+    }
+
+    /**
+     * Pekerjaan background yang melaporkan progress
+     */
+    @FunctionalInterface
+    public interface ProgressWork<T> {
+        T call(ProgressReporter progress) throws Exception;
+    }
+
+    /**
+     * Pelapor progress untuk ProgressWork
+     */
+    @FunctionalInterface
+    public interface ProgressReporter {
+        /**
+         * @param workDone jumlah pekerjaan yang sudah selesai
+         * @param max jumlah seluruh pekerjaan
+         * @return false jika task sudah dibatalkan dan pekerjaan sebaiknya berhenti
+         */
+        boolean report(long workDone, long max);
+    }
+
+    /**
+     * Menunda callback pembatalan sampai task sudah CANCELLED dan pekerjaannya sudah berhenti
+     * Kedua kejadian bisa datang dengan urutan apa pun; semua method selain started dipanggil di FX Application Thread
+     */
+    private static class CancelNotifier {
+        final AtomicBoolean started = new AtomicBoolean();
+        private final Runnable onCancelled;
+        private boolean cancelled;
+        private boolean stopped;
+        private boolean notified;
+
+        CancelNotifier(Runnable onCancelled) {
+            this.onCancelled = onCancelled;
+        }
+
+        void taskCancelled() {
+            cancelled = true;
+            // Task yang dibatalkan sebelum dijalankan executor tidak akan pernah memanggil workStopped
+            if (started.compareAndSet(false, true)) {
+                stopped = true;
+            }
+            notifyIfDone();
+        }
+
+        void workStopped() {
+            stopped = true;
+            notifyIfDone();
+        }
+
+        private void notifyIfDone() {
+            if (cancelled && stopped && !notified) {
+                notified = true;
+                onCancelled.run();
+            }
+        }
+    }
+
+    /**
+     * Thread factory untuk thread daemon dengan nama yang mudah dikenali di thread dump
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "viewmodel-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
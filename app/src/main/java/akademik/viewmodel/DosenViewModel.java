@@ -1,17 +1,34 @@
 package akademik.viewmodel;
 
+import akademik.dao.DAOFactory;
+import akademik.dao.DataSnapshot;
 import akademik.dao.DosenDAO;
-import akademik.dao.DosenDAOImpl;
+import akademik.dao.DuplicateKeyException;
+import akademik.io.CsvImporter;
+import akademik.io.ImportReport;
 import akademik.model.Dosen;
+import akademik.model.KeySuggestion;
+import akademik.store.RadixTree;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ViewModel untuk mengelola data Dosen Mengimplementasikan pola MVVM dengan
@@ -20,12 +37,33 @@ import javafx.collections.ObservableList;
 
 public class DosenViewModel {
 
+    // Key untuk reload daftar dosen; reload baru membatalkan reload lama
+    private static final String LOAD_DOSEN = "load-dosen";
+    // Key untuk import CSV; hanya satu import yang berjalan pada satu waktu
+    private static final String IMPORT_CSV = "import-csv";
+    // Key untuk query pencarian live; query baru membatalkan query lama
+    private static final String SEARCH_DOSEN = "search-dosen";
+    // Jumlah maksimum saran autocomplete NPP
+    private static final int MAX_NPP_SUGGESTIONS = 8;
+    // Jumlah maksimum hasil pencarian live (NPP dan nama digabung)
+    private static final int SEARCH_LIMIT = 100;
+
     // DAO untuk database operations
     private final DosenDAO dosenDAO;
 
+    // Semua pemanggilan DAO berjalan di background lewat runner ini
+    private final BackgroundTaskRunner taskRunner = new BackgroundTaskRunner();
+
     // Observable list untuk table binding
     private final ObservableList<Dosen> dosenList;
 
+    // Index NPP -> nama untuk autocomplete dan peringatan NPP duplikat
+    private final RadixTree<String> nppIndex;
+    private final ObservableList<KeySuggestion> nppSuggestions = FXCollections.observableArrayList();
+
+    // Pencarian live tabel berdasarkan awalan NPP atau kata di nama
+    private final LiveSearch<Dosen> search;
+
     // Properties untuk form binding
     private final StringProperty npp = new SimpleStringProperty("");
     private final StringProperty nama = new SimpleStringProperty("");
@@ -37,6 +75,8 @@ public class DosenViewModel {
     private final BooleanProperty isLoading = new SimpleBooleanProperty(false);
     private final StringProperty statusMessage = new SimpleStringProperty("");
     private final BooleanProperty hasError = new SimpleBooleanProperty(false);
+    private final BooleanProperty isImporting = new SimpleBooleanProperty(false);
+    private final DoubleProperty importProgress = new SimpleDoubleProperty(0.0);
 
     // Computed properties untuk button states
     private final BooleanProperty canSave = new SimpleBooleanProperty();
@@ -44,8 +84,14 @@ public class DosenViewModel {
     private final BooleanProperty canDelete = new SimpleBooleanProperty();
 
     public DosenViewModel() {
-        this.dosenDAO = new DosenDAOImpl();
+        this.dosenDAO = DAOFactory.getDosenDAO();
+        this.nppIndex = DAOFactory.getNppIndex();
         this.dosenList = FXCollections.observableArrayList();
+        this.search = new LiveSearch<>(taskRunner, SEARCH_DOSEN, this::searchDosen,
+            DosenViewModel::matchesSearch, e -> setError("Error mencari dosen: " + e.getMessage()));
+
+        // isLoading aktif selama masih ada query yang berjalan
+        isLoading.bind(taskRunner.runningProperty());
 
         setupComputedProperties();
         setupPropertyListeners();
@@ -94,49 +140,51 @@ public class DosenViewModel {
                 setError("NPP minimal 3 karakter");
             }
         });
+
+        // Autocomplete NPP dan peringatan duplikat langsung dari index in-memory, tanpa query
+        npp.addListener((obs, oldVal, newVal) -> updateNppSuggestions(newVal));
+        isEditing.addListener((obs, oldVal, newVal) -> {
+            if (newVal) {
+                nppSuggestions.clear();
+            }
+        });
     }
 
     // === COMMAND METHODS (Actions) ===
 
     /**
      * Command untuk menyimpan dosen baru
+     * Query berjalan di background; form dan status diupdate setelah selesai
      */
     public void saveCommand() {
         if (!canSave.get()) {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            // Validate input
-            if (!validateInput()) {
-                return;
-            }
-
-            // Check for duplicate NPP
-            if (dosenDAO.existsByNpp(npp.get())) {
-                setError("NPP " + npp.get() + " sudah ada dalam database");
-                return;
-            }
+        // Validate input
+        if (!validateInput()) {
+            return;
+        }
 
-            // Create and save new dosen
-            Dosen newDosen = new Dosen(npp.get().trim(), nama.get().trim(),
-                    noHp.get().trim().isEmpty() ? null : noHp.get().trim());
+        // Create new dosen (dibuat di FX thread, hanya dibaca oleh thread background)
+        Dosen newDosen = new Dosen(npp.get().trim(), nama.get().trim(),
+                noHp.get().trim().isEmpty() ? null : noHp.get().trim());
 
+        setLoading();
+        taskRunner.submit(() -> {
+            // Insert-or-fail: duplikat NPP terdeteksi oleh statement INSERT itu sendiri
             dosenDAO.save(newDosen);
-
+            return null;
+        }, result -> {
             // Reload data and clear form
             loadAllDosen();
             clearForm();
             setSuccess("Data dosen berhasil disimpan!");
-
-        } catch (Exception e) {
-            setError("Error menyimpan data: " + e.getMessage());
-        } finally {
-            setLoading(false);
-        }
+        }, e -> setError(e instanceof DuplicateKeyException
+            ? e.getMessage()
+            : "Error menyimpan data: " + e.getMessage()));
     }
 
     /**
@@ -147,32 +195,27 @@ public class DosenViewModel {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            // Validate input
-            if (!validateInput()) {
-                return;
-            }
+        // Validate input
+        if (!validateInput()) {
+            return;
+        }
 
-            // Update dosen data
-            Dosen dosenToUpdate = selectedDosen.get();
-            dosenToUpdate.setNama(nama.get().trim());
-            dosenToUpdate.setNoHp(noHp.get().trim().isEmpty() ? null : noHp.get().trim());
+        // Object baru, supaya item di tabel tidak berubah sebelum update benar-benar berhasil
+        Dosen dosenToUpdate = new Dosen(selectedDosen.get().getNpp(), nama.get().trim(),
+                noHp.get().trim().isEmpty() ? null : noHp.get().trim());
 
+        setLoading();
+        taskRunner.submit(() -> {
             dosenDAO.update(dosenToUpdate);
-
+            return null;
+        }, result -> {
             // Reload data and clear form
             loadAllDosen();
             clearForm();
             setSuccess("Data dosen berhasil diupdate!");
-
-        } catch (Exception e) {
-            setError("Error mengupdate data: " + e.getMessage());
-        } finally {
-            setLoading(false);
-        }
+        }, e -> setError("Error mengupdate data: " + e.getMessage()));
     }
 
     /**
@@ -183,42 +226,130 @@ public class DosenViewModel {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            dosenDAO.delete(selectedDosen.get().getNpp());
+        String nppToDelete = selectedDosen.get().getNpp();
 
+        setLoading();
+        taskRunner.submit(() -> {
+            dosenDAO.delete(nppToDelete);
+            return null;
+        }, result -> {
             // Reload data and clear form
             loadAllDosen();
             clearForm();
             setSuccess("Data dosen berhasil dihapus!");
+        }, e -> setError("Error menghapus data: " + e.getMessage()));
+    }
 
-        } catch (Exception e) {
-            setError("Error menghapus data: " + e.getMessage());
-        } finally {
-            setLoading(false);
+    /**
+     * Command untuk import file CSV dosen (lihat CsvImporter untuk format header)
+     * Baris yang tidak valid dilewati dan dilaporkan di status; baris yang valid tetap disimpan
+     * @param file file CSV yang dipilih user
+     */
+    public void importCsvCommand(File file) {
+        if (file == null || isImporting.get()) {
+            return;
         }
+
+        clearError();
+        isImporting.set(true);
+        statusMessage.set("Import " + file.getName() + "...");
+
+        Task<ImportReport> task = taskRunner.submitWithProgress(IMPORT_CSV,
+            progress -> CsvImporter.forDosen(dosenDAO, false).importFile(file.toPath(), progress::report),
+            report -> {
+                finishImport();
+                loadAllDosen();
+                String message = "Import selesai: " + report;
+                if (report.hasErrors()) {
+                    setError(message + ". " + report.getErrors().get(0));
+                } else {
+                    setSuccess(message);
+                }
+            }, e -> {
+                finishImport();
+                setError("Error import CSV: " + e.getMessage());
+            });
+        importProgress.bind(task.progressProperty());
+    }
+
+    /**
+     * Pilih saran autocomplete NPP: dosen tersebut dimuat ke form untuk diedit
+     * @param suggestion saran yang dipilih user
+     */
+    public void selectNppSuggestion(KeySuggestion suggestion) {
+        if (suggestion == null) {
+            return;
+        }
+
+        nppSuggestions.clear();
+        taskRunner.submit(() -> dosenDAO.findByNpp(suggestion.getKey()), dosen -> {
+            if (dosen != null) {
+                selectDosen(dosen);
+            } else {
+                setError("Data dosen dengan NPP " + suggestion.getKey() + " tidak ditemukan");
+            }
+        }, e -> setError("Error memuat data dosen: " + e.getMessage()));
     }
 
     // === PRIVATE HELPER METHODS ===
 
     /**
-     * Load semua data dosen dari database
+     * Isi saran NPP dengan NPP yang sudah ada dan berawalan teks di field
+     * Hanya saat input dosen baru; NPP yang persis sama langsung diberi peringatan duplikat
      */
-    public void loadAllDosen() {
-        setLoading(true);
-
-        try {
-            dosenList.clear();
-            dosenList.addAll(dosenDAO.findAll());
-        } catch (Exception e) {
-            setError("Error loading data: " + e.getMessage());
-        } finally {
-            setLoading(false);
+    private void updateNppSuggestions(String text) {
+        String prefix = text != null ? text.trim() : "";
+        if (isEditing.get() || prefix.isEmpty()) {
+            nppSuggestions.clear();
+            return;
+        }
+
+        List<KeySuggestion> suggestions = new ArrayList<>();
+        for (Map.Entry<String, String> entry : nppIndex.complete(prefix, MAX_NPP_SUGGESTIONS)) {
+            suggestions.add(new KeySuggestion(entry.getKey(), entry.getValue()));
+        }
+        nppSuggestions.setAll(suggestions);
+
+        String existing = nppIndex.get(prefix);
+        if (existing != null) {
+            setError("NPP " + prefix + " sudah terdaftar atas nama " + existing);
         }
     }
 
+    /**
+     * Load semua data dosen dari database di background
+     * Reload yang lebih baru membatalkan reload yang masih berjalan
+     */
+    public void loadAllDosen() {
+        taskRunner.submit(LOAD_DOSEN, this::findAllDosen, result -> {
+            // Hanya baris yang berubah yang di-add/remove/set, selection di tabel tetap
+            ListReconciler.reconcile(dosenList, result, Dosen::getNpp, Dosen::hasSameData);
+        }, e -> setError("Error loading data: " + e.getMessage()));
+        search.rerun();
+    }
+
+    /**
+     * Query pencarian live (thread background): NPP berawalan teks lalu nama yang cocok,
+     * dalam satu query DAO
+     */
+    private List<Dosen> searchDosen(String text) {
+        return dosenDAO.search(text, SEARCH_LIMIT);
+    }
+
+    private static boolean matchesSearch(Dosen dosen, String text) {
+        return dosen.getNpp().startsWith(text) || LiveSearch.matchesWordPrefixes(dosen.getNama(), text);
+    }
+
+    /**
+     * Daftar dosen dari snapshot selama masih sama dengan database, selain itu dari DAO
+     */
+    private List<Dosen> findAllDosen() {
+        DataSnapshot snapshot = DAOFactory.getCurrentSnapshot();
+        return snapshot != null ? snapshot.getDosen() : dosenDAO.findAll();
+    }
+
     /**
      * Clear form fields dan reset state
      */
@@ -253,14 +384,20 @@ public class DosenViewModel {
     }
 
     /**
-     * Set loading state
+     * Set loading message (isLoading sendiri mengikuti pekerjaan yang sedang berjalan)
      */
-    private void setLoading(boolean loading) {
-        isLoading.set(loading);
-        if (loading) {
-            statusMessage.set("Loading...");
-            hasError.set(false);
-        }
+    private void setLoading() {
+        statusMessage.set("Loading...");
+        hasError.set(false);
+    }
+
+    /**
+     * Reset state import setelah import selesai atau gagal
+     */
+    private void finishImport() {
+        importProgress.unbind();
+        importProgress.set(0.0);
+        isImporting.set(false);
     }
 
     /**
@@ -269,7 +406,6 @@ public class DosenViewModel {
     private void setError(String message) {
         statusMessage.set(message);
         hasError.set(true);
-        isLoading.set(false);
     }
 
     /**
@@ -278,7 +414,6 @@ public class DosenViewModel {
     private void setSuccess(String message) {
         statusMessage.set(message);
         hasError.set(false);
-        isLoading.set(false);
     }
 
     /**
@@ -295,6 +430,37 @@ public class DosenViewModel {
         return dosenList;
     }
 
+    public ObservableList<KeySuggestion> getNppSuggestions() {
+        return nppSuggestions;
+    }
+
+    /**
+     * Hasil pencarian live untuk tabel selama searchActiveProperty() true
+     */
+    public SortedList<Dosen> getSearchResults() {
+        return search.getResults();
+    }
+
+    public StringProperty searchQueryProperty() {
+        return search.queryProperty();
+    }
+
+    public ReadOnlyBooleanProperty searchActiveProperty() {
+        return search.activeProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchKeystrokeLatencyProperty() {
+        return search.keystrokeLatencyProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchQueryLatencyProperty() {
+        return search.queryLatencyProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchMaxQueryLatencyProperty() {
+        return search.maxQueryLatencyProperty();
+    }
+
     public StringProperty nppProperty() {
         return npp;
     }
@@ -319,6 +485,14 @@ public class DosenViewModel {
         return isLoading;
     }
 
+    public BooleanProperty isImportingProperty() {
+        return isImporting;
+    }
+
+    public DoubleProperty importProgressProperty() {
+        return importProgress;
+    }
+
     public StringProperty statusMessageProperty() {
         return statusMessage;
     }
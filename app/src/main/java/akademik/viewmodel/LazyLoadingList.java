@@ -0,0 +1,282 @@
+package akademik.viewmodel;
+
+import akademik.dao.Page;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * ObservableList read-only yang memuat data dari DAO per blok saat dibutuhkan
+ * Dipakai sebagai items TableView untuk tabel besar: hanya blok yang terlihat
+ * (plus beberapa blok terakhir dalam LRU window) yang disimpan di memori.
+ *
+ * Baris yang bloknya belum dimuat dikembalikan sebagai null; begitu blok selesai
+ * dimuat di background, list mengirim change event sehingga TableView menggambar ulang.
+ * Semua method harus dipanggil dari FX Application Thread
+ */
+public class LazyLoadingList<T> extends ObservableListBase<T> {
+
+    /**
+     * Sumber data per blok
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        /**
+         * Ambil satu blok data. Dipanggil dari thread background
+         * @param cursor cursor keyset ke awal blok jika diketahui, null jika harus memakai offset
+         * @param offset posisi baris pertama blok
+         * @param limit ukuran blok
+         * @return halaman berisi data blok dan cursor ke blok berikutnya
+         */
+        Page<T> fetch(String cursor, int offset, int limit);
+    }
+
+    private final IntSupplier counter;
+    private final PageSource<T> source;
+    private final BiPredicate<T, T> sameData;
+    private final int blockSize;
+
+    // Blok yang sedang dimuat, urut dari yang paling lama tidak diakses (LRU)
+    private final Map<Integer, List<T>> blocks;
+    // Cursor ke awal blok; tetap disimpan setelah blok di-evict supaya reload bisa seek
+    private final Map<Integer, String> cursors = new HashMap<>();
+    private final Set<Integer> pending = new HashSet<>();
+    // Blok dari sebelum refresh: tetap ditampilkan sampai versi barunya selesai dimuat
+    private final Set<Integer> stale = new HashSet<>();
+
+    private final Executor loader;
+    // Menjalankan hasil pemuatan di FX Application Thread
+    private final Executor fxThread;
+
+    private Consumer<Throwable> onLoadError = e -> { };
+    private int size;
+    private int generation;
+    private int lastIndex;
+    private int direction = 1;
+
+    /**
+     * @param counter penghitung jumlah total baris
+     * @param source sumber data per blok
+     * @param sameData true jika dua item memiliki key dan data yang sama (untuk diff saat reload)
+     * @param blockSize jumlah baris per blok
+     * @param maxBlocks jumlah maksimum blok di memori (LRU window)
+     */
+    public LazyLoadingList(IntSupplier counter, PageSource<T> source, BiPredicate<T, T> sameData,
+                           int blockSize, int maxBlocks) {
+        this(counter, source, sameData, blockSize, maxBlocks, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lazy-list-loader");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Constructor dengan executor sendiri, untuk test tanpa FX toolkit
+     * @param loader executor untuk query DAO
+     * @param fxThread executor yang menerapkan hasil ke list
+     */
+    LazyLoadingList(IntSupplier counter, PageSource<T> source, BiPredicate<T, T> sameData,
+                    int blockSize, int maxBlocks, Executor loader, Executor fxThread) {
+        if (blockSize < 1 || maxBlocks < 2) {
+            throw new IllegalArgumentException("Ukuran blok minimal 1 dan jumlah blok minimal 2");
+        }
+
+        this.counter = counter;
+        this.source = source;
+        this.sameData = sameData;
+        this.blockSize = blockSize;
+        this.loader = loader;
+        this.fxThread = fxThread;
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                // Blok yang di-evict tidak perlu change event: isinya dimuat ulang saat diminta lagi
+                if (size() > maxBlocks) {
+                    stale.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " di luar ukuran " + size);
+        }
+
+        // Arah scroll menentukan blok mana yang di-prefetch
+        if (index != lastIndex) {
+            direction = index > lastIndex ? 1 : -1;
+            lastIndex = index;
+        }
+
+        int block = index / blockSize;
+        List<T> items = blocks.get(block);
+
+        requestBlock(block);
+        requestBlock(block + direction);
+
+        int offset = index - block * blockSize;
+        return items != null && offset < items.size() ? items.get(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Hitung ulang jumlah baris dan muat ulang blok yang sedang dipakai
+     * Data lama tetap tampil sampai blok penggantinya selesai dimuat
+     */
+    public void refresh() {
+        int requestGeneration = ++generation;
+        pending.clear();
+
+        loader.execute(() -> {
+            try {
+                int count = counter.getAsInt();
+                fxThread.execute(() -> applyCount(requestGeneration, count));
+            } catch (RuntimeException e) {
+                fxThread.execute(() -> onLoadError.accept(e));
+            }
+        });
+    }
+
+    /**
+     * Set handler untuk error saat memuat data (dipanggil di FX Application Thread)
+     * @param onLoadError handler error
+     */
+    public void setOnLoadError(Consumer<Throwable> onLoadError) {
+        this.onLoadError = onLoadError != null ? onLoadError : e -> { };
+    }
+
+    /**
+     * @return jumlah blok yang sedang disimpan di memori
+     */
+    public int getLoadedBlockCount() {
+        return blocks.size();
+    }
+
+    private void applyCount(int requestGeneration, int count) {
+        if (requestGeneration != generation) {
+            return;
+        }
+
+        int oldSize = size;
+        List<T> removed = new ArrayList<>();
+        for (int i = count; i < oldSize; i++) {
+            removed.add(peek(i));
+        }
+
+        size = count;
+        cursors.clear();
+        blocks.keySet().removeIf(block -> block * blockSize >= count);
+        stale.clear();
+        stale.addAll(blocks.keySet());
+
+        beginChange();
+        if (count > oldSize) {
+            nextAdd(oldSize, count);
+        } else if (count < oldSize) {
+            nextRemove(count, removed);
+        }
+        endChange();
+
+        // Muat ulang blok yang masih ada di window, mulai dari yang terakhir diakses
+        List<Integer> reload = new ArrayList<>(blocks.keySet());
+        Collections.reverse(reload);
+        reload.forEach(this::requestBlock);
+    }
+
+    private void requestBlock(int block) {
+        int offset = block * blockSize;
+        if (block < 0 || offset >= size || pending.contains(block)
+                || (blocks.containsKey(block) && !stale.contains(block))) {
+            return;
+        }
+
+        int requestGeneration = generation;
+        String cursor = cursors.get(block);
+        pending.add(block);
+
+        loader.execute(() -> {
+            try {
+                Page<T> page = source.fetch(cursor, offset, blockSize);
+                fxThread.execute(() -> applyBlock(requestGeneration, block, page));
+            } catch (RuntimeException e) {
+                fxThread.execute(() -> {
+                    if (requestGeneration == generation) {
+                        pending.remove(block);
+                        onLoadError.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    private void applyBlock(int requestGeneration, int block, Page<T> page) {
+        if (requestGeneration != generation) {
+            return;
+        }
+
+        int from = block * blockSize;
+        int to = Math.min(size, from + blockSize);
+        List<T> previous = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            previous.add(peek(i));
+        }
+
+        pending.remove(block);
+        stale.remove(block);
+        blocks.put(block, page.getItems());
+        if (page.hasNext()) {
+            cursors.put(block + 1, page.getNextCursor());
+        }
+
+        // Diff per baris: hanya rentang yang isinya berubah yang dikirim sebagai replace,
+        // sehingga reload setelah update satu mahasiswa hanya menggambar ulang satu baris
+        beginChange();
+        int runStart = -1;
+        for (int i = from; i <= to; i++) {
+            boolean changed = i < to && !isSame(previous.get(i - from), peek(i));
+            if (changed && runStart < 0) {
+                runStart = i;
+            } else if (!changed && runStart >= 0) {
+                nextReplace(runStart, i, previous.subList(runStart - from, i - from));
+                runStart = -1;
+            }
+        }
+        endChange();
+    }
+
+    private boolean isSame(T previous, T current) {
+        return previous == current || (previous != null && current != null && sameData.test(previous, current));
+    }
+
+    /**
+     * Ambil item yang sudah dimuat tanpa memicu pemuatan blok
+     */
+    private T peek(int index) {
+        int block = index / blockSize;
+        List<T> items = blocks.get(block);
+        int offset = index - block * blockSize;
+        return items != null && offset < items.size() ? items.get(offset) : null;
+    }
+}
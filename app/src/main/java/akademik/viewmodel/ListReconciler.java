@@ -0,0 +1,138 @@
+package akademik.viewmodel;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Menyamakan isi list (biasanya ObservableList yang dipakai TableView) dengan hasil query baru
+ * tanpa clear() + addAll(). Item dicocokkan berdasarkan key (NIM/NPP), lalu hanya baris yang
+ * benar-benar berubah yang di-remove, di-add, atau di-set, sehingga TableView hanya
+ * menggambar ulang baris tersebut dan selection tetap bertahan.
+ *
+ * Setiap perubahan dijalankan langsung ke target sebagai satu operasi list; untuk satu baris
+ * yang disimpan/diubah/dihapus hasilnya adalah satu change event.
+ * Posisi item yang berpindah dicari lewat map key -> posisi yang dibuat sekali per reconcile,
+ * sehingga urutan yang berubah total tidak membuat pencarian O(n^2) di FX thread
+ */
+public final class ListReconciler {
+
+    private ListReconciler() {
+    }
+
+    /**
+     * @param target list yang akan diubah (urutan akhirnya sama dengan fresh)
+     * @param fresh hasil query terbaru, key harus unik
+     * @param keyOf pengambil key item
+     * @param sameData true jika dua item dengan key sama juga memiliki data yang sama
+     * @return jumlah operasi add/remove/set yang dijalankan ke target
+     */
+    public static <T, K> int reconcile(List<T> target, List<T> fresh,
+                                       Function<T, K> keyOf, BiPredicate<T, T> sameData) {
+        int changes = 0;
+
+        // 1. Hapus item yang tidak ada lagi di hasil baru (dari belakang supaya index tetap valid)
+        Set<K> freshKeys = new HashSet<>();
+        for (T item : fresh) {
+            freshKeys.add(keyOf.apply(item));
+        }
+        for (int i = target.size() - 1; i >= 0; i--) {
+            if (!freshKeys.contains(keyOf.apply(target.get(i)))) {
+                target.remove(i);
+                changes++;
+            }
+        }
+
+        // Selama langkah 2, target selalu berisi i item yang sudah cocok diikuti item lama yang
+        // belum diproses dengan urutan aslinya. Index item lama = i + jumlah item lama yang
+        // belum diproses di depannya, dihitung dengan Fenwick tree atas posisi aslinya
+        Map<K, ArrayDeque<Integer>> positions = new HashMap<>();
+        for (int p = 0; p < target.size(); p++) {
+            positions.computeIfAbsent(keyOf.apply(target.get(p)), k -> new ArrayDeque<>()).add(p);
+        }
+        PendingItems pending = new PendingItems(target.size());
+
+        // 2. Samakan posisi demi posisi: set jika datanya berubah, pindahkan jika urutannya berubah
+        for (int i = 0; i < fresh.size(); i++) {
+            T item = fresh.get(i);
+            K key = keyOf.apply(item);
+
+            // Item di posisi ini pindah ke belakang: lepas sekarang, nanti ditambahkan di posisi barunya
+            if (i + 1 < target.size() && !Objects.equals(keyOf.apply(target.get(i)), key)
+                    && Objects.equals(keyOf.apply(target.get(i + 1)), key)) {
+                pending.remove(positions.get(keyOf.apply(target.get(i))).poll());
+                target.remove(i);
+                changes++;
+            }
+
+            if (i < target.size() && Objects.equals(keyOf.apply(target.get(i)), key)) {
+                pending.remove(positions.get(key).poll());
+                if (!sameData.test(target.get(i), item)) {
+                    target.set(i, item);
+                    changes++;
+                }
+                continue;
+            }
+
+            // Item yang berpindah posisi (misalnya nama diubah) dicari di sisa list
+            ArrayDeque<Integer> existing = positions.get(key);
+            if (existing != null && !existing.isEmpty()) {
+                int position = existing.poll();
+                target.remove(i + pending.countBefore(position));
+                pending.remove(position);
+                changes++;
+            }
+            target.add(i, item);
+            changes++;
+        }
+
+        // 3. Sisa item di belakang (hanya terjadi jika target berisi key ganda)
+        while (target.size() > fresh.size()) {
+            target.remove(target.size() - 1);
+            changes++;
+        }
+
+        return changes;
+    }
+
+    /**
+     * Fenwick tree penanda item lama yang belum diproses, per posisi aslinya
+     */
+    private static final class PendingItems {
+        private final int[] tree;
+
+        PendingItems(int size) {
+            tree = new int[size + 1];
+            for (int i = 1; i <= size; i++) {
+                tree[i]++;
+                int parent = i + (i & -i);
+                if (parent <= size) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        void remove(int position) {
+            for (int i = position + 1; i < tree.length; i += i & -i) {
+                tree[i]--;
+            }
+        }
+
+        /**
+         * @return jumlah item lama yang belum diproses dengan posisi asli sebelum position
+         */
+        int countBefore(int position) {
+            int count = 0;
+            for (int i = position; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+    }
+}
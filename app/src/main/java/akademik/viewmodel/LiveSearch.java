@@ -0,0 +1,231 @@
+package akademik.viewmodel;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pencarian live untuk tabel: teks pencarian -> query DAO di background -> FilteredList -> SortedList
+ *
+ * Setiap ketikan langsung menyaring hasil sebelumnya di FX thread (FilteredList), sehingga tabel
+ * bereaksi tanpa menunggu database. Query DAO baru dijalankan setelah user berhenti mengetik selama
+ * DEBOUNCE. Setiap ketikan membatalkan query yang sedang berjalan, dan hasil yang tiba untuk teks
+ * selain teks pencarian saat ini dibuang, sehingga hasil yang usang tidak pernah menimpa saringan teks baru.
+ *
+ * Latensi diterbitkan lewat property: waktu proses satu ketikan di FX thread dan waktu query
+ * (dari query dijalankan sampai hasil tampil). Nilai di atas LATENCY_BUDGET_MILLIS dicatat ke console.
+ * Semua method harus dipanggil dari FX Application Thread
+ * @param <T> tipe baris tabel
+ */
+public class LiveSearch<T> {
+
+    /**
+     * Jeda setelah ketikan terakhir sebelum query dijalankan
+     */
+    public static final Duration DEBOUNCE = Duration.millis(200);
+
+    /**
+     * Batas latensi per ketikan dan per query yang masih dianggap responsif
+     */
+    public static final double LATENCY_BUDGET_MILLIS = 50.0;
+
+    private final BackgroundTaskRunner taskRunner;
+    private final String taskKey;
+    private final Function<String, List<T>> search;
+    private final BiPredicate<T, String> matcher;
+    private final Consumer<Throwable> onError;
+
+    private final StringProperty query = new SimpleStringProperty("");
+    private final ReadOnlyBooleanWrapper active = new ReadOnlyBooleanWrapper(false);
+    private final ReadOnlyDoubleWrapper keystrokeLatency = new ReadOnlyDoubleWrapper(0.0);
+    private final ReadOnlyDoubleWrapper queryLatency = new ReadOnlyDoubleWrapper(0.0);
+    private final ReadOnlyDoubleWrapper maxQueryLatency = new ReadOnlyDoubleWrapper(0.0);
+
+    // Pipeline hasil: hasil query DAO -> saring lokal per ketikan -> urutan kolom tabel
+    private final ObservableList<T> results = FXCollections.observableArrayList();
+    private final FilteredList<T> filteredResults = new FilteredList<>(results);
+    private final SortedList<T> sortedResults = new SortedList<>(filteredResults);
+
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE);
+
+    /**
+     * @param taskRunner runner untuk query di background
+     * @param taskKey key pekerjaan; query baru membatalkan query lama dengan key yang sama
+     * @param search query DAO untuk satu teks pencarian, dipanggil di thread background
+     * @param matcher saringan lokal: apakah baris cocok dengan teks pencarian (tanpa akses database)
+     * @param onError dipanggil jika query gagal
+     */
+    public LiveSearch(BackgroundTaskRunner taskRunner, String taskKey, Function<String, List<T>> search,
+                      BiPredicate<T, String> matcher, Consumer<Throwable> onError) {
+        this.taskRunner = taskRunner;
+        this.taskKey = taskKey;
+        this.search = search;
+        this.matcher = matcher;
+        this.onError = onError;
+
+        debounce.setOnFinished(e -> runQuery());
+        query.addListener((obs, oldVal, newVal) -> onQueryChanged(newVal));
+    }
+
+    /**
+     * Jalankan ulang query yang sedang aktif (misalnya setelah data disimpan atau dihapus)
+     */
+    public void rerun() {
+        if (active.get()) {
+            debounce.stop();
+            runQuery();
+        }
+    }
+
+    /**
+     * Kosongkan teks pencarian dan kembali ke tabel penuh
+     */
+    public void clear() {
+        query.set("");
+    }
+
+    private void onQueryChanged(String text) {
+        long start = System.nanoTime();
+        String trimmed = text != null ? text.trim() : "";
+
+        if (trimmed.isEmpty()) {
+            debounce.stop();
+            taskRunner.cancel(taskKey);
+            results.clear();
+            active.set(false);
+        } else {
+            active.set(true);
+            // Query untuk teks lama tidak berguna lagi; query baru baru dijalankan setelah debounce
+            taskRunner.cancel(taskKey);
+            // Hasil query sebelumnya langsung disaring dengan teks baru; query DAO menyusul setelah debounce
+            filteredResults.setPredicate(row -> matcher.test(row, trimmed));
+            debounce.playFromStart();
+        }
+
+        publish(keystrokeLatency, "ketikan", start);
+    }
+
+    private void runQuery() {
+        String text = query.get().trim();
+        if (text.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        taskRunner.submit(taskKey, () -> search.apply(text), found -> {
+            // Task yang sudah selesai tidak bisa dibatalkan lagi: callback-nya bisa tiba setelah teks berubah
+            if (!text.equals(query.get().trim())) {
+                return;
+            }
+            // Hasil DAO sudah sesuai teks ini; saringan lokal baru dipakai lagi saat ketikan berikutnya
+            filteredResults.setPredicate(null);
+            results.setAll(found);
+            publish(queryLatency, "query \"" + text + "\"", start);
+            if (queryLatency.get() > maxQueryLatency.get()) {
+                maxQueryLatency.set(queryLatency.get());
+            }
+        }, onError);
+    }
+
+    private static void publish(ReadOnlyDoubleWrapper latency, String label, long start) {
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        latency.set(millis);
+        if (millis > LATENCY_BUDGET_MILLIS) {
+            System.out.printf("⚠️ Live search %s: %.1f ms (batas %.0f ms)%n", label, millis, LATENCY_BUDGET_MILLIS);
+        }
+    }
+
+    /**
+     * Saringan lokal dengan aturan yang sama seperti pencarian full-text nama:
+     * setiap kata pencarian harus menjadi awalan salah satu kata di value, tanpa membedakan huruf besar/kecil
+     * @param value nilai yang dicek, misalnya nama
+     * @param text teks pencarian
+     * @return true jika semua kata cocok
+     */
+    public static boolean matchesWordPrefixes(String value, String text) {
+        if (value == null) {
+            return false;
+        }
+
+        String[] words = value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        for (String searchWord : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (searchWord.isEmpty()) {
+                continue;
+            }
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(searchWord)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // === PROPERTY GETTERS FOR BINDING ===
+
+    /**
+     * Teks pencarian; di-bind ke field pencarian di View
+     */
+    public StringProperty queryProperty() {
+        return query;
+    }
+
+    /**
+     * @return true selama teks pencarian tidak kosong (tabel menampilkan getResults())
+     */
+    public ReadOnlyBooleanProperty activeProperty() {
+        return active.getReadOnlyProperty();
+    }
+
+    /**
+     * Hasil pencarian untuk tabel; comparatorProperty() di-bind ke comparator TableView supaya bisa diurutkan per kolom
+     */
+    public SortedList<T> getResults() {
+        return sortedResults;
+    }
+
+    /**
+     * @return waktu proses ketikan terakhir di FX thread, dalam milidetik
+     */
+    public ReadOnlyDoubleProperty keystrokeLatencyProperty() {
+        return keystrokeLatency.getReadOnlyProperty();
+    }
+
+    /**
+     * @return waktu query terakhir dari dijalankan sampai hasil tampil (tanpa debounce), dalam milidetik
+     */
+    public ReadOnlyDoubleProperty queryLatencyProperty() {
+        return queryLatency.getReadOnlyProperty();
+    }
+
+    /**
+     * @return waktu query terlama sejak ViewModel dibuat, dalam milidetik
+     */
+    public ReadOnlyDoubleProperty maxQueryLatencyProperty() {
+        return maxQueryLatency.getReadOnlyProperty();
+    }
+
+    public boolean isActive() {
+        return active.get();
+    }
+}
@@ -1,22 +1,41 @@
 package akademik.viewmodel;
 
+import akademik.dao.DAOFactory;
+import akademik.dao.DataSnapshot;
 import akademik.dao.MahasiswaDAO;
-import akademik.dao.MahasiswaDAOImpl;
 import akademik.dao.DosenDAO;
-import akademik.dao.DosenDAOImpl;
+import akademik.dao.DuplicateKeyException;
+import akademik.dao.Page;
+import akademik.io.CsvImporter;
+import akademik.io.ImportReport;
+import akademik.io.MahasiswaExporter;
+import akademik.model.KeySuggestion;
 import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
 import akademik.model.Dosen;
+import akademik.store.RadixTree;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * ViewModel untuk mengelola data Mahasiswa
@@ -24,14 +43,47 @@ import javafx.collections.ObservableList;
  */
 public class MahasiswaViewModel {
 
+    // Key untuk reload daftar dosen; reload baru membatalkan reload lama
+    private static final String LOAD_DOSEN = "load-dosen";
+    // Key untuk import/export file; hanya satu yang berjalan pada satu waktu
+    private static final String FILE_TRANSFER = "file-transfer";
+    // Key untuk query pencarian live; query baru membatalkan query lama
+    private static final String SEARCH_MAHASISWA = "search-mahasiswa";
+
     // DAO instances
     private final MahasiswaDAO mahasiswaDAO;
     private final DosenDAO dosenDAO;
 
+    // Semua pemanggilan DAO dari command berjalan di background lewat runner ini
+    private final BackgroundTaskRunner taskRunner = new BackgroundTaskRunner();
+
+    // Ukuran blok dan LRU window untuk tabel mahasiswa yang dimuat secara lazy
+    private static final int PAGE_BLOCK_SIZE = 200;
+    private static final int MAX_LOADED_BLOCKS = 20;
+
+    // Jumlah maksimum saran autocomplete NIM
+    private static final int MAX_NIM_SUGGESTIONS = 8;
+
+    // Jumlah maksimum hasil pencarian live (NIM dan nama digabung)
+    private static final int SEARCH_LIMIT = 100;
+
     // Observable lists
-    private final ObservableList<Mahasiswa> mahasiswaList;
+    // Baris tabel sudah berisi nama dosen wali (satu query JOIN per blok)
+    private final LazyLoadingList<MahasiswaRow> mahasiswaList;
     private final ObservableList<Dosen> dosenList;
 
+    // Index dosenList berdasarkan NPP dan teks tampilan, diupdate dari change event dosenList
+    private final Map<String, Dosen> dosenByNpp = new HashMap<>();
+    private final Map<String, String> dosenDisplayTextByNpp = new HashMap<>();
+    private final Map<String, Dosen> dosenByDisplayText = new HashMap<>();
+
+    // Index NIM -> nama untuk autocomplete dan peringatan NIM duplikat
+    private final RadixTree<String> nimIndex;
+    private final ObservableList<KeySuggestion> nimSuggestions = FXCollections.observableArrayList();
+
+    // Pencarian live tabel berdasarkan awalan NIM atau kata di nama
+    private final LiveSearch<MahasiswaRow> search;
+
     // Form properties
     private final StringProperty nim = new SimpleStringProperty("");
     private final StringProperty nama = new SimpleStringProperty("");
@@ -45,6 +97,8 @@ public class MahasiswaViewModel {
     private final BooleanProperty isLoading = new SimpleBooleanProperty(false);
     private final StringProperty statusMessage = new SimpleStringProperty("");
     private final BooleanProperty hasError = new SimpleBooleanProperty(false);
+    private final BooleanProperty isTransferring = new SimpleBooleanProperty(false);
+    private final DoubleProperty transferProgress = new SimpleDoubleProperty(0.0);
 
     // Computed properties
     private final BooleanProperty canSave = new SimpleBooleanProperty();
@@ -53,10 +107,22 @@ public class MahasiswaViewModel {
     private final StringProperty ipkText = new SimpleStringProperty("");
 
     public MahasiswaViewModel() {
-        this.mahasiswaDAO = new MahasiswaDAOImpl();
-        this.dosenDAO = new DosenDAOImpl();
-        this.mahasiswaList = FXCollections.observableArrayList();
+        this.mahasiswaDAO = DAOFactory.getMahasiswaDAO();
+        this.dosenDAO = DAOFactory.getDosenDAO();
+        this.nimIndex = DAOFactory.getNimIndex();
+        this.mahasiswaList = new LazyLoadingList<>(
+            this::countMahasiswa,
+            this::loadMahasiswaPage,
+            MahasiswaRow::hasSameData,
+            PAGE_BLOCK_SIZE, MAX_LOADED_BLOCKS);
+        this.mahasiswaList.setOnLoadError(e -> setError("Error loading mahasiswa data: " + e.getMessage()));
         this.dosenList = FXCollections.observableArrayList();
+        this.dosenList.addListener(this::updateDosenIndex);
+        this.search = new LiveSearch<>(taskRunner, SEARCH_MAHASISWA, this::searchMahasiswa,
+            MahasiswaViewModel::matchesSearch, e -> setError("Error mencari mahasiswa: " + e.getMessage()));
+
+        // isLoading aktif selama masih ada command/query yang berjalan
+        isLoading.bind(taskRunner.runningProperty());
 
         setupComputedProperties();
         setupPropertyListeners();
@@ -122,52 +188,48 @@ public class MahasiswaViewModel {
                 setError("IPK harus antara 0.0 - 4.0");
             }
         });
+
+        // Autocomplete NIM dan peringatan duplikat langsung dari index in-memory, tanpa query
+        nim.addListener((obs, oldVal, newVal) -> updateNimSuggestions(newVal));
+        isEditing.addListener((obs, oldVal, newVal) -> {
+            if (newVal) {
+                nimSuggestions.clear();
+            }
+        });
     }
 
     // === COMMAND METHODS ===
 
     /**
      * Command untuk menyimpan mahasiswa baru
+     * Query berjalan di background; form dan status diupdate setelah selesai
      */
     public void saveCommand() {
         if (!canSave.get()) {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            if (!validateInput()) {
-                return;
-            }
-
-            // Check duplicate NIM
-            if (mahasiswaDAO.existsByNim(nim.get())) {
-                setError("NIM " + nim.get() + " sudah ada dalam database");
-                return;
-            }
+        if (!validateInput()) {
+            return;
+        }
 
-            // Create new mahasiswa
-            Mahasiswa newMahasiswa = new Mahasiswa(
-                nim.get().trim(),
-                nama.get().trim(),
-                gender.get(),
-                ipk.get(),
-                dosenWali.get().isEmpty() ? null : dosenWali.get()
-            );
+        // Create new mahasiswa (dibuat di FX thread, hanya dibaca oleh thread background)
+        Mahasiswa newMahasiswa = createMahasiswaFromForm(nim.get().trim());
 
+        setLoading();
+        taskRunner.submit(() -> {
+            // Insert-or-fail: duplikat NIM terdeteksi oleh statement INSERT itu sendiri
             mahasiswaDAO.save(newMahasiswa);
-
+            return null;
+        }, result -> {
             loadAllMahasiswa();
             clearForm();
             setSuccess("Data mahasiswa berhasil disimpan!");
-
-        } catch (Exception e) {
-            setError("Error menyimpan data: " + e.getMessage());
-        } finally {
-            setLoading(false);
-        }
+        }, e -> setError(e instanceof DuplicateKeyException
+            ? e.getMessage()
+            : "Error menyimpan data: " + e.getMessage()));
     }
 
     /**
@@ -178,31 +240,24 @@ public class MahasiswaViewModel {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            if (!validateInput()) {
-                return;
-            }
+        if (!validateInput()) {
+            return;
+        }
 
-            Mahasiswa mahasiswaToUpdate = selectedMahasiswa.get();
-            mahasiswaToUpdate.setNama(nama.get().trim());
-            mahasiswaToUpdate.setGender(gender.get());
-            mahasiswaToUpdate.setIpk(ipk.get());
-            mahasiswaToUpdate.setDosenWali(dosenWali.get().isEmpty() ? null : dosenWali.get());
+        // Object baru, supaya item di tabel tidak berubah sebelum update benar-benar berhasil
+        Mahasiswa mahasiswaToUpdate = createMahasiswaFromForm(selectedMahasiswa.get().getNim());
 
+        setLoading();
+        taskRunner.submit(() -> {
             mahasiswaDAO.update(mahasiswaToUpdate);
-
+            return null;
+        }, result -> {
             loadAllMahasiswa();
             clearForm();
             setSuccess("Data mahasiswa berhasil diupdate!");
-
-        } catch (Exception e) {
-            setError("Error mengupdate data: " + e.getMessage());
-        } finally {
-            setLoading(false);
-        }
+        }, e -> setError("Error mengupdate data: " + e.getMessage()));
     }
 
     /**
@@ -213,21 +268,19 @@ public class MahasiswaViewModel {
             return;
         }
 
-        setLoading(true);
         clearError();
 
-        try {
-            mahasiswaDAO.delete(selectedMahasiswa.get().getNim());
+        String nimToDelete = selectedMahasiswa.get().getNim();
 
+        setLoading();
+        taskRunner.submit(() -> {
+            mahasiswaDAO.delete(nimToDelete);
+            return null;
+        }, result -> {
             loadAllMahasiswa();
             clearForm();
             setSuccess("Data mahasiswa berhasil dihapus!");
-
-        } catch (Exception e) {
-            setError("Error menghapus data: " + e.getMessage());
-        } finally {
-            setLoading(false);
-        }
+        }, e -> setError("Error menghapus data: " + e.getMessage()));
     }
 
     /**
@@ -238,6 +291,87 @@ public class MahasiswaViewModel {
         clearError();
     }
 
+    /**
+     * Command untuk import file CSV mahasiswa (lihat CsvImporter untuk format header)
+     * Baris yang tidak valid dilewati dan dilaporkan di status; baris yang valid tetap disimpan
+     * @param file file CSV yang dipilih user
+     */
+    public void importCsvCommand(File file) {
+        if (file == null || isTransferring.get()) {
+            return;
+        }
+
+        clearError();
+        isTransferring.set(true);
+        statusMessage.set("Import " + file.getName() + "...");
+
+        Task<ImportReport> task = taskRunner.submitWithProgress(FILE_TRANSFER,
+            progress -> CsvImporter.forMahasiswa(mahasiswaDAO, dosenDAO, false).importFile(file.toPath(), progress::report),
+            report -> {
+                finishTransfer();
+                loadAllMahasiswa();
+                String message = "Import selesai: " + report;
+                if (report.hasErrors()) {
+                    setError(message + ". " + report.getErrors().get(0));
+                } else {
+                    setSuccess(message);
+                }
+            }, e -> {
+                finishTransfer();
+                setError("Error import CSV: " + e.getMessage());
+            }, () -> {
+                // Chunk yang sudah di-commit sebelum importer berhenti tetap tersimpan
+                finishTransfer();
+                loadAllMahasiswa();
+                setError("Import dibatalkan");
+            });
+        transferProgress.bind(task.progressProperty());
+    }
+
+    /**
+     * Command untuk export seluruh mahasiswa (semua kolom) ke file
+     * Data dibaca langsung dari cursor database, tidak dimuat ke memori terlebih dulu
+     * @param file file tujuan yang dipilih user
+     * @param format format file
+     */
+    public void exportCommand(File file, MahasiswaExporter.Format format) {
+        if (file == null || isTransferring.get()) {
+            return;
+        }
+
+        clearError();
+        isTransferring.set(true);
+        statusMessage.set("Export " + file.getName() + "...");
+
+        Task<Integer> task = taskRunner.submitWithProgress(FILE_TRANSFER,
+            progress -> new MahasiswaExporter(mahasiswaDAO).export(file.toPath(), format, null, null, progress::report),
+            exported -> {
+                finishTransfer();
+                setSuccess(exported + " mahasiswa diexport ke " + file.getName());
+            }, e -> {
+                finishTransfer();
+                setError("Error export: " + e.getMessage());
+            }, () -> {
+                finishTransfer();
+                setError("Export dibatalkan");
+            });
+        transferProgress.bind(task.progressProperty());
+    }
+
+    /**
+     * Command untuk membatalkan import/export yang sedang berjalan
+     * Export yang dibatalkan tidak meninggalkan file; chunk import yang sudah tersimpan tetap ada
+     * isTransferring tetap true sampai pekerjaan benar-benar berhenti (lihat callback onCancelled)
+     */
+    public void cancelTransferCommand() {
+        if (!isTransferring.get()) {
+            return;
+        }
+
+        taskRunner.cancel(FILE_TRANSFER);
+        statusMessage.set("Membatalkan import/export...");
+    }
+
     /**
      * Command untuk refresh data
      */
@@ -246,6 +380,13 @@ public class MahasiswaViewModel {
         setSuccess("Data berhasil di-refresh!");
     }
 
+    /**
+     * Select baris tabel untuk editing
+     */
+    public void selectRow(MahasiswaRow row) {
+        selectMahasiswa(row != null ? row.toMahasiswa() : null);
+    }
+
     /**
      * Select mahasiswa untuk editing
      */
@@ -267,6 +408,25 @@ public class MahasiswaViewModel {
         clearError();
     }
 
+    /**
+     * Pilih saran autocomplete NIM: mahasiswa tersebut dimuat ke form untuk diedit
+     * @param suggestion saran yang dipilih user
+     */
+    public void selectNimSuggestion(KeySuggestion suggestion) {
+        if (suggestion == null) {
+            return;
+        }
+
+        nimSuggestions.clear();
+        taskRunner.submit(() -> mahasiswaDAO.findByNim(suggestion.getKey()), mahasiswa -> {
+            if (mahasiswa != null) {
+                selectMahasiswa(mahasiswa);
+            } else {
+                setError("Data mahasiswa dengan NIM " + suggestion.getKey() + " tidak ditemukan");
+            }
+        }, e -> setError("Error memuat data mahasiswa: " + e.getMessage()));
+    }
+
     /**
      * Set IPK from string (untuk TextField binding)
      */
@@ -291,27 +451,115 @@ public class MahasiswaViewModel {
     }
 
     private void loadAllMahasiswa() {
-        setLoading(true);
+        // Hanya jumlah baris dan blok yang sedang terlihat yang dimuat (di background)
+        mahasiswaList.refresh();
+        search.rerun();
+    }
 
-        try {
-            mahasiswaList.clear();
-            mahasiswaList.addAll(mahasiswaDAO.findAll());
-        } catch (Exception e) {
-            setError("Error loading mahasiswa data: " + e.getMessage());
-        } finally {
-            setLoading(false);
+    /**
+     * Isi saran NIM dengan NIM yang sudah ada dan berawalan teks di field
+     * Hanya saat input mahasiswa baru; NIM yang persis sama langsung diberi peringatan duplikat
+     */
+    private void updateNimSuggestions(String text) {
+        String prefix = text != null ? text.trim() : "";
+        if (isEditing.get() || prefix.isEmpty()) {
+            nimSuggestions.clear();
+            return;
+        }
+
+        List<KeySuggestion> suggestions = new ArrayList<>();
+        for (Map.Entry<String, String> entry : nimIndex.complete(prefix, MAX_NIM_SUGGESTIONS)) {
+            suggestions.add(new KeySuggestion(entry.getKey(), entry.getValue()));
+        }
+        nimSuggestions.setAll(suggestions);
+
+        String existing = nimIndex.get(prefix);
+        if (existing != null) {
+            setError("NIM " + prefix + " sudah terdaftar atas nama " + existing);
         }
     }
 
     private void loadAllDosen() {
-        try {
-            dosenList.clear();
-            dosenList.addAll(dosenDAO.findAll());
-        } catch (Exception e) {
-            setError("Error loading dosen data: " + e.getMessage());
+        taskRunner.submit(LOAD_DOSEN, this::findAllDosen, result -> {
+            // Hanya baris yang berubah yang di-add/remove/set, selection di tabel tetap
+            ListReconciler.reconcile(dosenList, result, Dosen::getNpp, Dosen::hasSameData);
+        }, e -> setError("Error loading dosen data: " + e.getMessage()));
+    }
+
+    // Selama snapshot masih sama dengan database, jumlah baris, blok tabel, dan daftar dosen
+    // dibaca dari snapshot (tanpa query); cursor dari snapshot tetap berlaku di MahasiswaDAO
+
+    private int countMahasiswa() {
+        DataSnapshot snapshot = DAOFactory.getCurrentSnapshot();
+        return snapshot != null ? snapshot.getMahasiswaCount() : mahasiswaDAO.count();
+    }
+
+    private Page<MahasiswaRow> loadMahasiswaPage(String cursor, int offset, int limit) {
+        DataSnapshot snapshot = DAOFactory.getCurrentSnapshot();
+        if (snapshot != null) {
+            return snapshot.findRowPageAt(offset, limit);
+        }
+        return cursor != null
+            ? mahasiswaDAO.findRowPage(cursor, limit)
+            : mahasiswaDAO.findRowPageAt(offset, limit);
+    }
+
+    /**
+     * Query pencarian live (thread background): NIM berawalan teks lalu nama yang cocok,
+     * beserta nama dosen wali, dalam satu query DAO
+     */
+    private List<MahasiswaRow> searchMahasiswa(String text) {
+        return mahasiswaDAO.searchRows(text, SEARCH_LIMIT);
+    }
+
+    private static boolean matchesSearch(MahasiswaRow row, String text) {
+        return row.getNim().startsWith(text) || LiveSearch.matchesWordPrefixes(row.getNama(), text);
+    }
+
+    private List<Dosen> findAllDosen() {
+        DataSnapshot snapshot = DAOFactory.getCurrentSnapshot();
+        return snapshot != null ? snapshot.getDosen() : dosenDAO.findAll();
+    }
+
+    /**
+     * Sinkronkan index NPP dan cache teks tampilan dengan perubahan dosenList
+     * Hanya item yang di-add/remove yang diproses, bukan seluruh list
+     */
+    private void updateDosenIndex(ListChangeListener.Change<? extends Dosen> change) {
+        while (change.next()) {
+            for (Dosen removed : change.getRemoved()) {
+                // remove(key, value): item pengganti dengan NPP sama mungkin sudah ditambahkan lebih dulu
+                if (dosenByNpp.remove(removed.getNpp(), removed)) {
+                    String displayText = dosenDisplayTextByNpp.remove(removed.getNpp());
+                    dosenByDisplayText.remove(displayText, removed);
+                }
+            }
+            for (Dosen added : change.getAddedSubList()) {
+                Dosen previous = dosenByNpp.put(added.getNpp(), added);
+                if (previous != null) {
+                    dosenByDisplayText.remove(dosenDisplayTextByNpp.get(added.getNpp()), previous);
+                }
+                String displayText = formatDosen(added);
+                dosenDisplayTextByNpp.put(added.getNpp(), displayText);
+                dosenByDisplayText.put(displayText, added);
+            }
         }
     }
 
+    private static String formatDosen(Dosen dosen) {
+        return dosen.getNama() + " (" + dosen.getNpp() + ")";
+    }
+
+    private Mahasiswa createMahasiswaFromForm(String nimValue) {
+        return new Mahasiswa(
+            nimValue,
+            nama.get().trim(),
+            gender.get(),
+            ipk.get(),
+            dosenWali.get().isEmpty() ? null : dosenWali.get()
+        );
+    }
+
     private void clearForm() {
         nim.set("");
         nama.set("");
@@ -351,24 +599,26 @@ public class MahasiswaViewModel {
         return true;
     }
 
-    private void setLoading(boolean loading) {
-        isLoading.set(loading);
-        if (loading) {
-            statusMessage.set("Loading...");
-            hasError.set(false);
-        }
+    // isLoading sendiri mengikuti pekerjaan background yang sedang berjalan
+    private void setLoading() {
+        statusMessage.set("Loading...");
+        hasError.set(false);
+    }
+
+    private void finishTransfer() {
+        transferProgress.unbind();
+        transferProgress.set(0.0);
+        isTransferring.set(false);
     }
 
     private void setError(String message) {
         statusMessage.set(message);
         hasError.set(true);
-        isLoading.set(false);
     }
 
     private void setSuccess(String message) {
         statusMessage.set(message);
         hasError.set(false);
-        isLoading.set(false);
     }
 
     private void clearError() {
@@ -378,9 +628,45 @@ public class MahasiswaViewModel {
         }
     }
 
+    // === DOSEN LOOKUP ===
+
+    /**
+     * Cari dosen di dosenList berdasarkan NPP tanpa menelusuri list
+     * @param npp NPP dosen
+     * @return dosen, atau null jika NPP kosong/tidak ada di list
+     */
+    public Dosen findDosenByNpp(String npp) {
+        return npp == null ? null : dosenByNpp.get(npp);
+    }
+
+    /**
+     * Teks tampilan dosen untuk combo box, "Nama (NPP)"
+     * Untuk item dosenList teks diambil dari cache, bukan diformat ulang
+     * @param dosen dosen yang ditampilkan
+     * @return teks tampilan, atau string kosong jika dosen null
+     */
+    public String getDosenDisplayText(Dosen dosen) {
+        if (dosen == null) {
+            return "";
+        }
+        if (dosenByNpp.get(dosen.getNpp()) == dosen) {
+            return dosenDisplayTextByNpp.get(dosen.getNpp());
+        }
+        return formatDosen(dosen);
+    }
+
+    /**
+     * Kebalikan dari getDosenDisplayText
+     * @param displayText teks tampilan "Nama (NPP)"
+     * @return dosen di dosenList dengan teks tersebut, atau null
+     */
+    public Dosen findDosenByDisplayText(String displayText) {
+        return displayText == null ? null : dosenByDisplayText.get(displayText);
+    }
+
     // === PROPERTY GETTERS FOR BINDING ===
 
-    public ObservableList<Mahasiswa> getMahasiswaList() {
+    public ObservableList<MahasiswaRow> getMahasiswaList() {
         return mahasiswaList;
     }
 
@@ -388,6 +674,37 @@ public class MahasiswaViewModel {
         return dosenList;
     }
 
+    public ObservableList<KeySuggestion> getNimSuggestions() {
+        return nimSuggestions;
+    }
+
+    /**
+     * Hasil pencarian live untuk tabel selama searchActiveProperty() true
+     */
+    public SortedList<MahasiswaRow> getSearchResults() {
+        return search.getResults();
+    }
+
+    public StringProperty searchQueryProperty() {
+        return search.queryProperty();
+    }
+
+    public ReadOnlyBooleanProperty searchActiveProperty() {
+        return search.activeProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchKeystrokeLatencyProperty() {
+        return search.keystrokeLatencyProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchQueryLatencyProperty() {
+        return search.queryLatencyProperty();
+    }
+
+    public ReadOnlyDoubleProperty searchMaxQueryLatencyProperty() {
+        return search.maxQueryLatencyProperty();
+    }
+
     public StringProperty nimProperty() {
         return nim;
     }
@@ -424,6 +741,14 @@ public class MahasiswaViewModel {
         return isLoading;
     }
 
+    public BooleanProperty isTransferringProperty() {
+        return isTransferring;
+    }
+
+    public DoubleProperty transferProgressProperty() {
+        return transferProgress;
+    }
+
     public StringProperty statusMessageProperty() {
         return statusMessage;
     }
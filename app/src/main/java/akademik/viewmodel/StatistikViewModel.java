@@ -0,0 +1,213 @@
+package akademik.viewmodel;
+
+import akademik.dao.DAOFactory;
+import akademik.dao.StatistikDAO;
+import akademik.model.IpkHistogram;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.RingkasanIpk;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ViewModel untuk panel statistik IPK
+ * Hanya memegang hasil agregasi (satu baris per kelompok), tidak pernah data per mahasiswa
+ */
+public class StatistikViewModel {
+
+    // Key untuk reload statistik; reload baru membatalkan reload lama
+    private static final String LOAD_STATISTIK = "load-statistik";
+
+    private final StatistikDAO statistikDAO;
+
+    // Semua query berjalan di background lewat runner ini
+    private final BackgroundTaskRunner taskRunner = new BackgroundTaskRunner();
+
+    // Observable lists
+    private final ObservableList<IpkStatistik> perDosenWali = FXCollections.observableArrayList();
+    private final ObservableList<IpkStatistik> perGender = FXCollections.observableArrayList();
+    private final ObservableList<IpkStatistik> perKategori = FXCollections.observableArrayList();
+    // Histogram yang ditampilkan: keseluruhan, atau kelompok yang dipilih lewat selectHistogramCommand
+    private final ObservableList<IpkHistogramBucket> histogram = FXCollections.observableArrayList();
+
+    // Histogram dari refresh terakhir, dipakai saat pilihan kelompok berubah tanpa query ulang
+    private StatistikData current;
+    private IpkStatistik selectedKelompok;
+
+    // UI state properties
+    private final StringProperty ringkasan = new SimpleStringProperty("");
+    private final StringProperty histogramTitle = new SimpleStringProperty("");
+    private final BooleanProperty isLoading = new SimpleBooleanProperty(false);
+    private final StringProperty statusMessage = new SimpleStringProperty("");
+    private final BooleanProperty hasError = new SimpleBooleanProperty(false);
+
+    public StatistikViewModel() {
+        this.statistikDAO = DAOFactory.getStatistikDAO();
+
+        // isLoading aktif selama masih ada query yang berjalan
+        isLoading.bind(taskRunner.runningProperty());
+
+        refreshCommand();
+    }
+
+    // === COMMAND METHODS ===
+
+    /**
+     * Command untuk menghitung ulang semua statistik
+     */
+    public void refreshCommand() {
+        taskRunner.submit(LOAD_STATISTIK, this::loadStatistik, data -> {
+            RingkasanIpk total = data.ringkasan;
+            ringkasan.set(total.getJumlah() == 0
+                ? "Belum ada data mahasiswa"
+                : String.format("%d mahasiswa, IPK rata-rata %.2f (simpangan baku %.2f)",
+                    total.getJumlah(), total.getRataRata(), total.getSimpanganBaku()));
+
+            // Baris tabel diganti, jadi pilihan kelompok lama tidak berlaku lagi
+            current = data;
+            selectedKelompok = null;
+            perDosenWali.setAll(data.perDosenWali);
+            perGender.setAll(data.perGender);
+            perKategori.setAll(data.perKategori);
+            showSelectedHistogram();
+
+            statusMessage.set("");
+            hasError.set(false);
+        }, e -> {
+            statusMessage.set("Error menghitung statistik: " + e.getMessage());
+            hasError.set(true);
+        });
+    }
+
+    /**
+     * Command untuk menampilkan histogram satu kelompok
+     * @param kelompok baris dari getPerDosenWali, getPerGender, atau getPerKategori; null untuk semua mahasiswa
+     */
+    public void selectHistogramCommand(IpkStatistik kelompok) {
+        selectedKelompok = kelompok;
+        showSelectedHistogram();
+    }
+
+    // === PRIVATE HELPER METHODS ===
+
+    private void showSelectedHistogram() {
+        if (current == null) {
+            return;
+        }
+
+        IpkHistogram selected = null;
+        if (selectedKelompok != null) {
+            selected = findHistogram(histogramSourceOf(selectedKelompok), selectedKelompok.getKelompok());
+        }
+
+        if (selected != null) {
+            histogram.setAll(selected.getBuckets());
+            histogramTitle.set("Histogram IPK: " + selected.getLabel());
+        } else {
+            histogram.setAll(current.histogram);
+            histogramTitle.set("Histogram IPK: semua mahasiswa");
+        }
+    }
+
+    /**
+     * Kelompok dikenali dari tabel asalnya, karena key null dipakai untuk mahasiswa tanpa dosen wali
+     */
+    private List<IpkHistogram> histogramSourceOf(IpkStatistik kelompok) {
+        if (perDosenWali.contains(kelompok)) {
+            return current.histogramPerDosenWali;
+        }
+        if (perGender.contains(kelompok)) {
+            return current.histogramPerGender;
+        }
+        if (perKategori.contains(kelompok)) {
+            return current.histogramPerKategori;
+        }
+        return Collections.emptyList();
+    }
+
+    private static IpkHistogram findHistogram(List<IpkHistogram> source, String kelompok) {
+        for (IpkHistogram item : source) {
+            if (Objects.equals(item.getKelompok(), kelompok)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Dijalankan di background: semua query agregasi sekaligus
+     */
+    private StatistikData loadStatistik() {
+        StatistikData data = new StatistikData();
+        data.ringkasan = statistikDAO.getRingkasan();
+        data.perDosenWali = statistikDAO.getStatistikPerDosenWali();
+        data.perGender = statistikDAO.getStatistikPerGender();
+        data.perKategori = statistikDAO.getStatistikPerKategori();
+        data.histogram = statistikDAO.getHistogramIpk();
+        data.histogramPerDosenWali = statistikDAO.getHistogramIpkPerDosenWali();
+        data.histogramPerGender = statistikDAO.getHistogramIpkPerGender();
+        data.histogramPerKategori = statistikDAO.getHistogramIpkPerKategori();
+        return data;
+    }
+
+    /**
+     * Hasil satu kali refresh, dipindahkan dari thread background ke FX thread
+     */
+    private static class StatistikData {
+        RingkasanIpk ringkasan;
+        List<IpkStatistik> perDosenWali;
+        List<IpkStatistik> perGender;
+        List<IpkStatistik> perKategori;
+        List<IpkHistogramBucket> histogram;
+        List<IpkHistogram> histogramPerDosenWali;
+        List<IpkHistogram> histogramPerGender;
+        List<IpkHistogram> histogramPerKategori;
+    }
+
+    // === PROPERTY GETTERS FOR BINDING ===
+
+    public ObservableList<IpkStatistik> getPerDosenWali() {
+        return perDosenWali;
+    }
+
+    public ObservableList<IpkStatistik> getPerGender() {
+        return perGender;
+    }
+
+    public ObservableList<IpkStatistik> getPerKategori() {
+        return perKategori;
+    }
+
+    public ObservableList<IpkHistogramBucket> getHistogram() {
+        return histogram;
+    }
+
+    public StringProperty histogramTitleProperty() {
+        return histogramTitle;
+    }
+
+    public StringProperty ringkasanProperty() {
+        return ringkasan;
+    }
+
+    public BooleanProperty isLoadingProperty() {
+        return isLoading;
+    }
+
+    public StringProperty statusMessageProperty() {
+        return statusMessage;
+    }
+
+    public BooleanProperty hasErrorProperty() {
+        return hasError;
+    }
+}
@@ -0,0 +1,106 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.BatchUpdateException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchExecutorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testErrorConstraintDilaporkanPerBaris() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("batch.db").toString(), new DatabaseConfig());
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            dao.save(new Mahasiswa("A1", "Sudah Ada", Mahasiswa.GENDER_LAKI, 3.0, null));
+
+            List<Mahasiswa> batch = new ArrayList<>();
+            batch.add(new Mahasiswa("A2", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.5, null));
+            batch.add(new Mahasiswa("A1", "Duplikat", Mahasiswa.GENDER_LAKI, 2.0, null));
+            batch.add(new Mahasiswa("A3", "", Mahasiswa.GENDER_LAKI, 2.0, null));
+            batch.add(new Mahasiswa("A4", "Dosen Tidak Ada", Mahasiswa.GENDER_LAKI, 2.0, "DX"));
+            batch.add(new Mahasiswa("A5", "Budi", Mahasiswa.GENDER_LAKI, 2.5, null));
+
+            BatchResult result = dao.saveAll(batch, 2);
+
+            assertEquals(2, result.getSucceeded());
+            List<Integer> failed = new ArrayList<>();
+            for (BatchResult.RowError error : result.getErrors()) {
+                failed.add(error.getIndex());
+            }
+            failed.sort(null);
+            assertEquals(List.of(1, 2, 3), failed);
+
+            // Baris yang valid di chunk yang sama dengan baris gagal tetap tersimpan
+            assertEquals(3, dao.count());
+            assertEquals("Sudah Ada", dao.findByNim("A1").getNama());
+            assertNotNull(dao.findByNim("A5"));
+            assertNull(dao.findByNim("A4"));
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    @Test
+    void testErrorNonConstraintMembatalkanTransaksi() throws SQLException {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("full.db").toString(), new DatabaseConfig());
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            dao.save(new Mahasiswa("B0", "Awal", Mahasiswa.GENDER_LAKI, 3.0, null));
+
+            // Batasi ukuran file supaya batch gagal dengan SQLITE_FULL di tengah jalan
+            database.write(connection -> {
+                try (Statement stmt = connection.getConnection().createStatement()) {
+                    stmt.execute("PRAGMA max_page_count = " + currentPageCount(stmt));
+                }
+                return null;
+            });
+
+            List<Mahasiswa> batch = new ArrayList<>();
+            for (int i = 1; i <= 5000; i++) {
+                batch.add(new Mahasiswa("B" + i, "Mahasiswa dengan nama yang cukup panjang " + i,
+                    Mahasiswa.GENDER_PEREMPUAN, 3.0, null));
+            }
+
+            assertThrows(RuntimeException.class, () -> dao.saveAll(batch, 100));
+            assertEquals(1, dao.count());
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    @Test
+    void testIsConstraintViolation() {
+        assertTrue(BatchExecutor.isConstraintViolation(new SQLException("unique", null, 19)));
+        // Extended result code SQLITE_CONSTRAINT_UNIQUE (2067)
+        assertTrue(BatchExecutor.isConstraintViolation(new SQLException("unique", null, 2067)));
+        assertTrue(BatchExecutor.isConstraintViolation(
+            new BatchUpdateException("batch entry 3", null, 0, new int[0], new SQLException("fk", null, 19))));
+
+        assertFalse(BatchExecutor.isConstraintViolation(new SQLException("full", null, 13)));
+        assertFalse(BatchExecutor.isConstraintViolation(new SQLException("busy", null, 5)));
+        assertFalse(BatchExecutor.isConstraintViolation(
+            new BatchUpdateException("batch entry 0", null, 0, new int[0], new SQLException("ioerr", null, 10))));
+    }
+
+    private static long currentPageCount(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA page_count")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
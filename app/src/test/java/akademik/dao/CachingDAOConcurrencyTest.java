@@ -0,0 +1,167 @@
+package akademik.dao;
+
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingDAOConcurrencyTest {
+
+    @Test
+    void testLoadLamaTidakMenimpaInsert() throws Exception {
+        BlockingTable<Mahasiswa> table = new BlockingTable<>();
+        CachingMahasiswaDAO dao = new CachingMahasiswaDAO(mahasiswaDAO(table));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Reader membaca "belum ada", lalu tertahan sebelum hasilnya masuk cache
+            table.blockNextRead();
+            Future<Boolean> reader = executor.submit(() -> dao.existsByNim("N1"));
+            table.awaitReadStarted();
+
+            dao.save(new Mahasiswa("N1", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.5, null));
+            table.releaseRead();
+            assertFalse(reader.get(5, TimeUnit.SECONDS));
+
+            // Negative entry dari reader lama tidak boleh bertahan setelah save
+            assertTrue(dao.existsByNim("N1"));
+            assertEquals("Ani", dao.findByNim("N1").getNama());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLoadLamaTidakMenimpaUpdateDanDelete() throws Exception {
+        BlockingTable<Mahasiswa> table = new BlockingTable<>();
+        CachingMahasiswaDAO dao = new CachingMahasiswaDAO(mahasiswaDAO(table));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            dao.save(new Mahasiswa("N1", "Lama", Mahasiswa.GENDER_LAKI, 2.0, null));
+
+            table.blockNextRead();
+            Future<Mahasiswa> reader = executor.submit(() -> dao.findByNim("N1"));
+            table.awaitReadStarted();
+            dao.update(new Mahasiswa("N1", "Baru", Mahasiswa.GENDER_LAKI, 3.0, null));
+            table.releaseRead();
+            assertEquals("Lama", reader.get(5, TimeUnit.SECONDS).getNama());
+            assertEquals("Baru", dao.findByNim("N1").getNama());
+
+            table.blockNextRead();
+            dao.invalidateAll();
+            Future<Boolean> existsReader = executor.submit(() -> dao.existsByNim("N1"));
+            table.awaitReadStarted();
+            dao.delete("N1");
+            table.releaseRead();
+            assertTrue(existsReader.get(5, TimeUnit.SECONDS));
+            assertFalse(dao.existsByNim("N1"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPrimeDibatalkanOlehPenulisan() {
+        BlockingTable<Dosen> table = new BlockingTable<>();
+        CachingDosenDAO dao = new CachingDosenDAO(dosenDAO(table));
+        AtomicInteger reads = table.reads;
+
+        // Generasi dicatat, lalu dosen diupdate sebelum data snapshot (yang lebih lama) dimasukkan
+        long generation = dao.getWriteGeneration();
+        dao.save(new Dosen("D1", "Nama Baru", "0812"));
+        assertFalse(dao.prime(List.of(new Dosen("D1", "Nama Lama", "0812")), generation));
+        assertEquals("Nama Baru", dao.findByNpp("D1").getNama());
+        assertEquals(1, reads.get());
+
+        // Tanpa penulisan di antaranya, prime mengisi cache dan lookup tidak ke database
+        assertTrue(dao.prime(List.of(new Dosen("D2", "Dosen Dua", "0813")), dao.getWriteGeneration()));
+        assertEquals("Dosen Dua", dao.findByNpp("D2").getNama());
+        assertEquals(1, reads.get());
+    }
+
+    /**
+     * Tabel in-memory yang bisa menahan satu pembacaan setelah datanya dibaca,
+     * untuk mensimulasikan query yang selesai setelah penulisan lain di-commit
+     */
+    private static class BlockingTable<T> {
+        final Map<String, T> rows = new ConcurrentHashMap<>();
+        final AtomicInteger reads = new AtomicInteger();
+        private final AtomicBoolean blockNext = new AtomicBoolean();
+        private volatile CountDownLatch readStarted;
+        private volatile CountDownLatch release;
+
+        void blockNextRead() {
+            readStarted = new CountDownLatch(1);
+            release = new CountDownLatch(1);
+            blockNext.set(true);
+        }
+
+        void awaitReadStarted() throws InterruptedException {
+            assertTrue(readStarted.await(5, TimeUnit.SECONDS));
+        }
+
+        void releaseRead() {
+            release.countDown();
+        }
+
+        T read(String key) throws InterruptedException {
+            reads.incrementAndGet();
+            T value = rows.get(key);
+            if (blockNext.compareAndSet(true, false)) {
+                readStarted.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+            return value;
+        }
+    }
+
+    private static MahasiswaDAO mahasiswaDAO(BlockingTable<Mahasiswa> table) {
+        return (MahasiswaDAO) Proxy.newProxyInstance(MahasiswaDAO.class.getClassLoader(),
+            new Class<?>[] {MahasiswaDAO.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findByNim":
+                        return table.read((String) args[0]);
+                    case "save":
+                    case "update":
+                        Mahasiswa mahasiswa = (Mahasiswa) args[0];
+                        table.rows.put(mahasiswa.getNim(), mahasiswa);
+                        return null;
+                    case "delete":
+                        table.rows.remove((String) args[0]);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static DosenDAO dosenDAO(BlockingTable<Dosen> table) {
+        return (DosenDAO) Proxy.newProxyInstance(DosenDAO.class.getClassLoader(),
+            new Class<?>[] {DosenDAO.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findByNpp":
+                        return table.read((String) args[0]);
+                    case "save":
+                        Dosen dosen = (Dosen) args[0];
+                        table.rows.put(dosen.getNpp(), dosen);
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
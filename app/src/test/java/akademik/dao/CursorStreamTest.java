@@ -0,0 +1,79 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testKoneksiScanSelaluDitutup() {
+        // Satu reader saja: stream yang memakai reader pool akan membuat query lain timeout
+        DatabaseConfig config = new DatabaseConfig();
+        config.setReaderPoolSize(1);
+        config.setAcquireTimeoutMs(200);
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("stream.db").toString(), config);
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            List<Mahasiswa> data = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                data.add(new Mahasiswa("N" + i, "Mahasiswa " + i, Mahasiswa.GENDER_LAKI, 3.0, null));
+            }
+            dao.saveAll(data);
+
+            // Ditutup sebelum habis dibaca, sementara query lain tetap mendapat reader
+            try (Stream<String> nims = dao.streamNim(10)) {
+                Iterator<String> iterator = nims.iterator();
+                assertTrue(iterator.hasNext());
+                iterator.next();
+                assertEquals(1, openScans(database));
+                assertNotNull(dao.findByNim("N1"));
+                assertEquals(50, dao.findAll().size());
+            }
+            assertEquals(0, openScans(database));
+
+            // Habis dibaca tanpa try-with-resources
+            assertEquals(50, dao.streamNim(10).count());
+            assertEquals(0, openScans(database));
+
+            // Consumer melempar exception di tengah jalan
+            List<String> seen = new ArrayList<>();
+            assertThrows(IllegalStateException.class, () -> dao.streamNim(10).forEach(nim -> {
+                seen.add(nim);
+                if (seen.size() == 5) {
+                    throw new IllegalStateException("berhenti");
+                }
+            }));
+            assertEquals(5, seen.size());
+            assertEquals(0, openScans(database));
+
+            // Beberapa scan bersamaan tidak menghabiskan reader pool
+            try (Stream<String> first = dao.streamNim(10); Stream<String> second = dao.streamNim(10)) {
+                first.iterator().next();
+                second.iterator().next();
+                assertEquals(2, openScans(database));
+                assertTrue(dao.existsByNim("N2"));
+            }
+            assertEquals(0, openScans(database));
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static int openScans(DatabaseConnection database) {
+        return database.getPool().getOpenScanConnectionCount();
+    }
+}
@@ -0,0 +1,174 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import akademik.model.VersiData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTulisDanBacaUlang() throws IOException {
+        List<Dosen> dosen = List.of(new Dosen("D1", "Dosen Satu", "0811"), new Dosen("D2", "Dosen Dua", null));
+        List<MahasiswaRow> rows = List.of(
+            new MahasiswaRow("N1", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.75, "D1", "Dosen Satu"),
+            new MahasiswaRow("N2", "Budi", Mahasiswa.GENDER_LAKI, 2.5, null, null),
+            new MahasiswaRow("N3", "Çağrı Ünal", "Lainnya", 0.0, "D2", "Dosen Dua"),
+            // NPP yang tidak ada di daftar dosen disimpan sebagai teks, tanpa nama
+            new MahasiswaRow("N4", "Dedi", Mahasiswa.GENDER_LAKI, 4.0, "D9", null),
+            new MahasiswaRow("N5", "Eka", Mahasiswa.GENDER_PEREMPUAN, 1.25, "D1", "Dosen Satu"));
+
+        Path file = tempDir.resolve("data.snapshot");
+        DataSnapshot.write(file, new VersiData(7, 3), dosen, rows.iterator());
+        DataSnapshot snapshot = DataSnapshot.open(file);
+
+        assertEquals(new VersiData(7, 3), snapshot.getVersiData());
+        assertTrue(snapshot.getCreatedAt() > 0);
+        assertEquals(5, snapshot.getMahasiswaCount());
+
+        List<Dosen> dosenDibaca = snapshot.getDosen();
+        assertEquals(2, dosenDibaca.size());
+        assertEquals("D2", dosenDibaca.get(1).getNpp());
+        assertEquals("Dosen Dua", dosenDibaca.get(1).getNama());
+        assertNull(dosenDibaca.get(1).getNoHp());
+        // Salinan: mengubah hasil tidak mengubah isi snapshot
+        dosenDibaca.get(0).setNama("Diubah");
+        assertEquals("Dosen Satu", snapshot.getDosen().get(0).getNama());
+
+        Page<MahasiswaRow> all = snapshot.findRowPageAt(0, 10);
+        assertEquals(5, all.size());
+        assertFalse(all.hasNext());
+        for (int i = 0; i < rows.size(); i++) {
+            assertTrue(rows.get(i).hasSameData(all.getItems().get(i)), "baris " + i + ": " + all.getItems().get(i));
+        }
+    }
+
+    @Test
+    void testFindRowPageAt() throws IOException {
+        List<MahasiswaRow> rows = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rows.add(new MahasiswaRow(String.format("N%02d", i), String.format("Mahasiswa %02d", i),
+                Mahasiswa.GENDER_LAKI, 3.0, null, null));
+        }
+        Path file = tempDir.resolve("page.snapshot");
+        DataSnapshot.write(file, new VersiData(1, 1), List.of(), rows.iterator());
+        DataSnapshot snapshot = DataSnapshot.open(file);
+
+        Page<MahasiswaRow> middle = snapshot.findRowPageAt(10, 10);
+        assertEquals("N10", middle.getItems().get(0).getNim());
+        assertEquals("N19", middle.getItems().get(9).getNim());
+        // Cursor menunjuk baris terakhir halaman, sama dengan cursor keyset MahasiswaDAO
+        assertEquals(new PageCursor("Mahasiswa 19", "N19").encode(), middle.getNextCursor());
+
+        Page<MahasiswaRow> last = snapshot.findRowPageAt(20, 10);
+        assertEquals(5, last.size());
+        assertNull(last.getNextCursor());
+
+        Page<MahasiswaRow> exact = snapshot.findRowPageAt(15, 10);
+        assertEquals(10, exact.size());
+        assertNull(exact.getNextCursor());
+
+        assertTrue(snapshot.findRowPageAt(25, 10).getItems().isEmpty());
+        assertTrue(snapshot.findRowPageAt(100, Integer.MAX_VALUE).getItems().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findRowPageAt(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.findRowPageAt(0, 0));
+    }
+
+    @Test
+    void testFileRusakAtauTerpotongDitolak() throws IOException {
+        List<MahasiswaRow> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(new MahasiswaRow("N" + i, "Mahasiswa " + i, Mahasiswa.GENDER_PEREMPUAN, 2.0, "D1", "Dosen Satu"));
+        }
+        Path file = tempDir.resolve("rusak.snapshot");
+        DataSnapshot.write(file, new VersiData(1, 1), List.of(new Dosen("D1", "Dosen Satu")), rows.iterator());
+        byte[] valid = Files.readAllBytes(file);
+        assertNotNull(DataSnapshot.open(file));
+
+        // Satu bit berubah di tengah data mahasiswa
+        byte[] corrupted = valid.clone();
+        corrupted[valid.length / 2] ^= 0x01;
+        Files.write(file, corrupted);
+        IOException checksum = assertThrows(IOException.class, () -> DataSnapshot.open(file));
+        assertTrue(checksum.getMessage().contains("Checksum"), checksum.getMessage());
+
+        // Checksum di akhir file yang berubah juga ditolak
+        corrupted = valid.clone();
+        corrupted[valid.length - 1] ^= 0x01;
+        Files.write(file, corrupted);
+        assertThrows(IOException.class, () -> DataSnapshot.open(file));
+
+        // Terpotong, misalnya aplikasi berhenti saat menulis
+        Files.write(file, Arrays.copyOf(valid, valid.length - 100));
+        assertThrows(IOException.class, () -> DataSnapshot.open(file));
+        Files.write(file, Arrays.copyOf(valid, 10));
+        assertThrows(IOException.class, () -> DataSnapshot.open(file));
+        Files.write(file, new byte[0]);
+        assertThrows(IOException.class, () -> DataSnapshot.open(file));
+
+        // File lain dengan ukuran yang cukup
+        Files.write(file, new byte[valid.length]);
+        assertThrows(IOException.class, () -> DataSnapshot.open(file));
+    }
+
+    @Test
+    void testSnapshotTidakBerlakuSetelahDataBerubah() throws IOException {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("snapshot.db").toString(), new DatabaseConfig());
+        try {
+            DosenDAO dosenDAO = new DosenDAOImpl(database);
+            MahasiswaDAO mahasiswaDAO = new MahasiswaDAOImpl(database);
+            StatistikDAO statistikDAO = new StatistikDAOImpl(database);
+
+            dosenDAO.save(new Dosen("D1", "Dosen Satu", "0811"));
+            List<Mahasiswa> data = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                data.add(new Mahasiswa("N" + i, "Mahasiswa " + (29 - i), Mahasiswa.GENDER_LAKI, 3.0, i % 2 == 0 ? "D1" : null));
+            }
+            mahasiswaDAO.saveAll(data);
+
+            Path file = tempDir.resolve("snapshot.db.snapshot");
+            DataSnapshot snapshot = DataSnapshot.build(file, mahasiswaDAO, dosenDAO, statistikDAO);
+            assertNotNull(snapshot);
+            assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+            assertTrue(snapshot.matches(statistikDAO.getVersiData()));
+
+            // Isi dan urutan sama dengan query database, cursor bisa dilanjutkan di DAO
+            Page<MahasiswaRow> fromSnapshot = snapshot.findRowPageAt(10, 10);
+            Page<MahasiswaRow> fromDatabase = mahasiswaDAO.findRowPageAt(10, 10);
+            for (int i = 0; i < 10; i++) {
+                assertTrue(fromDatabase.getItems().get(i).hasSameData(fromSnapshot.getItems().get(i)));
+            }
+            assertEquals(mahasiswaDAO.findRowPageAt(20, 5).getItems(),
+                mahasiswaDAO.findRowPage(fromSnapshot.getNextCursor(), 5).getItems());
+
+            // Dibuka ulang (start berikutnya) masih berlaku selama tidak ada penulisan
+            assertTrue(DataSnapshot.open(file).matches(statistikDAO.getVersiData()));
+
+            mahasiswaDAO.update(new Mahasiswa("N3", "Nama Baru", Mahasiswa.GENDER_LAKI, 3.0, null));
+            assertFalse(snapshot.matches(statistikDAO.getVersiData()));
+
+            dosenDAO.update(new Dosen("D1", "Dosen Baru", "0811"));
+            VersiData versi = statistikDAO.getVersiData();
+            assertFalse(DataSnapshot.open(file).matches(versi));
+            assertTrue(DataSnapshot.build(file, mahasiswaDAO, dosenDAO, statistikDAO).matches(versi));
+        } finally {
+            database.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package akademik.dao;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextQueryTest {
+    @Test
+    void testSetiapKataMenjadiTokenPrefix() {
+        assertEquals("\"ahm\"* \"sap\"*", FullTextQuery.build("  ahm   sap "));
+    }
+
+    @Test
+    void testSintaksFts5DariUserDibuang() {
+        // Operator dan tanda kutip tidak boleh sampai ke ekspresi MATCH
+        assertEquals("\"budi\"* \"OR\"* \"siti\"*", FullTextQuery.build("budi\" OR -siti*"));
+    }
+
+    @Test
+    void testQueryTanpaKata() {
+        assertNull(FullTextQuery.build(null));
+        assertNull(FullTextQuery.build("  -*\" "));
+    }
+}
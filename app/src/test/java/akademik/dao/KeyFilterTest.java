@@ -0,0 +1,65 @@
+package akademik.dao;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyFilterTest {
+
+    @Test
+    void testKeyYangDimasukkanTidakPernahDitolak() {
+        KeyFilter filter = new KeyFilter("mahasiswa", 20_000);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("NIM" + i);
+        }
+
+        // Belum siap: semua key dianggap mungkin ada dan tidak dihitung
+        assertTrue(filter.mightContain("TIDAKADA"));
+        assertEquals(0, filter.getQueryCount());
+
+        filter.markReady();
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filter.mightContain("NIM" + i));
+        }
+
+        int lolos = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("X" + i)) {
+                filter.recordFalsePositive();
+                lolos++;
+            }
+        }
+        assertEquals(lolos, filter.getFalsePositiveCount());
+        assertEquals(10_000 - lolos, filter.getDefiniteMissCount());
+        assertTrue(filter.getFalsePositiveRate() < 0.05, "fp rate " + filter.getFalsePositiveRate());
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    void testSimpanDanBacaUlang() throws IOException {
+        Path file = Files.createTempFile("nim", ".bloom");
+        try {
+            KeyFilter filter = new KeyFilter("mahasiswa", 100);
+            filter.put("A001");
+            filter.put("A002");
+            filter.writeTo(file, 42);
+
+            KeyFilter loaded = KeyFilter.readFrom(file, "mahasiswa");
+            assertEquals(42, loaded.getVersi());
+            assertFalse(loaded.isReady());
+
+            loaded.markReady();
+            assertTrue(loaded.mightContain("A001"));
+            assertTrue(loaded.mightContain("A002"));
+
+            Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+            assertThrows(IOException.class, () -> KeyFilter.readFrom(file, "mahasiswa"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
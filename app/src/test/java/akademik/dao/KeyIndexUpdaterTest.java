@@ -0,0 +1,39 @@
+package akademik.dao;
+
+import akademik.model.Mahasiswa;
+import akademik.store.RadixTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyIndexUpdaterTest {
+
+    @Test
+    void testPengisianTidakMengembalikanKeyYangDihapus() {
+        RadixTree<String> index = new RadixTree<>();
+        DAOFactory.KeyIndexUpdater<Mahasiswa> updater =
+            new DAOFactory.KeyIndexUpdater<>(index, Mahasiswa::getNim, Mahasiswa::getNama);
+
+        // Pengisian sudah membaca N1 dan N2, lalu keduanya dihapus sebelum dimasukkan ke index
+        updater.onDeleted(List.of("N1", "N2"));
+        // N2 disimpan lagi dan nama barunya lebih baru dari data pengisian
+        updater.onSaved(List.of(new Mahasiswa("N2", "Budi Baru", Mahasiswa.GENDER_LAKI, 3.0, null)));
+
+        updater.fill("N1", "Ani");
+        updater.fill("N2", "Budi Lama");
+        updater.fill("N3", "Citra");
+        updater.finishFill();
+
+        assertFalse(index.containsKey("N1"));
+        assertEquals("Budi Baru", index.get("N2"));
+        assertEquals("Citra", index.get("N3"));
+
+        // Setelah pengisian selesai, penghapusan dan penyimpanan langsung mengubah index
+        updater.onDeleted(List.of("N3"));
+        updater.onSaved(List.of(new Mahasiswa("N1", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.5, null)));
+        assertFalse(index.containsKey("N3"));
+        assertEquals("Ani", index.get("N1"));
+    }
+}
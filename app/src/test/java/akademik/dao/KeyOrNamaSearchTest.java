@@ -0,0 +1,99 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import akademik.model.MahasiswaRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrNamaSearchTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBatasAtasAwalanKey() {
+        assertEquals("A13", KeyPrefix.upperBound("A12"));
+        assertEquals("A:", KeyPrefix.upperBound("A9"));
+        assertEquals("B", KeyPrefix.upperBound("A￿"));
+        assertThrows(IllegalArgumentException.class, () -> KeyPrefix.upperBound("￿"));
+    }
+
+    @Test
+    void testHasilNimDiDepanHasilNama() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("search.db").toString(), new DatabaseConfig());
+        try {
+            new DosenDAOImpl(database).save(new Dosen("D1", "Dosen Satu", "0811"));
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            dao.saveAll(List.of(
+                new Mahasiswa("2202", "Budi", Mahasiswa.GENDER_LAKI, 3.0, "D1"),
+                new Mahasiswa("2201", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.5, null),
+                new Mahasiswa("2210", "Citra", Mahasiswa.GENDER_PEREMPUAN, 3.2, "D1"),
+                // Batas range: bukan berawalan "220"
+                new Mahasiswa("2210A", "Dedi", Mahasiswa.GENDER_LAKI, 2.0, null),
+                new Mahasiswa("2300", "Eka", Mahasiswa.GENDER_LAKI, 2.5, null),
+                // Nama berisi kata "220", NIM tidak
+                new Mahasiswa("9001", "Mahasiswa 220", Mahasiswa.GENDER_LAKI, 2.8, "D1"),
+                // NIM dan nama sama-sama cocok: hanya muncul sekali, di kelompok NIM
+                new Mahasiswa("2203", "Angkatan 220", Mahasiswa.GENDER_PEREMPUAN, 3.9, null)));
+
+            List<MahasiswaRow> rows = dao.searchRows("220", 100);
+            assertEquals(List.of("2201", "2202", "2203", "9001"), nims(rows));
+            // Nama dosen wali dari JOIN yang sama
+            assertEquals("Dosen Satu", rows.get(1).getDosenWaliNama());
+            assertNull(rows.get(0).getDosenWaliNama());
+            assertEquals("Dosen Satu", rows.get(3).getDosenWaliNama());
+
+            assertEquals(List.of("2201", "2202"), nims(dao.searchRows("220", 2)));
+            assertEquals(List.of("2210", "2210A"), nims(dao.searchRows("221", 100)));
+
+            // Nama saja, urut relevansi lalu nama
+            assertEquals(List.of("2201", "2203"), nims(dao.searchRows("an", 100)));
+            assertEquals(List.of("2203"), nims(dao.searchRows("angk 22", 100)));
+
+            // Tanpa kata yang bisa dicari di FTS: hanya awalan NIM
+            assertTrue(dao.searchRows("-", 100).isEmpty());
+            assertTrue(dao.searchRows("  ", 100).isEmpty());
+            assertTrue(dao.searchRows("220", 0).isEmpty());
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    @Test
+    void testHasilNppDiDepanHasilNama() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("search.db").toString(), new DatabaseConfig());
+        try {
+            DosenDAO dao = new DosenDAOImpl(database);
+            dao.saveAll(List.of(
+                new Dosen("D-12", "Rina"),
+                new Dosen("D-10", "Joko"),
+                new Dosen("E-1", "Dosen D"),
+                new Dosen("X-9", "Dwi D Santoso")));
+
+            // Awalan "D-1" cocok dengan NPP saja; kata "d" juga cocok dengan nama
+            assertEquals(List.of("D-10", "D-12"), npps(dao.search("D-1", 100)));
+            assertEquals(List.of("E-1", "X-9"), npps(dao.search("d", 100)));
+            assertEquals(List.of("D-10", "D-12", "E-1", "X-9"), npps(dao.search("D", 100)));
+            assertEquals(List.of("D-10"), npps(dao.search("D", 1)));
+            assertTrue(dao.search("-", 100).isEmpty());
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static List<String> nims(List<MahasiswaRow> rows) {
+        return rows.stream().map(MahasiswaRow::getNim).toList();
+    }
+
+    private static List<String> npps(List<Dosen> dosen) {
+        return dosen.stream().map(Dosen::getNpp).toList();
+    }
+}
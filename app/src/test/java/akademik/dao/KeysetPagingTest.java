@@ -0,0 +1,98 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPagingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testHalamanBerurutanTanpaDuplikat() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("paging.db").toString(), new DatabaseConfig());
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+
+            // Nama kembar dan beda huruf besar/kecil: urutan ditentukan nama NOCASE lalu NIM
+            String[] namaList = {"ani", "Ani", "Budi", "budi", "Citra", "Ani", "dewi", "Eko"};
+            List<Mahasiswa> data = new ArrayList<>();
+            for (int i = 0; i < 23; i++) {
+                data.add(new Mahasiswa(String.format("N%03d", (i * 7) % 23), namaList[i % namaList.length],
+                    Mahasiswa.GENDER_LAKI, 3.0, null));
+            }
+            dao.saveAll(data);
+
+            List<String> expected = new ArrayList<>();
+            data.sort(Comparator.comparing((Mahasiswa m) -> m.getNama().toLowerCase(Locale.ROOT))
+                .thenComparing(Mahasiswa::getNim));
+            for (Mahasiswa mahasiswa : data) {
+                expected.add(mahasiswa.getNim());
+            }
+
+            List<String> paged = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                Page<Mahasiswa> page = dao.findPage(cursor, 5);
+                assertTrue(page.size() <= 5);
+                for (Mahasiswa mahasiswa : page.getItems()) {
+                    paged.add(mahasiswa.getNim());
+                }
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertEquals(expected, paged);
+            assertEquals(5, pages);
+
+            // Lompat ke offset memberi cursor yang melanjutkan dari posisi yang sama
+            Page<Mahasiswa> atOffset = dao.findPageAt(10, 5);
+            assertEquals(expected.subList(10, 15), nims(atOffset));
+            assertEquals(expected.subList(15, 20), nims(dao.findPage(atOffset.getNextCursor(), 5)));
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    @Test
+    void testInsertSebelumCursorTidakMenggeserHalaman() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("geser.db").toString(), new DatabaseConfig());
+        try {
+            MahasiswaDAO dao = new MahasiswaDAOImpl(database);
+            for (int i = 0; i < 10; i++) {
+                dao.save(new Mahasiswa(String.format("M%02d", i), "Nama " + i, Mahasiswa.GENDER_PEREMPUAN, 3.0, null));
+            }
+
+            Page<Mahasiswa> first = dao.findPage(null, 4);
+            assertEquals(List.of("M00", "M01", "M02", "M03"), nims(first));
+
+            // Baris baru sebelum posisi cursor tidak membuat baris halaman kedua terulang atau terlewat
+            dao.save(new Mahasiswa("M99", "Aaa Baru", Mahasiswa.GENDER_LAKI, 3.0, null));
+            assertEquals(List.of("M04", "M05", "M06", "M07"), nims(dao.findPage(first.getNextCursor(), 4)));
+
+            assertThrows(IllegalArgumentException.class, () -> dao.findPage("bukan-cursor", 4));
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static List<String> nims(Page<Mahasiswa> page) {
+        List<String> nims = new ArrayList<>();
+        for (Mahasiswa mahasiswa : page.getItems()) {
+            nims.add(mahasiswa.getNim());
+        }
+        return nims;
+    }
+}
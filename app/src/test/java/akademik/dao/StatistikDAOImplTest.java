@@ -0,0 +1,94 @@
+package akademik.dao;
+
+import akademik.database.DatabaseConfig;
+import akademik.database.DatabaseConnection;
+import akademik.model.Dosen;
+import akademik.model.IpkHistogram;
+import akademik.model.IpkHistogramBucket;
+import akademik.model.IpkStatistik;
+import akademik.model.Mahasiswa;
+import akademik.model.PrestasiKategori;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatistikDAOImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testHistogramPerKelompokSamaDenganStatistik() {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("statistik.db").toString(), new DatabaseConfig());
+        try {
+            new DosenDAOImpl(database).save(new Dosen("D1", "Dosen Satu", "0811"));
+            new DosenDAOImpl(database).save(new Dosen("D2", "Dosen Dua", "0812"));
+
+            double[] ipkList = {3.495, 3.5, 0.57, 2.3, 4.0, 0.0, 2.0, 1.99, 3.0, 2.75};
+            List<Mahasiswa> data = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                String dosenWali = i % 3 == 0 ? null : (i % 3 == 1 ? "D1" : "D2");
+                data.add(new Mahasiswa("N" + i, "Mahasiswa " + i,
+                    i % 2 == 0 ? Mahasiswa.GENDER_LAKI : Mahasiswa.GENDER_PEREMPUAN, ipkList[i % ipkList.length], dosenWali));
+            }
+            new MahasiswaDAOImpl(database).saveAll(data);
+
+            StatistikDAO dao = new StatistikDAOImpl(database);
+            assertSameTotals(dao.getStatistikPerDosenWali(), dao.getHistogramIpkPerDosenWali());
+            assertSameTotals(dao.getStatistikPerGender(), dao.getHistogramIpkPerGender());
+            assertSameTotals(dao.getStatistikPerKategori(), dao.getHistogramIpkPerKategori());
+
+            // Dengan lebar 0.5 batas bucket sama dengan batas kategori: setiap histogram kategori
+            // hanya berisi bucket di dalam rentang kategorinya (IPK 3.495 bukan Cum Laude)
+            for (IpkHistogram histogram : dao.getHistogramIpkPerKategori(0.5)) {
+                PrestasiKategori kategori = PrestasiKategori.valueOf(histogram.getKelompok());
+                for (IpkHistogramBucket bucket : histogram.getBuckets()) {
+                    if (bucket.getJumlah() > 0) {
+                        assertEquals(kategori, PrestasiKategori.of(bucket.getBatasBawah()), histogram + " " + bucket);
+                    }
+                }
+            }
+
+            List<IpkHistogramBucket> keseluruhan = dao.getHistogramIpk(0.5);
+            assertEquals(8, keseluruhan.size());
+            // 3.0 dan 3.495 di [3.00, 3.50); 3.5 dan 4.0 di bucket terakhir
+            assertEquals(12, keseluruhan.get(6).getJumlah());
+            assertEquals(12, keseluruhan.get(7).getJumlah());
+            // 0.57 dan 0.0 di [0.00, 0.50) dan [0.50, 1.00)
+            assertEquals(6, keseluruhan.get(0).getJumlah());
+            assertEquals(6, keseluruhan.get(1).getJumlah());
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    @Test
+    void testIndexBucketTanpaPembulatan() {
+        assertEquals(6, IpkHistogramBucket.indexOf(3.495, 50, 8));
+        assertEquals(7, IpkHistogramBucket.indexOf(3.5, 50, 8));
+        assertEquals(7, IpkHistogramBucket.indexOf(4.0, 50, 8));
+        // 0.57 * 100 = 56.99999999999999
+        assertEquals(57, IpkHistogramBucket.indexOf(0.57, 1, 400));
+        assertEquals(0, IpkHistogramBucket.indexOf(0.0, 25, 16));
+    }
+
+    private static void assertSameTotals(List<IpkStatistik> statistik, List<IpkHistogram> histogram) {
+        assertEquals(statistik.size(), histogram.size());
+        for (IpkStatistik kelompok : statistik) {
+            IpkHistogram match = null;
+            for (IpkHistogram item : histogram) {
+                if (item.getLabel().equals(kelompok.getLabel())) {
+                    match = item;
+                }
+            }
+            assertNotNull(match, kelompok.getLabel());
+            assertEquals(kelompok.getKelompok(), match.getKelompok());
+            assertEquals(kelompok.getJumlah(), match.getJumlah(), kelompok.getLabel());
+        }
+    }
+}
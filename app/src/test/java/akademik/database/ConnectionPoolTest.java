@@ -0,0 +1,112 @@
+package akademik.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTransaksiDirollbackSaatException() throws SQLException {
+        ConnectionPool pool = open(new DatabaseConfig());
+        try {
+            pool.write(connection -> execute(connection, "CREATE TABLE data (id INTEGER PRIMARY KEY)"));
+
+            assertThrows(IllegalStateException.class, () -> pool.transaction(connection -> {
+                execute(connection, "INSERT INTO data VALUES (1)");
+                // Pemanggilan bersarang ikut transaksi luar dan ikut di-rollback
+                pool.transaction(inner -> execute(inner, "INSERT INTO data VALUES (2)"));
+                // Baca di dalam transaksi memakai writer sehingga perubahan yang belum di-commit terlihat
+                assertEquals(2, count(pool));
+                throw new IllegalStateException("gagal");
+            }));
+
+            assertEquals(0, count(pool));
+            pool.transaction(connection -> execute(connection, "INSERT INTO data VALUES (3)"));
+            assertEquals(1, count(pool));
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    void testReaderHanyaBisaMembaca() throws SQLException {
+        ConnectionPool pool = open(new DatabaseConfig());
+        try {
+            pool.write(connection -> execute(connection, "CREATE TABLE data (id INTEGER PRIMARY KEY)"));
+
+            assertThrows(SQLException.class, () -> pool.read(connection -> execute(connection, "INSERT INTO data VALUES (1)")));
+            assertEquals(0, count(pool));
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    void testTimeoutSaatSemuaReaderDipinjam() throws Exception {
+        DatabaseConfig config = new DatabaseConfig();
+        config.setReaderPoolSize(1);
+        config.setAcquireTimeoutMs(100);
+        ConnectionPool pool = open(config);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Satu-satunya reader ditahan oleh thread lain sampai release dihitung mundur
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Integer> holder = executor.submit(() -> pool.read(connection -> {
+                holding.countDown();
+                try {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+                return 1;
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+            assertThrows(SQLException.class, () -> pool.read(connection -> 1));
+
+            // Setelah dikembalikan, reader bisa dipakai lagi
+            release.countDown();
+            assertEquals(1, holder.get(5, TimeUnit.SECONDS));
+            assertEquals(1, (int) pool.read(connection -> 1));
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+    }
+
+    private ConnectionPool open(DatabaseConfig config) throws SQLException {
+        return new ConnectionPool("jdbc:sqlite:" + tempDir.resolve("pool.db"), config);
+    }
+
+    private static Void execute(PooledConnection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.getConnection().createStatement()) {
+            stmt.execute(sql);
+        }
+        return null;
+    }
+
+    private static int count(ConnectionPool pool) throws SQLException {
+        return pool.read(connection -> {
+            try (Statement stmt = connection.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM data")) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        });
+    }
+}
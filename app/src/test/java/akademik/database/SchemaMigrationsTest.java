@@ -0,0 +1,110 @@
+package akademik.database;
+
+import akademik.dao.DosenDAOImpl;
+import akademik.dao.MahasiswaDAOImpl;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRowidEksplisitMempertahankanDataDanIndexFts() throws SQLException {
+        String file = tempDir.resolve("migrasi.db").toString();
+
+        // Database versi 5 dengan celah rowid dari baris yang dihapus
+        ConnectionPool pool = new ConnectionPool("jdbc:sqlite:" + file, new DatabaseConfig());
+        try {
+            new SchemaMigrator(pool, SchemaMigrations.all().subList(0, 5)).migrate();
+            pool.transaction(connection -> {
+                execute(connection, "INSERT INTO dosen (npp, nama, no_hp) VALUES ('D1', 'Dosen Satu', '0811')");
+                for (int i = 0; i < 10; i++) {
+                    execute(connection, "INSERT INTO mahasiswa (nim, nama, gender, ipk, dosen_wali) VALUES"
+                        + " ('N" + i + "', 'Mahasiswa " + (i % 2 == 0 ? "Genap" : "Ganjil") + " " + i + "',"
+                        + " 'Laki-laki', 3.0, 'D1')");
+                }
+                execute(connection, "DELETE FROM mahasiswa WHERE nim IN ('N1', 'N4')");
+                return null;
+            });
+        } finally {
+            pool.close();
+        }
+
+        DatabaseConnection database = DatabaseConnection.open(file, new DatabaseConfig());
+        try {
+            assertEquals(SchemaMigrations.all().size(), database.getSchemaVersion());
+            // rowid lama (dengan celahnya) disalin ke kolom id
+            assertEquals(List.of("1|N0", "3|N2", "4|N3", "6|N5", "7|N6", "8|N7", "9|N8", "10|N9"),
+                rows(database, "SELECT id, nim FROM mahasiswa ORDER BY rowid"));
+            assertEquals(List.of("1"), rows(database, "SELECT pk FROM pragma_table_info('mahasiswa') WHERE name = 'id'"));
+            assertEquals(List.of("1"), rows(database, "SELECT pk FROM pragma_table_info('dosen') WHERE name = 'id'"));
+
+            MahasiswaDAOImpl mahasiswaDAO = new MahasiswaDAOImpl(database);
+            assertEquals(List.of("N3", "N5", "N7", "N9"), nims(mahasiswaDAO.searchByNama("ganjil")));
+
+            // Trigger FTS, foreign key, dan UNIQUE NIM tetap berjalan setelah tabel dibuat ulang
+            mahasiswaDAO.save(new Mahasiswa("N10", "Ganjil Baru", Mahasiswa.GENDER_PEREMPUAN, 3.5, "D1"));
+            assertEquals(List.of("N10", "N3", "N5", "N7", "N9"), nims(mahasiswaDAO.searchByNama("ganjil")));
+            assertThrows(RuntimeException.class,
+                () -> mahasiswaDAO.save(new Mahasiswa("N10", "Duplikat", Mahasiswa.GENDER_LAKI, 2.0, null)));
+            assertEquals(List.of("1"), rows(database, "PRAGMA foreign_keys"));
+
+            new DosenDAOImpl(database).delete("D1");
+            assertEquals(List.of("0"), rows(database, "SELECT COUNT(*) FROM mahasiswa WHERE dosen_wali IS NOT NULL"));
+            assertEquals(List.of("9|9"), rows(database,
+                "SELECT jumlah, (SELECT COUNT(*) FROM mahasiswa) FROM statistik_tabel WHERE tabel = 'mahasiswa'"));
+
+            // Setelah VACUUM, index FTS masih menunjuk ke baris yang sama
+            database.write(connection -> execute(connection, "VACUUM"));
+            assertEquals(List.of("N10", "N3", "N5", "N7", "N9"), nims(mahasiswaDAO.searchByNama("ganjil")));
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static Void execute(PooledConnection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.getConnection().createStatement()) {
+            stmt.execute(sql);
+        }
+        return null;
+    }
+
+    private static List<String> nims(List<Mahasiswa> mahasiswaList) {
+        List<String> nims = new ArrayList<>();
+        for (Mahasiswa mahasiswa : mahasiswaList) {
+            nims.add(mahasiswa.getNim());
+        }
+        nims.sort(null);
+        return nims;
+    }
+
+    private static List<String> rows(DatabaseConnection database, String sql) throws SQLException {
+        return database.write(connection -> {
+            List<String> rows = new ArrayList<>();
+            try (Statement stmt = connection.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    StringBuilder row = new StringBuilder();
+                    for (int i = 1; i <= columns; i++) {
+                        row.append(i > 1 ? "|" : "").append(rs.getString(i));
+                    }
+                    rows.add(row.toString());
+                }
+            }
+            return rows;
+        });
+    }
+}
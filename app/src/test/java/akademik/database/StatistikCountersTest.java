@@ -0,0 +1,177 @@
+package akademik.database;
+
+import akademik.dao.BatchResult;
+import akademik.dao.DosenDAO;
+import akademik.dao.DosenDAOImpl;
+import akademik.dao.MahasiswaDAO;
+import akademik.dao.MahasiswaDAOImpl;
+import akademik.dao.StatistikDAO;
+import akademik.dao.StatistikDAOImpl;
+import akademik.model.Dosen;
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatistikCountersTest {
+
+    private static final String IPK_SERATUS = "CAST(ROUND(ipk * 100) AS INTEGER)";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCounterSamaDenganAgregatSetelahPenulisanCampuran() throws SQLException {
+        DatabaseConnection database = DatabaseConnection.open(tempDir.resolve("counter.db").toString(), new DatabaseConfig());
+        try {
+            MahasiswaDAO mahasiswaDAO = new MahasiswaDAOImpl(database);
+            DosenDAO dosenDAO = new DosenDAOImpl(database);
+            StatistikDAO statistikDAO = new StatistikDAOImpl(database);
+            Random random = new Random(42);
+
+            List<String> dosenAktif = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                dosenDAO.save(new Dosen("D" + i, "Dosen " + i, "08" + i));
+                dosenAktif.add("D" + i);
+            }
+
+            for (int step = 1; step <= 1500; step++) {
+                String nim = "N" + random.nextInt(40);
+                Mahasiswa mahasiswa = randomMahasiswa(random, dosenAktif, nim);
+
+                switch (random.nextInt(9)) {
+                    case 0:
+                        if (!mahasiswaDAO.existsByNim(nim)) {
+                            mahasiswaDAO.save(mahasiswa);
+                        }
+                        break;
+                    case 1:
+                        // Insert atau ON CONFLICT DO UPDATE
+                        mahasiswaDAO.upsert(mahasiswa);
+                        break;
+                    case 2:
+                        if (mahasiswaDAO.existsByNim(nim)) {
+                            mahasiswaDAO.update(mahasiswa);
+                        }
+                        break;
+                    case 3:
+                        if (mahasiswaDAO.existsByNim(nim)) {
+                            mahasiswaDAO.delete(nim);
+                        }
+                        break;
+                    case 4:
+                        // Batch dengan duplikat dan baris tidak valid: hanya baris yang berhasil dihitung
+                        List<Mahasiswa> batch = new ArrayList<>();
+                        for (int i = 0; i < 6; i++) {
+                            batch.add(randomMahasiswa(random, dosenAktif, "N" + random.nextInt(40)));
+                        }
+                        batch.add(new Mahasiswa("X" + step, "", Mahasiswa.GENDER_LAKI, 3.0, null));
+                        BatchResult result = mahasiswaDAO.saveAll(batch, 4);
+                        assertTrue(result.getFailed() >= 1);
+                        break;
+                    case 5:
+                        List<Mahasiswa> upserts = new ArrayList<>();
+                        for (int i = 0; i < 6; i++) {
+                            upserts.add(randomMahasiswa(random, dosenAktif, "N" + random.nextInt(40)));
+                        }
+                        mahasiswaDAO.upsertAll(upserts, 4);
+                        break;
+                    case 6:
+                        List<String> hapus = new ArrayList<>();
+                        for (int i = 0; i < 3; i++) {
+                            hapus.add("N" + random.nextInt(40));
+                        }
+                        mahasiswaDAO.deleteAll(hapus, 2);
+                        break;
+                    case 7:
+                        // ON DELETE SET NULL memindahkan mahasiswa ke kelompok '' lewat trigger update
+                        String npp = "D" + random.nextInt(5);
+                        if (dosenAktif.remove(npp)) {
+                            dosenDAO.delete(npp);
+                        } else {
+                            dosenDAO.save(new Dosen(npp, "Dosen " + npp, "0800"));
+                            dosenAktif.add(npp);
+                        }
+                        break;
+                    default:
+                        List<Mahasiswa> updates = new ArrayList<>();
+                        for (int i = 0; i < 4; i++) {
+                            updates.add(randomMahasiswa(random, dosenAktif, "N" + random.nextInt(40)));
+                        }
+                        mahasiswaDAO.updateAll(updates, 3);
+                        break;
+                }
+
+                if (step % 50 == 0) {
+                    assertCountersMatch(database, "setelah langkah " + step);
+                }
+            }
+
+            assertEquals(queryLong(database, "SELECT COUNT(*) FROM mahasiswa"), mahasiswaDAO.count());
+            assertEquals(queryLong(database, "SELECT COUNT(*) FROM mahasiswa"), statistikDAO.getRingkasan().getJumlah());
+            assertEquals(queryLong(database, "SELECT COUNT(*) FROM mahasiswa WHERE dosen_wali IS NULL"),
+                statistikDAO.getRingkasanDosenWali(null).getJumlah());
+            assertEquals(queryLong(database, "SELECT COUNT(*) FROM dosen"), dosenDAO.count());
+        } finally {
+            database.closeConnection();
+        }
+    }
+
+    private static Mahasiswa randomMahasiswa(Random random, List<String> dosenAktif, String nim) {
+        int dosen = random.nextInt(dosenAktif.size() + 1);
+        return new Mahasiswa(nim, "Mahasiswa " + nim, random.nextBoolean() ? Mahasiswa.GENDER_LAKI : Mahasiswa.GENDER_PEREMPUAN,
+            random.nextInt(401) / 100.0, dosen == dosenAktif.size() ? null : dosenAktif.get(dosen));
+    }
+
+    /**
+     * Bandingkan statistik_tabel dan statistik_dosen_wali dengan agregat yang dihitung ulang dari tabel
+     */
+    private static void assertCountersMatch(DatabaseConnection database, String message) throws SQLException {
+        assertEquals(
+            queryRows(database, "SELECT 'mahasiswa', COUNT(*), COALESCE(SUM(v), 0), COALESCE(SUM(v * v), 0)"
+                + " FROM (SELECT " + IPK_SERATUS + " AS v FROM mahasiswa)"),
+            queryRows(database, "SELECT tabel, jumlah, total_ipk, total_ipk_kuadrat FROM statistik_tabel WHERE tabel = 'mahasiswa'"),
+            message);
+        assertEquals(
+            queryRows(database, "SELECT 'dosen', COUNT(*) FROM dosen"),
+            queryRows(database, "SELECT tabel, jumlah FROM statistik_tabel WHERE tabel = 'dosen'"),
+            message);
+        assertEquals(
+            queryRows(database, "SELECT COALESCE(dosen_wali, ''), COUNT(*), SUM(v), SUM(v * v)"
+                + " FROM (SELECT dosen_wali, " + IPK_SERATUS + " AS v FROM mahasiswa)"
+                + " GROUP BY COALESCE(dosen_wali, '') ORDER BY 1"),
+            queryRows(database, "SELECT dosen_wali, jumlah, total_ipk, total_ipk_kuadrat FROM statistik_dosen_wali ORDER BY 1"),
+            message);
+    }
+
+    private static List<String> queryRows(DatabaseConnection database, String sql) throws SQLException {
+        return database.read(connection -> {
+            List<String> rows = new ArrayList<>();
+            try (Statement stmt = connection.getConnection().createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    StringBuilder row = new StringBuilder();
+                    for (int i = 1; i <= columns; i++) {
+                        row.append(i > 1 ? "|" : "").append(rs.getString(i));
+                    }
+                    rows.add(row.toString());
+                }
+            }
+            return rows;
+        });
+    }
+
+    private static long queryLong(DatabaseConnection database, String sql) throws SQLException {
+        return Long.parseLong(queryRows(database, sql).get(0));
+    }
+}
@@ -0,0 +1,37 @@
+package akademik.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+    @Test
+    void testFieldDalamTandaKutip() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("123,\"Budi, S.Kom\",\"kata \"\"kutip\"\"\",\n"));
+        assertEquals(List.of("123", "Budi, S.Kom", "kata \"kutip\"", ""), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    void testNomorBarisDenganFieldMultiBaris() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFnim,nama\n\n1,\"baris\nkedua\"\n2,Siti\n"));
+        assertEquals(List.of("nim", "nama"), reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+
+        assertEquals(List.of("1", "baris\nkedua"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+
+        assertEquals(List.of("2", "Siti"), reader.readRecord());
+        assertEquals(5, reader.getLineNumber());
+    }
+
+    @Test
+    void testTandaKutipTidakDitutup() {
+        CsvReader reader = new CsvReader(new StringReader("1,\"Budi\n2,Siti\n"));
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
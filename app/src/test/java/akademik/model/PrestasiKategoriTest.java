@@ -0,0 +1,22 @@
+package akademik.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrestasiKategoriTest {
+    @Test
+    void testBatasBawahInklusif() {
+        assertEquals(PrestasiKategori.CUM_LAUDE, PrestasiKategori.of(3.50));
+        assertEquals(PrestasiKategori.SANGAT_MEMUASKAN, PrestasiKategori.of(3.49));
+        assertEquals(PrestasiKategori.MEMUASKAN, PrestasiKategori.of(2.50));
+        assertEquals(PrestasiKategori.CUKUP, PrestasiKategori.of(2.00));
+        assertEquals(PrestasiKategori.KURANG, PrestasiKategori.of(1.99));
+        assertEquals(PrestasiKategori.KURANG, PrestasiKategori.of(0.0));
+    }
+
+    @Test
+    void testLabelSamaDenganMahasiswa() {
+        Mahasiswa mahasiswa = new Mahasiswa("123210001", "Budi", Mahasiswa.GENDER_LAKI, 3.75);
+        assertEquals("Cum Laude", mahasiswa.getPrestasiKategori());
+    }
+}
@@ -0,0 +1,69 @@
+package akademik.store;
+
+import akademik.dao.MahasiswaFilter;
+import akademik.model.IpkStatistik;
+import akademik.model.MahasiswaRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MahasiswaColumnStoreTest {
+
+    // Urut nama seperti hasil MahasiswaDAO.streamRows
+    private static MahasiswaColumnStore store() {
+        return MahasiswaColumnStore.of(Arrays.asList(
+            new MahasiswaRow("3", "Ahmad Saputra", "Laki-laki", 3.75, "D1", "Bu Ani"),
+            new MahasiswaRow("1", "Budi", "Laki-laki", 2.80, null, null),
+            new MahasiswaRow("4", "Cahya Şahin", "Perempuan", 3.75, "D2", "Pak Budi"),
+            new MahasiswaRow("2", "Dewi Ahmadi", "Perempuan", 3.10, "D1", "Bu Ani")
+        ).iterator());
+    }
+
+    @Test
+    void testFilterDanStatistikPerDosenWali() {
+        MahasiswaColumnStore store = store();
+
+        MahasiswaFilter filter = new MahasiswaFilter();
+        filter.setDosenWali("D1");
+        filter.setIpkMin(3.5);
+        assertArrayEquals(new int[] {0}, store.filter(filter));
+
+        filter.setDosenWali("D9");
+        assertEquals(0, store.filter(filter).length);
+
+        List<IpkStatistik> perDosen = store.getStatistikPerDosenWali(store.all());
+        assertEquals(3, perDosen.size());
+        assertEquals("Bu Ani", perDosen.get(0).getLabel());
+        assertEquals(2, perDosen.get(0).getJumlah());
+        assertEquals(3.425, perDosen.get(0).getRataRata(), 1e-9);
+        assertEquals(1, perDosen.get(0).getJumlahCumLaude());
+        assertNull(perDosen.get(2).getKelompok());
+    }
+
+    @Test
+    void testSearchAwalKata() {
+        MahasiswaColumnStore store = store();
+
+        assertArrayEquals(new int[] {0, 3}, store.search("ahm", 10));
+        assertArrayEquals(new int[] {0}, store.search("AHM sap", 10));
+        assertArrayEquals(new int[] {2}, store.search("şah", 10));
+        assertEquals(0, store.search("mad", 10).length);
+        assertEquals("Cahya Şahin", store.getNama(2));
+    }
+
+    @Test
+    void testSortStableDanLookupNim() {
+        MahasiswaColumnStore store = store();
+
+        // IPK sama (3.75) tetap urut nama
+        assertArrayEquals(new int[] {0, 2, 3, 1}, store.sort(store.all(), MahasiswaColumnStore.Urutan.IPK_TURUN));
+        assertArrayEquals(new int[] {1, 3, 0, 2}, store.sort(store.all(), MahasiswaColumnStore.Urutan.NIM));
+
+        assertEquals(3, store.indexOfNim("2"));
+        assertEquals(-1, store.indexOfNim("9"));
+        assertEquals("Pak Budi", store.toRow(store.indexOfNim("4")).getDosenWaliNama());
+    }
+}
@@ -0,0 +1,94 @@
+package akademik.store;
+
+import akademik.model.Mahasiswa;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapMahasiswaStoreTest {
+
+    @Test
+    void testUpsertDanDeleteTetapBisaDicari() {
+        OffHeapMahasiswaStore store = OffHeapMahasiswaStore.inMemory();
+        for (int i = 0; i < 5000; i++) {
+            store.upsert(new Mahasiswa("N" + i, "Mahasiswa " + i, Mahasiswa.GENDER_LAKI, 3.0, null));
+        }
+
+        // Hapus setengah: entri sisanya di rangkaian probe yang sama harus tetap ditemukan
+        for (int i = 0; i < 5000; i += 2) {
+            assertTrue(store.delete("N" + i));
+        }
+        assertFalse(store.delete("N0"));
+        store.upsert(new Mahasiswa("N1", "Budi Ş", Mahasiswa.GENDER_PEREMPUAN, 3.5, "D1"));
+
+        assertEquals(2500, store.count());
+        assertNull(store.findByNim("N4998"));
+        assertTrue(store.existsByNim("N4999"));
+
+        Mahasiswa budi = store.findByNim("N1");
+        assertEquals("Budi Ş", budi.getNama());
+        assertEquals(Mahasiswa.GENDER_PEREMPUAN, budi.getGender());
+        assertEquals("D1", budi.getDosenWali());
+    }
+
+    @Test
+    void testFileDibukaUlang() throws IOException {
+        Path file = Files.createTempFile("mahasiswa", ".store");
+        try {
+            try (OffHeapMahasiswaStore store = OffHeapMahasiswaStore.open(file)) {
+                store.upsert(new Mahasiswa("1", "Ani", Mahasiswa.GENDER_PEREMPUAN, 3.9, "D1"));
+                store.upsert(new Mahasiswa("2", "Budi", Mahasiswa.GENDER_LAKI, 2.5, null));
+                store.delete("1");
+            }
+
+            try (OffHeapMahasiswaStore store = OffHeapMahasiswaStore.open(file)) {
+                assertEquals(1, store.count());
+                assertNull(store.findByNim("1"));
+                assertEquals("Budi", store.findByNim("2").getNama());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testCrashSebelumFlushMenyisakanVersiLama() throws IOException {
+        Path file = Files.createTempFile("mahasiswa", ".store");
+        try (OffHeapMahasiswaStore store = OffHeapMahasiswaStore.open(file)) {
+            store.upsert(new Mahasiswa("1", "Ani Lama", Mahasiswa.GENDER_PEREMPUAN, 3.0, null));
+            store.upsert(new Mahasiswa("2", "Budi", Mahasiswa.GENDER_LAKI, 2.5, null));
+            store.flush();
+
+            store.upsert(new Mahasiswa("1", "Ani Baru", Mahasiswa.GENDER_PEREMPUAN, 3.8, null));
+            store.upsert(new Mahasiswa("1", "Ani Terbaru", Mahasiswa.GENDER_PEREMPUAN, 3.9, null));
+            store.delete("2");
+
+            // Sebelum flush, forEach tidak melihat record lama yang statusnya belum diubah
+            List<String> nama = new ArrayList<>();
+            store.forEach(mahasiswa -> nama.add(mahasiswa.getNama()));
+            assertEquals(List.of("Ani Terbaru"), nama);
+
+            // Membuka file yang sama tanpa flush sama dengan crash setelah semua halaman ditulis OS
+            try (OffHeapMahasiswaStore crashed = OffHeapMahasiswaStore.open(file)) {
+                assertEquals(2, crashed.count());
+                assertEquals("Ani Lama", crashed.findByNim("1").getNama());
+                assertEquals("Budi", crashed.findByNim("2").getNama());
+            }
+
+            store.flush();
+            try (OffHeapMahasiswaStore reopened = OffHeapMahasiswaStore.open(file)) {
+                assertEquals(1, reopened.count());
+                assertEquals("Ani Terbaru", reopened.findByNim("1").getNama());
+                assertNull(reopened.findByNim("2"));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
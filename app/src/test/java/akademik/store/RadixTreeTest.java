@@ -0,0 +1,62 @@
+package akademik.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixTreeTest {
+
+    @Test
+    void testCompleteUrutDanDibatasi() {
+        RadixTree<String> tree = new RadixTree<>();
+        tree.put("123210002", "Budi");
+        tree.put("123210001", "Ani");
+        tree.put("123220001", "Citra");
+        tree.put("1232", "Pendek");
+        tree.put("NPP001", "Dosen");
+
+        assertEquals(List.of("1232", "123210001", "123210002", "123220001"), keys(tree.complete("123", 10)));
+        assertEquals(List.of("123210001", "123210002"), keys(tree.complete("12321", 10)));
+        // Awalan berhenti di tengah edge
+        assertEquals(List.of("123210001", "123210002"), keys(tree.complete("1232100", 10)));
+        assertEquals(List.of("1232", "123210001"), keys(tree.complete("1232", 2)));
+        assertTrue(tree.complete("124", 10).isEmpty());
+        assertTrue(tree.complete("1232100019", 10).isEmpty());
+
+        Map.Entry<String, String> first = tree.complete("N", 1).get(0);
+        assertEquals("NPP001", first.getKey());
+        assertEquals("Dosen", first.getValue());
+    }
+
+    @Test
+    void testPutRemoveDanGet() {
+        RadixTree<String> tree = new RadixTree<>();
+        assertTrue(tree.putIfAbsent("123210001", "Ani"));
+        assertFalse(tree.putIfAbsent("123210001", "Lain"));
+        tree.put("123210002", "Budi");
+        tree.put("123210001", "Ani Baru");
+        assertEquals("Ani Baru", tree.get("123210001"));
+        assertNull(tree.get("12321000"));
+        assertEquals(2, tree.size());
+
+        // Setelah dihapus, node perantara digabung lagi dan key lain tetap ditemukan
+        assertTrue(tree.remove("123210001"));
+        assertFalse(tree.remove("123210001"));
+        assertFalse(tree.containsKey("123210001"));
+        assertEquals("Budi", tree.get("123210002"));
+        assertEquals(List.of("123210002"), keys(tree.complete("1", 10)));
+        assertEquals(1, tree.size());
+    }
+
+    private static List<String> keys(List<Map.Entry<String, String>> entries) {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, String> entry : entries) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,164 @@
+package akademik.viewmodel;
+
+import akademik.dao.Page;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyLoadingListTest {
+
+    private final List<String> data = new ArrayList<>();
+    private final List<String> fetches = new ArrayList<>();
+    private final QueueExecutor loader = new QueueExecutor();
+    private final QueueExecutor fxThread = new QueueExecutor();
+
+    private LazyLoadingList<String> list(int blockSize, int maxBlocks) {
+        return new LazyLoadingList<>(data::size, (cursor, offset, limit) -> {
+            fetches.add(offset + (cursor != null ? "@" + cursor : ""));
+            int end = Math.min(data.size(), offset + limit);
+            return new Page<>(new ArrayList<>(data.subList(offset, end)), end < data.size() ? "c" + end : null);
+        }, String::equals, blockSize, maxBlocks, loader, fxThread);
+    }
+
+    private void fill(int count) {
+        data.clear();
+        for (int i = 0; i < count; i++) {
+            data.add("R" + i);
+        }
+    }
+
+    /**
+     * Jalankan semua pekerjaan background dan hasilnya sampai tidak ada lagi yang menunggu
+     */
+    private void drain() {
+        while (loader.runAll() | fxThread.runAll()) {
+            // ulangi: hasil pemuatan bisa meminta blok berikutnya
+        }
+    }
+
+    @Test
+    void testBarisBelumDimuatNullLaluTerisi() {
+        fill(25);
+        LazyLoadingList<String> list = list(10, 3);
+        list.refresh();
+        drain();
+        assertEquals(25, list.size());
+
+        // Blok 0 belum dimuat: null, lalu blok 0 dan blok berikutnya (prefetch) diminta
+        assertNull(list.get(3));
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.wasReplaced() ? "replace " + change.getFrom() + "-" + change.getTo() : change.toString());
+            }
+        });
+        drain();
+
+        // Blok 1 diminta sebelum blok 0 selesai, jadi belum ada cursor dan offset yang dipakai
+        assertEquals(List.of("0", "10"), fetches);
+        assertEquals(List.of("replace 0-10", "replace 10-20"), changes);
+        assertEquals("R3", list.get(3));
+        assertEquals("R12", list.get(12));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(25));
+    }
+
+    @Test
+    void testBlokLamaDievictDanPrefetchMengikutiArahScroll() {
+        fill(100);
+        LazyLoadingList<String> list = list(10, 2);
+        list.refresh();
+        drain();
+
+        // Scroll ke atas dari baris 55: blok 5 dan blok sebelumnya (4) yang dimuat
+        list.get(56);
+        list.get(55);
+        drain();
+        assertEquals(List.of("50", "60", "40"), fetches);
+        assertEquals(2, list.getLoadedBlockCount());
+        assertEquals("R45", list.get(45));
+        drain();
+
+        // Window dua blok: blok yang paling lama tidak diakses sudah dibuang dan harus dimuat ulang
+        assertNull(list.get(65));
+        drain();
+        assertEquals("R65", list.get(65));
+        assertEquals(2, list.getLoadedBlockCount());
+        // Blok yang dimuat ulang memakai cursor yang disimpan dari blok sebelumnya
+        assertEquals(List.of("50", "60", "40", "30", "60@c60", "70@c70"), fetches);
+    }
+
+    @Test
+    void testUkuranMengikutiJumlahBarisSaatRefresh() {
+        fill(30);
+        LazyLoadingList<String> list = list(10, 4);
+        list.refresh();
+        drain();
+        list.get(25);
+        drain();
+        assertEquals("R25", list.get(25));
+
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replace " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("add " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasRemoved()) {
+                    changes.add("remove " + change.getFrom() + " " + change.getRemoved());
+                }
+            }
+        });
+
+        // Bertambah: baris baru dikirim sebagai add, data lama tetap tampil sampai dimuat ulang
+        fill(35);
+        list.refresh();
+        loader.runAll();
+        fxThread.runAll();
+        assertEquals(35, list.size());
+        assertEquals(List.of("add 30-35"), changes);
+        // get(25) juga mem-prefetch blok 3 yang sekarang ada
+        assertEquals("R25", list.get(25));
+        drain();
+        assertEquals("R34", list.get(34));
+
+        // Berkurang: baris yang hilang dikirim sebagai remove beserta isi lamanya
+        changes.clear();
+        fill(22);
+        data.set(21, "R21 baru");
+        list.refresh();
+        drain();
+        assertEquals(22, list.size());
+        assertEquals("remove 22 [R22, R23, R24, R25, R26, R27, R28, R29, R30, R31, R32, R33, R34]", changes.get(0));
+        assertEquals(List.of("replace 21"), changes.subList(1, changes.size()));
+        assertEquals("R21 baru", list.get(21));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(25));
+    }
+
+    /**
+     * Executor yang menampung pekerjaan sampai dijalankan test
+     */
+    private static class QueueExecutor implements Executor {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        boolean runAll() {
+            boolean ran = !tasks.isEmpty();
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+            return ran;
+        }
+    }
+}
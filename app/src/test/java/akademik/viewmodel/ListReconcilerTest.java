@@ -0,0 +1,110 @@
+package akademik.viewmodel;
+
+import akademik.model.Dosen;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListReconcilerTest {
+
+    private static List<Dosen> dosen(String... data) {
+        List<Dosen> list = new ArrayList<>();
+        for (String item : data) {
+            String[] parts = item.split(":");
+            list.add(new Dosen(parts[0], parts[1]));
+        }
+        return list;
+    }
+
+    private static int reconcile(List<Dosen> target, List<Dosen> fresh) {
+        return ListReconciler.reconcile(target, fresh, Dosen::getNpp, Dosen::hasSameData);
+    }
+
+    private static void assertSameData(List<Dosen> expected, List<Dosen> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i).hasSameData(actual.get(i)), "beda di index " + i);
+        }
+    }
+
+    @Test
+    void testSatuBarisBaruMenjadiSatuAdd() {
+        List<Dosen> target = dosen("1:Ani", "3:Citra");
+        Dosen ani = target.get(0);
+        List<Dosen> fresh = dosen("1:Ani", "2:Budi", "3:Citra");
+
+        assertEquals(1, reconcile(target, fresh));
+        assertSameData(fresh, target);
+        assertSame(ani, target.get(0), "item yang tidak berubah tetap instance lama");
+    }
+
+    @Test
+    void testUpdateDanDelete() {
+        List<Dosen> target = dosen("1:Ani", "2:Budi", "3:Citra");
+        List<Dosen> fresh = dosen("1:Ani", "3:Cici");
+
+        assertEquals(2, reconcile(target, fresh));
+        assertSameData(fresh, target);
+    }
+
+    @Test
+    void testItemBerpindahPosisi() {
+        List<Dosen> target = dosen("1:Ani", "2:Budi", "3:Citra", "4:Dedi");
+        List<Dosen> fresh = dosen("2:Budi", "3:Citra", "4:Dedi", "1:Zaki");
+
+        assertEquals(2, reconcile(target, fresh));
+        assertSameData(fresh, target);
+
+        fresh = dosen("1:Zaki", "2:Budi", "3:Citra", "4:Dedi");
+        assertEquals(2, reconcile(target, fresh));
+        assertSameData(fresh, target);
+    }
+
+    @Test
+    void testTidakAdaPerubahan() {
+        List<Dosen> target = dosen("1:Ani", "2:Budi");
+        assertEquals(0, reconcile(target, dosen("1:Ani", "2:Budi")));
+        assertEquals(2, reconcile(target, new ArrayList<>(Arrays.asList())));
+        assertTrue(target.isEmpty());
+    }
+
+    @Test
+    void testUrutanAcakDanDibalik() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<Dosen> target = new ArrayList<>();
+            for (int i = 0; i < random.nextInt(30); i++) {
+                target.add(new Dosen("K" + random.nextInt(40), "Nama " + random.nextInt(3)));
+            }
+            // Key ganda di target boleh; hasil akhir tetap sama dengan fresh
+            List<Dosen> fresh = new ArrayList<>();
+            List<Integer> keys = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                keys.add(i);
+            }
+            Collections.shuffle(keys, random);
+            for (int key : keys.subList(0, random.nextInt(30))) {
+                fresh.add(new Dosen("K" + key, "Nama " + random.nextInt(3)));
+            }
+
+            reconcile(target, fresh);
+            assertSameData(fresh, target);
+        }
+
+        // Urutan dibalik total: setiap item dipindah sekali tanpa pencarian linear per item
+        List<Dosen> target = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            target.add(new Dosen("K" + i, "Nama " + i));
+        }
+        List<Dosen> fresh = new ArrayList<>(target);
+        Collections.reverse(fresh);
+        assertEquals(2 * 19999, reconcile(target, fresh));
+        assertSameData(fresh, target);
+    }
+}